@@ -184,6 +184,17 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.StringCommands"
     } external;
 
+    # Get value of key as raw bytes. The value is transferred without any string decoding, which makes it suitable
+    # for binary payloads such as serialized or compressed data.
+    #
+    # + key - Key referring to a value
+    # + return - Value of key, or nil when key does not exist or `redis:Error` if an error occurs
+    @display {label: "Get Value As Bytes"}
+    isolated remote function getBytes(@display {label: "Key"} string key)
+                              returns @display {label: "Value"} byte[]|Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.StringCommands"
+    } external;
+
     # Increment integer value of a key by one.
     #
     # + key - Key referring to a value
@@ -287,6 +298,19 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.StringCommands"
     } external;
 
+    # Set the value of a key as raw bytes. The value is transferred without any string encoding, which makes it
+    # suitable for binary payloads such as serialized or compressed data.
+    #
+    # + key - Key referring to a value
+    # + value - Value to be set
+    # + return - `OK` if successful or `redis:Error` if an error occurs
+    @display {label: "Set Value As Bytes"}
+    isolated remote function setBytes(@display {label: "Key"} string key,
+                                      @display {label: "Value"} byte[] value)
+                              returns @display {label: "Result"} string|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StringCommands"
+    } external;
+
     # Sets or clears the bit at offset in the string value stored at key.
     #
     # + key - Key referring to a value
@@ -482,6 +506,20 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.ListCommands"
     } external;
 
+    # Get a range of elements from a list as raw bytes.
+    #
+    # + key - Key referring to a value
+    # + startPos - Begining index of the range
+    # + stopPos - Last index of the range
+    # + return - Array of elements in the specified range or `redis:Error` if an error occurs
+    @display {label: "Get Range of List Elements As Bytes"}
+    isolated remote function lRangeBytes(@display {label: "Key"} string key,
+                                         @display {label: "Start Position"} int startPos,
+                                         @display {label: "End Position"} int stopPos)
+                                 returns @display {label: "Elements In Range"} byte[][]|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.ListCommands"
+    } external;
+
     # Remove elements from list.
     #
     # + key - Key referring to a value
@@ -558,6 +596,18 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.ListCommands"
     } external;
 
+    # Append one or multiple raw byte values to a list.
+    #
+    # + key - Key of the list
+    # + values - Array of values to be appended
+    # + return - Length of the list after the push operation or `redis:Error` if an error occurs
+    @display {label: "Enrich Byte Values To List"}
+    isolated remote function rPushBytes(@display {label: "Key"} string key,
+                                        @display {label: "Values"} byte[][] values)
+                                returns @display {label: "List Length"} int|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.ListCommands"
+    } external;
+
     # Append one or multiple values to a list, only if the list exists.
     #
     # + key - Key of the list
@@ -736,6 +786,23 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.SetCommands"
     } external;
 
+    # Incrementally iterate over the members of a set using the `SSCAN` command.
+    #
+    # + key - Key of the set
+    # + pattern - Glob-style pattern the returned members should match, or `()` to return all members
+    # + count - Number of members requested from the server per page. This is a hint, and the server may return
+    #           fewer or more members per page
+    # + return - Stream of members. A member may be returned more than once if the set is modified during the
+    #            iteration
+    @display {label: "Scan Set Members"}
+    isolated remote function sScan(@display {label: "Key"} string key,
+                                   @display {label: "Pattern String"} string? pattern = (),
+                                   @display {label: "Page Size"} int count = 10)
+                           returns @display {label: "Members"} stream<string, Error?> {
+        KeyScanIterator iterator = new (self, SET, key, pattern, count);
+        return new stream<string, Error?>(iterator);
+    }
+
     // Sorted set Commands
 
     # Add one or more members to a sorted set, or update its score if it already exist.
@@ -1003,6 +1070,23 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.SortedSetCommands"
     } external;
 
+    # Incrementally iterate over the members of a sorted set using the `ZSCAN` command.
+    #
+    # + key - Key of the sorted set
+    # + pattern - Glob-style pattern the returned members should match, or `()` to return all members
+    # + count - Number of members requested from the server per page. This is a hint, and the server may return
+    #           fewer or more members per page
+    # + return - Stream of member-score pairs. A member may be returned more than once if the sorted set is
+    #            modified during the iteration
+    @display {label: "Scan Sorted Set Members"}
+    isolated remote function zScan(@display {label: "Key"} string key,
+                                   @display {label: "Pattern String"} string? pattern = (),
+                                   @display {label: "Page Size"} int count = 10)
+                           returns @display {label: "Member-Score Pairs"} stream<[string, float], Error?> {
+        SortedSetScanIterator iterator = new (self, key, pattern, count);
+        return new stream<[string, float], Error?>(iterator);
+    }
+
     // Hash Commands
 
     # Delete one or more hash fields.
@@ -1043,6 +1127,18 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.HashCommands"
     } external;
 
+    # Get the value of a hash field as raw bytes.
+    #
+    # + key - Key of the hash
+    # + field - Field in the hash
+    # + return - Value of the field, or nil when the field does not exist or `redis:Error` if an error occurs
+    @display {label: "Get Hash Field Value As Bytes"}
+    isolated remote function hGetBytes(@display {label: "Key"} string key,
+                                       @display {label: "Field"} string 'field)
+                               returns @display {label: "Value of Field"} byte[]|Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.HashCommands"
+    } external;
+
     # Get the all values of a hash.
     #
     # + key - Key of the hash
@@ -1140,6 +1236,21 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.HashCommands"
     } external;
 
+    # Set the value of a hash field as raw bytes.
+    #
+    # + key - Key of the hash
+    # + field - Field in the hash
+    # + value - Value to be set to the field
+    # + return - Boolean `true` if field is a new field in the hash and value was set. boolean false if
+    #            field already exists in the hash and the value was updated, or `redis:Error` if an error occurs
+    @display {label: "Set Hash Field As Bytes"}
+    isolated remote function hSetBytes(@display {label: "Key"} string key,
+                                       @display {label: "Hash Field"} string 'field,
+                                       @display {label: "Value"} byte[] value)
+                               returns @display {label: "Result"} boolean|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.HashCommands"
+    } external;
+
     # Set the string value of a hash field, only if the field does not exist.
     #
     # + key - Key of the hash
@@ -1178,6 +1289,23 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.HashCommands"
     } external;
 
+    # Incrementally iterate over the fields of a hash using the `HSCAN` command.
+    #
+    # + key - Key of the hash
+    # + pattern - Glob-style pattern the returned fields should match, or `()` to return all fields
+    # + count - Number of fields requested from the server per page. This is a hint, and the server may return
+    #           fewer or more fields per page
+    # + return - Stream of field-value pairs. A field may be returned more than once if the hash is modified
+    #            during the iteration
+    @display {label: "Scan Hash Fields"}
+    isolated remote function hScan(@display {label: "Key"} string key,
+                                   @display {label: "Pattern String"} string? pattern = (),
+                                   @display {label: "Page Size"} int count = 10)
+                           returns @display {label: "Field-Value Pairs"} stream<[string, string], Error?> {
+        HashScanIterator iterator = new (self, key, pattern, count);
+        return new stream<[string, string], Error?>(iterator);
+    }
+
     // Key Commands
 
     # Delete one or more keys.
@@ -1333,6 +1461,261 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.KeyCommands"
     } external;
 
+    # Incrementally iterate over the keys in the database using the `SCAN` command. Keys are requested from the
+    # server one page at a time while the stream is consumed, so the server is not blocked as with `keys`.
+    # In cluster mode, the keys of all the master nodes are returned.
+    #
+    # + pattern - Glob-style pattern the returned keys should match, or `()` to return all keys
+    # + count - Number of keys requested from the server per page. This is a hint, and the server may return
+    #           fewer or more keys per page
+    # + return - Stream of keys. A key may be returned more than once if the database is modified during the
+    #            iteration
+    @display {label: "Scan Keys"}
+    isolated remote function scan(@display {label: "Pattern String"} string? pattern = (),
+                                  @display {label: "Page Size"} int count = 10)
+                          returns @display {label: "Keys"} stream<string, Error?> {
+        KeyScanIterator iterator = new (self, KEYS, (), pattern, count);
+        return new stream<string, Error?>(iterator);
+    }
+
+    // Stream operations
+
+    # Append an entry to a stream.
+    #
+    # + key - Key of the stream
+    # + fields - Field-value pairs of the entry
+    # + id - ID of the entry, or `*` to let the server generate an ID
+    # + maxLen - Maximum number of entries the stream is trimmed to after the entry is added, or `()` to keep all
+    #            the entries
+    # + approximateTrimming - Whether the stream may be left slightly longer than `maxLen`, which lets the server trim
+    #                         whole internal nodes and is much cheaper than exact trimming
+    # + return - ID of the added entry
+    @display {label: "Append Stream Entry"}
+    isolated remote function xAdd(@display {label: "Key"} string key,
+                                  @display {label: "Fields"} map<string> fields,
+                                  @display {label: "Entry ID"} string id = "*",
+                                  @display {label: "Maximum Length"} int? maxLen = (),
+                                  @display {label: "Approximate Trimming"} boolean approximateTrimming = true)
+                          returns @display {label: "Entry ID"} string|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StreamCommands"
+    } external;
+
+    # Get the number of entries in a stream.
+    #
+    # + key - Key of the stream
+    # + return - Number of entries in the stream, or `0` if the stream does not exist
+    @display {label: "Get Stream Length"}
+    isolated remote function xLen(@display {label: "Key"} string key)
+                          returns @display {label: "Stream Length"} int|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StreamCommands"
+    } external;
+
+    # Create a consumer group of a stream.
+    #
+    # + key - Key of the stream
+    # + group - Name of the consumer group
+    # + id - ID of the last entry considered delivered to the group. Use `$` to deliver only the entries added later,
+    #        or `0` to deliver all the entries
+    # + mkStream - Whether an empty stream is created if the stream does not exist
+    # + return - String with the value `OK` if the operation was successful
+    @display {label: "Create Consumer Group"}
+    isolated remote function xGroupCreate(@display {label: "Key"} string key,
+                                          @display {label: "Group"} string group,
+                                          @display {label: "Entry ID"} string id = "$",
+                                          @display {label: "Create Stream"} boolean mkStream = false)
+                                  returns @display {label: "Result"} string|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StreamCommands"
+    } external;
+
+    # Read the entries of one or more streams as a consumer of a consumer group. The entries read are added to the
+    # pending entries of the consumer until they are acknowledged with `xAck`.
+    #
+    # + group - Name of the consumer group
+    # + consumer - Name of the consumer
+    # + streams - Keys of the streams, mapped to the ID after which the entries are read. Use `>` to read the entries
+    #             never delivered to the group, or an ID to re-read the pending entries of the consumer
+    # + count - Maximum number of entries read from each stream, or `()` for no limit
+    # + block - Time in seconds to wait for new entries when none are available, or `()` to return immediately.
+    #           A blocking read is sent over a connection of its own when connection pooling is enabled
+    # + noAck - Whether the entries are acknowledged as soon as they are read
+    # + return - Entries read, or an empty array if no entries are available
+    @display {label: "Read Stream Entries As Group"}
+    isolated remote function xReadGroup(@display {label: "Group"} string group,
+                                        @display {label: "Consumer"} string consumer,
+                                        @display {label: "Streams"} map<string> streams,
+                                        @display {label: "Count"} int? count = (),
+                                        @display {label: "Block Time (s)"} decimal? block = (),
+                                        @display {label: "No Acknowledgement"} boolean noAck = false)
+                                returns @display {label: "Entries"} StreamEntry[]|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StreamCommands"
+    } external;
+
+    # Acknowledge entries of a stream, which removes them from the pending entries of a consumer group.
+    #
+    # + key - Key of the stream
+    # + group - Name of the consumer group
+    # + ids - IDs of the entries
+    # + return - Number of entries acknowledged
+    @display {label: "Acknowledge Stream Entries"}
+    isolated remote function xAck(@display {label: "Key"} string key,
+                                  @display {label: "Group"} string group,
+                                  @display {label: "Entry IDs"} string[] ids)
+                          returns @display {label: "Acknowledged Count"} int|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StreamCommands"
+    } external;
+
+    # Transfer the pending entries of a consumer group which have not been acknowledged for a given time to another
+    # consumer. This lets the entries read by a consumer which has failed be processed by the others.
+    #
+    # + key - Key of the stream
+    # + group - Name of the consumer group
+    # + consumer - Name of the consumer to which the entries are transferred
+    # + minIdleTime - Time in seconds since an entry was last delivered, after which it can be claimed
+    # + startId - ID from which the pending entries are scanned. Use the `nextId` of the previous call to continue
+    #             the scan
+    # + count - Maximum number of entries claimed
+    # + return - Claimed entries, and the ID from which the next scan continues
+    @display {label: "Claim Idle Stream Entries"}
+    isolated remote function xAutoClaim(@display {label: "Key"} string key,
+                                        @display {label: "Group"} string group,
+                                        @display {label: "Consumer"} string consumer,
+                                        @display {label: "Minimum Idle Time (s)"} decimal minIdleTime,
+                                        @display {label: "Start ID"} string startId = "0-0",
+                                        @display {label: "Count"} int count = 100)
+                                returns @display {label: "Claimed Entries"} AutoClaimedEntries|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StreamCommands"
+    } external;
+
+    # Get the summary of the pending entries of a consumer group.
+    #
+    # + key - Key of the stream
+    # + group - Name of the consumer group
+    # + return - Number of pending entries, the lowest and highest of their IDs, and their number per consumer
+    @display {label: "Get Pending Stream Entries"}
+    isolated remote function xPending(@display {label: "Key"} string key,
+                                      @display {label: "Group"} string group)
+                              returns @display {label: "Pending Summary"} PendingSummary|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.StreamCommands"
+    } external;
+
+    // Scripting operations
+
+    # Run a Lua script on the server. The script is run by its SHA1 digest with `EVALSHA`, so that its body is only
+    # sent when the server does not have it yet, in which case it is loaded with `SCRIPT LOAD` and run again. This also
+    # covers a script cache emptied by a restart, a failover or `SCRIPT FLUSH`. In cluster mode, the script is loaded
+    # on all the masters, and is run on the master of the slot of its keys.
+    #
+    # + script - Body of the script
+    # + keys - Keys accessed by the script, available in the script as `KEYS`. In cluster mode, they must all belong
+    #          to the same slot
+    # + args - Arguments of the script, available in the script as `ARGV`
+    # + return - Reply of the script
+    @display {label: "Run Lua Script"}
+    isolated remote function eval(@display {label: "Script"} string script,
+                                  @display {label: "Keys"} string[] keys = [],
+                                  @display {label: "Arguments"} string[] args = [])
+                          returns @display {label: "Result"} ScriptResult|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.ScriptingCommands"
+    } external;
+
+    # Run a Lua script by its SHA1 digest. A script loaded with `eval` or `scriptLoad` through this client is loaded
+    # again when the server does not have it, while the server replies with a `NOSCRIPT` error for any other script.
+    #
+    # + sha1 - SHA1 digest of the script
+    # + keys - Keys accessed by the script, available in the script as `KEYS`. In cluster mode, they must all belong
+    #          to the same slot
+    # + args - Arguments of the script, available in the script as `ARGV`
+    # + return - Reply of the script
+    @display {label: "Run Lua Script By Digest"}
+    isolated remote function evalSha(@display {label: "SHA1 Digest"} string sha1,
+                                     @display {label: "Keys"} string[] keys = [],
+                                     @display {label: "Arguments"} string[] args = [])
+                             returns @display {label: "Result"} ScriptResult|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.ScriptingCommands"
+    } external;
+
+    # Load a Lua script into the script cache of the server without running it. In cluster mode, the script is loaded
+    # on all the masters.
+    #
+    # + script - Body of the script
+    # + return - SHA1 digest of the script, with which it is run using `evalSha`
+    @display {label: "Load Lua Script"}
+    isolated remote function scriptLoad(@display {label: "Script"} string script)
+                                returns @display {label: "SHA1 Digest"} string|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.ScriptingCommands"
+    } external;
+
+    // Function operations
+
+    # Load a library of functions, written in Lua and starting with a `#!lua name=<library>` line. The functions are
+    # persisted and replicated by the server, and are called by their name with `fCall` or `fCallRo`. In cluster mode,
+    # the library is loaded on all the masters, as the libraries are not propagated between the shards. The masters
+    # are updated one after another, so a failure may leave the library loaded on some of them only.
+    #
+    # + code - Code of the library
+    # + replace - Whether an existing library of the same name is replaced
+    # + return - Name of the library
+    @display {label: "Load Function Library"}
+    isolated remote function functionLoad(@display {label: "Code"} string code,
+                                          @display {label: "Replace"} boolean replace = false)
+                                  returns @display {label: "Library Name"} string|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.FunctionCommands"
+    } external;
+
+    # Delete a library of functions. In cluster mode, the library is deleted on all the masters.
+    #
+    # + libraryName - Name of the library
+    # + return - String with the value `OK` if the operation was successful
+    @display {label: "Delete Function Library"}
+    isolated remote function functionDelete(@display {label: "Library Name"} string libraryName)
+                                    returns @display {label: "Result"} string|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.FunctionCommands"
+    } external;
+
+    # List the libraries of functions. In cluster mode, the libraries are listed from a single node.
+    #
+    # + libraryNamePattern - Glob-style pattern of the names of the libraries listed, or `()` to list all the
+    #                        libraries
+    # + return - Libraries, with their functions
+    @display {label: "List Function Libraries"}
+    isolated remote function functionList(@display {label: "Library Name Pattern"} string? libraryNamePattern = ())
+                                  returns @display {label: "Libraries"} FunctionLibrary[]|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.FunctionCommands"
+    } external;
+
+    # Call a function of a library loaded with `functionLoad`. In cluster mode, the function is called on the master
+    # of the slot of its keys.
+    #
+    # + functionName - Name of the function
+    # + keys - Keys accessed by the function, available in the function as its `keys` argument. In cluster mode, they
+    #          must all belong to the same slot
+    # + args - Arguments of the function, available in the function as its `args` argument
+    # + return - Reply of the function
+    @display {label: "Call Function"}
+    isolated remote function fCall(@display {label: "Function Name"} string functionName,
+                                   @display {label: "Keys"} string[] keys = [],
+                                   @display {label: "Arguments"} string[] args = [])
+                           returns @display {label: "Result"} ScriptResult|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.FunctionCommands"
+    } external;
+
+    # Call a function which does not modify the data, registered with the `no-writes` flag. Being read-only, the call
+    # is routed according to the `readFrom` policy of the connection like the other reads, so it may be served by a
+    # replica, whose data may lag behind the master.
+    #
+    # + functionName - Name of the function
+    # + keys - Keys accessed by the function, available in the function as its `keys` argument. In cluster mode, they
+    #          must all belong to the same slot
+    # + args - Arguments of the function, available in the function as its `args` argument
+    # + return - Reply of the function
+    @display {label: "Call Read-Only Function"}
+    isolated remote function fCallRo(@display {label: "Function Name"} string functionName,
+                                     @display {label: "Keys"} string[] keys = [],
+                                     @display {label: "Arguments"} string[] args = [])
+                             returns @display {label: "Result"} ScriptResult|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.FunctionCommands"
+    } external;
+
     // Cluster Commands
 
     # Retrieve information and statistics about the cluster observed by the current node.
@@ -1375,6 +1758,23 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.ConnectionCommands"
     } external;
 
+    # Publish a message to a channel. The message is delivered to the subscribers of the channel, including the
+    # services attached to a `redis:Listener`.
+    #
+    # + channel - Channel to which the message is published
+    # + message - Message to be published
+    # + sharded - Whether the channel is a shard channel. In cluster mode, a message of a shard channel is only
+    #             propagated within the shard which owns the slot of the channel, instead of the whole cluster
+    # + return - Number of subscribers which received the message. In cluster mode, only the subscribers connected to
+    #            the node which received the message are counted
+    @display {label: "Publish Message"}
+    isolated remote function publish(@display {label: "Channel"} string channel,
+                                     @display {label: "Message"} string message,
+                                     @display {label: "Sharded"} boolean sharded = false)
+                             returns @display {label: "Receivers"} int|Error = @java:Method {
+        'class: "io.ballerina.lib.redis.ConnectionCommands"
+    } external;
+
     # Remove all the keys from the currently selected database.
     #
     # + return - String with the value `OK` if the operation was successful or `redis:Error` if an error occurs
@@ -1391,6 +1791,20 @@ public isolated client class Client {
         'class: "io.ballerina.lib.redis.ConnectionCommands"
     } external;
 
+    # Get the statistics of the client-side cache.
+    #
+    # + return - Statistics of the client-side cache, or `nil` if client-side caching is not enabled
+    public isolated function getCacheStats() returns CacheStats? = @java:Method {
+        'class: "io.ballerina.lib.redis.ConnectionCommands"
+    } external;
+
+    # Create a pipeline to batch commands and send them to the server in a single network round trip.
+    #
+    # + return - A `redis:Pipeline` bound to this client
+    public isolated function pipeline() returns Pipeline {
+        return new (self);
+    }
+
     # Close the connection.
     #
     # + return - `nil` if the operation was successful or an `redis:Error` if an error occurs
@@ -16,3 +16,11 @@
 
 # Represents a redis generic error
 public type Error distinct error;
+
+# Represents an error returned when a command is rejected by the client without being sent to the server, because the
+# connection is disconnected and configured to reject commands, or because its request queue is full
+public type CommandRejectedError distinct Error;
+
+# Represents an error returned when a command is rejected by the client without being sent to the server, because the
+# circuit breaker of the client is open
+public type CircuitOpenError distinct CommandRejectedError;
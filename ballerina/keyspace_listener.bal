@@ -0,0 +1,80 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/jballerina.java;
+
+# A service which receives the events of keys, such as to invalidate the entries of a local cache. The service must
+# implement `remote function onKeyEvents(redis:KeyEvent[] events) returns error?`.
+public type KeyspaceService distinct service object {};
+
+# Receives the keyspace notifications of the server over a Pub/Sub connection of its own, and dispatches them to the
+# attached services as batches of key events. The notifications have to be enabled on the server through the
+# `notify-keyspace-events` configuration, or by enabling `enableNotifications`. Keyspace notifications are not
+# delivered reliably: the events which occur while the listener is disconnected are lost.
+public isolated class KeyspaceListener {
+
+    # Initialize the listener, and open its Pub/Sub connection.
+    #
+    # + keyspaceConfig - Configurations of the key events delivered by the listener
+    # + config - Configurations of the connection of the listener
+    # + return - `redis:Error` in case of failures or `nil` if successful
+    public isolated function init(KeyspaceListenerConfig keyspaceConfig, *ConnectionConfig config) returns Error? {
+        return self.initListener(keyspaceConfig, config);
+    }
+
+    isolated function initListener(KeyspaceListenerConfig keyspaceConfig, ConnectionConfig config)
+            returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.KeyspaceListener"
+    } external;
+
+    # Attach a service to the listener. Each service receives all the key events of the listener.
+    #
+    # + s - Service which receives the key events
+    # + name - Name of the service. Not used
+    # + return - `redis:Error` if the service could not be attached, or `nil` otherwise
+    public isolated function attach(KeyspaceService s, string[]|string? name = ()) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.KeyspaceListener"
+    } external;
+
+    # Detach a service from the listener. The batches queued for the service are dispatched before this returns.
+    #
+    # + s - Service to be detached
+    # + return - `redis:Error` if the notifications could not be unsubscribed from, or `nil` otherwise
+    public isolated function detach(KeyspaceService s) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Start the listener, which subscribes to the keyspace notifications.
+    #
+    # + return - `redis:Error` if the notifications could not be subscribed to, or `nil` otherwise
+    public isolated function 'start() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Unsubscribe from the keyspace notifications, deliver the batches being collected and queued, and close the
+    # connection.
+    #
+    # + return - `redis:Error` if the listener could not be stopped, or `nil` otherwise
+    public isolated function gracefulStop() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Close the connection, and discard the batches being collected and queued.
+    #
+    # + return - `redis:Error` if the listener could not be stopped, or `nil` otherwise
+    public isolated function immediateStop() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+}
@@ -0,0 +1,92 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/jballerina.java;
+import ballerina/log;
+
+# A service which receives the messages published to the channels it subscribes to. The service must implement
+# `remote function onMessage(redis:Message message) returns error?`.
+public type Service distinct service object {};
+
+# Configures the subscriptions of a service attached to a `redis:Listener`.
+public annotation ServiceConfiguration ServiceConfig on service;
+
+# Receives the messages published to channels and patterns over a Pub/Sub connection of its own, and dispatches them
+# to the attached services. The channels of a service are the names with which it is attached, and those of its
+# `redis:ServiceConfig` annotation. Each service has a bounded queue of messages, from which they are dispatched
+# concurrently up to its `maxConcurrency`, so that a slow service does not delay the messages of the others.
+public isolated class Listener {
+
+    # Initialize the listener, and open its Pub/Sub connection.
+    #
+    # + config - Configurations of the connection of the listener
+    # + return - `redis:Error` in case of failures or `nil` if successful
+    public isolated function init(*ConnectionConfig config) returns Error? {
+        return self.initListener(config);
+    }
+
+    isolated function initListener(ConnectionConfig config) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Attach a service to the listener. The channels of the service are subscribed to right away if the listener has
+    # already started.
+    #
+    # + s - Service which receives the messages
+    # + name - Channels to which the service subscribes, in addition to those of its `redis:ServiceConfig`
+    # + return - `redis:Error` if the service could not be attached, or `nil` otherwise
+    public isolated function attach(Service s, string[]|string? name = ()) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Detach a service from the listener. The channels which no other service subscribes to are unsubscribed from,
+    # and the messages queued for the service are dispatched before this returns.
+    #
+    # + s - Service to be detached
+    # + return - `redis:Error` if the channels could not be unsubscribed from, or `nil` otherwise
+    public isolated function detach(Service s) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Start the listener, which subscribes to the channels and patterns of the attached services.
+    #
+    # + return - `redis:Error` if the channels could not be subscribed to, or `nil` otherwise
+    public isolated function 'start() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Unsubscribe from all the channels, wait for the queued messages to be dispatched, and close the connection.
+    #
+    # + return - `redis:Error` if the listener could not be stopped, or `nil` otherwise
+    public isolated function gracefulStop() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+
+    # Close the connection, and discard the queued messages.
+    #
+    # + return - `redis:Error` if the listener could not be stopped, or `nil` otherwise
+    public isolated function immediateStop() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.listener.PubSubListener"
+    } external;
+}
+
+# Logs an error returned by a remote method of a listener service, or the panic of the method. Called by the native
+# dispatchers of the listeners.
+#
+# + message - Description of the failure
+# + err - Error returned by the method, or with which it panicked
+isolated function logDispatchError(string message, error err) {
+    log:printError(message, 'error = err);
+}
@@ -0,0 +1,266 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/jballerina.java;
+
+# Batches Redis commands and sends them to the server in a single network round trip.
+# Commands are only queued when the respective function is called. They are sent to the server when
+# `execute` is called, and the replies are returned in the order the commands were queued.
+public isolated class Pipeline {
+
+    # Initialize the pipeline.
+    #
+    # + redisClient - Redis client on which the pipeline is executed
+    isolated function init(Client redisClient) {
+        self.initPipeline(redisClient);
+    }
+
+    isolated function initPipeline(Client redisClient) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Send all the queued commands to the server and wait for the replies. The queue is cleared afterwards, so the
+    # pipeline can be reused. Each reply is awaited for the timeout of its own command from the arrival of the
+    # previous one, so the time allowed for the pipeline grows with the number of queued commands.
+    #
+    # + return - Replies of the queued commands in the order they were queued, or `redis:Error` if the replies
+    #            could not be retrieved. A command which failed on the server, or whose arguments are invalid, is
+    #            represented by a `redis:Error` in the returned array
+    public isolated function execute() returns PipelineResult[]|Error {
+        PipelineResult[] results = [];
+        check self.executePipeline(results);
+        return results;
+    }
+
+    isolated function executePipeline(PipelineResult[] results) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    // String operations
+
+    # Queue a `SET` command. The reply is the string `OK`.
+    #
+    # + key - Key referring to a value
+    # + value - Value to be set
+    public isolated function set(string key, string value) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue a `SETEX` command. The reply is the string `OK`.
+    #
+    # + key - Key referring to a value
+    # + value - Value to be set
+    # + expirationPeriodSeconds - Expiration period in seconds
+    public isolated function setEx(string key, string value, int expirationPeriodSeconds) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue a `GET` command. The reply is the value of the key, or `nil` if the key does not exist.
+    #
+    # + key - Key referring to a value
+    public isolated function get(string key) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `INCR` command. The reply is the value of the key after the increment.
+    #
+    # + key - Key referring to a value
+    public isolated function incr(string key) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `INCRBY` command. The reply is the value of the key after the increment.
+    #
+    # + key - Key referring to a value
+    # + value - Amount to increment
+    public isolated function incrBy(string key, int value) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue a `DECR` command. The reply is the value of the key after the decrement.
+    #
+    # + key - Key referring to a value
+    public isolated function decr(string key) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue a `DECRBY` command. The reply is the value of the key after the decrement.
+    #
+    # + key - Key referring to a value
+    # + value - Amount to decrement
+    public isolated function decrBy(string key, int value) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    // Key Commands
+
+    # Queue a `DEL` command. The reply is the number of keys that were removed.
+    #
+    # + keys - Keys to be deleted
+    public isolated function del(string[] keys) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `EXISTS` command. The reply is the number of keys that exist.
+    #
+    # + keys - Keys to be checked
+    public isolated function exists(string[] keys) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `EXPIRE` command. The reply is `true` if the timeout was set.
+    #
+    # + key - Key referring to a value
+    # + seconds - Expiry in seconds
+    public isolated function expire(string key, int seconds) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    // Hash Commands
+
+    # Queue an `HSET` command. The reply is `true` if the field is a new field in the hash.
+    #
+    # + key - Key of the hash
+    # + 'field - Field of the hash
+    # + value - Value to be set to the field
+    public isolated function hSet(string key, string 'field, string value) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `HGET` command. The reply is the value of the field, or `nil` if the field does not exist.
+    #
+    # + key - Key of the hash
+    # + 'field - Field of the hash
+    public isolated function hGet(string key, string 'field) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `HGETALL` command. The reply is a map of the fields and values of the hash.
+    #
+    # + key - Key of the hash
+    public isolated function hGetAll(string key) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `HDEL` command. The reply is the number of fields that were removed.
+    #
+    # + key - Key of the hash
+    # + fields - Array of fields to be deleted
+    public isolated function hDel(string key, string[] fields) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `HINCRBY` command. The reply is the value of the field after the increment.
+    #
+    # + key - Key of the hash
+    # + 'field - Field of the hash
+    # + amount - Amount to increment
+    public isolated function hIncrBy(string key, string 'field, int amount) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `HMSET` command. The reply is the string `OK`.
+    #
+    # + key - Key of the hash
+    # + fieldValueMap - Map of field-value pairs
+    public isolated function hMSet(string key, map<any> fieldValueMap) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    // list operations
+
+    # Queue an `LPUSH` command. The reply is the length of the list after the push operation.
+    #
+    # + key - Key referring to a value
+    # + values - Values to be prepended
+    public isolated function lPush(string key, string[] values) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `RPUSH` command. The reply is the length of the list after the push operation.
+    #
+    # + key - Key referring to a value
+    # + values - Values to be appended
+    public isolated function rPush(string key, string[] values) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `LPOP` command. The reply is the popped value, or `nil` if the list does not exist.
+    #
+    # + key - Key referring to a value
+    public isolated function lPop(string key) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `RPOP` command. The reply is the popped value, or `nil` if the list does not exist.
+    #
+    # + key - Key referring to a value
+    public isolated function rPop(string key) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `LRANGE` command. The reply is the array of elements in the specified range.
+    #
+    # + key - Key referring to a value
+    # + startPos - Begining index of the range
+    # + stopPos - Last index of the range
+    public isolated function lRange(string key, int startPos, int stopPos) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    // Set Commands
+
+    # Queue an `SADD` command. The reply is the number of elements that were added to the set.
+    #
+    # + key - Key referring to a value
+    # + values - Values to be added
+    public isolated function sAdd(string key, string[] values) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `SREM` command. The reply is the number of members that were removed from the set.
+    #
+    # + key - Key of the set
+    # + members - Array of members to remove
+    public isolated function sRem(string key, string[] members) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue an `SMEMBERS` command. The reply is the array of members of the set.
+    #
+    # + key - Key referring to a value
+    public isolated function sMembers(string key) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    // Sorted set Commands
+
+    # Queue a `ZADD` command. The reply is the number of elements that were added to the sorted set.
+    #
+    # + key - Key referring to a value
+    # + memberScoreMap - Map of members and corresponding scores. The command fails when the pipeline is executed if a
+    #                    score is not a `float`
+    public isolated function zAdd(string key, map<any> memberScoreMap) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+
+    # Queue a `ZSCORE` command. The reply is the score of the member, or `nil` if the member does not exist.
+    #
+    # + key - Key of the sorted set
+    # + member - Member of the sorted set
+    public isolated function zScore(string key, string member) = @java:Method {
+        'class: "io.ballerina.lib.redis.PipelineCommands"
+    } external;
+}
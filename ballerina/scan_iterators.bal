@@ -0,0 +1,90 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/jballerina.java;
+
+# Type of a scan command.
+enum ScanType {
+    KEYS,
+    HASH,
+    SET,
+    SORTED_SET
+}
+
+# Iterator over the results of a `SCAN` or `SSCAN` command, which returns one key or member at a time.
+isolated class KeyScanIterator {
+
+    isolated function init(Client redisClient, ScanType scanType, string? key, string? pattern, int count) {
+        self.initScanIterator(redisClient, scanType, key, pattern, count);
+    }
+
+    public isolated function next() returns record {|string value;|}|Error? {
+        string? value = check self.nextValue();
+        return value is () ? () : {value};
+    }
+
+    isolated function initScanIterator(Client redisClient, string scanType, string? key, string? pattern,
+            int count) = @java:Method {
+        'class: "io.ballerina.lib.redis.ScanCommands"
+    } external;
+
+    isolated function nextValue() returns string|Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.ScanCommands"
+    } external;
+}
+
+# Iterator over the results of an `HSCAN` command, which returns one field-value pair at a time.
+isolated class HashScanIterator {
+
+    isolated function init(Client redisClient, string key, string? pattern, int count) {
+        self.initScanIterator(redisClient, HASH, key, pattern, count);
+    }
+
+    public isolated function next() returns record {|[string, string] value;|}|Error? {
+        [string, string]? value = check self.nextHashEntry();
+        return value is () ? () : {value};
+    }
+
+    isolated function initScanIterator(Client redisClient, string scanType, string? key, string? pattern,
+            int count) = @java:Method {
+        'class: "io.ballerina.lib.redis.ScanCommands"
+    } external;
+
+    isolated function nextHashEntry() returns [string, string]|Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.ScanCommands"
+    } external;
+}
+
+# Iterator over the results of a `ZSCAN` command, which returns one member-score pair at a time.
+isolated class SortedSetScanIterator {
+
+    isolated function init(Client redisClient, string key, string? pattern, int count) {
+        self.initScanIterator(redisClient, SORTED_SET, key, pattern, count);
+    }
+
+    public isolated function next() returns record {|[string, float] value;|}|Error? {
+        [string, float]? value = check self.nextScoredMember();
+        return value is () ? () : {value};
+    }
+
+    isolated function initScanIterator(Client redisClient, string scanType, string? key, string? pattern,
+            int count) = @java:Method {
+        'class: "io.ballerina.lib.redis.ScanCommands"
+    } external;
+
+    isolated function nextScoredMember() returns [string, float]|Error? = @java:Method {
+        'class: "io.ballerina.lib.redis.ScanCommands"
+    } external;
+}
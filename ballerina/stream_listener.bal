@@ -0,0 +1,258 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/lang.runtime;
+import ballerina/log;
+
+const NEW_ENTRIES_ID = ">";
+const PENDING_ENTRIES_ID = "0";
+const BUSY_GROUP_ERROR = "BUSYGROUP";
+const STOP_POLL_INTERVAL = 0.1d;
+// errors after which reading the stream cannot succeed until the group, the key or the credentials are fixed
+final readonly & string[] UNRECOVERABLE_STREAM_ERRORS = ["NOGROUP", "WRONGTYPE", "NOAUTH", "WRONGPASS", "NOPERM"];
+
+# A service which processes the entries of a stream as a consumer of a consumer group.
+public type StreamService distinct isolated service object {
+
+    # Process a batch of entries read from the stream. When `autoAck` is enabled, the entries are acknowledged once
+    # this returns without an error. Otherwise, they remain pending and are delivered again after a restart, or
+    # claimed by another consumer once they have been idle for its `claimIdleTime`.
+    #
+    # + entries - Entries read from the stream, in the order of their IDs
+    # + return - An error if the entries could not be processed
+    remote isolated function onEntries(StreamEntry[] entries) returns error?;
+};
+
+# Consumes a stream as a consumer of a consumer group, and dispatches the entries to the attached
+# `redis:StreamService` in batches. On start, the entries left pending by a previous run of the same consumer are
+# dispatched before the new entries. The listener runs over a client of its own, so that its blocking reads do not
+# delay the commands of other clients.
+public isolated class StreamListener {
+
+    private final Client redisClient;
+    private final StreamConsumerConfig & readonly consumerConfig;
+    private StreamService? consumerService = ();
+    private boolean running = false;
+    private boolean consuming = false;
+
+    # Initialize the stream listener.
+    #
+    # + consumerConfig - Configurations of the stream and the consumer group consumed
+    # + config - Configurations of the connection of the listener
+    # + return - `redis:Error` in case of failures or `nil` if successful
+    public isolated function init(StreamConsumerConfig consumerConfig, *ConnectionConfig config) returns Error? {
+        if consumerConfig.batchSize <= 0 {
+            return error Error("Batch size of the stream consumer must be positive");
+        }
+        if consumerConfig.pollTimeout <= 0d {
+            return error Error("Poll timeout of the stream consumer must be positive");
+        }
+        self.consumerConfig = consumerConfig.cloneReadOnly();
+        self.redisClient = check new (config);
+    }
+
+    # Attach a service to the listener. Only one service can be attached at a time.
+    #
+    # + s - Service which processes the entries
+    # + name - Name of the service. Not used
+    # + return - `redis:Error` if a service is already attached, or `nil` otherwise
+    public isolated function attach(StreamService s, string[]|string? name = ()) returns Error? {
+        lock {
+            if self.consumerService !is () {
+                return error Error("A service is already attached to the stream listener");
+            }
+            self.consumerService = s;
+        }
+    }
+
+    # Detach the service from the listener. The entries being dispatched to it are still processed, and no entries
+    # are read from the stream until another service is attached.
+    #
+    # + s - Service to be detached
+    # + return - `nil`
+    public isolated function detach(StreamService s) returns Error? {
+        lock {
+            if self.consumerService === s {
+                self.consumerService = ();
+            }
+        }
+    }
+
+    # Start consuming the stream. The consumer group is created first if `createGroup` is enabled. The errors which
+    # occur while consuming are logged, and the read is retried after the `pollTimeout`.
+    #
+    # + return - `redis:Error` if no service is attached, the consumer group could not be created, or the stream
+    #   cannot be read by the consumer, such as when the group does not exist or the key is not a stream, or `nil`
+    #   otherwise
+    public isolated function 'start() returns Error? {
+        if self.getConsumerService() is () {
+            return error Error("No service is attached to the stream listener");
+        }
+        StreamConsumerConfig & readonly consumerConfig = self.consumerConfig;
+        if consumerConfig.createGroup {
+            string|Error created = self.redisClient->xGroupCreate(consumerConfig.'stream, consumerConfig.group,
+                    mkStream = true);
+            if created is Error && !created.message().includes(BUSY_GROUP_ERROR) {
+                return created;
+            }
+        }
+        // the pending entries are read once up front, so that the errors which every later read would also fail with
+        // are returned here instead of being retried in the background
+        StreamEntry[]|Error checked = self.redisClient->xReadGroup(consumerConfig.group, consumerConfig.consumer,
+                {[consumerConfig.'stream]: PENDING_ENTRIES_ID}, 1);
+        if checked is Error && isUnrecoverableStreamError(checked) {
+            return checked;
+        }
+        lock {
+            if self.running {
+                return;
+            }
+            self.running = true;
+            self.consuming = true;
+        }
+        _ = start self.consume();
+    }
+
+    # Stop consuming the stream once the batch being processed is done, and close the connection.
+    #
+    # + return - `redis:Error` if the connection could not be closed, or `nil` otherwise
+    public isolated function gracefulStop() returns Error? {
+        lock {
+            self.running = false;
+        }
+        while self.isConsuming() {
+            runtime:sleep(STOP_POLL_INTERVAL);
+        }
+        return self.redisClient.close();
+    }
+
+    # Stop consuming the stream immediately, and close the connection. The entries being processed are not
+    # acknowledged, and are delivered again after a restart.
+    #
+    # + return - `redis:Error` if the connection could not be closed, or `nil` otherwise
+    public isolated function immediateStop() returns Error? {
+        lock {
+            self.running = false;
+        }
+        return self.redisClient.close();
+    }
+
+    isolated function consume() {
+        StreamConsumerConfig & readonly consumerConfig = self.consumerConfig;
+        // the pending entries of this consumer are read from the beginning until none are left, after which only the
+        // entries never delivered to the group are read
+        boolean recovering = true;
+        string readId = PENDING_ENTRIES_ID;
+        string claimId = "0-0";
+        while self.isRunning() {
+            // the entries read are delivered to this consumer and left pending, so none are read without a service
+            // to dispatch them to
+            StreamService? consumerService = self.getConsumerService();
+            if consumerService is () {
+                runtime:sleep(consumerConfig.pollTimeout);
+                continue;
+            }
+            StreamEntry[]|Error entries;
+            if recovering {
+                entries = self.redisClient->xReadGroup(consumerConfig.group, consumerConfig.consumer,
+                        {[consumerConfig.'stream]: readId}, consumerConfig.batchSize);
+            } else {
+                entries = self.redisClient->xReadGroup(consumerConfig.group, consumerConfig.consumer,
+                        {[consumerConfig.'stream]: readId}, consumerConfig.batchSize, consumerConfig.pollTimeout);
+            }
+            if entries is Error {
+                if self.isRunning() {
+                    log:printError(string `Failed to read the stream '${consumerConfig.'stream}' as consumer `
+                            + string `'${consumerConfig.consumer}' of group '${consumerConfig.group}'`,
+                            'error = entries);
+                    runtime:sleep(consumerConfig.pollTimeout);
+                }
+                continue;
+            }
+            if entries.length() == 0 {
+                if recovering {
+                    recovering = false;
+                    readId = NEW_ENTRIES_ID;
+                    continue;
+                }
+                // the consumer is idle, so it takes over the entries left pending by the failed consumers
+                decimal? claimIdleTime = consumerConfig.claimIdleTime;
+                if claimIdleTime is () {
+                    continue;
+                }
+                AutoClaimedEntries|Error claimed = self.redisClient->xAutoClaim(consumerConfig.'stream,
+                        consumerConfig.group, consumerConfig.consumer, claimIdleTime, claimId,
+                        consumerConfig.batchSize);
+                if claimed is Error {
+                    log:printError(string `Failed to claim the idle entries of the stream '${consumerConfig.'stream}'`,
+                            'error = claimed);
+                    continue;
+                }
+                claimId = claimed.nextId;
+                entries = claimed.entries;
+                if entries.length() == 0 {
+                    continue;
+                }
+            }
+            self.dispatch(consumerService, entries);
+            if recovering {
+                // the recovered entries stay pending if they were not acknowledged, so the next read continues after
+                // them instead of delivering them again
+                readId = entries[entries.length() - 1].id;
+            }
+        }
+        lock {
+            self.consuming = false;
+        }
+    }
+
+    isolated function dispatch(StreamService consumerService, StreamEntry[] entries) {
+        error? result = consumerService->onEntries(entries);
+        if result is error {
+            log:printError("Stream service failed to process the entries, which remain pending", 'error = result);
+            return;
+        }
+        if self.consumerConfig.autoAck {
+            string[] ids = from StreamEntry entry in entries select entry.id;
+            int|Error acked = self.redisClient->xAck(self.consumerConfig.'stream, self.consumerConfig.group, ids);
+            if acked is Error {
+                log:printError("Failed to acknowledge the entries, which remain pending", 'error = acked);
+            }
+        }
+    }
+
+    isolated function getConsumerService() returns StreamService? {
+        lock {
+            return self.consumerService;
+        }
+    }
+
+    isolated function isRunning() returns boolean {
+        lock {
+            return self.running;
+        }
+    }
+
+    isolated function isConsuming() returns boolean {
+        lock {
+            return self.consuming;
+        }
+    }
+}
+
+isolated function isUnrecoverableStreamError(Error err) returns boolean {
+    string message = err.message();
+    return UNRECOVERABLE_STREAM_ERRORS.some(code => message.includes(code));
+}
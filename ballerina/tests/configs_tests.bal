@@ -13,6 +13,9 @@
 // KIND, either express or implied.  See the License for the
 // specific language governing permissions and limitations
 // under the License.
+import ballerina/lang.runtime;
+import ballerina/observe;
+import ballerina/os;
 import ballerina/test;
 
 @test:Config {
@@ -26,6 +29,484 @@ function testDefaultConfigs() returns error? {
     check redis.close();
 }
 
+@test:Config {
+    groups: ["standalone"]
+}
+function testConnectionPoolConfigs() returns error? {
+    Client poolClient = check new (
+        connectionPooling = true,
+        poolConfig = {maxTotal: 2, maxIdle: 2, minIdle: 1, maxWait: 0.5, testOnBorrow: true,
+            timeBetweenEvictionRuns: 30, lifo: false}
+    );
+    string key = "ConnectionPoolConfigsTestList";
+    // each blocking command holds a connection of the pool until it returns, which exhausts the pool
+    future<map<any>|Error> firstPop = start poolClient->bLPop(5, [key]);
+    future<map<any>|Error> secondPop = start poolClient->bLPop(5, [key]);
+    runtime:sleep(0.5);
+
+    // a command waits for `maxWait` for a connection of the exhausted pool, and then fails
+    string|Error exhausted = poolClient->ping();
+    test:assertTrue(exhausted is Error, "expected the exhausted pool to reject the command");
+
+    _ = check redis->rPush(key, ["value1", "value2"]);
+    map<any> first = check wait firstPop;
+    map<any> second = check wait secondPop;
+    test:assertEquals(first.length(), 1);
+    test:assertEquals(second.length(), 1);
+
+    // the connections are returned to the pool once the blocking commands are done
+    string ping = check poolClient->ping();
+    test:assertEquals(ping, "PONG");
+
+    check poolClient.close();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testConnectionPoolPrewarm() returns error? {
+    Client redis = check new (
+        connectionPooling = true,
+        poolConfig = {maxTotal: 4, maxIdle: 4, minIdle: 4, prewarm: true}
+    );
+    foreach int i in 0 ..< 4 {
+        string ping = check redis->ping();
+        test:assertEquals(ping, "PONG");
+    }
+
+    check redis.close();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testConnectionPoolPrewarmFailure() returns error? {
+    Client|Error redis = new (
+        connection = {host: "localhost", port: 6399},
+        connectionPooling = true,
+        poolConfig = {minIdle: 2, prewarm: true}
+    );
+    test:assertTrue(redis is Error);
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testSharedConnections() returns error? {
+    Client redis = check new (connectionPooling = true, poolConfig = {sharedConnections: 2});
+    foreach int i in 0 ..< 4 {
+        string ping = check redis->ping();
+        test:assertEquals(ping, "PONG");
+    }
+    _ = check redis->rPush("SharedConnectionsTestList", ["value"]);
+    map<any> result = check redis->bLPop(1, ["SharedConnectionsTestList"]);
+    test:assertEquals(<anydata|error>result.get("SharedConnectionsTestList"), "value");
+
+    check redis.close();
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testReadFromReplicaPreferred() returns error? {
+    ConnectionConfig config = clusterMode ? getClusterConfigs() : getStandaloneConfigs();
+    config.readFrom = REPLICA_PREFERRED;
+    Client replicaClient = check new (config);
+
+    // writes are always sent to the master, while reads may be served by a replica, which is updated asynchronously
+    _ = check replicaClient->set("ReadFromReplicaTestKey", "value");
+    runtime:sleep(0.5);
+    string? value = check replicaClient->get("ReadFromReplicaTestKey");
+    test:assertEquals(value, "value");
+
+    check replicaClient.close();
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testHedgedReads() returns error? {
+    ConnectionConfig config = clusterMode ? getClusterConfigs() : getStandaloneConfigs();
+    // a zero delay hedges every read, within the budget given by the hedge ratio
+    config.hedgedReads = {delay: 0, maxHedgeRatio: 1};
+    Client hedgingClient = check new (config);
+
+    _ = check hedgingClient->set("{HedgedRead}Key1", "value1");
+    _ = check hedgingClient->set("{HedgedRead}Key2", "value2");
+    _ = check hedgingClient->hSet("{HedgedRead}Hash", "field", "value");
+    _ = check hedgingClient->zAdd("{HedgedRead}SortedSet", {"member1": 1, "member2": 2});
+    runtime:sleep(0.5);
+
+    foreach int i in 0 ..< 20 {
+        test:assertEquals(check hedgingClient->get("{HedgedRead}Key1"), "value1");
+        test:assertEquals(check hedgingClient->mGet(["{HedgedRead}Key1", "{HedgedRead}Key2"]), ["value1", "value2"]);
+        test:assertEquals(check hedgingClient->hGet("{HedgedRead}Hash", "field"), "value");
+        test:assertEquals(check hedgingClient->zRangeByScore("{HedgedRead}SortedSet", 1, 2), ["member1", "member2"]);
+    }
+
+    check hedgingClient.close();
+}
+
+@test:Config {
+    groups: ["cluster"]
+}
+function testClusterTopologyRefreshConfigs() returns error? {
+    if !clusterMode {
+        return;
+    }
+    ConnectionConfig config = getClusterConfigs();
+    config.connection = {host: "localhost", port: 7000, options: {clientName: TOPOLOGY_REFRESH_TEST_CLIENT}};
+    config.clusterConfig = {
+        topologyRefreshPeriod: 5,
+        adaptiveRefreshTriggers: [MOVED_REDIRECT, PERSISTENT_RECONNECTS],
+        adaptiveRefreshTimeout: 10,
+        dynamicRefreshSources: false,
+        maxRedirects: 3
+    };
+    Client clusterClient = check new (config);
+    string key = "{TopologyRefresh}Key";
+    // the slot map of the client is loaded before the empty slot of the key is moved to another master
+    string? missing = check clusterClient->get(key);
+    test:assertEquals(missing, ());
+    int slot = check int:fromString(check execRedisCli(CLUSTER_COMPOSE_FILE, "redis-cluster-node1", 7000, "CLUSTER",
+            "KEYSLOT", key));
+    ClusterNode[] masters = from ClusterNode node in check getClusterNodes() where node.master select node;
+    ClusterNode[] owners = masters.filter(node => node.slotRanges.some(range => range[0] <= slot && slot <= range[1]));
+    ClusterNode[] others = masters.filter(node => node.id != owners[0].id);
+    check moveEmptySlot(slot, owners[0], others[0], masters);
+
+    // the command is redirected with MOVED to the new owner of the slot, which triggers an adaptive refresh
+    _ = check clusterClient->set(key, "value");
+    string? value = check clusterClient->get(key);
+    test:assertEquals(value, "value");
+    float? movedRedirects = getMetricValue(TOPOLOGY_REFRESH_TEST_CLIENT, "redis_cluster_moved_redirects_total");
+    test:assertTrue(movedRedirects is float && movedRedirects >= 1.0, "expected a MOVED redirect to be followed");
+    float? topologyChanges = ();
+    foreach int _ in 0 ..< 10 {
+        topologyChanges = getMetricValue(TOPOLOGY_REFRESH_TEST_CLIENT, "redis_cluster_topology_changes_total");
+        if topologyChanges is float && topologyChanges >= 1.0 {
+            break;
+        }
+        runtime:sleep(1);
+    }
+    test:assertTrue(topologyChanges is float && topologyChanges >= 1.0,
+            "expected the MOVED redirect to refresh the topology");
+
+    // the slot is emptied and moved back, so that the other tests see the original topology
+    _ = check clusterClient->del([key]);
+    check moveEmptySlot(slot, others[0], owners[0], masters);
+    check clusterClient.close();
+}
+
+const TOPOLOGY_REFRESH_TEST_CLIENT = "topology-refresh-test";
+
+type ClusterNode record {|
+    string id;
+    int port;
+    boolean master;
+    int[][] slotRanges;
+|};
+
+function getClusterNodes() returns ClusterNode[]|error {
+    string output = check execRedisCli(CLUSTER_COMPOSE_FILE, "redis-cluster-node1", 7000, "CLUSTER", "NODES");
+    ClusterNode[] nodes = [];
+    foreach string line in re `\n`.split(output) {
+        // <id> <ip:port@cport> <flags> <master> <ping-sent> <pong-recv> <config-epoch> <link-state> <slot> ...
+        string[] fields = re ` `.split(line.trim());
+        string[] address = re `:`.split(re `@`.split(fields[1])[0]);
+        int[][] slotRanges = [];
+        foreach string slots in fields.slice(8) {
+            // the slots being migrated or imported are listed in brackets
+            if slots.startsWith("[") {
+                continue;
+            }
+            string[] bounds = re `-`.split(slots);
+            int first = check int:fromString(bounds[0]);
+            slotRanges.push([first, bounds.length() > 1 ? check int:fromString(bounds[1]) : first]);
+        }
+        nodes.push({
+            id: fields[0],
+            port: check int:fromString(address[address.length() - 1]),
+            master: fields[2].includes("master"),
+            slotRanges
+        });
+    }
+    return nodes;
+}
+
+// moves a slot without keys between two masters, the same way as redis-cli does when resharding
+function moveEmptySlot(int slot, ClusterNode source, ClusterNode target, ClusterNode[] masters) returns error? {
+    string slotId = slot.toString();
+    _ = check execClusterCli(target, "CLUSTER", "SETSLOT", slotId, "IMPORTING", source.id);
+    _ = check execClusterCli(source, "CLUSTER", "SETSLOT", slotId, "MIGRATING", target.id);
+    _ = check execClusterCli(target, "CLUSTER", "SETSLOT", slotId, "NODE", target.id);
+    _ = check execClusterCli(source, "CLUSTER", "SETSLOT", slotId, "NODE", target.id);
+    foreach ClusterNode master in masters {
+        if master.id != source.id && master.id != target.id {
+            _ = check execClusterCli(master, "CLUSTER", "SETSLOT", slotId, "NODE", target.id);
+        }
+    }
+}
+
+function execClusterCli(ClusterNode node, string... args) returns string|error {
+    // the nodes of the test setup listen on the ports 7000 to 7005, in the order of their services
+    string serviceName = string `redis-cluster-node${node.port - 6999}`;
+    return execRedisCli(CLUSTER_COMPOSE_FILE, serviceName, node.port, ...args);
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testSharedClientResources() returns error? {
+    Client redis1 = check new (resourceConfig = {ioThreads: 2, computationThreads: 2});
+    Client redis2 = check new (resourceConfig = {ioThreads: 2, computationThreads: 2});
+    check redis1.close();
+
+    // the resources are still used by the second client, so they must not be shut down by closing the first one
+    string ping = check redis2->ping();
+    test:assertEquals(ping, "PONG");
+    check redis2.close();
+
+    // the resources are created again once all the clients using them are closed
+    Client redis3 = check new (resourceConfig = {ioThreads: 2, computationThreads: 2});
+    ping = check redis3->ping();
+    test:assertEquals(ping, "PONG");
+    check redis3.close();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testUnixSocketConnection() returns error? {
+    Client socketClient = check new (connection = {socketPath: "/tmp/redis-socket/redis.sock"});
+    string ping = check socketClient->ping();
+    test:assertEquals(ping, "PONG");
+
+    _ = check socketClient->set("UnixSocketTestKey", "value");
+    string? value = check socketClient->get("UnixSocketTestKey");
+    test:assertEquals(value, "value");
+
+    check socketClient.close();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testUnixSocketConnectionInClusterMode() returns error? {
+    Client|Error socketClient = new (
+        connection = {socketPath: "/tmp/redis-socket/redis.sock"},
+        isClusterConnection = true
+    );
+    test:assertTrue(socketClient is Error);
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testCommandTimeouts() returns error? {
+    Client timeoutClient = check new (
+        timeoutConfig = {
+            connectTimeout: 2,
+            commandTimeout: 1,
+            readTimeout: 0.5,
+            writeTimeout: 1,
+            commandTimeouts: {"EVALSHA": 0.2}
+        }
+    );
+    // a script which keeps the server busy for longer than the timeout of its command fails with a timeout
+    ScriptResult|Error timedOut = timeoutClient->eval(BUSY_SCRIPT, [], ["600000"]);
+    test:assertTrue(timedOut is Error, "expected the script to time out");
+    if timedOut is Error {
+        test:assertTrue(timedOut.message().includes("timed out"));
+    }
+    // the server stays busy until the script completes
+    runtime:sleep(1);
+    _ = check timeoutClient->set("CommandTimeoutsTestKey", "value");
+    string? value = check timeoutClient->get("CommandTimeoutsTestKey");
+    test:assertEquals(value, "value");
+
+    // blocking commands are awaited for their own timeout, which is longer than the command timeouts here
+    string key = "CommandTimeoutsTestList";
+    future<error?> pushed = start pushAfterDelay(key, 1.5);
+    map<any> result = check timeoutClient->bLPop(3, [key]);
+    test:assertEquals(<anydata|error>result.get(key), "value");
+    check wait pushed;
+
+    _ = check redis->del(["CommandTimeoutsTestKey"]);
+    check timeoutClient.close();
+}
+
+// busy waits on the server for the number of microseconds given as the argument
+const BUSY_SCRIPT = "local start = redis.call('TIME') "
+    + "local deadline = tonumber(start[1]) * 1000000 + tonumber(start[2]) + tonumber(ARGV[1]) "
+    + "while true do "
+    + "local now = redis.call('TIME') "
+    + "if tonumber(now[1]) * 1000000 + tonumber(now[2]) >= deadline then return 1 end "
+    + "end";
+
+function pushAfterDelay(string key, decimal delay) returns error? {
+    runtime:sleep(delay);
+    _ = check redis->rPush(key, ["value"]);
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testSentinelConnection() returns error? {
+    Client sentinelClient = check new (
+        connection = {sentinels: [{host: "localhost", port: 26379}], masterName: "mymaster"},
+        readFrom = REPLICA_PREFERRED
+    );
+    _ = check sentinelClient->set("SentinelTestKey", "value");
+    runtime:sleep(0.5);
+    string? value = check sentinelClient->get("SentinelTestKey");
+    test:assertEquals(value, "value");
+
+    check sentinelClient.close();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testSentinelConnectionInClusterMode() returns error? {
+    Client|Error sentinelClient = new (
+        connection = {sentinels: [{host: "localhost", port: 26379}], masterName: "mymaster"},
+        isClusterConnection = true
+    );
+    test:assertTrue(sentinelClient is Error);
+}
+
+@test:Config {
+    groups: ["standalone"],
+    dependsOn: [testSentinelConnection]
+}
+function testSentinelFailover() returns error? {
+    Client sentinelClient = check new (
+        connection = {sentinels: [{host: "localhost", port: 26379}], masterName: "mymaster"}
+    );
+    _ = check sentinelClient->set("SentinelFailoverTestKey", "value1");
+
+    // the Sentinel promotes the replica on port 6391, after which the previous master on port 6390 rejects the writes
+    check forceSentinelFailover();
+    Client previousMaster = check new (connection = {host: "localhost", port: 6390});
+    boolean demoted = false;
+    foreach int _ in 0 ..< 30 {
+        string|Error result = previousMaster->set("SentinelFailoverProbeKey", "value");
+        if result is Error && result.message().includes("READONLY") {
+            demoted = true;
+            break;
+        }
+        runtime:sleep(1);
+    }
+    check previousMaster.close();
+    test:assertTrue(demoted, "expected the previous master to be demoted to a replica");
+
+    // the client follows the master announced by the Sentinel, so the commands succeed against the new master
+    string|Error result = error Error("the command was not sent");
+    foreach int _ in 0 ..< 10 {
+        result = sentinelClient->set("SentinelFailoverTestKey", "value2");
+        if result is string {
+            break;
+        }
+        runtime:sleep(1);
+    }
+    test:assertEquals(result, "OK");
+    string? value = check sentinelClient->get("SentinelFailoverTestKey");
+    test:assertEquals(value, "value2");
+
+    check sentinelClient.close();
+}
+
+function forceSentinelFailover() returns error? {
+    string output = check execRedisCli(STANDALONE_COMPOSE_FILE, "redis-sentinel", 26379, "SENTINEL", "FAILOVER",
+            "mymaster");
+    if !output.includes("OK") {
+        return error(string `SENTINEL FAILOVER failed: ${output}`);
+    }
+}
+
+const STANDALONE_COMPOSE_FILE = "tests/resources/docker/compose-standalone.yml";
+const CLUSTER_COMPOSE_FILE = "tests/resources/docker/compose-cluster.yml";
+
+// runs redis-cli in a container of the test setup, and returns its output
+function execRedisCli(string composeFile, string serviceName, int port, string... args) returns string|error {
+    os:Process process = check os:exec({
+        value: "docker",
+        arguments: ["compose", "-f", composeFile, "exec", "-T", serviceName, "redis-cli", "-p", port.toString(),
+            ...args]
+    });
+    int exitCode = check process.waitForExit();
+    string output = check string:fromBytes(check process.output());
+    if exitCode != 0 || output.startsWith("ERR") {
+        return error(string `redis-cli ${" ".'join(...args)} failed with exit code ${exitCode}: ${output}`);
+    }
+    return output.trim();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testClientSideCache() returns error? {
+    Client cachingClient = check new (clientSideCache = {maxEntries: 2});
+    _ = check redis->set("ClientSideCacheTestKey", "value1");
+
+    string? value = check cachingClient->get("ClientSideCacheTestKey");
+    test:assertEquals(value, "value1");
+    value = check cachingClient->get("ClientSideCacheTestKey");
+    test:assertEquals(value, "value1");
+
+    _ = check cachingClient->get("ClientSideCacheTestKey2");
+    _ = check cachingClient->get("ClientSideCacheTestKey3");
+
+    CacheStats? stats = cachingClient.getCacheStats();
+    if stats is () {
+        test:assertFail("expected client-side cache statistics");
+    }
+    test:assertEquals(stats.hits, 1);
+    test:assertEquals(stats.misses, 3);
+    test:assertEquals(stats.invalidations, 0);
+    test:assertEquals(stats.evictions, 1);
+    test:assertEquals(stats.size, 2);
+
+    // a write through another client is pushed to the caching client as an invalidation by the server
+    _ = check redis->set("ClientSideCacheTestKey3", "value3");
+    value = ();
+    foreach int _ in 0 ..< 20 {
+        value = check cachingClient->get("ClientSideCacheTestKey3");
+        if value == "value3" {
+            break;
+        }
+        runtime:sleep(0.1);
+    }
+    test:assertEquals(value, "value3");
+    stats = cachingClient.getCacheStats();
+    if stats is () {
+        test:assertFail("expected client-side cache statistics");
+    }
+    test:assertEquals(stats.invalidations, 1);
+
+    // writes through the caching client are visible to its next read
+    _ = check cachingClient->get("ClientSideCacheTestKey");
+    _ = check cachingClient->set("ClientSideCacheTestKey", "value2");
+    value = check cachingClient->get("ClientSideCacheTestKey");
+    test:assertEquals(value, "value2");
+
+    _ = check cachingClient->hSet("ClientSideCacheTestHash", "field", "value1");
+    string? fieldValue = check cachingClient->hGet("ClientSideCacheTestHash", "field");
+    test:assertEquals(fieldValue, "value1");
+    _ = check cachingClient->hSet("ClientSideCacheTestHash", "field", "value2");
+    fieldValue = check cachingClient->hGet("ClientSideCacheTestHash", "field");
+    test:assertEquals(fieldValue, "value2");
+
+    _ = check cachingClient->del(["ClientSideCacheTestKey"]);
+    value = check cachingClient->get("ClientSideCacheTestKey");
+    test:assertEquals(value, ());
+
+    test:assertEquals(redis.getCacheStats(), ());
+    _ = check redis->del(["ClientSideCacheTestKey", "ClientSideCacheTestKey3", "ClientSideCacheTestHash"]);
+    check cachingClient.close();
+}
+
 @test:Config {
     groups: ["standalone", "cluster"]
 }
@@ -58,3 +539,47 @@ function testInvalidPortInRedisUriOnClusterMode() {
         test:assertEquals(initResult.message(), "Error while initializing the redis client: Unable to establish a connection to Redis Cluster");
     }
 }
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testMetrics() returns error? {
+    // metrics are enabled for the tests through the Config.toml of the tests
+    Client metricsClient = check new (
+        connection = {host: "localhost", port: 6379, options: {clientName: METRICS_TEST_CLIENT}},
+        connectionPooling = true
+    );
+    _ = check metricsClient->set("MetricsTestKey", "value");
+    _ = check metricsClient->get("MetricsTestKey");
+    // an error reply of the server is counted as a failed command
+    string?|Error wrongType = metricsClient->hGet("MetricsTestKey", "field");
+    test:assertTrue(wrongType is Error);
+
+    test:assertEquals(getMetricValue(METRICS_TEST_CLIENT, "redis_command_requests_total", "SET"), 1.0);
+    test:assertEquals(getMetricValue(METRICS_TEST_CLIENT, "redis_command_requests_total", "GET"), 1.0);
+    test:assertEquals(getMetricValue(METRICS_TEST_CLIENT, "redis_command_errors_total", "GET"), 0.0);
+    test:assertEquals(getMetricValue(METRICS_TEST_CLIENT, "redis_command_requests_total", "HGET"), 1.0);
+    test:assertEquals(getMetricValue(METRICS_TEST_CLIENT, "redis_command_errors_total", "HGET"), 1.0);
+    test:assertTrue(getMetricValue(METRICS_TEST_CLIENT, "redis_bytes_sent_total") > 0.0);
+    // the connections are returned to the pool once the commands are done
+    test:assertEquals(getMetricValue(METRICS_TEST_CLIENT, "redis_pool_active_connections"), 0.0);
+    test:assertTrue(getMetricValue(METRICS_TEST_CLIENT, "redis_pool_idle_connections") > 0.0);
+
+    _ = check metricsClient->del(["MetricsTestKey"]);
+    check metricsClient.close();
+    // the metrics of a client are removed once it is closed
+    test:assertEquals(getMetricValue(METRICS_TEST_CLIENT, "redis_command_requests_total", "SET"), ());
+}
+
+const METRICS_TEST_CLIENT = "metrics-test";
+
+function getMetricValue(string clientName, string name, string? command = ()) returns float? {
+    foreach observe:Metric metric in observe:getAllMetrics() {
+        map<string> tags = metric.tags;
+        if metric.name == name && tags["redis.client"] == clientName && tags["redis.command"] == command {
+            int|float value = metric.value;
+            return value is int ? <float>value : value;
+        }
+    }
+    return ();
+}
@@ -122,6 +122,101 @@ function testConnectionRecoveryAfterSilentDrop() returns error? {
     cleanupToxiProxy(toxiproxyClient, proxyName);
 }
 
+// Verifies that a client configured to reject commands while disconnected fails fast with a
+// `CommandRejectedError`, instead of buffering the commands until they time out.
+// Deleting the proxy closes the client connection, and nothing listens on the port until it is recreated.
+@test:Config {
+    groups: ["standalone"],
+    dependsOn: [testConnectionRecoveryAfterSilentDrop]
+}
+function testCommandsRejectedWhileDisconnected() returns error? {
+    string proxyName = "redis-proxy-reject-commands";
+    http:Client toxiproxyClient = check createToxiProxy(proxyName, "0.0.0.0:6381", "redis-standalone:6379");
+
+    Client redisClient = check new (connection = {
+        host: "localhost",
+        port: 6381,
+        options: {
+            connectionTimeout: 10,
+            requestQueueSize: 100,
+            disconnectedBehavior: REJECT_COMMANDS
+        }
+    });
+
+    do {
+        _ = check redisClient->set("reject_commands_test_key", "value1");
+
+        cleanupToxiProxy(toxiproxyClient, proxyName);
+        runtime:sleep(1);
+
+        string?|Error val = redisClient->get("reject_commands_test_key");
+        test:assertTrue(val is CommandRejectedError, "Expected the command to be rejected while disconnected");
+    } on fail error e {
+        Error? closeErr = redisClient.close();
+        return e;
+    }
+    Error? closeErr = redisClient.close();
+}
+
+// Verifies that the circuit breaker opens once the failure threshold is reached, so that the
+// following commands fail with a `CircuitOpenError` without being sent, and that it is closed
+// again by a successful probe once the server is reachable.
+@test:Config {
+    groups: ["standalone"],
+    dependsOn: [testCommandsRejectedWhileDisconnected]
+}
+function testCircuitBreaker() returns error? {
+    string proxyName = "redis-proxy-circuit-breaker";
+    http:Client toxiproxyClient = check createToxiProxy(proxyName, "0.0.0.0:6381", "redis-standalone:6379");
+
+    Client redisClient = check new (connection = {
+            host: "localhost",
+            port: 6381,
+            options: {
+                connectionTimeout: 10,
+                disconnectedBehavior: REJECT_COMMANDS
+            }
+        },
+        circuitBreaker = {
+            rollingWindow: {requestVolumeThreshold: 2, timeWindow: 10, bucketSize: 1},
+            failureThreshold: 0.5,
+            resetTime: 1
+        }
+    );
+
+    do {
+        _ = check redisClient->set("circuit_breaker_test_key", "value1");
+
+        cleanupToxiProxy(toxiproxyClient, proxyName);
+        runtime:sleep(1);
+
+        string?|Error val1 = redisClient->get("circuit_breaker_test_key");
+        test:assertTrue(val1 is CommandRejectedError && val1 !is CircuitOpenError);
+        string?|Error val2 = redisClient->get("circuit_breaker_test_key");
+        test:assertTrue(val2 is CommandRejectedError && val2 !is CircuitOpenError);
+        string?|Error val3 = redisClient->get("circuit_breaker_test_key");
+        test:assertTrue(val3 is CircuitOpenError, "Expected the command to fail fast while the circuit is open");
+
+        toxiproxyClient = check createToxiProxy(proxyName, "0.0.0.0:6381", "redis-standalone:6379");
+        // the circuit is closed by the first probe sent after the client has reconnected
+        string?|Error val4 = ();
+        foreach int attempt in 0 ..< 30 {
+            runtime:sleep(1);
+            val4 = redisClient->get("circuit_breaker_test_key");
+            if val4 !is Error {
+                break;
+            }
+        }
+        test:assertEquals(val4, "value1");
+    } on fail error e {
+        Error? closeErr = redisClient.close();
+        cleanupToxiProxy(toxiproxyClient, proxyName);
+        return e;
+    }
+    check redisClient.close();
+    cleanupToxiProxy(toxiproxyClient, proxyName);
+}
+
 // Helper to create a toxiproxy proxy, returns the http client for further API calls.
 // Deletes any existing proxy with the same name first to avoid 409 conflicts.
 function createToxiProxy(string proxyName, string listenAddr, string upstream)
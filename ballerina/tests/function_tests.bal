@@ -0,0 +1,73 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/test;
+
+final string counterLibrary = string `#!lua name=testcounter
+redis.register_function('testincrby', function(keys, args)
+    return redis.call('INCRBY', keys[1], args[1])
+end)
+redis.register_function{
+    function_name = 'testget',
+    callback = function(keys, args) return redis.call('GET', keys[1]) end,
+    flags = {'no-writes'},
+    description = 'Gets the counter'
+}`;
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testFunctionLoadAndFCall() returns error? {
+    test:assertEquals(check redis->functionLoad(counterLibrary, true), "testcounter");
+    test:assertEquals(check redis->fCall("testincrby", ["testFCallKey"], ["5"]), 5);
+    test:assertEquals(check redis->fCall("testincrby", ["testFCallKey"], ["2"]), 7);
+    test:assertEquals(check redis->fCallRo("testget", ["testFCallKey"]), "7");
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"],
+    dependsOn: [testFunctionLoadAndFCall]
+}
+function testFunctionList() returns error? {
+    FunctionLibrary[] libraries = check redis->functionList("testcounter");
+    test:assertEquals(libraries.length(), 1);
+    test:assertEquals(libraries[0].name, "testcounter");
+    test:assertEquals(libraries[0].engine, "LUA");
+    FunctionInfo[] functions = from FunctionInfo f in libraries[0].functions order by f.name ascending select f;
+    test:assertEquals(functions, [
+        {name: "testget", description: "Gets the counter", flags: ["no-writes"]},
+        {name: "testincrby", description: (), flags: []}
+    ]);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testFCallRoRejectsWrites() returns error? {
+    _ = check redis->functionLoad(counterLibrary, true);
+    ScriptResult|Error result = redis->fCallRo("testincrby", ["testFCallRoKey"], ["1"]);
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"],
+    dependsOn: [testFunctionList, testFCallRoRejectsWrites]
+}
+function testFunctionDelete() returns error? {
+    test:assertEquals(check redis->functionDelete("testcounter"), "OK");
+    test:assertEquals((check redis->functionList("testcounter")).length(), 0);
+    ScriptResult|Error result = redis->fCall("testincrby", ["testFCallKey"], ["1"]);
+    test:assertTrue(result is Error);
+}
@@ -185,3 +185,30 @@ function testHVals() returns error? {
     }
     test:assertTrue(allValuesRetrieved);
 }
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testHSetAndHGetBytes() returns error? {
+    byte[] value = [0, 159, 146, 150, 255];
+    boolean result = check redis->hSetBytes("testHSetBytesKey", "testHSetBytesField", value);
+    test:assertTrue(result);
+
+    byte[]? retrieved = check redis->hGetBytes("testHSetBytesKey", "testHSetBytesField");
+    test:assertEquals(retrieved, value);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testHScan() returns error? {
+    _ = check redis->hMSet("testHScanKey", {"testHScanField1": "value1", "testHScanField2": "value2"});
+
+    stream<[string, string], Error?> fieldStream = redis->hScan("testHScanKey", count = 1);
+    map<string> fields = {};
+    check from [string, string] [field, value] in fieldStream
+        do {
+            fields[field] = value;
+        };
+    test:assertEquals(fields, {"testHScanField1": "value1", "testHScanField2": "value2"});
+}
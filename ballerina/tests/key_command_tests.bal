@@ -199,3 +199,23 @@ function testType() returns error? {
     string result = check redis->redisType("testTypeKey");
     test:assertEquals(result, "string");
 }
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testScan() returns error? {
+    foreach int i in 1 ... 25 {
+        _ = check redis->set(string `testScanKey${i}`, "testScanValue");
+    }
+
+    stream<string, Error?> keyStream = redis->scan("testScanKey*", 5);
+    string[] keys = check from string key in keyStream
+        select key;
+    map<boolean> distinctKeys = {};
+    foreach string key in keys {
+        distinctKeys[key] = true;
+    }
+    test:assertEquals(distinctKeys.length(), 25);
+    test:assertTrue(distinctKeys.hasKey("testScanKey1"));
+    test:assertTrue(distinctKeys.hasKey("testScanKey25"));
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated KeyEvent[][] keyspaceReceivedBatches = [];
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testKeyspaceListener() returns error? {
+    KeyspaceListener keyspaceListener = check new ({
+        keyPattern: "testKeyspace*",
+        enableNotifications: true,
+        batchWindow: 0.5
+    }, getStandaloneConfigs());
+    KeyspaceService keyspaceService = isolated service object {
+        remote isolated function onKeyEvents(KeyEvent[] events) {
+            lock {
+                keyspaceReceivedBatches.push(events.cloneReadOnly());
+            }
+        }
+    };
+    check keyspaceListener.attach(keyspaceService);
+    check keyspaceListener.'start();
+
+    // the events of a key within the batch window are coalesced into its last event
+    _ = check redis->set("testKeyspaceKey1", "value1");
+    _ = check redis->set("testKeyspaceKey2", "value1");
+    _ = check redis->set("testKeyspaceKey1", "value2");
+    _ = check redis->del(["testKeyspaceKey1"]);
+    _ = check redis->set("otherKeyspaceKey", "value");
+    runtime:sleep(1.5);
+    check keyspaceListener.gracefulStop();
+
+    lock {
+        test:assertEquals(keyspaceReceivedBatches, [[
+            {'type: "set", key: "testKeyspaceKey2", db: 0},
+            {'type: "del", key: "testKeyspaceKey1", db: 0}
+        ]]);
+    }
+}
@@ -160,3 +160,15 @@ function testRPushX() returns error? {
     int result = check redis->rPushX("testRPushXKey", ["testRPushXValue2", "testRPushXValue3"]);
     test:assertEquals(result, 3);
 }
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testRPushAndLRangeBytes() returns error? {
+    byte[][] values = [[0, 255], [159, 146, 150]];
+    int result = check redis->rPushBytes("testRPushBytesKey", values);
+    test:assertEquals(result, 2);
+
+    byte[][] retrieved = check redis->lRangeBytes("testRPushBytesKey", 0, -1);
+    test:assertEquals(retrieved, values);
+}
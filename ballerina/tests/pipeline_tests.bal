@@ -0,0 +1,63 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/test;
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+public function testPipeline() returns error? {
+    Pipeline pipeline = redis.pipeline();
+    pipeline.set("PipelineTestKey", "PipelineValue");
+    pipeline.get("PipelineTestKey");
+    pipeline.incr("PipelineTestCounter");
+    pipeline.get("PipelineTestMissingKey");
+    pipeline.del(["PipelineTestKey", "PipelineTestCounter"]);
+
+    PipelineResult[] results = check pipeline.execute();
+    test:assertEquals(results, ["OK", "PipelineValue", 1, (), 2]);
+
+    results = check pipeline.execute();
+    test:assertEquals(results.length(), 0);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+public function testPipelineWithServerError() returns error? {
+    _ = check redis->set("PipelineTestStringKey", "value");
+    Pipeline pipeline = redis.pipeline();
+    pipeline.lPush("PipelineTestStringKey", ["item"]);
+    pipeline.get("PipelineTestStringKey");
+
+    PipelineResult[] results = check pipeline.execute();
+    test:assertTrue(results[0] is Error);
+    test:assertEquals(results[1], "value");
+    _ = check redis->del(["PipelineTestStringKey"]);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+public function testPipelineWithInvalidArgument() returns error? {
+    Pipeline pipeline = redis.pipeline();
+    pipeline.zAdd("PipelineTestSortedSet", {"member": 1});
+    pipeline.zAdd("PipelineTestSortedSet", {"member": 1.0});
+
+    PipelineResult[] results = check pipeline.execute();
+    test:assertTrue(results[0] is Error);
+    test:assertEquals(results[1], 1);
+    _ = check redis->del(["PipelineTestSortedSet"]);
+}
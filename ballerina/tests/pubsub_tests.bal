@@ -0,0 +1,106 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated Message[] pubSubReceivedMessages = [];
+isolated string[] pubSubBlockedPayloads = [];
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testPublishWithoutSubscribers() returns error? {
+    int receivers = check redis->publish("testPublishChannel", "message");
+    test:assertEquals(receivers, 0);
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testPubSubListener() returns error? {
+    Listener pubSubListener = check new (getStandaloneConfigs());
+    Service channelService = @ServiceConfig {patterns: ["testPubSubPattern.*"]} isolated service object {
+        remote isolated function onMessage(Message message) {
+            lock {
+                pubSubReceivedMessages.push(message.cloneReadOnly());
+            }
+        }
+    };
+    check pubSubListener.attach(channelService, "testPubSubChannel");
+    check pubSubListener.'start();
+
+    test:assertEquals(check redis->publish("testPubSubChannel", "message1"), 1);
+    test:assertEquals(check redis->publish("testPubSubPattern.a", "message2"), 1);
+    runtime:sleep(1);
+
+    check pubSubListener.detach(channelService);
+    test:assertEquals(check redis->publish("testPubSubChannel", "message3"), 0);
+    check pubSubListener.gracefulStop();
+
+    lock {
+        test:assertEquals(pubSubReceivedMessages, [
+            {channel: "testPubSubChannel", pattern: (), payload: "message1"},
+            {channel: "testPubSubPattern.a", pattern: "testPubSubPattern.*", payload: "message2"}
+        ]);
+    }
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testPubSubListenerWithoutChannels() returns error? {
+    Listener pubSubListener = check new (getStandaloneConfigs());
+    Service channelService = service object {
+        remote function onMessage(Message message) {
+        }
+    };
+    Error? result = pubSubListener.attach(channelService);
+    test:assertTrue(result is Error);
+    check pubSubListener.immediateStop();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testPubSubListenerWithBlockOverflowPolicy() returns error? {
+    Listener pubSubListener = check new (getStandaloneConfigs());
+    Service slowService = @ServiceConfig {
+        channels: ["testPubSubBlockChannel"],
+        queueCapacity: 1,
+        overflowPolicy: BLOCK
+    } isolated service object {
+        remote isolated function onMessage(Message message) {
+            runtime:sleep(0.05);
+            lock {
+                pubSubBlockedPayloads.push(message.payload);
+            }
+        }
+    };
+    check pubSubListener.attach(slowService);
+    check pubSubListener.'start();
+
+    // the messages which do not fit in the queue are buffered by the server instead of being dropped
+    string[] payloads = [];
+    foreach int i in 0 ..< 20 {
+        payloads.push(i.toString());
+        _ = check redis->publish("testPubSubBlockChannel", i.toString());
+    }
+    check pubSubListener.gracefulStop();
+
+    lock {
+        test:assertEquals(pubSubBlockedPayloads, payloads.cloneReadOnly());
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/test;
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testEval() returns error? {
+    string script = "local count = redis.call('INCR', KEYS[1]) " +
+        "if count == 1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+        "return count";
+    test:assertEquals(check redis->eval(script, ["testEvalKey"], ["60"]), 1);
+    test:assertEquals(check redis->eval(script, ["testEvalKey"], ["60"]), 2);
+    int ttl = check redis->ttl("testEvalKey");
+    test:assertTrue(ttl > 0 && ttl <= 60);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testEvalResultMapping() returns error? {
+    test:assertEquals(check redis->eval("return 42"), 42);
+    test:assertEquals(check redis->eval("return ARGV[1]", args = ["value"]), "value");
+    test:assertEquals(check redis->eval("return nil"), ());
+    test:assertEquals(check redis->eval("return {1, 'two', {3, 'four'}}"), [1, "two", [3, "four"]]);
+    test:assertEquals(check redis->eval("return redis.status_reply('DONE')"), "DONE");
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testScriptLoadAndEvalSha() returns error? {
+    string sha1 = check redis->scriptLoad("return redis.call('GET', KEYS[1])");
+    test:assertEquals(sha1, "d3c21d0c2b9ca22f82737626a27bcaf5d288f99f");
+    _ = check redis->set("testEvalShaKey", "value");
+    test:assertEquals(check redis->evalSha(sha1, ["testEvalShaKey"]), "value");
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testEvalShaUnknownScript() {
+    ScriptResult|Error result = redis->evalSha("ffffffffffffffffffffffffffffffffffffffff");
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertTrue(result.message().includes("NOSCRIPT"));
+    }
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testEvalScriptError() {
+    ScriptResult|Error result = redis->eval("return redis.error_reply('CUSTOM failure')");
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertTrue(result.message().includes("CUSTOM failure"));
+    }
+}
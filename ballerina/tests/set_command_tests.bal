@@ -236,3 +236,16 @@ function testSUnionStore() returns error? {
     boolean sIsMemberResult4 = check redis->sIsMember("{SetTag}testSUnionStoreDestKey", "testUnionValue4");
     test:assertTrue(sIsMemberResult4);
 }
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testSScan() returns error? {
+    _ = check redis->sAdd("testSScanKey", ["testSScanValue1", "testSScanValue2", "otherValue"]);
+
+    stream<string, Error?> memberStream = redis->sScan("testSScanKey", "testSScan*");
+    string[] members = check from string member in memberStream
+        order by member
+        select member;
+    test:assertEquals(members, ["testSScanValue1", "testSScanValue2"]);
+}
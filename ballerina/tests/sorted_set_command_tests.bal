@@ -217,3 +217,18 @@ function testZUnionStore() returns error? {
     int result = check redis->zUnionStore("{SortedSetTag}testZUnionStoreDestKey", ["{SortedSetTag}testZUnionStoreKey1", "{SortedSetTag}testZUnionStoreKey2"]);
     test:assertEquals(result, 6);
 }
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testZScan() returns error? {
+    _ = check redis->zAdd("testZScanKey", {"testZScanValue1": 1.0, "testZScanValue2": 2.5});
+
+    stream<[string, float], Error?> memberStream = redis->zScan("testZScanKey");
+    map<float> memberScores = {};
+    check from [string, float] [member, score] in memberStream
+        do {
+            memberScores[member] = score;
+        };
+    test:assertEquals(memberScores, {"testZScanValue1": 1.0, "testZScanValue2": 2.5});
+}
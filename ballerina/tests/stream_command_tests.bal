@@ -0,0 +1,156 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testXAddAndXLen() returns error? {
+    string id = check redis->xAdd("testXAddKey", {"name": "alice", "age": "30"});
+    test:assertTrue(id.includes("-"));
+    _ = check redis->xAdd("testXAddKey", {"name": "bob"}, "99999999999999-0");
+    test:assertEquals(check redis->xLen("testXAddKey"), 2);
+
+    foreach int i in 0 ..< 10 {
+        _ = check redis->xAdd("testXAddTrimKey", {"index": i.toString()}, maxLen = 5, approximateTrimming = false);
+    }
+    test:assertEquals(check redis->xLen("testXAddTrimKey"), 5);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testXReadGroupAndXAck() returns error? {
+    string key = "testXReadGroupKey";
+    test:assertEquals(check redis->xGroupCreate(key, "group1", "0", true), "OK");
+    string id1 = check redis->xAdd(key, {"field": "value1"});
+    string id2 = check redis->xAdd(key, {"field": "value2"});
+
+    StreamEntry[] entries = check redis->xReadGroup("group1", "consumer1", {[key]: ">"}, 10);
+    test:assertEquals(entries, [
+        {'stream: key, id: id1, fields: {"field": "value1"}},
+        {'stream: key, id: id2, fields: {"field": "value2"}}
+    ]);
+
+    PendingSummary pending = check redis->xPending(key, "group1");
+    test:assertEquals(pending, {count: 2, lowestId: id1, highestId: id2, consumers: {"consumer1": 2}});
+
+    test:assertEquals(check redis->xAck(key, "group1", [id1, id2]), 2);
+    pending = check redis->xPending(key, "group1");
+    test:assertEquals(pending.count, 0);
+    test:assertEquals(pending.lowestId, ());
+
+    entries = check redis->xReadGroup("group1", "consumer1", {[key]: ">"}, block = 0.1);
+    test:assertEquals(entries.length(), 0);
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testXAutoClaim() returns error? {
+    string key = "testXAutoClaimKey";
+    _ = check redis->xGroupCreate(key, "group1", "$", true);
+    string id = check redis->xAdd(key, {"field": "value"});
+    _ = check redis->xReadGroup("group1", "consumer1", {[key]: ">"});
+
+    AutoClaimedEntries claimed = check redis->xAutoClaim(key, "group1", "consumer2", 0);
+    test:assertEquals(claimed.nextId, "0-0");
+    test:assertEquals(claimed.entries, [{'stream: key, id, fields: {"field": "value"}}]);
+
+    PendingSummary pending = check redis->xPending(key, "group1");
+    test:assertEquals(pending.consumers, {"consumer2": 1});
+}
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testXGroupCreateExistingGroup() returns error? {
+    _ = check redis->xGroupCreate("testXGroupCreateKey", "group1", mkStream = true);
+    string|Error result = redis->xGroupCreate("testXGroupCreateKey", "group1");
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertTrue(result.message().includes("BUSYGROUP"));
+    }
+}
+
+isolated string[] streamListenerReceivedIds = [];
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testStreamListener() returns error? {
+    string key = "testStreamListenerKey";
+    // an entry left pending by a previous run of the consumer is dispatched before the new entries
+    _ = check redis->xGroupCreate(key, "group1", "$", true);
+    string pendingId = check redis->xAdd(key, {"field": "pending"});
+    _ = check redis->xReadGroup("group1", "consumer1", {[key]: ">"});
+
+    StreamListener streamListener = check new ({'stream: key, group: "group1", consumer: "consumer1",
+        pollTimeout: 0.5}, getStandaloneConfigs());
+    check streamListener.attach(service object {
+        remote isolated function onEntries(StreamEntry[] entries) returns error? {
+            lock {
+                foreach StreamEntry entry in entries {
+                    streamListenerReceivedIds.push(entry.id);
+                }
+            }
+        }
+    });
+    check streamListener.'start();
+    string newId = check redis->xAdd(key, {"field": "new"});
+    runtime:sleep(2);
+    check streamListener.gracefulStop();
+
+    lock {
+        test:assertEquals(streamListenerReceivedIds, [pendingId, newId]);
+    }
+    PendingSummary pending = check redis->xPending(key, "group1");
+    test:assertEquals(pending.count, 0);
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testStreamListenerWithMissingGroup() returns error? {
+    StreamListener streamListener = check new ({'stream: "testStreamListenerMissingGroupKey", group: "group1",
+        consumer: "consumer1", createGroup: false}, getStandaloneConfigs());
+    check streamListener.attach(service object {
+        remote isolated function onEntries(StreamEntry[] entries) returns error? {
+        }
+    });
+    Error? result = streamListener.'start();
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertTrue(result.message().includes("NOGROUP"));
+    }
+    check streamListener.immediateStop();
+}
+
+@test:Config {
+    groups: ["standalone"]
+}
+function testStreamListenerWithoutService() returns error? {
+    string key = "testStreamListenerWithoutServiceKey";
+    StreamListener streamListener = check new ({'stream: key, group: "group1", consumer: "consumer1"},
+        getStandaloneConfigs());
+    Error? result = streamListener.'start();
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(result.message(), "No service is attached to the stream listener");
+    }
+    check streamListener.immediateStop();
+}
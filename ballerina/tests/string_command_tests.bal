@@ -218,6 +218,29 @@ function testMGetOptionalWithAllMissingKeys() returns error? {
     test:assertEquals(result, [(), ()]);
 }
 
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+function testMSetAndMGetAcrossHashSlots() returns error? {
+    // The keys map to many hash slots, so that they are split into several commands in cluster mode.
+    map<any> keyValueMap = {};
+    string[] keys = [];
+    foreach int i in 0 ..< 200 {
+        string key = string `testMultiSlotKey${i}`;
+        keyValueMap[key] = string `testMultiSlotValue${i}`;
+        keys.push(key);
+    }
+    string result = check redis->mSet(keyValueMap);
+    test:assertEquals(result, "OK");
+
+    string?[] values = check redis->mGetOptional([...keys, "nonExistentMultiSlotKey"]);
+    test:assertEquals(values.length(), 201);
+    foreach int i in 0 ..< 200 {
+        test:assertEquals(values[i], string `testMultiSlotValue${i}`);
+    }
+    test:assertEquals(values[200], ());
+}
+
 @test:Config {
     groups: ["standalone", "cluster"]
 }
@@ -364,3 +387,18 @@ public function testStrLen() returns error? {
     int result = check redis->strLen("testStrLenKey");
     test:assertEquals(result, 15);
 }
+
+@test:Config {
+    groups: ["standalone", "cluster"]
+}
+public function testSetAndGetBytes() returns error? {
+    byte[] value = [0, 159, 146, 150, 255];
+    string result = check redis->setBytes("testSetBytesKey", value);
+    test:assertEquals(result, "OK");
+
+    byte[]? retrieved = check redis->getBytes("testSetBytesKey");
+    test:assertEquals(retrieved, value);
+
+    retrieved = check redis->getBytes("testGetBytesMissingKey");
+    test:assertEquals(retrieved, ());
+}
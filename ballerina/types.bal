@@ -17,26 +17,63 @@ import ballerina/crypto;
 
 # The client endpoint configuration for Redis.
 #
-# + connection - Connection configurations of the Redis server. This can be either a single URI or a set of parameters
+# + connection - Connection configurations of the Redis server. This can be either a single URI, a set of parameters
+#   or a set of Sentinel nodes through which the master is discovered
 # + connectionPooling - Flag to indicate whether connection pooling is enabled
+# + poolConfig - Sizing and eviction configurations of the connection pool. Applicable only when `connectionPooling`
+#   is enabled
 # + isClusterConnection - Flag to indicate whether the connection is a cluster connection
+# + clusterConfig - Configurations of cluster connections. Applicable only when `isClusterConnection` is enabled
 # + secureSocket - Configurations related to SSL/TLS encryption
+# + clientSideCache - Enables client-side caching of the replies of `get`, `hGet` and `hGetAll`. Cached keys are
+#   invalidated by the server through `CLIENT TRACKING`, which requires Redis 6.0 or later. Not supported for
+#   cluster connections
+# + readFrom - Policy used to select the nodes from which read-only commands are served. In cluster mode, the replicas
+#   are discovered from the cluster topology. Otherwise, the replicas of the given node are discovered from its
+#   replication info. When not set, all commands are sent to the master
+# + resourceConfig - Sizes of the I/O and computation thread pools. The thread pools are shared by all the clients
+#   created with the same sizes, and are shut down when the last of them is closed
+# + timeoutConfig - Timeouts of establishing connections and of the commands, which can be set separately for read-only
+#   commands, other commands and individual commands
+# + circuitBreaker - Stops sending commands to a server which keeps failing or timing out, so that the commands fail
+#   immediately with a `redis:CircuitOpenError` until the server is reachable again
+# + hedgedReads - Sends `get`, `hGet`, `mGet` and `zRangeByScore` to another node when the first node does not reply
+#   within the hedge delay, and returns the first successful reply
 @display {label: "Connection Config"}
 public type ConnectionConfig record {|
     @display {label: "Connection Type"}
-    ConnectionUri|ConnectionParams connection = "redis://localhost:6379";
+    ConnectionUri|ConnectionParams|SentinelParams connection = "redis://localhost:6379";
     @display {label: "Connection Pooling Enabled"}
     boolean connectionPooling = false;
+    @display {label: "Connection Pool Configurations"}
+    PoolConfig poolConfig = {};
     @display {label: "Cluster Mode Enabled"}
     boolean isClusterConnection = false;
+    @display {label: "Cluster Configurations"}
+    ClusterConfig clusterConfig = {};
     @display {label: "Secure Socket Configurations"}
     SecureSocket secureSocket?;
+    @display {label: "Client-side Cache Configurations"}
+    ClientSideCacheConfig clientSideCache?;
+    @display {label: "Read From"}
+    ReadFrom readFrom?;
+    @display {label: "Resource Configurations"}
+    ResourceConfig resourceConfig = {};
+    @display {label: "Timeout Configurations"}
+    TimeoutConfig timeoutConfig = {};
+    @display {label: "Circuit Breaker Configurations"}
+    CircuitBreakerConfig circuitBreaker?;
+    @display {label: "Hedged Read Configurations"}
+    HedgedReadConfig hedgedReads?;
 |};
 
 # The connection parameters based configurations.
 #
 # + host - Host address of the Redis database  
 # + port - Port of the Redis database  
+# + socketPath - Path of the Unix domain socket of a co-located Redis server. When set, the client connects over the
+#   socket instead of TCP, and `host` and `port` are ignored. Supported on Linux and macOS only, and not supported for
+#   cluster connections
 # + username - The username for the Redis database
 # + password - The password for the Redis database  
 # + options - Other connection options of the connection configuration
@@ -46,6 +83,8 @@ public type ConnectionParams record {|
     string host = "localhost";
     @display {label: "Port"}
     int port = 6379;
+    @display {label: "Unix Socket Path"}
+    string socketPath?;
     @display {label: "Username"}
     string username?;
     @display {label: "Password"}
@@ -54,6 +93,44 @@ public type ConnectionParams record {|
     Options options = {};
 |};
 
+# The Redis Sentinel based configurations. The address of the master is resolved through the Sentinel nodes, and
+# the connections are repointed to the new master as soon as the Sentinels announce a failover. When `readFrom` is
+# set, read-only commands are spread over the replicas discovered from the Sentinels.
+#
+# + sentinels - Sentinel nodes monitoring the master. At least one of them must be reachable
+# + masterName - Name under which the master is monitored by the Sentinels
+# + username - The username for the Redis master and replicas
+# + password - The password for the Redis master and replicas
+# + sentinelPassword - The password for the Sentinel nodes, if they require authentication
+# + options - Other connection options of the connection configuration
+@display {label: "Sentinel Parameters"}
+public type SentinelParams record {|
+    @display {label: "Sentinel Nodes"}
+    SentinelNode[] sentinels;
+    @display {label: "Master Name"}
+    string masterName;
+    @display {label: "Username"}
+    string username?;
+    @display {label: "Password"}
+    string password?;
+    @display {label: "Sentinel Password"}
+    string sentinelPassword?;
+    @display {label: "Connection Options"}
+    Options options = {};
+|};
+
+# A Redis Sentinel node.
+#
+# + host - Host address of the Sentinel
+# + port - Port of the Sentinel
+@display {label: "Sentinel Node"}
+public type SentinelNode record {|
+    @display {label: "Host"}
+    string host = "localhost";
+    @display {label: "Port"}
+    int port = 26379;
+|};
+
 # The redis Connection URI based configurations. This can become useful when working with 
 # managed Redis databases, where the cloud provider usually provides a connection URI.
 #
@@ -72,13 +149,283 @@ public type KeepAliveConfig record {|
     int count = 9;
 |};
 
+# Connection pool configurations.
+#
+# + maxTotal - Maximum number of connections that can be allocated by the pool at a given time.
+#   Use a negative value for no limit
+# + maxIdle - Maximum number of idle connections in the pool. Use a negative value for no limit
+# + minIdle - Minimum number of idle connections the pool tries to maintain. This is only enforced when
+#   `timeBetweenEvictionRuns` is positive
+# + maxWait - Maximum time in seconds to wait for a connection when the pool is exhausted.
+#   Use a negative value to wait indefinitely
+# + testOnBorrow - Whether a connection is checked to be open before it is borrowed from the pool
+# + timeBetweenEvictionRuns - Time in seconds between runs of the idle connection evictor.
+#   Use a non-positive value to disable eviction
+# + lifo - Whether idle connections are borrowed in last-in-first-out order. Set to `false` for first-in-first-out
+# + sharedConnections - Number of long-lived connections over which commands are multiplexed in a round-robin manner.
+#   Pooled connections are then borrowed only for blocking commands and pipelines. Set to `0` to borrow a pooled
+#   connection for every command
+# + prewarm - Whether `minIdle` connections are opened in parallel when the client is initialized, so that the first
+#   commands do not wait for the connection handshakes
+# + prewarmPing - Whether a `PING` is sent on each connection opened by the pre-warming. Applicable only when `prewarm`
+#   is enabled
+@display {label: "Connection Pool Configurations"}
+public type PoolConfig record {|
+    @display {label: "Maximum Connections"}
+    int maxTotal = 8;
+    @display {label: "Maximum Idle Connections"}
+    int maxIdle = 8;
+    @display {label: "Minimum Idle Connections"}
+    int minIdle = 0;
+    @display {label: "Maximum Wait Time"}
+    decimal maxWait = -1;
+    @display {label: "Validate On Borrow"}
+    boolean testOnBorrow = false;
+    @display {label: "Eviction Interval"}
+    decimal timeBetweenEvictionRuns = -1;
+    @display {label: "LIFO Order"}
+    boolean lifo = true;
+    @display {label: "Shared Connections"}
+    int sharedConnections = 0;
+    @display {label: "Pre-warm Connections"}
+    boolean prewarm = false;
+    @display {label: "Ping Pre-warmed Connections"}
+    boolean prewarmPing = true;
+|};
+
+# Cluster connection configurations.
+#
+# + multiKeyBatchSize - Maximum number of keys sent in a single command when `mGet`, `mGetOptional` or `mSet` is split
+#   by hash slot. The keys of different hash slots are always sent in separate commands
+# + maxConcurrentBatches - Maximum number of split commands awaiting a reply from a node at a time. Use a non-positive
+#   value for no limit
+# + topologyRefreshPeriod - Time in seconds between periodic refreshes of the cluster topology. Use a non-positive
+#   value to disable periodic refreshes
+# + adaptiveRefreshTriggers - Events which trigger an immediate refresh of the cluster topology
+# + adaptiveRefreshTimeout - Minimum time in seconds between two refreshes triggered by events
+# + dynamicRefreshSources - Whether the topology is queried from all the discovered nodes. When `false`, only the
+#   given node is queried
+# + maxRedirects - Maximum number of MOVED or ASK redirects followed by a command before it fails
+@display {label: "Cluster Configurations"}
+public type ClusterConfig record {|
+    @display {label: "Multi-key Batch Size"}
+    int multiKeyBatchSize = 500;
+    @display {label: "Maximum Concurrent Batches"}
+    int maxConcurrentBatches = 64;
+    @display {label: "Topology Refresh Period"}
+    decimal topologyRefreshPeriod = 60;
+    @display {label: "Adaptive Refresh Triggers"}
+    ClusterRefreshTrigger[] adaptiveRefreshTriggers = [MOVED_REDIRECT, ASK_REDIRECT, PERSISTENT_RECONNECTS,
+        UNCOVERED_SLOT, UNKNOWN_NODE];
+    @display {label: "Adaptive Refresh Timeout"}
+    decimal adaptiveRefreshTimeout = 30;
+    @display {label: "Dynamic Refresh Sources"}
+    boolean dynamicRefreshSources = true;
+    @display {label: "Maximum Redirects"}
+    int maxRedirects = 5;
+|};
+
+# Represents the events which trigger a refresh of the cluster topology.
+#
+# + MOVED_REDIRECT - A command is redirected with MOVED, as its hash slot is served by another node
+# + ASK_REDIRECT - A command is redirected with ASK, as its hash slot is being migrated
+# + PERSISTENT_RECONNECTS - A connection to a node fails to reconnect several times in a row
+# + UNCOVERED_SLOT - A command is sent to a hash slot which is not served by any known node
+# + UNKNOWN_NODE - A command is sent to a node which is not part of the known topology
+public enum ClusterRefreshTrigger {
+    MOVED_REDIRECT,
+    ASK_REDIRECT,
+    PERSISTENT_RECONNECTS,
+    UNCOVERED_SLOT,
+    UNKNOWN_NODE
+}
+
+# Thread pool configurations of the clients.
+#
+# + ioThreads - Number of threads handling the network I/O. Use a non-positive value for the default, which is the
+#   number of available processors, with a minimum of 2
+# + computationThreads - Number of threads used for internal computations such as reconnection and event
+#   dispatching. Use a non-positive value for the default, which is the number of available processors, with a
+#   minimum of 2
+@display {label: "Resource Configurations"}
+public type ResourceConfig record {|
+    @display {label: "I/O Threads"}
+    int ioThreads = 0;
+    @display {label: "Computation Threads"}
+    int computationThreads = 0;
+|};
+
+# Timeout configurations of the connections and commands. A timeout given for the command itself takes precedence,
+# followed by `readTimeout` or `writeTimeout` depending on whether the command is read-only, and `commandTimeout`.
+# Blocking commands such as `bLPop` wait for their own timeout plus `blockingCommandMargin`, and wait indefinitely
+# when their timeout is `0`.
+#
+# + connectTimeout - Time in seconds to wait for a connection to be established. When not set, the Lettuce default of
+#   10 seconds is used
+# + commandTimeout - Default time in seconds to wait for the reply of a command. When not set, the `connectionTimeout`
+#   of the connection options is used
+# + readTimeout - Time in seconds to wait for the reply of a read-only command such as `get`. When not set,
+#   `commandTimeout` is used
+# + writeTimeout - Time in seconds to wait for the reply of a command which is not read-only, such as `set`. When not
+#   set, `commandTimeout` is used
+# + blockingCommandMargin - Time in seconds added to the timeout of a blocking command, to account for the round trip
+# + commandTimeouts - Time in seconds to wait for the reply of individual commands, keyed by the Redis command name
+#   such as `KEYS` or `HGETALL`
+@display {label: "Timeout Configurations"}
+public type TimeoutConfig record {|
+    @display {label: "Connect Timeout"}
+    decimal connectTimeout?;
+    @display {label: "Command Timeout"}
+    decimal commandTimeout?;
+    @display {label: "Read Timeout"}
+    decimal readTimeout?;
+    @display {label: "Write Timeout"}
+    decimal writeTimeout?;
+    @display {label: "Blocking Command Margin"}
+    decimal blockingCommandMargin = 1;
+    @display {label: "Command Timeouts"}
+    map<decimal> commandTimeouts = {};
+|};
+
+# Circuit breaker configurations. Commands which fail without a reply from the server, such as on a connection error or
+# a timeout, are counted as failures. Error replies of the server are not. While the circuit is open, commands fail
+# with a `redis:CircuitOpenError` without being sent. Once `resetTime` has elapsed, a `PING` is sent to the server, and
+# the circuit is closed if it succeeds. A single circuit breaker covers all the nodes of a cluster connection, so a
+# failing shard can open the circuit for the whole cluster.
+#
+# + rollingWindow - Rolling window in which the outcomes of the commands are counted
+# + failureThreshold - Ratio of the failed commands in the rolling window, between `0` and `1`, at which the circuit is
+#   opened
+# + slowCallDuration - Time in seconds after which a command which eventually succeeded is counted as failed. When not
+#   set, only the commands which failed are counted. Blocking commands are never counted as slow
+# + resetTime - Time in seconds for which the circuit stays open before the server is probed
+# + probeTimeout - Time in seconds to wait for the reply to the `PING` probe before the circuit is opened again
+@display {label: "Circuit Breaker Configurations"}
+public type CircuitBreakerConfig record {|
+    @display {label: "Rolling Window"}
+    RollingWindow rollingWindow = {};
+    @display {label: "Failure Threshold"}
+    float failureThreshold = 0.5;
+    @display {label: "Slow Call Duration"}
+    decimal slowCallDuration?;
+    @display {label: "Reset Time"}
+    decimal resetTime = 5;
+    @display {label: "Probe Timeout"}
+    decimal probeTimeout = 1;
+|};
+
+# Rolling window of the circuit breaker, which is divided into buckets discarded as they fall out of the window.
+#
+# + requestVolumeThreshold - Minimum number of commands in the window before the circuit can be opened
+# + timeWindow - Time in seconds covered by the window
+# + bucketSize - Time in seconds covered by a bucket of the window
+@display {label: "Rolling Window"}
+public type RollingWindow record {|
+    @display {label: "Request Volume Threshold"}
+    int requestVolumeThreshold = 20;
+    @display {label: "Time Window"}
+    decimal timeWindow = 10;
+    @display {label: "Bucket Size"}
+    decimal bucketSize = 1;
+|};
+
+# Hedged read configurations. A read which has not completed within the hedge delay is sent again over a dedicated
+# connection, which routes it according to `readFrom`, and the first successful reply is returned. The read is bound
+# by its command timeout as a whole.
+#
+# + delay - Fixed time in seconds after which a read is hedged. When not set, the delay is derived from the latencies
+#   of the recent reads, and no read is hedged until enough of them are observed
+# + percentile - Percentile of the latencies of the recent reads used as the delay, between `0` and `1`
+# + minDelay - Time in seconds below which the delay derived from the latencies is not lowered
+# + maxHedgeRatio - Maximum ratio of the reads which are hedged, between `0` and `1`, so that a node which is slow for
+#   all reads does not double the load on the others
+# + readFrom - Policy used to select the nodes to which the hedged reads are sent
+@display {label: "Hedged Read Configurations"}
+public type HedgedReadConfig record {|
+    @display {label: "Delay"}
+    decimal delay?;
+    @display {label: "Percentile"}
+    float percentile = 0.95;
+    @display {label: "Minimum Delay"}
+    decimal minDelay = 0.001;
+    @display {label: "Maximum Hedge Ratio"}
+    float maxHedgeRatio = 0.1;
+    @display {label: "Read From"}
+    ReadFrom readFrom = REPLICA_PREFERRED;
+|};
+
+# Client-side caching configurations.
+#
+# + maxEntries - Maximum number of keys kept in the cache
+# + maxMemory - Maximum approximate memory in bytes occupied by the cached entries. Use a non-positive value for
+#   no limit
+# + evictionPolicy - Policy used to select the entries to evict when the cache is full
+@display {label: "Client-side Cache Configurations"}
+public type ClientSideCacheConfig record {|
+    @display {label: "Maximum Entries"}
+    int maxEntries = 10000;
+    @display {label: "Maximum Memory"}
+    int maxMemory = -1;
+    @display {label: "Eviction Policy"}
+    CacheEvictionPolicy evictionPolicy = LRU;
+|};
+
+# Represents the policies used to select the nodes from which read-only commands are served.
+#
+# + MASTER - Read from the master only
+# + MASTER_PREFERRED - Read from the master, and from a replica if the master is not available
+# + REPLICA - Read from the replicas only
+# + REPLICA_PREFERRED - Read from a replica, and from the master if no replica is available
+# + LOWEST_LATENCY - Read from the node with the lowest measured latency, which may be the master or a replica
+# + ANY - Read from any node
+public enum ReadFrom {
+    MASTER,
+    MASTER_PREFERRED,
+    REPLICA,
+    REPLICA_PREFERRED,
+    LOWEST_LATENCY,
+    ANY
+}
+
+# Represents the policies used to evict entries from the client-side cache. The eviction is approximate, the victim
+# being picked from a random sample of the entries.
+#
+# + LRU - Evict the least recently used entry
+# + LFU - Evict the least frequently used entry
+public enum CacheEvictionPolicy {
+    LRU,
+    LFU
+}
+
+# Statistics of the client-side cache.
+#
+# + hits - Number of reads served from the cache
+# + misses - Number of reads sent to the server
+# + evictions - Number of entries evicted to keep the cache within its limits
+# + invalidations - Number of entries removed due to invalidation by the server
+# + size - Number of keys currently cached
+# + memoryUsage - Approximate memory in bytes occupied by the cached entries
+public type CacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+    int invalidations;
+    int size;
+    int memoryUsage;
+|};
+
 # Connection options for Redis client endpoint.
 #
-# + clientName - Name of the client
+# + clientName - Name of the client, which also tags the metrics of the client when metrics are enabled
 # + database - Database index which the client should interact with. Not applicable for cluster connections
 # + connectionTimeout - Connection timeout in seconds
 # + keepAlive - TCP keep-alive configuration for detecting stale connections.
 #   Set to `()` (nil) to disable. Default is `()` (disabled).
+# + requestQueueSize - Maximum number of commands queued on a connection, including the commands buffered while it is
+#   disconnected. Further commands fail with a `redis:CommandRejectedError`. Use a non-positive value for no limit
+# + disconnectedBehavior - Whether commands are buffered or rejected with a `redis:CommandRejectedError` while the
+#   connection is disconnected
+# + autoReconnect - Whether a lost connection is reconnected automatically
 @display {label: "Connection Options"}
 public type Options record {|
     @display {label: "Client Name"}
@@ -89,8 +436,25 @@ public type Options record {|
     int connectionTimeout = 60;
     @display {label: "Keep Alive Configuration"}
     KeepAliveConfig? keepAlive = ();
+    @display {label: "Request Queue Size"}
+    int requestQueueSize = -1;
+    @display {label: "Disconnected Behavior"}
+    DisconnectedBehavior disconnectedBehavior = DEFAULT;
+    @display {label: "Auto Reconnect"}
+    boolean autoReconnect = true;
 |};
 
+# Represents the behavior of a connection towards new commands while it is disconnected.
+#
+# + DEFAULT - Accept commands when `autoReconnect` is enabled, and reject them otherwise
+# + ACCEPT_COMMANDS - Buffer commands until the connection is reconnected
+# + REJECT_COMMANDS - Reject commands immediately with a `redis:CommandRejectedError`
+public enum DisconnectedBehavior {
+    DEFAULT,
+    ACCEPT_COMMANDS,
+    REJECT_COMMANDS
+}
+
 # Configurations for secure communication with the Redis server.
 #
 # + cert - Configurations associated with `crypto:TrustStore` or single certificate file that the client trusts  
@@ -140,3 +504,206 @@ public enum SslVerifyMode {
     CA,
     FULL
 }
+
+# The reply of a command executed in a `redis:Pipeline`. A command which failed on the server is represented by a
+# `redis:Error`.
+public type PipelineResult string|int|float|boolean|string[]|map<any>|Error?;
+
+# An entry of a Redis stream.
+#
+# + stream - Key of the stream the entry belongs to
+# + id - ID of the entry
+# + fields - Field-value pairs of the entry. Empty if the entry was deleted while it was pending
+public type StreamEntry record {|
+    string 'stream;
+    string id;
+    map<string> fields;
+|};
+
+# The entries claimed by `xAutoClaim`.
+#
+# + nextId - ID from which the next scan of the pending entries continues. `0-0` once all the pending entries have
+#   been scanned
+# + entries - Claimed entries
+public type AutoClaimedEntries record {|
+    string nextId;
+    StreamEntry[] entries;
+|};
+
+# Summary of the pending entries of a consumer group.
+#
+# + count - Number of pending entries
+# + lowestId - Lowest ID among the pending entries, or `()` if there are none
+# + highestId - Highest ID among the pending entries, or `()` if there are none
+# + consumers - Number of pending entries of each consumer which has any
+public type PendingSummary record {|
+    int count;
+    string? lowestId;
+    string? highestId;
+    map<int> consumers;
+|};
+
+# The reply of a Lua script. An integer reply is an `int`, a string or status reply a `string`, an array reply a
+# `json[]`, and a nil reply `()`. As Lua converts `false` to a nil reply and `true` to `1`, a boolean reply is only
+# received over RESP3, along with the `float` and map replies.
+public type ScriptResult json;
+
+# A function of a library loaded with `functionLoad`.
+#
+# + name - Name of the function
+# + description - Description of the function, or `()` if it has none
+# + flags - Flags of the function, such as `no-writes` for a function which can be called with `fCallRo`
+public type FunctionInfo record {|
+    string name;
+    string? description;
+    string[] flags;
+|};
+
+# A library of functions loaded with `functionLoad`.
+#
+# + name - Name of the library
+# + engine - Engine of the library, such as `LUA`
+# + functions - Functions of the library
+public type FunctionLibrary record {|
+    string name;
+    string engine;
+    FunctionInfo[] functions;
+|};
+
+# Configurations of the consumer group consumer run by a `redis:StreamListener`.
+#
+# + stream - Key of the stream
+# + group - Name of the consumer group
+# + consumer - Name of the consumer. Must be unique within the group, and stable across restarts so that the entries
+#   left pending by a previous run are recovered
+# + createGroup - Whether the consumer group and the stream are created if they do not exist. The group then receives
+#   only the entries added after it was created
+# + batchSize - Maximum number of entries read and dispatched to the service at once
+# + pollTimeout - Time in seconds a read waits for new entries before it is retried. This also bounds the time
+#   `gracefulStop` waits for the consumer to stop
+# + autoAck - Whether the entries are acknowledged once `onEntries` returns without an error. Otherwise, the service
+#   acknowledges them with `xAck`
+# + claimIdleTime - Time in seconds after which the pending entries of other consumers of the group are claimed by
+#   this consumer, so that the entries of a failed consumer are processed. Not claimed when not set
+@display {label: "Stream Consumer Configurations"}
+public type StreamConsumerConfig record {|
+    @display {label: "Stream Key"}
+    string 'stream;
+    @display {label: "Consumer Group"}
+    string group;
+    @display {label: "Consumer Name"}
+    string consumer;
+    @display {label: "Create Group"}
+    boolean createGroup = true;
+    @display {label: "Batch Size"}
+    int batchSize = 100;
+    @display {label: "Poll Timeout (s)"}
+    decimal pollTimeout = 1;
+    @display {label: "Auto Acknowledge"}
+    boolean autoAck = true;
+    @display {label: "Claim Idle Time (s)"}
+    decimal claimIdleTime?;
+|};
+
+# A message received from a channel by a service attached to a `redis:Listener`.
+#
+# + channel - Channel to which the message was published
+# + pattern - Pattern matched by the channel, or `()` if the channel was subscribed to by its name
+# + payload - Payload of the message
+public type Message record {|
+    string channel;
+    string? pattern;
+    string payload;
+|};
+
+# Subscriptions of a service attached to a `redis:Listener`, and how the messages are dispatched to it.
+#
+# + channels - Channels subscribed to, in addition to the names with which the service is attached
+# + patterns - Glob-style patterns of the channels subscribed to
+# + sharded - Whether the channels are subscribed to as shard channels with `SSUBSCRIBE`. In cluster mode, the
+#   messages of a shard channel are received from the shard which owns its slot, instead of being propagated through
+#   the whole cluster. Requires Redis 7.0 or later, and cannot be combined with `patterns`
+# + queueCapacity - Maximum number of messages waiting to be dispatched to the service
+# + maxConcurrency - Maximum number of messages dispatched to the service at once. Messages are dispatched in the
+#   order they are received only when this is `1`
+# + overflowPolicy - Action taken when a message is received while the queue of the service is full
+@display {label: "Pub/Sub Service Configurations"}
+public type ServiceConfiguration record {|
+    @display {label: "Channels"}
+    string[] channels = [];
+    @display {label: "Channel Patterns"}
+    string[] patterns = [];
+    @display {label: "Sharded"}
+    boolean sharded = false;
+    @display {label: "Queue Capacity"}
+    int queueCapacity = 1024;
+    @display {label: "Maximum Concurrency"}
+    int maxConcurrency = 1;
+    @display {label: "Overflow Policy"}
+    OverflowPolicy overflowPolicy = DROP_OLDEST;
+|};
+
+# Actions taken when a message is received for a service whose message queue is full. The messages discarded by the
+# listener are counted by the `redis_listener_dropped_messages_total` metric.
+#
+# + BLOCK - Stop reading from the connection until the queue has drained, so that the server buffers the messages. The
+#   replies of the subscription commands of the listener are not read either until then, and the server closes the
+#   connection if its output buffer limit of Pub/Sub clients is exceeded
+# + DROP_OLDEST - Discard the oldest message in the queue to make room for the received message
+# + DROP_NEWEST - Discard the received message
+public enum OverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    DROP_NEWEST
+}
+
+# Types of the key events delivered by a `redis:KeyspaceListener`. `set` is notified when the value of a string key is
+# set, such as with `SET` or `SETEX`, `del` when the key is deleted with `DEL` or `UNLINK`, `expired` when the key is
+# deleted as its time to live elapsed, and `evicted` when the key is evicted to keep the memory within the `maxmemory`
+# limit.
+public type KeyEventType "set"|"del"|"expired"|"evicted";
+
+# An event which occurred on a key.
+#
+# + type - Type of the event. When several events occur on a key within a batch window, only the last one is delivered
+# + key - Key on which the event occurred
+# + db - Database of the key
+public type KeyEvent record {|
+    KeyEventType 'type;
+    string key;
+    int db;
+|};
+
+# Configurations of the key events delivered by a `redis:KeyspaceListener`.
+#
+# + events - Types of the key events delivered
+# + db - Database whose key events are delivered. The events of all the databases are delivered when not set
+# + keyPattern - Glob-style pattern of the keys whose events are delivered
+# + enableNotifications - Whether the keyspace notifications of the `events` are enabled on the server, by adding their
+#   classes to the `notify-keyspace-events` configuration. The classes already enabled are kept. In cluster mode, they
+#   are enabled on all the masters. Requires the `CONFIG` command, which some managed Redis services do not allow
+# + batchWindow - Time in seconds for which the events are collected into a batch. The events of a key within the
+#   window are coalesced into its last event
+# + maxBatchSize - Maximum number of keys in a batch. A batch is delivered as soon as it reaches this size
+# + queueCapacity - Maximum number of batches waiting to be dispatched to a service
+# + overflowPolicy - Action taken when a batch is ready while the queue of a service is full. A dropped batch loses the
+#   events of all its keys, so `BLOCK` suits services which must observe every change
+@display {label: "Keyspace Listener Configurations"}
+public type KeyspaceListenerConfig record {|
+    @display {label: "Event Types"}
+    KeyEventType[] events = ["set", "del", "expired", "evicted"];
+    @display {label: "Database"}
+    int db?;
+    @display {label: "Key Pattern"}
+    string keyPattern = "*";
+    @display {label: "Enable Notifications"}
+    boolean enableNotifications = false;
+    @display {label: "Batch Window (s)"}
+    decimal batchWindow = 0.1;
+    @display {label: "Maximum Batch Size"}
+    int maxBatchSize = 1000;
+    @display {label: "Queue Capacity"}
+    int queueCapacity = 64;
+    @display {label: "Overflow Policy"}
+    OverflowPolicy overflowPolicy = DROP_OLDEST;
+|};
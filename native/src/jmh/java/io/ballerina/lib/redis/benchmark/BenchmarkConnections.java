@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.benchmark;
+
+import io.ballerina.lib.redis.config.ConnectionURI;
+import io.ballerina.lib.redis.config.PoolConfig;
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.codec.StringCodec;
+
+import java.time.Duration;
+
+/**
+ * Creates the connections used by the benchmarks. The Redis server is resolved from the {@code redis.benchmark.uri}
+ * system property, which defaults to a standalone server on the local host.
+ *
+ * @since 3.4.0
+ */
+final class BenchmarkConnections {
+
+    static final String REDIS_URI = System.getProperty("redis.benchmark.uri", "redis://localhost:6379");
+
+    private static final PoolConfig POOL_CONFIG = new PoolConfig(8, 8, 0, Duration.ofMillis(-1), false,
+            Duration.ofMillis(-1), true, 0, false, false);
+
+    private BenchmarkConnections() {
+    }
+
+    /**
+     * Opens a connection manager to the benchmark Redis server.
+     *
+     * @param poolingEnabled whether commands borrow a connection from a pool, instead of sharing a single connection
+     * @return an initialized connection manager
+     * @throws RedisConnectorException if the server cannot be reached
+     */
+    static RedisConnectionManager<String, String> open(boolean poolingEnabled) throws RedisConnectorException {
+        RedisConnectionManager<String, String> connManager = new RedisConnectionManager<>(StringCodec.UTF8);
+        connManager.init(new ConnectionURI(REDIS_URI, false, null, poolingEnabled, POOL_CONFIG, null, null, null,
+                null, null, null, null));
+        return connManager;
+    }
+
+    static void close(RedisConnectionManager<String, String> connManager) throws RedisConnectorException {
+        connManager.getConnectionCommandExecutor().close();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.benchmark;
+
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.KeyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the hot methods of the command executors, with and without connection pooling. Each benchmark runs on
+ * several threads, so that the contention on the single shared connection can be compared with the pool.
+ *
+ * @since 3.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class CommandExecutorBenchmark {
+
+    private static final String KEY_PREFIX = "benchmark:executor:";
+    private static final String STRING_KEY = KEY_PREFIX + "string";
+    private static final String COUNTER_KEY = KEY_PREFIX + "counter";
+    private static final String HASH_KEY = KEY_PREFIX + "hash";
+    private static final String LIST_KEY = KEY_PREFIX + "list";
+    private static final String SET_KEY = KEY_PREFIX + "set";
+    private static final String SORTED_SET_KEY = KEY_PREFIX + "sortedSet";
+    private static final int COLLECTION_SIZE = 100;
+
+    @Param({"false", "true"})
+    private boolean poolingEnabled;
+
+    private RedisConnectionManager<String, String> connManager;
+    private String[] mGetKeys;
+
+    @Setup
+    public void setup() throws RedisConnectorException {
+        connManager = BenchmarkConnections.open(poolingEnabled);
+
+        Map<String, String> strings = new LinkedHashMap<>();
+        Map<String, String> hash = new LinkedHashMap<>();
+        Map<String, Double> sortedSet = new LinkedHashMap<>();
+        String[] members = new String[COLLECTION_SIZE];
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            strings.put(KEY_PREFIX + "mget:" + i, "value:" + i);
+            hash.put("field:" + i, "value:" + i);
+            sortedSet.put("member:" + i, (double) i);
+            members[i] = "member:" + i;
+        }
+        mGetKeys = strings.keySet().toArray(new String[0]);
+
+        connManager.getKeyCommandExecutor().del(new String[]{HASH_KEY, LIST_KEY, SET_KEY, SORTED_SET_KEY});
+        connManager.getStringCommandExecutor().set(STRING_KEY, "value");
+        connManager.getStringCommandExecutor().mSet(strings);
+        connManager.getHashCommandExecutor().hMSet(HASH_KEY, hash);
+        connManager.getListCommandExecutor().rPush(LIST_KEY, members);
+        connManager.getSetCommandExecutor().sAdd(SET_KEY, members);
+        connManager.getSortedSetCommandExecutor().zAdd(SORTED_SET_KEY, sortedSet);
+    }
+
+    @TearDown
+    public void tearDown() throws RedisConnectorException {
+        BenchmarkConnections.close(connManager);
+    }
+
+    @Benchmark
+    public String set() throws RedisConnectorException {
+        return connManager.getStringCommandExecutor().set(STRING_KEY, "value");
+    }
+
+    @Benchmark
+    public String get() throws RedisConnectorException {
+        return connManager.getStringCommandExecutor().get(STRING_KEY);
+    }
+
+    @Benchmark
+    public long incr() throws RedisConnectorException {
+        return connManager.getStringCommandExecutor().incr(COUNTER_KEY);
+    }
+
+    @Benchmark
+    public List<KeyValue<String, String>> mGet() throws RedisConnectorException {
+        return connManager.getStringCommandExecutor().mGet(mGetKeys);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> hGetAll() throws RedisConnectorException {
+        return connManager.getHashCommandExecutor().hGetAll(HASH_KEY);
+    }
+
+    @Benchmark
+    public BArray lRange() throws RedisConnectorException {
+        return connManager.getListCommandExecutor().lRange(LIST_KEY, 0, -1);
+    }
+
+    @Benchmark
+    public BArray sMembers() throws RedisConnectorException {
+        return connManager.getSetCommandExecutor().sMembers(SET_KEY);
+    }
+
+    @Benchmark
+    public BArray zRange() throws RedisConnectorException {
+        return connManager.getSortedSetCommandExecutor().zRange(SORTED_SET_KEY, 0, -1);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.benchmark;
+
+import io.ballerina.lib.redis.utils.ConversionUtils;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.KeyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions between Ballerina and Java values, which are applied to the arguments and replies of
+ * every command. These do not require a Redis server.
+ *
+ * @since 3.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionUtilsBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private BArray bStringArray;
+    private BMap<BString, Object> bMap;
+    private List<String> stringList;
+    private List<KeyValue<String, String>> keyValueList;
+
+    @Setup
+    public void setup() {
+        bStringArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
+        bMap = ValueCreator.createMapValue();
+        stringList = new ArrayList<>(size);
+        keyValueList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String key = "key:" + i;
+            String value = "value:" + i;
+            bStringArray.append(StringUtils.fromString(key));
+            bMap.put(StringUtils.fromString(key), StringUtils.fromString(value));
+            stringList.add(value);
+            keyValueList.add(KeyValue.just(key, value));
+        }
+    }
+
+    @Benchmark
+    public String[] createStringArrayFromBArray() {
+        return ConversionUtils.createStringArrayFromBArray(bStringArray);
+    }
+
+    @Benchmark
+    public Map<String, Object> createMapFromBMap() {
+        return ConversionUtils.createMapFromBMap(bMap);
+    }
+
+    @Benchmark
+    public BArray createBStringArrayFromList() {
+        return ConversionUtils.createBStringArrayFromList(stringList);
+    }
+
+    @Benchmark
+    public BArray createBNilableStringArrayFromKeyValueList() {
+        return ConversionUtils.createBNilableStringArrayFromKeyValueList(keyValueList);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> createBMapFromKeyValueList() {
+        return ConversionUtils.createBMapFromKeyValueList(keyValueList);
+    }
+}
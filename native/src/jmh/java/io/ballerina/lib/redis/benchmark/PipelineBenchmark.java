@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.benchmark;
+
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.connection.RedisPipeline;
+import io.ballerina.lib.redis.connection.RedisStringCommandExecutor;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks a batch of commands sent through a {@link RedisPipeline} against the same commands sent one after the
+ * other, each waiting for its reply. The pipeline borrows a pooled connection, so that opening a connection is not
+ * part of the measurement.
+ *
+ * @since 3.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private static final String KEY_PREFIX = "benchmark:pipeline:";
+
+    @Param({"10", "100", "1000"})
+    private int commandCount;
+
+    private RedisConnectionManager<String, String> connManager;
+    private String[] keys;
+
+    @Setup
+    public void setup() throws RedisConnectorException {
+        connManager = BenchmarkConnections.open(true);
+        keys = new String[commandCount];
+        for (int i = 0; i < commandCount; i++) {
+            keys[i] = KEY_PREFIX + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws RedisConnectorException {
+        BenchmarkConnections.close(connManager);
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) throws RedisConnectorException {
+        RedisStringCommandExecutor executor = connManager.getStringCommandExecutor();
+        for (String key : keys) {
+            blackhole.consume(executor.set(key, "value"));
+        }
+    }
+
+    @Benchmark
+    public List<Object> pipelined() throws RedisConnectorException {
+        RedisPipeline<String, String> pipeline = new RedisPipeline<>(connManager);
+        for (String key : keys) {
+            pipeline.queue(commands -> commands.set(key, "value"), Function.identity());
+        }
+        return pipeline.execute();
+    }
+}
@@ -19,6 +19,7 @@
 package io.ballerina.lib.redis;
 
 import io.ballerina.lib.redis.connection.RedisConnectionCommandExecutor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BObject;
 
 import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
@@ -42,12 +43,14 @@ public class ClusterCommands {
      * @return a bulk-string-reply as a string array or, a `redis:Error` if the connection is non-clustered or
      * encounters any other exceptions.
      */
-    public static Object clusterInfo(BObject redisClient) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            return executor.clusterInfo();
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object clusterInfo(Environment env, BObject redisClient) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                return executor.clusterInfo();
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
@@ -18,11 +18,20 @@
 
 package io.ballerina.lib.redis;
 
+import io.ballerina.lib.redis.cache.NearCache;
+import io.ballerina.lib.redis.connection.RedisClientSideCache;
 import io.ballerina.lib.redis.connection.RedisConnectionCommandExecutor;
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.utils.ModuleUtils;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
 import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
 
@@ -34,6 +43,14 @@ import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
 @SuppressWarnings("unused")
 public class ConnectionCommands {
 
+    private static final String CACHE_STATS_TYPE = "CacheStats";
+    private static final String CACHE_STATS_HITS = "hits";
+    private static final String CACHE_STATS_MISSES = "misses";
+    private static final String CACHE_STATS_EVICTIONS = "evictions";
+    private static final String CACHE_STATS_INVALIDATIONS = "invalidations";
+    private static final String CACHE_STATS_SIZE = "size";
+    private static final String CACHE_STATS_MEMORY_USAGE = "memoryUsage";
+
     /**
      * Authenticate to the server.
      *
@@ -41,14 +58,39 @@ public class ConnectionCommands {
      * @param password    The password
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object auth(BObject redisClient, BString password) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            String response = executor.auth(password.getValue());
-            return StringUtils.fromString(response);
-        } catch (Throwable e) {
-            return createBError(e);
+    public static Object auth(Environment env, BObject redisClient, BString password) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                String response = executor.auth(password.getValue());
+                return StringUtils.fromString(response);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get the statistics of the client-side cache.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @return A `redis:CacheStats` record, or `nil` if client-side caching is disabled
+     */
+    public static Object getCacheStats(BObject redisClient) {
+        RedisConnectionManager<String, String> connManager = getConnection(redisClient);
+        RedisClientSideCache<String, String> cache = connManager.getClientSideCache();
+        if (cache == null) {
+            return null;
         }
+        NearCache<String> nearCache = cache.getNearCache();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(CACHE_STATS_HITS, cache.getHitCount());
+        stats.put(CACHE_STATS_MISSES, cache.getMissCount());
+        stats.put(CACHE_STATS_EVICTIONS, nearCache.getEvictionCount());
+        stats.put(CACHE_STATS_INVALIDATIONS, nearCache.getInvalidationCount());
+        stats.put(CACHE_STATS_SIZE, (long) nearCache.size());
+        stats.put(CACHE_STATS_MEMORY_USAGE, nearCache.getMemoryUsage());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), CACHE_STATS_TYPE, stats);
     }
 
     /**
@@ -56,14 +98,16 @@ public class ConnectionCommands {
      *
      * @param redisClient Client from the Ballerina redis client
      */
-    public static Object ping(BObject redisClient) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            String response = executor.ping();
-            return StringUtils.fromString(response);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object ping(Environment env, BObject redisClient) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                String response = executor.ping();
+                return StringUtils.fromString(response);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -72,14 +116,16 @@ public class ConnectionCommands {
      * @param redisClient Client from the Ballerina redis client
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object flushAll(BObject redisClient) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            String response = executor.flushAll();
-            return StringUtils.fromString(response);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object flushAll(Environment env, BObject redisClient) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                String response = executor.flushAll();
+                return StringUtils.fromString(response);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -88,14 +134,16 @@ public class ConnectionCommands {
      * @param redisClient Client from the Ballerina redis client
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object flushDb(BObject redisClient) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            String response = executor.flushDb();
-            return StringUtils.fromString(response);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object flushDb(Environment env, BObject redisClient) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                String response = executor.flushDb();
+                return StringUtils.fromString(response);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -105,14 +153,37 @@ public class ConnectionCommands {
      * @param message     The message to be echo-ed
      * @return The message itself if the operation was successful
      */
-    public static Object echo(BObject redisClient, BString message) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            String response = executor.echo(message.getValue());
-            return StringUtils.fromString(response);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object echo(Environment env, BObject redisClient, BString message) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                String response = executor.echo(message.getValue());
+                return StringUtils.fromString(response);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Publish a message to a channel.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param channel     The channel to which the message is published
+     * @param message     The message
+     * @param sharded     Whether the channel is a shard channel
+     * @return The number of subscribers which received the message
+     */
+    public static Object publish(Environment env, BObject redisClient, BString channel, BString message,
+                                 boolean sharded) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                return executor.publish(channel.getValue(), message.getValue(), sharded);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -120,14 +191,16 @@ public class ConnectionCommands {
      *
      * @param redisClient Client from the Ballerina redis client
      */
-    public static Object close(BObject redisClient) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            executor.close();
-            return null;
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object close(Environment env, BObject redisClient) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                executor.close();
+                return null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -140,12 +213,14 @@ public class ConnectionCommands {
      * @return a bulk-string-reply as a string array or, a `redis:Error` if the connection is non-clustered or
      * encounters any other exceptions.
      */
-    public static Object clusterInfo(BObject redisClient) {
-        try {
-            RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
-            return executor.clusterInfo();
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object clusterInfo(Environment env, BObject redisClient) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisConnectionCommandExecutor executor = getConnection(redisClient).getConnectionCommandExecutor();
+                return executor.clusterInfo();
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
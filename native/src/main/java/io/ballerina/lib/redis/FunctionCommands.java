@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis;
+
+import io.ballerina.lib.redis.connection.RedisFunctionCommandExecutor;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBFunctionLibraryArray;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBScriptResult;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createStringArrayFromBArray;
+import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
+
+/**
+ * Ballerina native util implementation for redis function commands.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings("unused")
+public class FunctionCommands {
+
+    /**
+     * Load a library of functions.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param code        The code of the library
+     * @param replace     Whether an existing library of the same name is replaced
+     * @return The name of the library
+     */
+    public static Object functionLoad(Environment env, BObject redisClient, BString code, boolean replace) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisFunctionCommandExecutor executor = getConnection(redisClient).getFunctionCommandExecutor();
+                return StringUtils.fromString(executor.functionLoad(code.getValue(), replace));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Delete a library of functions.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param libraryName The name of the library
+     * @return A string with the value `OK` if the operation was successful
+     */
+    public static Object functionDelete(Environment env, BObject redisClient, BString libraryName) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisFunctionCommandExecutor executor = getConnection(redisClient).getFunctionCommandExecutor();
+                return StringUtils.fromString(executor.functionDelete(libraryName.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * List the libraries of functions.
+     *
+     * @param redisClient        Client from the Ballerina redis client
+     * @param libraryNamePattern The pattern of the names of the libraries, or {@code nil} to list all the libraries
+     * @return The libraries, with their functions
+     */
+    public static Object functionList(Environment env, BObject redisClient, Object libraryNamePattern) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisFunctionCommandExecutor executor = getConnection(redisClient).getFunctionCommandExecutor();
+                String pattern = libraryNamePattern != null ? ((BString) libraryNamePattern).getValue() : null;
+                return createBFunctionLibraryArray(executor.functionList(pattern));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Call a function.
+     *
+     * @param redisClient  Client from the Ballerina redis client
+     * @param functionName The name of the function
+     * @param keys         The keys accessed by the function
+     * @param args         The arguments of the function
+     * @return The reply of the function
+     */
+    public static Object fCall(Environment env, BObject redisClient, BString functionName, BArray keys, BArray args) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisFunctionCommandExecutor executor = getConnection(redisClient).getFunctionCommandExecutor();
+                return createBScriptResult(executor.fCall(functionName.getValue(), createStringArrayFromBArray(keys),
+                        createStringArrayFromBArray(args)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Call a read-only function, which may be served by a replica.
+     *
+     * @param redisClient  Client from the Ballerina redis client
+     * @param functionName The name of the function
+     * @param keys         The keys accessed by the function
+     * @param args         The arguments of the function
+     * @return The reply of the function
+     */
+    public static Object fCallRo(Environment env, BObject redisClient, BString functionName, BArray keys, BArray args) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisFunctionCommandExecutor executor = getConnection(redisClient).getFunctionCommandExecutor();
+                return createBScriptResult(executor.fCallRo(functionName.getValue(), createStringArrayFromBArray(keys),
+                        createStringArrayFromBArray(args)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+}
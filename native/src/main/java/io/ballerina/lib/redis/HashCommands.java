@@ -19,12 +19,14 @@
 package io.ballerina.lib.redis;
 
 import io.ballerina.lib.redis.connection.RedisHashCommandExecutor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBByteArrayOrNull;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createMapFromBMap;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createStringArrayFromBArray;
@@ -46,13 +48,15 @@ public class HashCommands {
      * @param fields      Array of fields to be deleted
      * @return Number of fields that were removed from the hash, not including specified but non-existing fields
      */
-    public static Object hDel(BObject redisClient, BString key, BArray fields) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hDel(StringUtils.fromString(key.getValue()), createStringArrayFromBArray(fields));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hDel(Environment env, BObject redisClient, BString key, BArray fields) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hDel(StringUtils.fromString(key.getValue()), createStringArrayFromBArray(fields));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -64,13 +68,15 @@ public class HashCommands {
      * @return boolean `true` if the hash contains the field. boolean false if the hash does not contain field or key
      * does not exist
      */
-    public static Object hExists(BObject redisClient, BString key, BString field) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hExists(key.getValue(), field.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hExists(Environment env, BObject redisClient, BString key, BString field) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hExists(key.getValue(), field.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -81,13 +87,34 @@ public class HashCommands {
      * @param field       The field
      * @return The value of the field
      */
-    public static Object hGet(BObject redisClient, BString key, BString field) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return StringUtils.fromString(executor.hGet(key.getValue(), field.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hGet(Environment env, BObject redisClient, BString key, BString field) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return StringUtils.fromString(executor.hGet(key.getValue(), field.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get the value of a hash field as raw bytes.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         The key of the hash
+     * @param field       The field
+     * @return The value of the field as a byte array
+     */
+    public static Object hGetBytes(Environment env, BObject redisClient, BString key, BString field) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return createBByteArrayOrNull(executor.hGetBytes(key.getValue(), field.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -97,13 +124,15 @@ public class HashCommands {
      * @param key         The key of the hash
      * @return Map of field-value pairs
      */
-    public static Object hGetAll(BObject redisClient, BString key) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hGetAll(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hGetAll(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hGetAll(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -115,13 +144,15 @@ public class HashCommands {
      * @param amount      The amount to increment
      * @return The value of the field
      */
-    public static Object hIncrBy(BObject redisClient, BString key, BString field, int amount) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hIncrBy(key.getValue(), field.getValue(), amount);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hIncrBy(Environment env, BObject redisClient, BString key, BString field, int amount) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hIncrBy(key.getValue(), field.getValue(), amount);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -133,13 +164,15 @@ public class HashCommands {
      * @param amount      The amount to increment
      * @return The value of the field
      */
-    public static Object hIncrByFloat(BObject redisClient, BString key, BString field, double amount) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hIncrByFloat(key.getValue(), field.getValue(), amount);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hIncrByFloat(Environment env, BObject redisClient, BString key, BString field, double amount) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hIncrByFloat(key.getValue(), field.getValue(), amount);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -149,14 +182,16 @@ public class HashCommands {
      * @param key         The key of the hash
      * @return Array of hash fields
      */
-    public static Object hKeys(BObject redisClient, BString key) {
+    public static Object hKeys(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
 
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hKeys(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hKeys(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -166,13 +201,15 @@ public class HashCommands {
      * @param key         The key of the hash
      * @return Number of fields
      */
-    public static Object hLen(BObject redisClient, BString key) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hLen(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hLen(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hLen(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -183,13 +220,15 @@ public class HashCommands {
      * @param fields      Array of hash fields
      * @return Map of field-value pairs
      */
-    public static Object hMGet(BObject redisClient, BString key, BArray fields) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hMGet(key.getValue(), createStringArrayFromBArray(fields));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hMGet(Environment env, BObject redisClient, BString key, BArray fields) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hMGet(key.getValue(), createStringArrayFromBArray(fields));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -200,13 +239,15 @@ public class HashCommands {
      * @param fieldValueMap Map of field-value pairs
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object hMSet(BObject redisClient, BString key, BMap<BString, Object> fieldValueMap) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return StringUtils.fromString(executor.hMSet(key.getValue(), createMapFromBMap(fieldValueMap)));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hMSet(Environment env, BObject redisClient, BString key, BMap<BString, Object> fieldValueMap) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return StringUtils.fromString(executor.hMSet(key.getValue(), createMapFromBMap(fieldValueMap)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -219,13 +260,36 @@ public class HashCommands {
      * @return boolean `true` if field is a new field in the hash and value was set. boolean false if field already
      * exists in the hash and the value was updated
      */
-    public static Object hSet(BObject redisClient, BString key, BString field, BString value) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hSet(key.getValue(), field.getValue(), value.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hSet(Environment env, BObject redisClient, BString key, BString field, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hSet(key.getValue(), field.getValue(), value.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Set the value of a hash field as raw bytes.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         The key of the hash
+     * @param field       The field
+     * @param value       The value to be set to the field, as a byte array
+     * @return boolean `true` if field is a new field in the hash and value was set. boolean false if field already
+     * exists in the hash and the value was updated
+     */
+    public static Object hSetBytes(Environment env, BObject redisClient, BString key, BString field, BArray value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hSetBytes(key.getValue(), field.getValue(), value.getBytes());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -238,13 +302,15 @@ public class HashCommands {
      * @return boolean `true` if field is a new field in the hash and value was set. boolean false if field already
      * exists in the hash and the value was updated
      */
-    public static Object hSetNx(BObject redisClient, BString key, BString field, BString value) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hSetNx(key.getValue(), field.getValue(), value.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hSetNx(Environment env, BObject redisClient, BString key, BString field, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hSetNx(key.getValue(), field.getValue(), value.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -255,13 +321,15 @@ public class HashCommands {
      * @param field       The field
      * @return The length of the field value, or 0 when field is not present in the hash or key does not exist at all
      */
-    public static Object hStrLen(BObject redisClient, BString key, BString field) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hStrLen(key.getValue(), field.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hStrLen(Environment env, BObject redisClient, BString key, BString field) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hStrLen(key.getValue(), field.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -271,12 +339,14 @@ public class HashCommands {
      * @param key         The key of the hash
      * @return Array of values in the hash, or an empty array when key does not exist
      */
-    public static Object hVals(BObject redisClient, BString key) {
-        try {
-            RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
-            return executor.hVals(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object hVals(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisHashCommandExecutor executor = getConnection(redisClient).getHashCommandExecutor();
+                return executor.hVals(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
@@ -19,6 +19,7 @@
 package io.ballerina.lib.redis;
 
 import io.ballerina.lib.redis.connection.RedisKeyCommandExecutor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
@@ -43,13 +44,15 @@ public class KeyCommands {
      * @param keys        The key to be deleted
      * @return The number of keys that were removed
      */
-    public static Object del(BObject redisClient, BArray keys) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.del(createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object del(Environment env, BObject redisClient, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.del(createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -59,13 +62,15 @@ public class KeyCommands {
      * @param keys        The keys of which existence to be found out
      * @return The number of existing keys
      */
-    public static Object exists(BObject redisClient, BArray keys) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.exists(createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object exists(Environment env, BObject redisClient, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.exists(createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -76,13 +81,15 @@ public class KeyCommands {
      * @param seconds     Expiry in seconds
      * @return boolean `true` if the timeout was set. false if key does not exist or the timeout could not be set
      */
-    public static Object expire(BObject redisClient, BString key, int seconds) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.expire(key.getValue(), seconds);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object expire(Environment env, BObject redisClient, BString key, int seconds) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.expire(key.getValue(), seconds);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -92,13 +99,15 @@ public class KeyCommands {
      * @param pattern     The pattern to match
      * @return Array of keys matching the given pattern
      */
-    public static Object keys(BObject redisClient, BString pattern) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.keys(pattern.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object keys(Environment env, BObject redisClient, BString pattern) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.keys(pattern.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -109,13 +118,15 @@ public class KeyCommands {
      * @param database    The database to which the key needs to be moved
      * @return boolean true if key was successfully moved, boolean false otherwise
      */
-    public static Object move(BObject redisClient, BString key, int database) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.move(key.getValue(), database);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object move(Environment env, BObject redisClient, BString key, int database) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.move(key.getValue(), database);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -126,13 +137,15 @@ public class KeyCommands {
      * @return boolean `true` if the timeout was removed. boolean `false` if key does not exist or does not have an
      * associated timeout
      */
-    public static Object persist(BObject redisClient, BString key) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.persist(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object persist(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.persist(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -144,13 +157,15 @@ public class KeyCommands {
      * @return boolean `true` if the timeout was set. boolean false if key does not exist or the timeout could not be
      * set
      */
-    public static Object pExpire(BObject redisClient, BString key, int timeMilliSeconds) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.pExpire(key.getValue(), timeMilliSeconds);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object pExpire(Environment env, BObject redisClient, BString key, int timeMilliSeconds) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.pExpire(key.getValue(), timeMilliSeconds);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -160,13 +175,15 @@ public class KeyCommands {
      * @param key         The key of which time-to-live should be obtained
      * @return time-to-live of the key, in milliseconds
      */
-    public static Object pTtl(BObject redisClient, BString key) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.pTtl(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object pTtl(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.pTtl(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -175,13 +192,15 @@ public class KeyCommands {
      * @param redisClient Client from the Ballerina redis client
      * @return The random key
      */
-    public static Object randomKey(BObject redisClient) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return StringUtils.fromString(executor.randomKey());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object randomKey(Environment env, BObject redisClient) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return StringUtils.fromString(executor.randomKey());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -192,13 +211,15 @@ public class KeyCommands {
      * @param newName     The new name of the key
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object rename(BObject redisClient, BString key, BString newName) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return StringUtils.fromString(executor.rename(key.getValue(), newName.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object rename(Environment env, BObject redisClient, BString key, BString newName) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return StringUtils.fromString(executor.rename(key.getValue(), newName.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -210,13 +231,15 @@ public class KeyCommands {
      *                    `false` if new key already exists.
      * @return boolean `true` if key was renamed to new key. boolean `false` if new key already exists
      */
-    public static Object renameNx(BObject redisClient, BString key, BString newName) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.renameNx(key.getValue(), newName.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object renameNx(Environment env, BObject redisClient, BString key, BString newName) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.renameNx(key.getValue(), newName.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -226,13 +249,15 @@ public class KeyCommands {
      * @param key         The key of the data type to be sorted
      * @return Sorted array containing the members of the sorted data type
      */
-    public static Object sort(BObject redisClient, BString key) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.sort(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sort(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.sort(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -244,13 +269,15 @@ public class KeyCommands {
      * Whether it is a negative value of an `error` would differ depending on whether the error occurs at DB level or
      * the driver level
      */
-    public static Object ttl(BObject redisClient, BString key) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return executor.ttl(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object ttl(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return executor.ttl(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -260,12 +287,14 @@ public class KeyCommands {
      * @param key         The key of which the type needs to be obtained
      * @return Type stored at key
      */
-    public static Object redisType(BObject redisClient, BString key) {
-        try {
-            RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
-            return StringUtils.fromString(executor.type(key.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object redisType(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisKeyCommandExecutor executor = getConnection(redisClient).getKeyCommandExecutor();
+                return StringUtils.fromString(executor.type(key.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
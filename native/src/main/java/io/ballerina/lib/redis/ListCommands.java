@@ -19,12 +19,15 @@
 package io.ballerina.lib.redis;
 
 import io.ballerina.lib.redis.connection.RedisListCommandsExecutor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBByteArrayArrayFromList;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createByteArraysFromBArray;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createStringArrayFromBArray;
 import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
 
@@ -44,13 +47,15 @@ public class ListCommands {
      * @param values      The values to be prepended
      * @return The length of the list after the push operation(s)
      */
-    public static Object lPushX(BObject redisClient, BString redisKey, BArray values) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.lPushX(redisKey.getValue(), createStringArrayFromBArray(values));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lPushX(Environment env, BObject redisClient, BString redisKey, BArray values) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.lPushX(redisKey.getValue(), createStringArrayFromBArray(values));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -63,13 +68,15 @@ public class ListCommands {
      * being  the name of the key where an element was popped and the second element  being the value of the popped
      * element, or `error` if an error occurs
      */
-    public static Object bLPop(BObject redisClient, int timeOut, BArray keys) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.bLPop(timeOut, createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object bLPop(Environment env, BObject redisClient, int timeOut, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.bLPop(timeOut, createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -82,13 +89,15 @@ public class ListCommands {
      * being  the name of the key where an element was popped and the second element being the value of the popped
      * element, or `error` if an error occurs
      */
-    public static Object bRPop(BObject redisClient, int timeOut, BArray keys) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.bRPop(timeOut, createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object bRPop(Environment env, BObject redisClient, int timeOut, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.bRPop(timeOut, createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -99,13 +108,15 @@ public class ListCommands {
      * @param values      The values to be prepended
      * @return The length of the list after the push operation(s)
      */
-    public static Object lPush(BObject redisClient, BString redisKey, BArray values) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.lPush(redisKey.getValue(), createStringArrayFromBArray(values));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lPush(Environment env, BObject redisClient, BString redisKey, BArray values) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.lPush(redisKey.getValue(), createStringArrayFromBArray(values));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -115,13 +126,15 @@ public class ListCommands {
      * @param redisKey    The key
      * @return The value of the first element, or nil when key does not exist
      */
-    public static Object lPop(BObject redisClient, BString redisKey) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return StringUtils.fromString(executor.lPop(redisKey.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lPop(Environment env, BObject redisClient, BString redisKey) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return StringUtils.fromString(executor.lPop(redisKey.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -132,13 +145,15 @@ public class ListCommands {
      * @param index       The index from which the element should be retrieved
      * @return The value at the given index
      */
-    public static Object lIndex(BObject redisClient, BString redisKey, int index) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return StringUtils.fromString(executor.lIndex(redisKey.getValue(), index));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lIndex(Environment env, BObject redisClient, BString redisKey, int index) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return StringUtils.fromString(executor.lIndex(redisKey.getValue(), index));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -152,14 +167,16 @@ public class ListCommands {
      * @param value       The value
      * @return The length of the list after the insert operation, or -1 when the value pivot not found
      */
-    public static Object lInsert(BObject redisClient, BString key, boolean before, BString pivot,
-                                 BString value) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.lInsert(key.getValue(), before, pivot.getValue(), value.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lInsert(Environment env, BObject redisClient, BString key, boolean before,
+                                 BString pivot, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.lInsert(key.getValue(), before, pivot.getValue(), value.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -169,13 +186,15 @@ public class ListCommands {
      * @param redisKey    The key
      * @return The length of the list at key
      */
-    public static Object lLen(BObject redisClient, BString redisKey) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.lLen(redisKey.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lLen(Environment env, BObject redisClient, BString redisKey) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.lLen(redisKey.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -187,13 +206,36 @@ public class ListCommands {
      * @param stopPos     The last index of the range
      * @return Array of elements in the specified range
      */
-    public static Object lRange(BObject redisClient, BString redisKey, int startPos, int stopPos) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.lRange(redisKey.getValue(), startPos, stopPos);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lRange(Environment env, BObject redisClient, BString redisKey, int startPos, int stopPos) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.lRange(redisKey.getValue(), startPos, stopPos);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get a range of elements from a list as raw bytes.
+     *
+     * @param redisClient Client from thr Ballerina redis client
+     * @param redisKey    The key
+     * @param startPos    The beginning index of the range
+     * @param stopPos     The last index of the range
+     * @return Array of byte arrays of the elements in the specified range
+     */
+    public static Object lRangeBytes(Environment env, BObject redisClient, BString redisKey, int startPos,
+                                     int stopPos) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return createBByteArrayArrayFromList(executor.lRangeBytes(redisKey.getValue(), startPos, stopPos));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -205,13 +247,15 @@ public class ListCommands {
      * @param value       The value which the elements to be removed should be equal to
      * @return Number of elements removed
      */
-    public static Object lRem(BObject redisClient, BString redisKey, int count, BString value) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.lRem(redisKey.getValue(), count, value.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lRem(Environment env, BObject redisClient, BString redisKey, int count, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.lRem(redisKey.getValue(), count, value.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -223,13 +267,15 @@ public class ListCommands {
      * @param value       The value to be set
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object lSet(BObject redisClient, BString redisKey, int index, BString value) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return StringUtils.fromString(executor.lSet(redisKey.getValue(), index, value.toString()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lSet(Environment env, BObject redisClient, BString redisKey, int index, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return StringUtils.fromString(executor.lSet(redisKey.getValue(), index, value.toString()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -241,13 +287,15 @@ public class ListCommands {
      * @param stopPos     The end index of the range
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object lTrim(BObject redisClient, BString redisKey, int startPos, int stopPos) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return StringUtils.fromString(executor.lTrim(redisKey.getValue(), startPos, stopPos));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object lTrim(Environment env, BObject redisClient, BString redisKey, int startPos, int stopPos) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return StringUtils.fromString(executor.lTrim(redisKey.getValue(), startPos, stopPos));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -257,13 +305,15 @@ public class ListCommands {
      * @param redisKey    The key of the list
      * @return The value of the last element, or `nil` when key does not exist
      */
-    public static Object rPop(BObject redisClient, BString redisKey) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return StringUtils.fromString(executor.rPop(redisKey.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object rPop(Environment env, BObject redisClient, BString redisKey) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return StringUtils.fromString(executor.rPop(redisKey.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -274,13 +324,15 @@ public class ListCommands {
      * @param destination The destination key
      * @return The element being popped and pushed
      */
-    public static Object rPopLPush(BObject redisClient, BString src, BString destination) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return StringUtils.fromString(executor.rPopLPush(src.getValue(), destination.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object rPopLPush(Environment env, BObject redisClient, BString src, BString destination) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return StringUtils.fromString(executor.rPopLPush(src.getValue(), destination.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -291,13 +343,34 @@ public class ListCommands {
      * @param values      Array of values to be appended
      * @return The length of the list after the push operation
      */
-    public static Object rPush(BObject redisClient, BString key, BArray values) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.rPush(key.getValue(), createStringArrayFromBArray(values));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object rPush(Environment env, BObject redisClient, BString key, BArray values) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.rPush(key.getValue(), createStringArrayFromBArray(values));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Append one or multiple raw byte values to a list.
+     *
+     * @param redisClient Client from thr Ballerina redis client
+     * @param key         The key of the list
+     * @param values      Array of byte arrays to be appended
+     * @return The length of the list after the push operation
+     */
+    public static Object rPushBytes(Environment env, BObject redisClient, BString key, BArray values) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.rPushBytes(key.getValue(), createByteArraysFromBArray(values));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -308,12 +381,14 @@ public class ListCommands {
      * @param values      Array of values to be appended
      * @return The length of the list after the push operation
      */
-    public static Object rPushX(BObject redisClient, BString key, BArray values) {
-        try {
-            RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
-            return executor.rPush(key.getValue(), createStringArrayFromBArray(values));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object rPushX(Environment env, BObject redisClient, BString key, BArray values) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisListCommandsExecutor executor = getConnection(redisClient).getListCommandExecutor();
+                return executor.rPush(key.getValue(), createStringArrayFromBArray(values));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
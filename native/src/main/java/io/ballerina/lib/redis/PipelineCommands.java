@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis;
+
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.connection.RedisPipeline;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static io.ballerina.lib.redis.utils.Constants.PIPELINE_OBJ;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createArrayFromScoredValueMap;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBMapFromMap;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBStringArrayFromList;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBStringArrayFromSet;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createMapFromBMap;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createStringArrayFromBArray;
+import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
+
+/**
+ * Ballerina native util implementation for redis pipelines.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public class PipelineCommands {
+
+    /**
+     * Initialize the native pipeline of a Ballerina redis pipeline object.
+     *
+     * @param pipeline    Ballerina redis pipeline
+     * @param redisClient Client from the Ballerina redis client
+     */
+    public static void initPipeline(BObject pipeline, BObject redisClient) {
+        RedisConnectionManager<String, String> connManager = getConnection(redisClient);
+        pipeline.addNativeData(PIPELINE_OBJ, new RedisPipeline<>(connManager));
+    }
+
+    /**
+     * Send all the queued commands to the server in a single network flush and collect the replies.
+     *
+     * @param pipeline Ballerina redis pipeline
+     * @param results  Ballerina array to which the replies are appended, in the order the commands were queued
+     * @return `nil` if the pipeline was executed or, a `redis:Error` if the replies could not be retrieved
+     */
+    public static Object executePipeline(Environment env, BObject pipeline, BArray results) {
+        return env.yieldAndRun(() -> {
+            try {
+                for (Object result : getPipeline(pipeline).execute()) {
+                    results.append(result);
+                }
+                return null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    public static void set(BObject pipeline, BString key, BString value) {
+        getPipeline(pipeline).queue(commands -> commands.set(key.getValue(), value.getValue()),
+                PipelineCommands::toBString, key.getValue());
+    }
+
+    public static void setEx(BObject pipeline, BString key, BString value, long expirationPeriodSeconds) {
+        getPipeline(pipeline).queue(commands -> commands.setex(key.getValue(), expirationPeriodSeconds,
+                value.getValue()), PipelineCommands::toBString, key.getValue());
+    }
+
+    public static void get(BObject pipeline, BString key) {
+        getPipeline(pipeline).queue(commands -> commands.get(key.getValue()), PipelineCommands::toBString);
+    }
+
+    public static void incr(BObject pipeline, BString key) {
+        getPipeline(pipeline).queue(commands -> commands.incr(key.getValue()), Function.identity(), key.getValue());
+    }
+
+    public static void incrBy(BObject pipeline, BString key, long value) {
+        getPipeline(pipeline).queue(commands -> commands.incrby(key.getValue(), value),
+                Function.identity(), key.getValue());
+    }
+
+    public static void decr(BObject pipeline, BString key) {
+        getPipeline(pipeline).queue(commands -> commands.decr(key.getValue()), Function.identity(), key.getValue());
+    }
+
+    public static void decrBy(BObject pipeline, BString key, long value) {
+        getPipeline(pipeline).queue(commands -> commands.decrby(key.getValue(), value),
+                Function.identity(), key.getValue());
+    }
+
+    public static void del(BObject pipeline, BArray keys) {
+        String[] keyArray = createStringArrayFromBArray(keys);
+        getPipeline(pipeline).queue(commands -> commands.del(keyArray), Function.identity(), (Object[]) keyArray);
+    }
+
+    public static void exists(BObject pipeline, BArray keys) {
+        String[] keyArray = createStringArrayFromBArray(keys);
+        getPipeline(pipeline).queue(commands -> commands.exists(keyArray), Function.identity());
+    }
+
+    public static void expire(BObject pipeline, BString key, long seconds) {
+        getPipeline(pipeline).queue(commands -> commands.expire(key.getValue(), seconds),
+                Function.identity(), key.getValue());
+    }
+
+    public static void hSet(BObject pipeline, BString key, BString field, BString value) {
+        getPipeline(pipeline).queue(commands -> commands.hset(key.getValue(), field.getValue(), value.getValue()),
+                Function.identity(), key.getValue());
+    }
+
+    public static void hGet(BObject pipeline, BString key, BString field) {
+        getPipeline(pipeline).queue(commands -> commands.hget(key.getValue(), field.getValue()),
+                PipelineCommands::toBString);
+    }
+
+    public static void hGetAll(BObject pipeline, BString key) {
+        getPipeline(pipeline).queue(commands -> commands.hgetall(key.getValue()),
+                result -> createBMapFromMap((Map<String, String>) result));
+    }
+
+    public static void hDel(BObject pipeline, BString key, BArray fields) {
+        String[] fieldArray = createStringArrayFromBArray(fields);
+        getPipeline(pipeline).queue(commands -> commands.hdel(key.getValue(), fieldArray),
+                Function.identity(), key.getValue());
+    }
+
+    public static void hIncrBy(BObject pipeline, BString key, BString field, long amount) {
+        getPipeline(pipeline).queue(commands -> commands.hincrby(key.getValue(), field.getValue(), amount),
+                Function.identity(), key.getValue());
+    }
+
+    public static void hMSet(BObject pipeline, BString key, BMap<BString, Object> fieldValueMap) {
+        Map<String, String> fieldValues = new LinkedHashMap<>();
+        createMapFromBMap(fieldValueMap).forEach((field, value) -> fieldValues.put(field, (String) value));
+        getPipeline(pipeline).queue(commands -> commands.hmset(key.getValue(), fieldValues),
+                PipelineCommands::toBString, key.getValue());
+    }
+
+    public static void lPush(BObject pipeline, BString key, BArray values) {
+        String[] valueArray = createStringArrayFromBArray(values);
+        getPipeline(pipeline).queue(commands -> commands.lpush(key.getValue(), valueArray), Function.identity());
+    }
+
+    public static void rPush(BObject pipeline, BString key, BArray values) {
+        String[] valueArray = createStringArrayFromBArray(values);
+        getPipeline(pipeline).queue(commands -> commands.rpush(key.getValue(), valueArray), Function.identity());
+    }
+
+    public static void lPop(BObject pipeline, BString key) {
+        getPipeline(pipeline).queue(commands -> commands.lpop(key.getValue()), PipelineCommands::toBString);
+    }
+
+    public static void rPop(BObject pipeline, BString key) {
+        getPipeline(pipeline).queue(commands -> commands.rpop(key.getValue()), PipelineCommands::toBString);
+    }
+
+    public static void lRange(BObject pipeline, BString key, long startPos, long stopPos) {
+        getPipeline(pipeline).queue(commands -> commands.lrange(key.getValue(), startPos, stopPos),
+                result -> createBStringArrayFromList((List<String>) result));
+    }
+
+    public static void sAdd(BObject pipeline, BString key, BArray values) {
+        String[] valueArray = createStringArrayFromBArray(values);
+        getPipeline(pipeline).queue(commands -> commands.sadd(key.getValue(), valueArray), Function.identity());
+    }
+
+    public static void sRem(BObject pipeline, BString key, BArray members) {
+        String[] memberArray = createStringArrayFromBArray(members);
+        getPipeline(pipeline).queue(commands -> commands.srem(key.getValue(), memberArray), Function.identity());
+    }
+
+    public static void sMembers(BObject pipeline, BString key) {
+        getPipeline(pipeline).queue(commands -> commands.smembers(key.getValue()),
+                result -> createBStringArrayFromSet((Set<String>) result));
+    }
+
+    public static void zAdd(BObject pipeline, BString key, BMap<BString, Object> memberScoreMap) {
+        Map<String, Double> memberScores = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<BString, Object> entry : memberScoreMap.entrySet()) {
+                memberScores.put(entry.getKey().toString(), (Double) entry.getValue());
+            }
+        } catch (ClassCastException e) {
+            // the command fails when the pipeline is executed, as queueing a command does not return an error
+            getPipeline(pipeline).queueFailure(new RedisConnectorException("Scores must be float values", e));
+            return;
+        }
+        getPipeline(pipeline).queue(commands -> commands.zadd(key.getValue(),
+                createArrayFromScoredValueMap(memberScores)), Function.identity());
+    }
+
+    public static void zScore(BObject pipeline, BString key, BString member) {
+        getPipeline(pipeline).queue(commands -> commands.zscore(key.getValue(), member.getValue()),
+                Function.identity());
+    }
+
+    private static Object toBString(Object result) {
+        return StringUtils.fromString((String) result);
+    }
+
+    private static RedisPipeline<String, String> getPipeline(BObject pipeline) {
+        return (RedisPipeline<String, String>) pipeline.getNativeData(PIPELINE_OBJ);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis;
+
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.connection.RedisScanIterator;
+import io.ballerina.lib.redis.connection.RedisScanIterator.ScanType;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.ScoredValue;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.lib.redis.utils.Constants.SCAN_ITERATOR_OBJ;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
+
+/**
+ * Ballerina native util implementation for redis scan streams.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public class ScanCommands {
+
+    private static final TupleType HASH_ENTRY_TYPE =
+            TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_STRING));
+    private static final TupleType SCORED_MEMBER_TYPE =
+            TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_FLOAT));
+
+    /**
+     * Initialize the native scan iterator of a Ballerina scan iterator object.
+     *
+     * @param iterator    Ballerina scan iterator
+     * @param redisClient Client from the Ballerina redis client
+     * @param scanType    The type of the scan, which is one of `KEYS`, `HASH`, `SET` or `SORTED_SET`
+     * @param key         The key of the hash, set or sorted set to be scanned, or `nil` for a key scan
+     * @param pattern     The glob-style pattern the returned elements should match, or `nil` to return all elements
+     * @param count       The number of elements requested from the server per page
+     */
+    public static void initScanIterator(BObject iterator, BObject redisClient, BString scanType, Object key,
+                                        Object pattern, long count) {
+        RedisConnectionManager<String, String> connManager = getConnection(redisClient);
+        String keyValue = key != null ? ((BString) key).getValue() : null;
+        String patternValue = pattern != null ? ((BString) pattern).getValue() : null;
+        iterator.addNativeData(SCAN_ITERATOR_OBJ, new RedisScanIterator<>(connManager,
+                ScanType.valueOf(scanType.getValue()), keyValue, patternValue, count));
+    }
+
+    /**
+     * Get the next key or member of a key or set scan.
+     *
+     * @param iterator Ballerina scan iterator
+     * @return The next key or member, `nil` if the scan is complete, or a `redis:Error` if an error occurs
+     */
+    public static Object nextValue(Environment env, BObject iterator) {
+        return env.yieldAndRun(() -> {
+            try {
+                Object next = getScanIterator(iterator).next();
+                return next != null ? StringUtils.fromString((String) next) : null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get the next field-value pair of a hash scan.
+     *
+     * @param iterator Ballerina scan iterator
+     * @return The next field-value pair, `nil` if the scan is complete, or a `redis:Error` if an error occurs
+     */
+    public static Object nextHashEntry(Environment env, BObject iterator) {
+        return env.yieldAndRun(() -> {
+            try {
+                Map.Entry<String, String> next = (Map.Entry<String, String>) getScanIterator(iterator).next();
+                if (next == null) {
+                    return null;
+                }
+                BArray entry = ValueCreator.createTupleValue(HASH_ENTRY_TYPE);
+                entry.add(0, StringUtils.fromString(next.getKey()));
+                entry.add(1, StringUtils.fromString(next.getValue()));
+                return entry;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get the next member-score pair of a sorted set scan.
+     *
+     * @param iterator Ballerina scan iterator
+     * @return The next member-score pair, `nil` if the scan is complete, or a `redis:Error` if an error occurs
+     */
+    public static Object nextScoredMember(Environment env, BObject iterator) {
+        return env.yieldAndRun(() -> {
+            try {
+                ScoredValue<String> next = (ScoredValue<String>) getScanIterator(iterator).next();
+                if (next == null) {
+                    return null;
+                }
+                BArray entry = ValueCreator.createTupleValue(SCORED_MEMBER_TYPE);
+                entry.add(0, StringUtils.fromString(next.getValue()));
+                entry.add(1, next.getScore());
+                return entry;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    private static RedisScanIterator<String> getScanIterator(BObject iterator) {
+        return (RedisScanIterator<String>) iterator.getNativeData(SCAN_ITERATOR_OBJ);
+    }
+}
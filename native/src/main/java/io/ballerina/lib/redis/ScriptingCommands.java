@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis;
+
+import io.ballerina.lib.redis.connection.RedisScriptingCommandExecutor;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBScriptResult;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createStringArrayFromBArray;
+import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
+
+/**
+ * Ballerina native util implementation for redis scripting commands.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings("unused")
+public class ScriptingCommands {
+
+    /**
+     * Run a Lua script. The script is run by its SHA1 digest, and is loaded only when the server does not have it.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param script      The body of the script
+     * @param keys        The keys accessed by the script
+     * @param args        The arguments of the script
+     * @return The reply of the script
+     */
+    public static Object eval(Environment env, BObject redisClient, BString script, BArray keys, BArray args) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisScriptingCommandExecutor executor = getConnection(redisClient).getScriptingCommandExecutor();
+                return createBScriptResult(executor.eval(script.getValue(), createStringArrayFromBArray(keys),
+                        createStringArrayFromBArray(args)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Run a Lua script by its SHA1 digest.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param sha1        The SHA1 digest of the script
+     * @param keys        The keys accessed by the script
+     * @param args        The arguments of the script
+     * @return The reply of the script
+     */
+    public static Object evalSha(Environment env, BObject redisClient, BString sha1, BArray keys, BArray args) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisScriptingCommandExecutor executor = getConnection(redisClient).getScriptingCommandExecutor();
+                return createBScriptResult(executor.evalSha(sha1.getValue(), createStringArrayFromBArray(keys),
+                        createStringArrayFromBArray(args)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Load a Lua script into the script cache of the server, without running it.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param script      The body of the script
+     * @return The SHA1 digest of the script
+     */
+    public static Object scriptLoad(Environment env, BObject redisClient, BString script) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisScriptingCommandExecutor executor = getConnection(redisClient).getScriptingCommandExecutor();
+                return StringUtils.fromString(executor.scriptLoad(script.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+}
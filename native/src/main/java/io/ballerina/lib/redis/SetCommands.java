@@ -19,6 +19,7 @@
 package io.ballerina.lib.redis;
 
 import io.ballerina.lib.redis.connection.RedisSetCommandExecutor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
@@ -44,13 +45,15 @@ public class SetCommands {
      * @return The number of elements that were added to the set, not including all the elements which were already
      * present in the set
      */
-    public static Object sAdd(BObject redisClient, BString key, BArray values) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sAdd(key.getValue(), createStringArrayFromBArray(values));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sAdd(Environment env, BObject redisClient, BString key, BArray values) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sAdd(key.getValue(), createStringArrayFromBArray(values));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -60,13 +63,15 @@ public class SetCommands {
      * @param key         The key of the set
      * @return The cardinality (number of elements) of the set
      */
-    public static Object sCard(BObject redisClient, BString key) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sCard(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sCard(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sCard(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -76,13 +81,15 @@ public class SetCommands {
      * @param keys        The keys of the sets
      * @return An array of members of the resulting set
      */
-    public static Object sDiff(BObject redisClient, BArray keys) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sDiff(createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sDiff(Environment env, BObject redisClient, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sDiff(createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -94,13 +101,15 @@ public class SetCommands {
      * @param keys        The keys of the sets to find the difference of
      * @return The number of members in the resulting set
      */
-    public static Object sDiffStore(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sDiffStore(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sDiffStore(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sDiffStore(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -110,13 +119,15 @@ public class SetCommands {
      * @param keys        The keys of the sets to be intersected
      * @return An array of members of the resulting set
      */
-    public static Object sInter(BObject redisClient, BArray keys) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sInter(createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sInter(Environment env, BObject redisClient, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sInter(createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -127,13 +138,15 @@ public class SetCommands {
      * @param keys        The keys of the sets to be intersected
      * @return An array of members of the resulting set
      */
-    public static Object sInterStore(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sInterStore(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sInterStore(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sInterStore(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -144,13 +157,15 @@ public class SetCommands {
      * @param value       The value
      * @return boolean true/false depending on whether the value is a member of the set or not
      */
-    public static Object sIsMember(BObject redisClient, BString key, BString value) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sIsMember(key.getValue(), value.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sIsMember(Environment env, BObject redisClient, BString key, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sIsMember(key.getValue(), value.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -160,13 +175,15 @@ public class SetCommands {
      * @param key         The key of the set
      * @return Array of all members in the set
      */
-    public static Object sMembers(BObject redisClient, BString key) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sMembers(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sMembers(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sMembers(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -179,13 +196,15 @@ public class SetCommands {
      * @return `true` if the element is moved. `false` if the element is not a member of source and no operation was
      * performed
      */
-    public static Object sMove(BObject redisClient, BString src, BString destination, BString member) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sMove(src.getValue(), destination.getValue(), member.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sMove(Environment env, BObject redisClient, BString src, BString destination, BString member) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sMove(src.getValue(), destination.getValue(), member.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -196,13 +215,15 @@ public class SetCommands {
      * @param count       Number of members to pop
      * @return Array of removed elements or `nil` if key does not exist
      */
-    public static Object sPop(BObject redisClient, BString key, int count) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sPop(key.getValue(), count);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sPop(Environment env, BObject redisClient, BString key, int count) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sPop(key.getValue(), count);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -213,13 +234,15 @@ public class SetCommands {
      * @param count       Number of members to obtain
      * @return Array of the randomly selected elements, or `nil` when key does not
      */
-    public static Object sRandMember(BObject redisClient, BString key, int count) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sRandMember(key.getValue(), count);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sRandMember(Environment env, BObject redisClient, BString key, int count) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sRandMember(key.getValue(), count);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -230,13 +253,15 @@ public class SetCommands {
      * @param members     Array of members to remove
      * @return The number of members that were removed from the set, not including non-existing members
      */
-    public static Object sRem(BObject redisClient, BString key, BArray members) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sRem(key.getValue(), createStringArrayFromBArray(members));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sRem(Environment env, BObject redisClient, BString key, BArray members) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sRem(key.getValue(), createStringArrayFromBArray(members));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -246,13 +271,15 @@ public class SetCommands {
      * @param keys        Array of keys of sets
      * @return Array of members of the resulting set
      */
-    public static Object sUnion(BObject redisClient, BArray keys) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sUnion(createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sUnion(Environment env, BObject redisClient, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sUnion(createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -263,12 +290,14 @@ public class SetCommands {
      * @param keys        Array of keys of sets
      * @return Number of members of the resulting set
      */
-    public static Object sUnionStore(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
-            return executor.sUnionStore(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object sUnionStore(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSetCommandExecutor executor = getConnection(redisClient).getSetCommandExecutor();
+                return executor.sUnionStore(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
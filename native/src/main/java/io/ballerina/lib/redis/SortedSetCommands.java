@@ -19,6 +19,7 @@
 package io.ballerina.lib.redis;
 
 import io.ballerina.lib.redis.connection.RedisSortedSetCommandExecutor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -48,17 +49,19 @@ public class SortedSetCommands {
      * @return The number of elements that were added to the sorted set, not including all the elements which were
      * already present in the set for which the score was updated
      */
-    public static Object zAdd(BObject redisClient, BString key, BMap<BString, Object> memberScoreMap) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            Map<String, Double> map = new LinkedHashMap<>();
-            for (Map.Entry<BString, Object> entry : memberScoreMap.entrySet()) {
-                map.put(entry.getKey().toString(), (Double) entry.getValue());
+    public static Object zAdd(Environment env, BObject redisClient, BString key, BMap<BString, Object> memberScoreMap) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                Map<String, Double> map = new LinkedHashMap<>();
+                for (Map.Entry<BString, Object> entry : memberScoreMap.entrySet()) {
+                    map.put(entry.getKey().toString(), (Double) entry.getValue());
+                }
+                return executor.zAdd(key.getValue(), map);
+            } catch (Throwable e) {
+                return createBError(e);
             }
-            return executor.zAdd(key.getValue(), map);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+        });
     }
 
     /**
@@ -68,13 +71,15 @@ public class SortedSetCommands {
      * @param key         The key of the sorted set
      * @return The cardinality (number of elements) of the sorted set
      */
-    public static Object zCard(BObject redisClient, BString key) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zCard(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zCard(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zCard(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -86,13 +91,15 @@ public class SortedSetCommands {
      * @param max         The maximum score of the range
      * @return The number of elements in the specified score range
      */
-    public static Object zCount(BObject redisClient, BString key, float min, float max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zCount(key.getValue(), min, max);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zCount(Environment env, BObject redisClient, BString key, float min, float max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zCount(key.getValue(), min, max);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -104,13 +111,15 @@ public class SortedSetCommands {
      * @param member      The member whose score to be incremented
      * @return The new score of the member
      */
-    public static Object zIncrBy(BObject redisClient, BString key, float amount, BString member) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zIncrBy(key.getValue(), amount, member.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zIncrBy(Environment env, BObject redisClient, BString key, float amount, BString member) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zIncrBy(key.getValue(), amount, member.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -121,13 +130,15 @@ public class SortedSetCommands {
      * @param keys        The keys of the sorted sets to be intersected
      * @return The number of elements in the resulting sorted set
      */
-    public static Object zInterStore(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zInterStore(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zInterStore(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zInterStore(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -139,13 +150,16 @@ public class SortedSetCommands {
      * @param max         The maximum lexicographical value of the range
      * @return The number of elements in the specified lexicographical value range
      */
-    public static Object zLexCount(BObject redisClient, BString destination, BString min, BString max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zLexCount(destination.getValue(), min.getValue(), max.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zLexCount(Environment env, BObject redisClient, BString destination, BString min,
+            BString max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zLexCount(destination.getValue(), min.getValue(), max.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -157,13 +171,15 @@ public class SortedSetCommands {
      * @param max         The maximum index of the range
      * @return The range of members in a sorted set, by index
      */
-    public static Object zRange(BObject redisClient, BString key, int min, int max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRange(key.getValue(), min, max);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRange(Environment env, BObject redisClient, BString key, int min, int max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRange(key.getValue(), min, max);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -175,13 +191,15 @@ public class SortedSetCommands {
      * @param max         The maximum lexicographical value of the range
      * @return Array of members in the specified lexicographical value range ordered from lowest to highest
      */
-    public static Object zRangeByLex(BObject redisClient, BString key, BString min, BString max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRangeByLex(key.getValue(), min.getValue(), max.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRangeByLex(Environment env, BObject redisClient, BString key, BString min, BString max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRangeByLex(key.getValue(), min.getValue(), max.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -193,13 +211,15 @@ public class SortedSetCommands {
      * @param max         The maximum lexicographical value of the range
      * @return Array of members in the specified lexicographical value range ordered from highest to lowest
      */
-    public static Object zRevRangeByLex(BObject redisClient, BString key, BString min, BString max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRevRangeByLex(key.getValue(), min.getValue(), max.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRevRangeByLex(Environment env, BObject redisClient, BString key, BString min, BString max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRevRangeByLex(key.getValue(), min.getValue(), max.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -211,13 +231,15 @@ public class SortedSetCommands {
      * @param max         The maximum score of the range
      * @return Array of members in the specified score range ordered from lowest to highest
      */
-    public static Object zRangeByScore(BObject redisClient, BString key, float min, float max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRangeByScore(key.getValue(), min, max);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRangeByScore(Environment env, BObject redisClient, BString key, float min, float max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRangeByScore(key.getValue(), min, max);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -228,13 +250,15 @@ public class SortedSetCommands {
      * @param member      The member of which the index needs to be obtained
      * @return The index of the member
      */
-    public static Object zRank(BObject redisClient, BString key, BString member) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRank(key.getValue(), member.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRank(Environment env, BObject redisClient, BString key, BString member) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRank(key.getValue(), member.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -245,13 +269,15 @@ public class SortedSetCommands {
      * @param members     The members to be removed
      * @return The number of members removed from the sorted set, not including non-existing members
      */
-    public static Object zRem(BObject redisClient, BString key, BArray members) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRem(key.getValue(), createStringArrayFromBArray(members));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRem(Environment env, BObject redisClient, BString key, BArray members) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRem(key.getValue(), createStringArrayFromBArray(members));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -263,13 +289,15 @@ public class SortedSetCommands {
      * @param max         The maximum lexicographical value of the range
      * @return The number of members removed from the sorted set
      */
-    public static Object zRemRangeByLex(BObject redisClient, BString key, BString min, BString max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRemRangeByLex(key.getValue(), min.getValue(), max.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRemRangeByLex(Environment env, BObject redisClient, BString key, BString min, BString max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRemRangeByLex(key.getValue(), min.getValue(), max.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -281,13 +309,15 @@ public class SortedSetCommands {
      * @param max         The maximum index of the range
      * @return The number of members removed from the sorted set
      */
-    public static Object zRemRangeByRank(BObject redisClient, BString key, int min, int max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRemRangeByRank(key.getValue(), min, max);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRemRangeByRank(Environment env, BObject redisClient, BString key, int min, int max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRemRangeByRank(key.getValue(), min, max);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -299,13 +329,15 @@ public class SortedSetCommands {
      * @param max         The maximum score of the range
      * @return The number of members removed from the sorted set
      */
-    public static Object zRemRangeByScore(BObject redisClient, BString key, float min, float max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRemRangeByScore(key.getValue(), min, max);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRemRangeByScore(Environment env, BObject redisClient, BString key, float min, float max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRemRangeByScore(key.getValue(), min, max);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -317,13 +349,15 @@ public class SortedSetCommands {
      * @param max         The maximum index of the range
      * @return The number of elements in the specified index range
      */
-    public static Object zRevRange(BObject redisClient, BString key, int min, int max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRevRange(key.getValue(), min, max);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRevRange(Environment env, BObject redisClient, BString key, int min, int max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRevRange(key.getValue(), min, max);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -335,13 +369,15 @@ public class SortedSetCommands {
      * @param max         The maximum score of the range
      * @return Array of members in the specified score range ordered from highest to lowest
      */
-    public static Object zRevRangeByScore(BObject redisClient, BString key, float min, float max) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRevRangeByScore(key.getValue(), min, max);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRevRangeByScore(Environment env, BObject redisClient, BString key, float min, float max) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRevRangeByScore(key.getValue(), min, max);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -352,13 +388,15 @@ public class SortedSetCommands {
      * @param member      The member of which the index needs to be obtained
      * @return The index of the member
      */
-    public static Object zRevRank(BObject redisClient, BString key, BString member) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zRevRank(key.getValue(), member.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zRevRank(Environment env, BObject redisClient, BString key, BString member) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zRevRank(key.getValue(), member.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -369,13 +407,15 @@ public class SortedSetCommands {
      * @param member      The member of which the score needs to be obtained
      * @return The score of the member
      */
-    public static Object zScore(BObject redisClient, BString key, BString member) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zScore(key.getValue(), member.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zScore(Environment env, BObject redisClient, BString key, BString member) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zScore(key.getValue(), member.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -386,12 +426,14 @@ public class SortedSetCommands {
      * @param keys        The member of which the score needs to be obtained
      * @return The score of the member
      */
-    public static Object zUnionStore(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
-            return executor.zUnionStore(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object zUnionStore(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisSortedSetCommandExecutor executor = getConnection(redisClient).getSortedSetCommandExecutor();
+                return executor.zUnionStore(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
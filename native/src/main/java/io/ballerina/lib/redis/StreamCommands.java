@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis;
+
+import io.ballerina.lib.redis.connection.RedisStreamCommandExecutor;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createDurationFromBDecimal;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createStringArrayFromBArray;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createStringMapFromBMap;
+import static io.ballerina.lib.redis.utils.RedisUtils.getConnection;
+
+/**
+ * Ballerina native util implementation for redis stream commands.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings("unused")
+public class StreamCommands {
+
+    /**
+     * Append an entry to a stream.
+     *
+     * @param redisClient         Client from the Ballerina redis client
+     * @param key                 The key of the stream
+     * @param fields              The fields of the entry
+     * @param id                  The ID of the entry, or {@code *} to let the server generate it
+     * @param maxLen              The maximum length the stream is trimmed to, or {@code nil} to keep all entries
+     * @param approximateTrimming Whether the stream may be trimmed to slightly more than the maximum length
+     * @return The ID of the added entry
+     */
+    public static Object xAdd(Environment env, BObject redisClient, BString key, BMap<BString, Object> fields,
+                              BString id, Object maxLen, boolean approximateTrimming) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStreamCommandExecutor executor = getConnection(redisClient).getStreamCommandExecutor();
+                long maxLength = maxLen != null ? (Long) maxLen : -1;
+                return StringUtils.fromString(executor.xAdd(key.getValue(), createStringMapFromBMap(fields),
+                        id.getValue(), maxLength, approximateTrimming));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get the number of entries in a stream.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         The key of the stream
+     * @return The number of entries
+     */
+    public static Object xLen(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStreamCommandExecutor executor = getConnection(redisClient).getStreamCommandExecutor();
+                return executor.xLen(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Create a consumer group of a stream.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         The key of the stream
+     * @param group       The name of the consumer group
+     * @param id          The ID after which the group starts reading, or {@code $} for the entries added later
+     * @param mkStream    Whether an empty stream is created when the stream does not exist
+     * @return A string with the value `OK` if the operation was successful
+     */
+    public static Object xGroupCreate(Environment env, BObject redisClient, BString key, BString group, BString id,
+                                      boolean mkStream) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStreamCommandExecutor executor = getConnection(redisClient).getStreamCommandExecutor();
+                return StringUtils.fromString(executor.xGroupCreate(key.getValue(), group.getValue(), id.getValue(),
+                        mkStream));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Read the entries of streams as a member of a consumer group.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param group       The name of the consumer group
+     * @param consumer    The name of the consumer
+     * @param streams     The stream keys, mapped to the IDs after which the entries are read
+     * @param count       The maximum number of entries read from each stream, or {@code nil} for no limit
+     * @param block       The time in seconds to block for new entries, or {@code nil} to return immediately
+     * @param noAck       Whether the entries are acknowledged as soon as they are read
+     * @return The entries read
+     */
+    public static Object xReadGroup(Environment env, BObject redisClient, BString group, BString consumer,
+                                    BMap<BString, Object> streams, Object count, Object block, boolean noAck) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStreamCommandExecutor executor = getConnection(redisClient).getStreamCommandExecutor();
+                long maxCount = count != null ? (Long) count : -1;
+                Duration blockTime = block != null ? createDurationFromBDecimal((BDecimal) block) : null;
+                return executor.xReadGroup(group.getValue(), consumer.getValue(), createStringMapFromBMap(streams),
+                        maxCount, blockTime, noAck);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Acknowledge entries of a stream, which removes them from the pending entries of a consumer group.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         The key of the stream
+     * @param group       The name of the consumer group
+     * @param ids         The IDs of the entries
+     * @return The number of entries acknowledged
+     */
+    public static Object xAck(Environment env, BObject redisClient, BString key, BString group, BArray ids) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStreamCommandExecutor executor = getConnection(redisClient).getStreamCommandExecutor();
+                return executor.xAck(key.getValue(), group.getValue(), createStringArrayFromBArray(ids));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Claim the pending entries of a consumer group which have been idle for a given time.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         The key of the stream
+     * @param group       The name of the consumer group
+     * @param consumer    The name of the consumer which claims the entries
+     * @param minIdleTime The time in seconds for which an entry must have been idle to be claimed
+     * @param startId     The ID from which the pending entries are scanned
+     * @param count       The maximum number of entries claimed
+     * @return The claimed entries, and the ID from which the next scan starts
+     */
+    public static Object xAutoClaim(Environment env, BObject redisClient, BString key, BString group,
+                                    BString consumer, BDecimal minIdleTime, BString startId, long count) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStreamCommandExecutor executor = getConnection(redisClient).getStreamCommandExecutor();
+                return executor.xAutoClaim(key.getValue(), group.getValue(), consumer.getValue(),
+                        createDurationFromBDecimal(minIdleTime), startId.getValue(), count);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get the summary of the pending entries of a consumer group.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         The key of the stream
+     * @param group       The name of the consumer group
+     * @return The summary of the pending entries
+     */
+    public static Object xPending(Environment env, BObject redisClient, BString key, BString group) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStreamCommandExecutor executor = getConnection(redisClient).getStreamCommandExecutor();
+                return executor.xPending(key.getValue(), group.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+}
@@ -19,12 +19,14 @@
 package io.ballerina.lib.redis;
 
 import io.ballerina.lib.redis.connection.RedisStringCommandExecutor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBByteArrayOrNull;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createBNilableStringArrayFromKeyValueList;
 import static io.ballerina.lib.redis.utils.ConversionUtils.createBStringArrayFromKeyValueList;
@@ -48,13 +50,15 @@ public class StringCommands {
      * @param redisValue  value
      * @return size of the new string
      */
-    public static Object append(BObject redisClient, BString key, BString redisValue) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.append(key.getValue(), redisValue.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object append(Environment env, BObject redisClient, BString key, BString redisValue) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.append(key.getValue(), redisValue.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -64,13 +68,15 @@ public class StringCommands {
      * @param key         key
      * @return the bit count
      */
-    public static Object bitCount(BObject redisClient, BString key) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.bitCount(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object bitCount(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.bitCount(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -82,13 +88,15 @@ public class StringCommands {
      * @return The size of the string stored in the destination key, that is equal to the size of the longest input
      * string
      */
-    public static Object bitOpAnd(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.bitopAnd(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object bitOpAnd(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.bitopAnd(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -100,13 +108,15 @@ public class StringCommands {
      * @return The size of the string stored in the destination key, that is equal to the size of the longest input
      * string
      */
-    public static Object bitOpOr(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.bitopOr(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object bitOpOr(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.bitopOr(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -117,13 +127,15 @@ public class StringCommands {
      * @param key         Input keys to perform AND between
      * @return The size of the string stored in the destination key
      */
-    public static Object bitOpNot(BObject redisClient, BString destination, BString key) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.bitopNot(destination.getValue(), key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object bitOpNot(Environment env, BObject redisClient, BString destination, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.bitopNot(destination.getValue(), key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -135,13 +147,15 @@ public class StringCommands {
      * @return The size of the string stored in the destination key, that is equal to the size of the longest input
      * string
      */
-    public static Object bitOpXor(BObject redisClient, BString destination, BArray keys) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.bitopXor(destination.getValue(), createStringArrayFromBArray(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object bitOpXor(Environment env, BObject redisClient, BString destination, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.bitopXor(destination.getValue(), createStringArrayFromBArray(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -151,13 +165,15 @@ public class StringCommands {
      * @param key         key
      * @return The value of the key after the decrement
      */
-    public static Object decr(BObject redisClient, BString key) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.decr(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object decr(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.decr(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -168,13 +184,15 @@ public class StringCommands {
      * @param redisValue  The offset
      * @return The bit value stored at offset
      */
-    public static Object decrBy(BObject redisClient, BString key, int redisValue) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.decrBy(key.getValue(), redisValue);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object decrBy(Environment env, BObject redisClient, BString key, int redisValue) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.decrBy(key.getValue(), redisValue);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -184,13 +202,52 @@ public class StringCommands {
      * @param key         key
      * @return value
      */
-    public static Object get(BObject redisClient, BString key) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return StringUtils.fromString(executor.get(key.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object get(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return StringUtils.fromString(executor.get(key.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Get the value of a key as raw bytes.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         key
+     * @return value as a byte array, or `nil` if the key does not exist
+     */
+    public static Object getBytes(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return createBByteArrayOrNull(executor.getBytes(key.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Set the value of a key as raw bytes.
+     *
+     * @param redisClient Client from the Ballerina redis client
+     * @param key         key
+     * @param value       value as a byte array
+     * @return `OK` if successful
+     */
+    public static Object setBytes(Environment env, BObject redisClient, BString key, BArray value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return StringUtils.fromString(executor.setBytes(key.getValue(), value.getBytes()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -201,13 +258,15 @@ public class StringCommands {
      * @param offset      The offset
      * @return The bit value stored at offset
      */
-    public static Object getBit(BObject redisClient, BString key, int offset) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.getBit(key.getValue(), offset);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object getBit(Environment env, BObject redisClient, BString key, int offset) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.getBit(key.getValue(), offset);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -219,13 +278,15 @@ public class StringCommands {
      * @param end         The end point of the substring
      * @return The substring
      */
-    public static Object getRange(BObject redisClient, BString key, int startPos, int end) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return StringUtils.fromString(executor.getRange(key.getValue(), startPos, end));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object getRange(Environment env, BObject redisClient, BString key, int startPos, int end) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return StringUtils.fromString(executor.getRange(key.getValue(), startPos, end));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -236,13 +297,15 @@ public class StringCommands {
      * @param value       value
      * @return The old value stored at key
      */
-    public static Object getSet(BObject redisClient, BString key, BString value) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return StringUtils.fromString(executor.getSet(key.getValue(), value.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object getSet(Environment env, BObject redisClient, BString key, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return StringUtils.fromString(executor.getSet(key.getValue(), value.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -252,13 +315,15 @@ public class StringCommands {
      * @param key         key
      * @return The value of the key after increment
      */
-    public static Object incr(BObject redisClient, BString key) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.incr(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object incr(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.incr(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -269,13 +334,15 @@ public class StringCommands {
      * @param value       value
      * @return The value of the key after increment
      */
-    public static Object incrBy(BObject redisClient, BString key, int value) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.incrBy(key.getValue(), value);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object incrBy(Environment env, BObject redisClient, BString key, int value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.incrBy(key.getValue(), value);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -286,13 +353,15 @@ public class StringCommands {
      * @param value       value
      * @return The value of the key after increment
      */
-    public static Object incrByFloat(BObject redisClient, BString key, float value) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.incrByFloat(key.getValue(), value);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object incrByFloat(Environment env, BObject redisClient, BString key, float value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.incrByFloat(key.getValue(), value);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -303,13 +372,15 @@ public class StringCommands {
      * @param keys        The keys of which the values need to be retrieved
      * @return Array of values at the specified keys
      */
-    public static Object mGet(BObject redisClient, BArray keys) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return createBStringArrayFromKeyValueList(executor.mGet(createStringArrayFromBArray(keys)));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object mGet(Environment env, BObject redisClient, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return createBStringArrayFromKeyValueList(executor.mGet(createStringArrayFromBArray(keys)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -320,13 +391,15 @@ public class StringCommands {
      * @param keys        The keys of which the values need to be retrieved
      * @return Array of values at the specified keys, with {@code ()} for a missing key
      */
-    public static Object mGetOptional(BObject redisClient, BArray keys) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return createBNilableStringArrayFromKeyValueList(executor.mGet(createStringArrayFromBArray(keys)));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object mGetOptional(Environment env, BObject redisClient, BArray keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return createBNilableStringArrayFromKeyValueList(executor.mGet(createStringArrayFromBArray(keys)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -336,13 +409,15 @@ public class StringCommands {
      * @param keys        A map of key-value pairs to be set
      * @return A string with the value `OK` if the operation was successful
      */
-    public static Object mSet(BObject redisClient, BMap<BString, Object> keys) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return StringUtils.fromString(executor.mSet(createMapFromBMap(keys)));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object mSet(Environment env, BObject redisClient, BMap<BString, Object> keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return StringUtils.fromString(executor.mSet(createMapFromBMap(keys)));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -352,13 +427,15 @@ public class StringCommands {
      * @param keys        A map of key-value pairs to be set
      * @return True if the operation was successful, false if it failed
      */
-    public static Object mSetNx(BObject redisClient, BMap<BString, Object> keys) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.mSetnx(createMapFromBMap(keys));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object mSetNx(Environment env, BObject redisClient, BMap<BString, Object> keys) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.mSetnx(createMapFromBMap(keys));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -370,13 +447,15 @@ public class StringCommands {
      * @param expirationTime Expiration time in milliseconds
      * @return New value of the key
      */
-    public static Object pSetEx(BObject redisClient, BString key, BString value, int expirationTime) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return StringUtils.fromString(executor.pSetex(key.getValue(), value.getValue(), expirationTime));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object pSetEx(Environment env, BObject redisClient, BString key, BString value, int expirationTime) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return StringUtils.fromString(executor.pSetex(key.getValue(), value.getValue(), expirationTime));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -387,13 +466,15 @@ public class StringCommands {
      * @param redisValue  value
      * @return `OK` if successful
      */
-    public static Object set(BObject redisClient, BString key, BString redisValue) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return StringUtils.fromString(executor.set(key.getValue(), redisValue.getValue()));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object set(Environment env, BObject redisClient, BString key, BString redisValue) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return StringUtils.fromString(executor.set(key.getValue(), redisValue.getValue()));
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -405,13 +486,15 @@ public class StringCommands {
      * @param offset      The offset at which the value should be set
      * @return The original bit value stored at offset
      */
-    public static Object setBit(BObject redisClient, BString key, int value, int offset) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.setBit(key.getValue(), value, offset);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object setBit(Environment env, BObject redisClient, BString key, int value, int offset) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.setBit(key.getValue(), value, offset);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -423,14 +506,17 @@ public class StringCommands {
      * @param expirationPeriodSeconds Expiration time to be set, in seconds
      * @return New value of the key or
      */
-    public static Object setEx(BObject redisClient, BString key, BString value,
+    public static Object setEx(Environment env, BObject redisClient, BString key, BString value,
                                int expirationPeriodSeconds) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return StringUtils.fromString(executor.setEx(key.getValue(), value.getValue(), expirationPeriodSeconds));
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                String result = executor.setEx(key.getValue(), value.getValue(), expirationPeriodSeconds);
+                return StringUtils.fromString(result);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -441,13 +527,15 @@ public class StringCommands {
      * @param value       value
      * @return New value of the key
      */
-    public static Object setNx(BObject redisClient, BString key, BString value) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.setNx(key.getValue(), value.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object setNx(Environment env, BObject redisClient, BString key, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.setNx(key.getValue(), value.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -459,13 +547,16 @@ public class StringCommands {
      * @param expirationPeriodSeconds Expiration time to be set, in seconds
      * @return `True` if the key was set, `False` if the key already existed
      */
-    public static Object setNxEx(BObject redisClient, BString key, BString value, long expirationPeriodSeconds) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.setNxEx(key.getValue(), value.getValue(), expirationPeriodSeconds);
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object setNxEx(Environment env, BObject redisClient, BString key, BString value,
+            long expirationPeriodSeconds) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.setNxEx(key.getValue(), value.getValue(), expirationPeriodSeconds);
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -477,13 +568,15 @@ public class StringCommands {
      * @param value       value
      * @return The length of the string after it was modified
      */
-    public static Object setRange(BObject redisClient, BString key, int offset, BString value) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.setRange(key.getValue(), offset, value.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object setRange(Environment env, BObject redisClient, BString key, int offset, BString value) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.setRange(key.getValue(), offset, value.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 
     /**
@@ -493,12 +586,14 @@ public class StringCommands {
      * @param key         key
      * @return The length of the string at key, or 0 when key does not exist
      */
-    public static Object strLen(BObject redisClient, BString key) {
-        try {
-            RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
-            return executor.strLen(key.getValue());
-        } catch (Throwable e) {
-            return createBError(e);
-        }
+    public static Object strLen(Environment env, BObject redisClient, BString key) {
+        return env.yieldAndRun(() -> {
+            try {
+                RedisStringCommandExecutor executor = getConnection(redisClient).getStringCommandExecutor();
+                return executor.strLen(key.getValue());
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
     }
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.cache;
+
+import io.ballerina.lib.redis.config.CacheEvictionPolicy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded in-memory cache of Redis values, keyed by the Redis key. Entries are evicted according to the configured
+ * {@link CacheEvictionPolicy} when either the entry limit or the approximate memory limit is exceeded.
+ * <p>
+ * Reads do not take a lock. A hit only stamps its entry with the access time, or bumps its access count under LFU,
+ * so concurrent hits do not contend with each other. In exchange, the eviction is approximate, the same way as that of
+ * the Redis server: the victim is the least recently or least frequently used of {@value #EVICTION_SAMPLES} entries
+ * picked at random. A cache holding no more entries than that evicts exactly.
+ * <p>
+ * A cache fill is guarded by a reservation: {@link #reserve(Object)} is called before the value is requested from the
+ * server, and {@link #put(Object, long, Object, long)} only stores the value if the key was not invalidated in the
+ * meantime. This prevents a reply which raced with an invalidation from leaving a stale value in the cache.
+ *
+ * @param <K> Type of the Key
+ * @since 3.4.0
+ */
+public class NearCache<K> {
+
+    static final int EVICTION_SAMPLES = 5;
+
+    private final int maxEntries;
+    private final long maxMemory;
+    private final CacheEvictionPolicy evictionPolicy;
+
+    private final Map<K, Entry<K>> entries = new ConcurrentHashMap<>();
+    // the fields below are guarded by the lock of the cache, which is only taken by the writes
+    private final Map<K, Long> reservations = new HashMap<>();
+    // the cached keys, indexed by their entries, so that the eviction samples can be picked at random
+    private final List<Entry<K>> slots = new ArrayList<>();
+    private final AtomicLong reservationSequence = new AtomicLong();
+    private long memoryUsage;
+    private long evictionCount;
+    private long invalidationCount;
+
+    public NearCache(int maxEntries, long maxMemory, CacheEvictionPolicy evictionPolicy) {
+        this.maxEntries = maxEntries;
+        this.maxMemory = maxMemory;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * Returns the cached value of a key and records the access.
+     *
+     * @param key the Redis key
+     * @return the cached value, or null if the key is not cached
+     */
+    public Object get(K key) {
+        Entry<K> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        recordAccess(entry);
+        return entry.value;
+    }
+
+    /**
+     * Reserves a key before its value is requested from the server.
+     *
+     * @param key the Redis key
+     * @return a token to be passed to {@link #put(Object, long, Object, long)}
+     */
+    public synchronized long reserve(K key) {
+        long token = reservationSequence.incrementAndGet();
+        reservations.put(key, token);
+        return token;
+    }
+
+    /**
+     * Releases a reservation, when the value could not be retrieved from the server.
+     *
+     * @param key   the Redis key
+     * @param token the token returned by {@link #reserve(Object)}
+     */
+    public synchronized void cancel(K key, long token) {
+        Long reservation = reservations.get(key);
+        if (reservation != null && reservation == token) {
+            reservations.remove(key);
+        }
+    }
+
+    /**
+     * Stores a value, provided that the reservation of the key is still valid.
+     *
+     * @param key   the Redis key
+     * @param token the token returned by {@link #reserve(Object)}
+     * @param value the value to be cached
+     * @param size  approximate size of the value in bytes
+     */
+    public synchronized void put(K key, long token, Object value, long size) {
+        Long reservation = reservations.get(key);
+        if (reservation == null || reservation != token) {
+            return;
+        }
+        reservations.remove(key);
+        remove(key);
+
+        Entry<K> entry = new Entry<>(key, value, size + estimateSize(key));
+        recordAccess(entry);
+        entry.slot = slots.size();
+        slots.add(entry);
+        entries.put(key, entry);
+        memoryUsage += entry.size;
+        evictIfRequired(entry);
+    }
+
+    /**
+     * Removes a key from the cache and invalidates any pending reservation of it.
+     *
+     * @param key the Redis key
+     */
+    public synchronized void invalidate(K key) {
+        reservations.remove(key);
+        if (remove(key)) {
+            invalidationCount++;
+        }
+    }
+
+    /**
+     * Removes all the keys from the cache and invalidates all the pending reservations.
+     */
+    public synchronized void clear() {
+        invalidationCount += slots.size();
+        reservations.clear();
+        entries.clear();
+        slots.clear();
+        memoryUsage = 0;
+    }
+
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    public synchronized long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * Returns the approximate number of bytes occupied by a key or value on the heap.
+     *
+     * @param value a key or value
+     * @return approximate size in bytes
+     */
+    public static long estimateSize(Object value) {
+        if (value instanceof String string) {
+            return 40L + 2L * string.length();
+        } else if (value instanceof byte[] bytes) {
+            return 16L + bytes.length;
+        }
+        return 16L;
+    }
+
+    private void recordAccess(Entry<K> entry) {
+        if (evictionPolicy == CacheEvictionPolicy.LFU) {
+            entry.frequency.increment();
+        } else {
+            entry.lastAccess = System.nanoTime();
+        }
+    }
+
+    private boolean remove(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        memoryUsage -= entry.size;
+        // the last slot is moved into the one being freed, so that the slots stay contiguous
+        Entry<K> last = slots.remove(slots.size() - 1);
+        if (last != entry) {
+            last.slot = entry.slot;
+            slots.set(entry.slot, last);
+        }
+        return true;
+    }
+
+    private void evictIfRequired(Entry<K> inserted) {
+        while (slots.size() > 1 && (slots.size() > maxEntries || (maxMemory > 0 && memoryUsage > maxMemory))) {
+            Entry<K> victim = nextVictim(inserted);
+            if (victim == null) {
+                return;
+            }
+            remove(victim.key);
+            evictionCount++;
+        }
+    }
+
+    private Entry<K> nextVictim(Entry<K> inserted) {
+        int size = slots.size();
+        Entry<K> victim = null;
+        int samples = 0;
+        for (int i = 0; samples < EVICTION_SAMPLES && i < size; i++) {
+            // small caches are scanned in full, and the others sampled, in which case there are enough entries other
+            // than the inserted one for the samples
+            Entry<K> candidate = slots.get(size > EVICTION_SAMPLES ? ThreadLocalRandom.current().nextInt(size) : i);
+            // the entry which was just inserted is never chosen, so that a cache fill is not undone immediately
+            if (candidate == inserted) {
+                continue;
+            }
+            samples++;
+            if (victim == null || isColder(candidate, victim)) {
+                victim = candidate;
+            }
+        }
+        return victim;
+    }
+
+    private boolean isColder(Entry<K> candidate, Entry<K> victim) {
+        if (evictionPolicy == CacheEvictionPolicy.LFU) {
+            return candidate.frequency.sum() < victim.frequency.sum();
+        }
+        return candidate.lastAccess - victim.lastAccess < 0;
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final Object value;
+        private final long size;
+        private volatile long lastAccess;
+        private final LongAdder frequency = new LongAdder();
+        private int slot;
+
+        private Entry(K key, Object value, long size) {
+            this.key = key;
+            this.value = value;
+            this.size = size;
+        }
+    }
+}
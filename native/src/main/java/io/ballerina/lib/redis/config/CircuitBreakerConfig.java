@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import java.time.Duration;
+
+/**
+ * Represents the circuit breaker configurations of a client.
+ *
+ * @param requestVolumeThreshold minimum number of commands in the rolling window before the circuit can be opened
+ * @param timeWindow             duration of the rolling window
+ * @param bucketSize             duration of a bucket of the rolling window
+ * @param failureThreshold       ratio of failed commands in the rolling window at which the circuit is opened
+ * @param slowCallDuration       duration after which a command is counted as failed, or null to ignore the latency
+ * @param resetTime              time for which the circuit stays open before a probe is sent
+ * @param probeTimeout           time to wait for the reply to a probe before the circuit is opened again
+ * @since 3.4.0
+ */
+public record CircuitBreakerConfig(int requestVolumeThreshold, Duration timeWindow, Duration bucketSize,
+                                   double failureThreshold, Duration slowCallDuration, Duration resetTime,
+                                   Duration probeTimeout) {
+
+}
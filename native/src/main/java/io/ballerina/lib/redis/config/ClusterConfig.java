@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions.RefreshTrigger;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Represents cluster connection configurations.
+ *
+ * @param multiKeyBatchSize       maximum number of keys sent in a single command when a multi-key command is split
+ *                                by hash slot
+ * @param maxConcurrentBatches    maximum number of split commands awaiting a reply at a time, non-positive for no
+ *                                limit
+ * @param topologyRefreshPeriod   interval between periodic refreshes of the cluster topology, non-positive to disable
+ *                                periodic refreshes
+ * @param adaptiveRefreshTriggers events which trigger a refresh of the cluster topology
+ * @param adaptiveRefreshTimeout  minimum time between two refreshes triggered by events
+ * @param dynamicRefreshSources   whether the topology is queried from all the discovered nodes, instead of only from
+ *                                the seed nodes
+ * @param maxRedirects            maximum number of MOVED or ASK redirects followed by a command
+ * @since 3.4.0
+ */
+public record ClusterConfig(int multiKeyBatchSize, int maxConcurrentBatches, Duration topologyRefreshPeriod,
+                            Set<RefreshTrigger> adaptiveRefreshTriggers, Duration adaptiveRefreshTimeout,
+                            boolean dynamicRefreshSources, int maxRedirects) {
+
+}
@@ -21,10 +21,23 @@ package io.ballerina.lib.redis.config;
 import io.ballerina.lib.redis.utils.ConversionUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.ClientOptions.DisconnectedBehavior;
 import io.lettuce.core.SslVerifyMode;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions.RefreshTrigger;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.lib.redis.utils.ConversionUtils.createDurationFromBDecimal;
 import static io.ballerina.lib.redis.utils.ConversionUtils.getMapValueOrNull;
 import static io.ballerina.lib.redis.utils.ConversionUtils.getStringValueOrNull;
 
@@ -39,20 +52,98 @@ public final class ConfigMapper {
     private static final BString CONFIG_CONNECTION = StringUtils.fromString("connection");
     private static final BString CONFIG_HOST = StringUtils.fromString("host");
     private static final BString CONFIG_PORT = StringUtils.fromString("port");
+    private static final BString CONFIG_SOCKET_PATH = StringUtils.fromString("socketPath");
     private static final BString CONFIG_USERNAME = StringUtils.fromString("username");
     private static final BString CONFIG_PASSWORD = StringUtils.fromString("password");
+    private static final BString CONFIG_SENTINELS = StringUtils.fromString("sentinels");
+    private static final BString CONFIG_MASTER_NAME = StringUtils.fromString("masterName");
+    private static final BString CONFIG_SENTINEL_PASSWORD = StringUtils.fromString("sentinelPassword");
     private static final BString CONFIG_IS_CLUSTER_CONNECTION = StringUtils.fromString("isClusterConnection");
+    private static final BString CONFIG_CLUSTER_CONFIG = StringUtils.fromString("clusterConfig");
+    private static final BString CONFIG_CLUSTER_MULTI_KEY_BATCH_SIZE = StringUtils.fromString("multiKeyBatchSize");
+    private static final BString CONFIG_CLUSTER_MAX_CONCURRENT_BATCHES = StringUtils.fromString("maxConcurrentBatches");
+    private static final BString CONFIG_CLUSTER_REFRESH_PERIOD = StringUtils.fromString("topologyRefreshPeriod");
+    private static final BString CONFIG_CLUSTER_REFRESH_TRIGGERS = StringUtils.fromString("adaptiveRefreshTriggers");
+    private static final BString CONFIG_CLUSTER_REFRESH_TIMEOUT = StringUtils.fromString("adaptiveRefreshTimeout");
+    private static final BString CONFIG_CLUSTER_DYNAMIC_REFRESH_SOURCES =
+            StringUtils.fromString("dynamicRefreshSources");
+    private static final BString CONFIG_CLUSTER_MAX_REDIRECTS = StringUtils.fromString("maxRedirects");
     private static final BString CONFIG_POOLING_ENABLED = StringUtils.fromString("connectionPooling");
+    private static final BString CONFIG_POOL_CONFIG = StringUtils.fromString("poolConfig");
+    private static final BString CONFIG_POOL_MAX_TOTAL = StringUtils.fromString("maxTotal");
+    private static final BString CONFIG_POOL_MAX_IDLE = StringUtils.fromString("maxIdle");
+    private static final BString CONFIG_POOL_MIN_IDLE = StringUtils.fromString("minIdle");
+    private static final BString CONFIG_POOL_MAX_WAIT = StringUtils.fromString("maxWait");
+    private static final BString CONFIG_POOL_TEST_ON_BORROW = StringUtils.fromString("testOnBorrow");
+    private static final BString CONFIG_POOL_EVICTION_INTERVAL = StringUtils.fromString("timeBetweenEvictionRuns");
+    private static final BString CONFIG_POOL_LIFO = StringUtils.fromString("lifo");
+    private static final BString CONFIG_POOL_SHARED_CONNECTIONS = StringUtils.fromString("sharedConnections");
+    private static final BString CONFIG_POOL_PREWARM = StringUtils.fromString("prewarm");
+    private static final BString CONFIG_POOL_PREWARM_PING = StringUtils.fromString("prewarmPing");
 
     private static final BString CONFIG_OPTIONS = StringUtils.fromString("options");
     private static final BString CONFIG_CLIENT_NAME = StringUtils.fromString("clientName");
     private static final BString CONFIG_DATABASE = StringUtils.fromString("database");
     private static final BString CONFIG_CONNECTION_TIMEOUT = StringUtils.fromString("connectionTimeout");
     private static final BString CONFIG_KEEP_ALIVE = StringUtils.fromString("keepAlive");
+    private static final BString CONFIG_REQUEST_QUEUE_SIZE = StringUtils.fromString("requestQueueSize");
+    private static final BString CONFIG_DISCONNECTED_BEHAVIOR = StringUtils.fromString("disconnectedBehavior");
+    private static final BString CONFIG_AUTO_RECONNECT = StringUtils.fromString("autoReconnect");
     private static final BString CONFIG_KEEP_ALIVE_IDLE = StringUtils.fromString("idle");
     private static final BString CONFIG_KEEP_ALIVE_INTERVAL = StringUtils.fromString("interval");
     private static final BString CONFIG_KEEP_ALIVE_COUNT = StringUtils.fromString("count");
 
+    private static final BString CONFIG_CLIENT_SIDE_CACHE = StringUtils.fromString("clientSideCache");
+    private static final BString CONFIG_CACHE_MAX_ENTRIES = StringUtils.fromString("maxEntries");
+    private static final BString CONFIG_CACHE_MAX_MEMORY = StringUtils.fromString("maxMemory");
+    private static final BString CONFIG_CACHE_EVICTION_POLICY = StringUtils.fromString("evictionPolicy");
+
+    private static final BString CONFIG_READ_FROM = StringUtils.fromString("readFrom");
+
+    private static final BString CONFIG_RESOURCE_CONFIG = StringUtils.fromString("resourceConfig");
+    private static final BString CONFIG_IO_THREADS = StringUtils.fromString("ioThreads");
+    private static final BString CONFIG_COMPUTATION_THREADS = StringUtils.fromString("computationThreads");
+
+    private static final BString CONFIG_TIMEOUT_CONFIG = StringUtils.fromString("timeoutConfig");
+    private static final BString CONFIG_CONNECT_TIMEOUT = StringUtils.fromString("connectTimeout");
+    private static final BString CONFIG_COMMAND_TIMEOUT = StringUtils.fromString("commandTimeout");
+    private static final BString CONFIG_READ_TIMEOUT = StringUtils.fromString("readTimeout");
+    private static final BString CONFIG_WRITE_TIMEOUT = StringUtils.fromString("writeTimeout");
+    private static final BString CONFIG_BLOCKING_COMMAND_MARGIN = StringUtils.fromString("blockingCommandMargin");
+    private static final BString CONFIG_COMMAND_TIMEOUTS = StringUtils.fromString("commandTimeouts");
+
+    private static final BString CONFIG_CIRCUIT_BREAKER = StringUtils.fromString("circuitBreaker");
+    private static final BString CONFIG_ROLLING_WINDOW = StringUtils.fromString("rollingWindow");
+    private static final BString CONFIG_REQUEST_VOLUME_THRESHOLD = StringUtils.fromString("requestVolumeThreshold");
+    private static final BString CONFIG_TIME_WINDOW = StringUtils.fromString("timeWindow");
+    private static final BString CONFIG_BUCKET_SIZE = StringUtils.fromString("bucketSize");
+    private static final BString CONFIG_FAILURE_THRESHOLD = StringUtils.fromString("failureThreshold");
+    private static final BString CONFIG_SLOW_CALL_DURATION = StringUtils.fromString("slowCallDuration");
+    private static final BString CONFIG_RESET_TIME = StringUtils.fromString("resetTime");
+    private static final BString CONFIG_PROBE_TIMEOUT = StringUtils.fromString("probeTimeout");
+
+    private static final BString CONFIG_HEDGED_READS = StringUtils.fromString("hedgedReads");
+    private static final BString CONFIG_HEDGE_DELAY = StringUtils.fromString("delay");
+    private static final BString CONFIG_HEDGE_PERCENTILE = StringUtils.fromString("percentile");
+    private static final BString CONFIG_HEDGE_MIN_DELAY = StringUtils.fromString("minDelay");
+    private static final BString CONFIG_MAX_HEDGE_RATIO = StringUtils.fromString("maxHedgeRatio");
+
+    private static final BString CONFIG_SUBSCRIPTION_CHANNELS = StringUtils.fromString("channels");
+    private static final BString CONFIG_SUBSCRIPTION_PATTERNS = StringUtils.fromString("patterns");
+    private static final BString CONFIG_SUBSCRIPTION_SHARDED = StringUtils.fromString("sharded");
+    private static final BString CONFIG_SUBSCRIPTION_QUEUE_CAPACITY = StringUtils.fromString("queueCapacity");
+    private static final BString CONFIG_SUBSCRIPTION_MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    private static final BString CONFIG_SUBSCRIPTION_OVERFLOW_POLICY = StringUtils.fromString("overflowPolicy");
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final BString CONFIG_KEYSPACE_EVENTS = StringUtils.fromString("events");
+    private static final BString CONFIG_KEYSPACE_DB = StringUtils.fromString("db");
+    private static final BString CONFIG_KEYSPACE_KEY_PATTERN = StringUtils.fromString("keyPattern");
+    private static final BString CONFIG_KEYSPACE_ENABLE_NOTIFICATIONS = StringUtils.fromString("enableNotifications");
+    private static final BString CONFIG_KEYSPACE_BATCH_WINDOW = StringUtils.fromString("batchWindow");
+    private static final BString CONFIG_KEYSPACE_MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    private static final int DEFAULT_MAX_CONCURRENCY = 1;
+
     private static final BString CONFIG_SECURE_SOCKET = StringUtils.fromString("secureSocket");
     private static final BString CONFIG_CERT = StringUtils.fromString("cert");
     private static final BString CONFIG_KEY = StringUtils.fromString("key");
@@ -79,22 +170,48 @@ public final class ConfigMapper {
      */
     public static ConnectionConfig from(BMap<BString, Object> config) {
         boolean isClusterConnection = config.getBooleanValue(CONFIG_IS_CLUSTER_CONNECTION);
+        ClusterConfig clusterConfig = getClusterConfigFromBObject(config);
         boolean poolingEnabled = config.getBooleanValue(CONFIG_POOLING_ENABLED);
+        PoolConfig poolConfig = getPoolConfigFromBObject(config);
         SecureSocket secureSocket = getSecureSocketFromBObject(config);
+        ClientSideCacheConfig clientSideCache = getClientSideCacheConfigFromBObject(config);
+        String readFromValue = getStringValueOrNull(config, CONFIG_READ_FROM);
+        ReadFromPolicy readFrom = readFromValue != null ? ReadFromPolicy.valueOf(readFromValue) : null;
+        ResourceConfig resourceConfig = getResourceConfigFromBObject(config);
+        TimeoutConfig timeoutConfig = getTimeoutConfigFromBObject(config);
+        CircuitBreakerConfig circuitBreaker = getCircuitBreakerConfigFromBObject(config);
+        HedgedReadConfig hedgedReads = getHedgedReadConfigFromBObject(config);
 
         Object connection = config.get(CONFIG_CONNECTION);
         if (connection instanceof BString connectionUri) {
-            return new ConnectionURI(connectionUri.getValue(), isClusterConnection, poolingEnabled, secureSocket);
+            return new ConnectionURI(connectionUri.getValue(), isClusterConnection, clusterConfig, poolingEnabled,
+                    poolConfig, secureSocket, clientSideCache, readFrom, resourceConfig, timeoutConfig, circuitBreaker,
+                    hedgedReads);
+        } else if (connection instanceof BMap<?, ?> connectionMap && connectionMap.containsKey(CONFIG_SENTINELS)) {
+            BMap<BString, Object> sentinelParams = (BMap<BString, Object>) connectionMap;
+            List<SentinelNode> sentinels = getSentinelNodesFromBArray(sentinelParams.getArrayValue(CONFIG_SENTINELS));
+            String masterName = getStringValueOrNull(sentinelParams, CONFIG_MASTER_NAME);
+            String username = getStringValueOrNull(sentinelParams, CONFIG_USERNAME);
+            String password = getStringValueOrNull(sentinelParams, CONFIG_PASSWORD);
+            String sentinelPassword = getStringValueOrNull(sentinelParams, CONFIG_SENTINEL_PASSWORD);
+            BMap<BString, Object> options = getMapValueOrNull(sentinelParams, CONFIG_OPTIONS);
+
+            return new SentinelParams(sentinels, masterName, username, password, sentinelPassword,
+                    isClusterConnection, clusterConfig, poolingEnabled, poolConfig, secureSocket, clientSideCache,
+                    readFrom, resourceConfig, timeoutConfig, circuitBreaker, hedgedReads,
+                    getConnectionOptionsFromBObject(options));
         } else if (connection instanceof BMap<?, ?> connectionParamsMap) {
             BMap<BString, Object> connectionParams = (BMap<BString, Object>) connectionParamsMap;
             String host = getStringValueOrNull(connectionParams, CONFIG_HOST);
             int port = connectionParams.getIntValue(CONFIG_PORT).intValue();
+            String socketPath = getStringValueOrNull(connectionParams, CONFIG_SOCKET_PATH);
             String username = getStringValueOrNull(connectionParams, CONFIG_USERNAME);
             String password = getStringValueOrNull(connectionParams, CONFIG_PASSWORD);
             BMap<BString, Object> options = getMapValueOrNull(connectionParams, CONFIG_OPTIONS);
 
-            return new ConnectionParams(host, port, username, password, isClusterConnection, poolingEnabled,
-                    secureSocket, getConnectionOptionsFromBObject(options));
+            return new ConnectionParams(host, port, socketPath, username, password, isClusterConnection, clusterConfig,
+                    poolingEnabled, poolConfig, secureSocket, clientSideCache, readFrom, resourceConfig, timeoutConfig,
+                    circuitBreaker, hedgedReads, getConnectionOptionsFromBObject(options));
         } else {
             throw new IllegalArgumentException("Unsupported connection configuration type found");
         }
@@ -105,8 +222,194 @@ public final class ConfigMapper {
         int connectionTimeout = connection.getIntValue(CONFIG_CONNECTION_TIMEOUT).intValue();
         String clientName = getStringValueOrNull(connection, CONFIG_CLIENT_NAME);
         KeepAliveConfig keepAlive = getKeepAliveConfigFromBObject(connection);
+        int requestQueueSize = connection.getIntValue(CONFIG_REQUEST_QUEUE_SIZE).intValue();
+        DisconnectedBehavior disconnectedBehavior =
+                DisconnectedBehavior.valueOf(getStringValueOrNull(connection, CONFIG_DISCONNECTED_BEHAVIOR));
+        boolean autoReconnect = connection.getBooleanValue(CONFIG_AUTO_RECONNECT);
+
+        return new Options(clientName, database, connectionTimeout, keepAlive, requestQueueSize,
+                disconnectedBehavior, autoReconnect);
+    }
+
+    private static List<SentinelNode> getSentinelNodesFromBArray(BArray sentinelArray) {
+        List<SentinelNode> sentinels = new ArrayList<>(sentinelArray.size());
+        for (int i = 0; i < sentinelArray.size(); i++) {
+            BMap<BString, Object> sentinel = (BMap<BString, Object>) sentinelArray.get(i);
+            sentinels.add(new SentinelNode(getStringValueOrNull(sentinel, CONFIG_HOST),
+                    sentinel.getIntValue(CONFIG_PORT).intValue()));
+        }
+        return sentinels;
+    }
+
+    private static ClusterConfig getClusterConfigFromBObject(BMap<BString, Object> config) {
+        BMap<BString, Object> clusterConfigMap = getMapValueOrNull(config, CONFIG_CLUSTER_CONFIG);
+        if (clusterConfigMap == null) {
+            return null;
+        }
+        int multiKeyBatchSize = clusterConfigMap.getIntValue(CONFIG_CLUSTER_MULTI_KEY_BATCH_SIZE).intValue();
+        int maxConcurrentBatches = clusterConfigMap.getIntValue(CONFIG_CLUSTER_MAX_CONCURRENT_BATCHES).intValue();
+        Duration topologyRefreshPeriod = getDurationValue(clusterConfigMap, CONFIG_CLUSTER_REFRESH_PERIOD);
+        Set<RefreshTrigger> adaptiveRefreshTriggers = EnumSet.noneOf(RefreshTrigger.class);
+        BArray triggers = clusterConfigMap.getArrayValue(CONFIG_CLUSTER_REFRESH_TRIGGERS);
+        for (int i = 0; i < triggers.size(); i++) {
+            adaptiveRefreshTriggers.add(RefreshTrigger.valueOf(((BString) triggers.get(i)).getValue()));
+        }
+        Duration adaptiveRefreshTimeout = getDurationValue(clusterConfigMap, CONFIG_CLUSTER_REFRESH_TIMEOUT);
+        boolean dynamicRefreshSources = clusterConfigMap.getBooleanValue(CONFIG_CLUSTER_DYNAMIC_REFRESH_SOURCES);
+        int maxRedirects = clusterConfigMap.getIntValue(CONFIG_CLUSTER_MAX_REDIRECTS).intValue();
+        return new ClusterConfig(multiKeyBatchSize, maxConcurrentBatches, topologyRefreshPeriod,
+                adaptiveRefreshTriggers, adaptiveRefreshTimeout, dynamicRefreshSources, maxRedirects);
+    }
+
+    private static PoolConfig getPoolConfigFromBObject(BMap<BString, Object> config) {
+        BMap<BString, Object> poolConfigMap = getMapValueOrNull(config, CONFIG_POOL_CONFIG);
+        if (poolConfigMap == null) {
+            return null;
+        }
+        int maxTotal = poolConfigMap.getIntValue(CONFIG_POOL_MAX_TOTAL).intValue();
+        int maxIdle = poolConfigMap.getIntValue(CONFIG_POOL_MAX_IDLE).intValue();
+        int minIdle = poolConfigMap.getIntValue(CONFIG_POOL_MIN_IDLE).intValue();
+        Duration maxWait = getDurationValue(poolConfigMap, CONFIG_POOL_MAX_WAIT);
+        boolean testOnBorrow = poolConfigMap.getBooleanValue(CONFIG_POOL_TEST_ON_BORROW);
+        Duration timeBetweenEvictionRuns = getDurationValue(poolConfigMap, CONFIG_POOL_EVICTION_INTERVAL);
+        boolean lifo = poolConfigMap.getBooleanValue(CONFIG_POOL_LIFO);
+        int sharedConnections = poolConfigMap.getIntValue(CONFIG_POOL_SHARED_CONNECTIONS).intValue();
+        boolean prewarm = poolConfigMap.getBooleanValue(CONFIG_POOL_PREWARM);
+        boolean prewarmPing = poolConfigMap.getBooleanValue(CONFIG_POOL_PREWARM_PING);
+        return new PoolConfig(maxTotal, maxIdle, minIdle, maxWait, testOnBorrow, timeBetweenEvictionRuns, lifo,
+                sharedConnections, prewarm, prewarmPing);
+    }
+
+    private static ClientSideCacheConfig getClientSideCacheConfigFromBObject(BMap<BString, Object> config) {
+        BMap<BString, Object> cacheConfigMap = getMapValueOrNull(config, CONFIG_CLIENT_SIDE_CACHE);
+        if (cacheConfigMap == null) {
+            return null;
+        }
+        int maxEntries = cacheConfigMap.getIntValue(CONFIG_CACHE_MAX_ENTRIES).intValue();
+        long maxMemory = cacheConfigMap.getIntValue(CONFIG_CACHE_MAX_MEMORY);
+        CacheEvictionPolicy evictionPolicy =
+                CacheEvictionPolicy.valueOf(getStringValueOrNull(cacheConfigMap, CONFIG_CACHE_EVICTION_POLICY));
+        return new ClientSideCacheConfig(maxEntries, maxMemory, evictionPolicy);
+    }
+
+    private static ResourceConfig getResourceConfigFromBObject(BMap<BString, Object> config) {
+        BMap<BString, Object> resourceConfigMap = getMapValueOrNull(config, CONFIG_RESOURCE_CONFIG);
+        if (resourceConfigMap == null) {
+            return null;
+        }
+        int ioThreads = resourceConfigMap.getIntValue(CONFIG_IO_THREADS).intValue();
+        int computationThreads = resourceConfigMap.getIntValue(CONFIG_COMPUTATION_THREADS).intValue();
+        return new ResourceConfig(ioThreads, computationThreads);
+    }
+
+    private static TimeoutConfig getTimeoutConfigFromBObject(BMap<BString, Object> config) {
+        BMap<BString, Object> timeoutConfigMap = getMapValueOrNull(config, CONFIG_TIMEOUT_CONFIG);
+        if (timeoutConfigMap == null) {
+            return null;
+        }
+        Duration connectTimeout = getOptionalDurationValue(timeoutConfigMap, CONFIG_CONNECT_TIMEOUT);
+        Duration commandTimeout = getOptionalDurationValue(timeoutConfigMap, CONFIG_COMMAND_TIMEOUT);
+        Duration readTimeout = getOptionalDurationValue(timeoutConfigMap, CONFIG_READ_TIMEOUT);
+        Duration writeTimeout = getOptionalDurationValue(timeoutConfigMap, CONFIG_WRITE_TIMEOUT);
+        Duration blockingCommandMargin = getDurationValue(timeoutConfigMap, CONFIG_BLOCKING_COMMAND_MARGIN);
+        Map<String, Duration> commandTimeouts = new HashMap<>();
+        BMap<BString, Object> commandTimeoutsMap = getMapValueOrNull(timeoutConfigMap, CONFIG_COMMAND_TIMEOUTS);
+        if (commandTimeoutsMap != null) {
+            for (BString command : commandTimeoutsMap.getKeys()) {
+                commandTimeouts.put(command.getValue().toUpperCase(Locale.ROOT),
+                        getDurationValue(commandTimeoutsMap, command));
+            }
+        }
+        return new TimeoutConfig(connectTimeout, commandTimeout, readTimeout, writeTimeout, blockingCommandMargin,
+                commandTimeouts);
+    }
+
+    /**
+     * Maps the Ballerina Pub/Sub service config annotation of a service to the Java subscription config object.
+     *
+     * @param serviceConfig Ballerina Pub/Sub service config, or null if the service is not annotated
+     * @param names         channel names with which the service is attached to the listener
+     * @return Java subscription config
+     */
+    public static SubscriptionConfig subscriptionFrom(BMap<BString, Object> serviceConfig, List<String> names) {
+        List<String> channels = new ArrayList<>(names);
+        if (serviceConfig == null) {
+            return new SubscriptionConfig(channels, List.of(), false, DEFAULT_QUEUE_CAPACITY,
+                    DEFAULT_MAX_CONCURRENCY, OverflowPolicy.DROP_OLDEST);
+        }
+        channels.addAll(List.of(ConversionUtils.createStringArrayFromBArray(
+                serviceConfig.getArrayValue(CONFIG_SUBSCRIPTION_CHANNELS))));
+        List<String> patterns = List.of(ConversionUtils.createStringArrayFromBArray(
+                serviceConfig.getArrayValue(CONFIG_SUBSCRIPTION_PATTERNS)));
+        boolean sharded = serviceConfig.getBooleanValue(CONFIG_SUBSCRIPTION_SHARDED);
+        int queueCapacity = serviceConfig.getIntValue(CONFIG_SUBSCRIPTION_QUEUE_CAPACITY).intValue();
+        int maxConcurrency = serviceConfig.getIntValue(CONFIG_SUBSCRIPTION_MAX_CONCURRENCY).intValue();
+        OverflowPolicy overflowPolicy =
+                OverflowPolicy.valueOf(getStringValueOrNull(serviceConfig, CONFIG_SUBSCRIPTION_OVERFLOW_POLICY));
+        return new SubscriptionConfig(channels, patterns, sharded, queueCapacity, maxConcurrency, overflowPolicy);
+    }
+
+    /**
+     * Maps the Ballerina keyspace listener config to the Java keyspace config object.
+     *
+     * @param keyspaceConfig Ballerina keyspace listener config
+     * @return Java keyspace config
+     */
+    public static KeyspaceConfig keyspaceFrom(BMap<BString, Object> keyspaceConfig) {
+        Set<KeyEventType> events = EnumSet.noneOf(KeyEventType.class);
+        for (String event : ConversionUtils.createStringArrayFromBArray(
+                keyspaceConfig.getArrayValue(CONFIG_KEYSPACE_EVENTS))) {
+            events.add(KeyEventType.fromEventName(event));
+        }
+        Integer db = keyspaceConfig.containsKey(CONFIG_KEYSPACE_DB)
+                ? keyspaceConfig.getIntValue(CONFIG_KEYSPACE_DB).intValue() : null;
+        String keyPattern = getStringValueOrNull(keyspaceConfig, CONFIG_KEYSPACE_KEY_PATTERN);
+        boolean enableNotifications = keyspaceConfig.getBooleanValue(CONFIG_KEYSPACE_ENABLE_NOTIFICATIONS);
+        Duration batchWindow = getDurationValue(keyspaceConfig, CONFIG_KEYSPACE_BATCH_WINDOW);
+        int maxBatchSize = keyspaceConfig.getIntValue(CONFIG_KEYSPACE_MAX_BATCH_SIZE).intValue();
+        int queueCapacity = keyspaceConfig.getIntValue(CONFIG_SUBSCRIPTION_QUEUE_CAPACITY).intValue();
+        OverflowPolicy overflowPolicy =
+                OverflowPolicy.valueOf(getStringValueOrNull(keyspaceConfig, CONFIG_SUBSCRIPTION_OVERFLOW_POLICY));
+        return new KeyspaceConfig(events, db, keyPattern, enableNotifications, batchWindow, maxBatchSize,
+                queueCapacity, overflowPolicy);
+    }
+
+    private static CircuitBreakerConfig getCircuitBreakerConfigFromBObject(BMap<BString, Object> config) {
+        BMap<BString, Object> circuitBreakerMap = getMapValueOrNull(config, CONFIG_CIRCUIT_BREAKER);
+        if (circuitBreakerMap == null) {
+            return null;
+        }
+        BMap<BString, Object> rollingWindowMap = getMapValueOrNull(circuitBreakerMap, CONFIG_ROLLING_WINDOW);
+        int requestVolumeThreshold = rollingWindowMap.getIntValue(CONFIG_REQUEST_VOLUME_THRESHOLD).intValue();
+        Duration timeWindow = getDurationValue(rollingWindowMap, CONFIG_TIME_WINDOW);
+        Duration bucketSize = getDurationValue(rollingWindowMap, CONFIG_BUCKET_SIZE);
+        double failureThreshold = circuitBreakerMap.getFloatValue(CONFIG_FAILURE_THRESHOLD);
+        Duration slowCallDuration = getOptionalDurationValue(circuitBreakerMap, CONFIG_SLOW_CALL_DURATION);
+        Duration resetTime = getDurationValue(circuitBreakerMap, CONFIG_RESET_TIME);
+        Duration probeTimeout = getDurationValue(circuitBreakerMap, CONFIG_PROBE_TIMEOUT);
+        return new CircuitBreakerConfig(requestVolumeThreshold, timeWindow, bucketSize, failureThreshold,
+                slowCallDuration, resetTime, probeTimeout);
+    }
+
+    private static HedgedReadConfig getHedgedReadConfigFromBObject(BMap<BString, Object> config) {
+        BMap<BString, Object> hedgedReadsMap = getMapValueOrNull(config, CONFIG_HEDGED_READS);
+        if (hedgedReadsMap == null) {
+            return null;
+        }
+        Duration delay = getOptionalDurationValue(hedgedReadsMap, CONFIG_HEDGE_DELAY);
+        double percentile = hedgedReadsMap.getFloatValue(CONFIG_HEDGE_PERCENTILE);
+        Duration minDelay = getDurationValue(hedgedReadsMap, CONFIG_HEDGE_MIN_DELAY);
+        double maxHedgeRatio = hedgedReadsMap.getFloatValue(CONFIG_MAX_HEDGE_RATIO);
+        ReadFromPolicy readFrom = ReadFromPolicy.valueOf(getStringValueOrNull(hedgedReadsMap, CONFIG_READ_FROM));
+        return new HedgedReadConfig(delay, percentile, minDelay, maxHedgeRatio, readFrom);
+    }
+
+    private static Duration getOptionalDurationValue(BMap<BString, Object> map, BString key) {
+        return map.containsKey(key) ? getDurationValue(map, key) : null;
+    }
 
-        return new Options(clientName, database, connectionTimeout, keepAlive);
+    private static Duration getDurationValue(BMap<BString, Object> map, BString key) {
+        return createDurationFromBDecimal((BDecimal) map.get(key));
     }
 
     private static KeepAliveConfig getKeepAliveConfigFromBObject(BMap<BString, Object> connection) {
@@ -32,6 +32,13 @@ public interface ConnectionConfig {
      */
     boolean isClusterConnection();
 
+    /**
+     * Get cluster connection configurations.
+     *
+     * @return cluster connection configurations
+     */
+    ClusterConfig clusterConfig();
+
     /**
      * Check whether pooling is enabled.
      *
@@ -39,10 +46,59 @@ public interface ConnectionConfig {
      */
     boolean poolingEnabled();
 
+    /**
+     * Get connection pool configurations.
+     *
+     * @return connection pool configurations
+     */
+    PoolConfig poolConfig();
+
     /**
      * Get secure socket options.
      *
      * @return connection options
      */
     SecureSocket secureSocket();
+
+    /**
+     * Get client-side caching configurations.
+     *
+     * @return client-side caching configurations, or null if client-side caching is disabled
+     */
+    ClientSideCacheConfig clientSideCache();
+
+    /**
+     * Get the policy used to select the nodes from which read-only commands are served.
+     *
+     * @return read policy, or null if all commands are sent to the master
+     */
+    ReadFromPolicy readFrom();
+
+    /**
+     * Get the sizes of the thread pools shared by all the clients.
+     *
+     * @return thread pool configurations, or null if the Lettuce defaults are used
+     */
+    ResourceConfig resourceConfig();
+
+    /**
+     * Get the timeouts of the connections and commands.
+     *
+     * @return timeout configurations, or null if the connection timeout is used for all commands
+     */
+    TimeoutConfig timeoutConfig();
+
+    /**
+     * Get the circuit breaker configurations.
+     *
+     * @return circuit breaker configurations, or null if the circuit breaker is disabled
+     */
+    CircuitBreakerConfig circuitBreaker();
+
+    /**
+     * Get the hedged read configurations.
+     *
+     * @return hedged read configurations, or null if reads are not hedged
+     */
+    HedgedReadConfig hedgedReads();
 }
@@ -23,16 +23,28 @@ package io.ballerina.lib.redis.config;
  *
  * @param host                host name
  * @param port                port number
+ * @param socketPath          path of the Unix domain socket, or null to connect over TCP
  * @param username            username of the connection
  * @param password            password of the connection
  * @param isClusterConnection whether the connection is a cluster connection
+ * @param clusterConfig       cluster connection configurations
  * @param poolingEnabled      whether pooling is enabled
+ * @param poolConfig          connection pool configurations
  * @param secureSocket        secure socket configurations
+ * @param clientSideCache     client-side caching configurations
+ * @param readFrom            policy used to select the nodes from which read-only commands are served
+ * @param resourceConfig      sizes of the thread pools shared by all the clients
+ * @param timeoutConfig       timeouts of the connections and commands
+ * @param circuitBreaker      circuit breaker configurations
+ * @param hedgedReads         hedged read configurations
  * @param options             redis connection options
  * @since 3.0.0
  */
-public record ConnectionParams(String host, int port, String username, String password, boolean isClusterConnection,
-                               boolean poolingEnabled, SecureSocket secureSocket, Options options)
+public record ConnectionParams(String host, int port, String socketPath, String username, String password,
+                               boolean isClusterConnection, ClusterConfig clusterConfig, boolean poolingEnabled,
+                               PoolConfig poolConfig, SecureSocket secureSocket, ClientSideCacheConfig clientSideCache,
+                               ReadFromPolicy readFrom, ResourceConfig resourceConfig, TimeoutConfig timeoutConfig,
+                               CircuitBreakerConfig circuitBreaker, HedgedReadConfig hedgedReads, Options options)
         implements ConnectionConfig {
 
 }
@@ -23,11 +23,23 @@ package io.ballerina.lib.redis.config;
  *
  * @param uri                 redis URI string
  * @param isClusterConnection whether the connection is a cluster connection
+ * @param clusterConfig       cluster connection configurations
  * @param poolingEnabled      whether pooling is enabled
+ * @param poolConfig          connection pool configurations
  * @param secureSocket        secure socket configurations
+ * @param clientSideCache     client-side caching configurations
+ * @param readFrom            policy used to select the nodes from which read-only commands are served
+ * @param resourceConfig      sizes of the thread pools shared by all the clients
+ * @param timeoutConfig       timeouts of the connections and commands
+ * @param circuitBreaker      circuit breaker configurations
+ * @param hedgedReads         hedged read configurations
  * @since 3.0.0
  */
-public record ConnectionURI(String uri, boolean isClusterConnection, boolean poolingEnabled, SecureSocket secureSocket)
+public record ConnectionURI(String uri, boolean isClusterConnection, ClusterConfig clusterConfig,
+                            boolean poolingEnabled, PoolConfig poolConfig, SecureSocket secureSocket,
+                            ClientSideCacheConfig clientSideCache, ReadFromPolicy readFrom,
+                            ResourceConfig resourceConfig, TimeoutConfig timeoutConfig,
+                            CircuitBreakerConfig circuitBreaker, HedgedReadConfig hedgedReads)
         implements ConnectionConfig {
 
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import java.time.Duration;
+
+/**
+ * Represents the hedged read configurations of a client.
+ *
+ * @param delay         fixed time after which a read is hedged, or null to derive it from the observed read latency
+ * @param percentile    percentile of the observed read latency used as the delay
+ * @param minDelay      lower bound of the delay derived from the observed read latency
+ * @param maxHedgeRatio maximum ratio of the reads which are hedged
+ * @param readFrom      policy used to select the nodes to which the hedged reads are sent
+ * @since 3.4.0
+ */
+public record HedgedReadConfig(Duration delay, double percentile, Duration minDelay, double maxHedgeRatio,
+                               ReadFromPolicy readFrom) {
+
+}
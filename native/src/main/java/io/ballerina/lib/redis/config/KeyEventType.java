@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+/**
+ * Represents the types of the key events delivered by a keyspace listener, with the names under which Redis notifies
+ * them, which are also their names in Ballerina, and the classes of the {@code notify-keyspace-events} configuration
+ * which enable them.
+ *
+ * @since 3.4.0
+ */
+public enum KeyEventType {
+    SET("set", '$'),
+    DEL("del", 'g'),
+    EXPIRED("expired", 'x'),
+    EVICTED("evicted", 'e');
+
+    private final String eventName;
+    private final char notificationClass;
+
+    KeyEventType(String eventName, char notificationClass) {
+        this.eventName = eventName;
+        this.notificationClass = notificationClass;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public char getNotificationClass() {
+        return notificationClass;
+    }
+
+    /**
+     * Returns the key event type of an event notified by Redis.
+     *
+     * @param eventName the name of the event in the notification
+     * @return the key event type, or null if the event is not one of the types
+     */
+    public static KeyEventType fromEventName(String eventName) {
+        for (KeyEventType type : values()) {
+            if (type.eventName.equals(eventName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
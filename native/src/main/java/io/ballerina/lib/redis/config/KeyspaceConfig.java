@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Represents the key events delivered by a keyspace listener, and how they are batched.
+ *
+ * @param events              types of the key events delivered
+ * @param db                  database whose key events are delivered, or null for all the databases
+ * @param keyPattern          glob-style pattern of the keys whose events are delivered
+ * @param enableNotifications whether the notifications of the event types are enabled on the server
+ * @param batchWindow         time for which the events are collected into a batch
+ * @param maxBatchSize        maximum number of keys in a batch
+ * @param queueCapacity       maximum number of batches waiting to be dispatched to a service
+ * @param overflowPolicy      action taken when a batch is ready while the queue of a service is full
+ * @since 3.4.0
+ */
+public record KeyspaceConfig(Set<KeyEventType> events, Integer db, String keyPattern, boolean enableNotifications,
+                             Duration batchWindow, int maxBatchSize, int queueCapacity,
+                             OverflowPolicy overflowPolicy) {
+
+}
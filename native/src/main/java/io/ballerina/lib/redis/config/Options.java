@@ -18,15 +18,21 @@
 
 package io.ballerina.lib.redis.config;
 
+import io.lettuce.core.ClientOptions.DisconnectedBehavior;
+
 /**
  * Represents parameter based Redis connection options.
  *
- * @param clientName        client name
- * @param database          database index
- * @param connectionTimeout connection timeout
- * @param keepAlive         TCP keep-alive configuration, or null if disabled
+ * @param clientName           client name
+ * @param database             database index
+ * @param connectionTimeout    connection timeout
+ * @param keepAlive            TCP keep-alive configuration, or null if disabled
+ * @param requestQueueSize     maximum number of commands queued on a connection, non-positive for no limit
+ * @param disconnectedBehavior whether commands are accepted or rejected while the connection is disconnected
+ * @param autoReconnect        whether a lost connection is reconnected automatically
  * @since 3.0.0
  */
-public record Options(String clientName, int database, int connectionTimeout, KeepAliveConfig keepAlive) {
+public record Options(String clientName, int database, int connectionTimeout, KeepAliveConfig keepAlive,
+                      int requestQueueSize, DisconnectedBehavior disconnectedBehavior, boolean autoReconnect) {
 
 }
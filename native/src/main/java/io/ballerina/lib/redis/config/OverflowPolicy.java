@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+/**
+ * Represents the actions taken when a message is received for a service whose message queue is full.
+ *
+ * @since 3.4.0
+ */
+public enum OverflowPolicy {
+    /**
+     * Stops reading from the connection until the queue has drained, so that the server buffers the messages. The I/O
+     * thread is not blocked, as the reads are paused by turning off the auto-read of the connection.
+     */
+    BLOCK,
+    /**
+     * Discards the oldest message in the queue to make room for the received message.
+     */
+    DROP_OLDEST,
+    /**
+     * Discards the received message.
+     */
+    DROP_NEWEST
+}
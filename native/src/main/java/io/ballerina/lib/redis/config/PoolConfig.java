@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import java.time.Duration;
+
+/**
+ * Represents connection pool sizing and eviction configurations.
+ *
+ * @param maxTotal                maximum number of connections allocated by the pool, negative for no limit
+ * @param maxIdle                 maximum number of idle connections in the pool, negative for no limit
+ * @param minIdle                 minimum number of idle connections the pool tries to maintain
+ * @param maxWait                 maximum time to wait for a connection when the pool is exhausted, negative to wait
+ *                                indefinitely
+ * @param testOnBorrow            whether connections are validated before they are borrowed
+ * @param timeBetweenEvictionRuns time between runs of the idle connection evictor, non-positive to disable eviction
+ * @param lifo                    whether idle connections are borrowed in last-in-first-out order
+ * @param sharedConnections       number of long-lived connections over which commands are multiplexed, zero to borrow
+ *                                a pooled connection for every command
+ * @param prewarm                 whether {@code minIdle} connections are opened in parallel when the pool is created
+ * @param prewarmPing             whether a PING is sent on each pre-warmed connection
+ * @since 3.4.0
+ */
+public record PoolConfig(int maxTotal, int maxIdle, int minIdle, Duration maxWait, boolean testOnBorrow,
+                         Duration timeBetweenEvictionRuns, boolean lifo, int sharedConnections, boolean prewarm,
+                         boolean prewarmPing) {
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import io.lettuce.core.ReadFrom;
+
+/**
+ * Represents the policies used to select the nodes from which read-only commands are served.
+ *
+ * @since 3.4.0
+ */
+public enum ReadFromPolicy {
+    MASTER(ReadFrom.MASTER),
+    MASTER_PREFERRED(ReadFrom.MASTER_PREFERRED),
+    REPLICA(ReadFrom.REPLICA),
+    REPLICA_PREFERRED(ReadFrom.REPLICA_PREFERRED),
+    LOWEST_LATENCY(ReadFrom.LOWEST_LATENCY),
+    ANY(ReadFrom.ANY);
+
+    private final ReadFrom readFrom;
+
+    ReadFromPolicy(ReadFrom readFrom) {
+        this.readFrom = readFrom;
+    }
+
+    public ReadFrom getReadFrom() {
+        return readFrom;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+/**
+ * Represents the sizes of the thread pools which are shared by all the Redis clients.
+ *
+ * @param ioThreads          number of I/O threads of the Netty event loops, non-positive for the Lettuce default
+ * @param computationThreads number of computation threads, non-positive for the Lettuce default
+ * @since 3.4.0
+ */
+public record ResourceConfig(int ioThreads, int computationThreads) {
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import java.util.List;
+
+/**
+ * Represents Redis Sentinel based configurations, where the master is discovered through a set of Sentinel nodes.
+ *
+ * @param sentinels           Sentinel nodes monitoring the master
+ * @param masterName          name under which the master is monitored by the Sentinels
+ * @param username            username of the connection
+ * @param password            password of the connection
+ * @param sentinelPassword    password of the Sentinel nodes
+ * @param isClusterConnection whether the connection is a cluster connection
+ * @param clusterConfig       cluster connection configurations
+ * @param poolingEnabled      whether pooling is enabled
+ * @param poolConfig          connection pool configurations
+ * @param secureSocket        secure socket configurations
+ * @param clientSideCache     client-side caching configurations
+ * @param readFrom            policy used to select the nodes from which read-only commands are served
+ * @param resourceConfig      sizes of the thread pools shared by all the clients
+ * @param timeoutConfig       timeouts of the connections and commands
+ * @param circuitBreaker      circuit breaker configurations
+ * @param hedgedReads         hedged read configurations
+ * @param options             redis connection options
+ * @since 3.4.0
+ */
+public record SentinelParams(List<SentinelNode> sentinels, String masterName, String username, String password,
+                             String sentinelPassword, boolean isClusterConnection, ClusterConfig clusterConfig,
+                             boolean poolingEnabled, PoolConfig poolConfig, SecureSocket secureSocket,
+                             ClientSideCacheConfig clientSideCache, ReadFromPolicy readFrom,
+                             ResourceConfig resourceConfig, TimeoutConfig timeoutConfig,
+                             CircuitBreakerConfig circuitBreaker, HedgedReadConfig hedgedReads, Options options)
+        implements ConnectionConfig {
+
+}
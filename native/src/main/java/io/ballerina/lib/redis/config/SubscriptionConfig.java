@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import java.util.List;
+
+/**
+ * Represents the subscriptions of a service attached to a Pub/Sub listener, and how the messages are dispatched to it.
+ *
+ * @param channels       channels subscribed to
+ * @param patterns       glob-style patterns of the channels subscribed to
+ * @param sharded        whether the channels are subscribed to as shard channels
+ * @param queueCapacity  maximum number of messages waiting to be dispatched to the service
+ * @param maxConcurrency maximum number of messages dispatched to the service at once
+ * @param overflowPolicy action taken when a message is received while the queue is full
+ * @since 3.4.0
+ */
+public record SubscriptionConfig(List<String> channels, List<String> patterns, boolean sharded, int queueCapacity,
+                                 int maxConcurrency, OverflowPolicy overflowPolicy) {
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Represents the timeout configurations of the connections and commands.
+ *
+ * @param connectTimeout        timeout of establishing a connection, or null for the default
+ * @param commandTimeout        default timeout of a command, or null to use the connection timeout
+ * @param readTimeout           timeout of read-only commands, or null to use the default command timeout
+ * @param writeTimeout          timeout of other commands, or null to use the default command timeout
+ * @param blockingCommandMargin time added to the timeout of a blocking command to account for the round trip
+ * @param commandTimeouts       timeouts of individual commands, keyed by the upper-case command name
+ * @since 3.4.0
+ */
+public record TimeoutConfig(Duration connectTimeout, Duration commandTimeout, Duration readTimeout,
+                            Duration writeTimeout, Duration blockingCommandMargin,
+                            Map<String, Duration> commandTimeouts) {
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.config.CircuitBreakerConfig;
+import io.ballerina.lib.redis.exceptions.CircuitOpenException;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Circuit breaker of a client, which stops sending commands to a server which keeps failing or responding slowly.
+ * <p>
+ * The outcomes of the commands are counted in a rolling window of fixed size buckets. The circuit is opened when the
+ * window holds at least the configured number of commands, and the ratio of the failed ones reaches the failure
+ * threshold. While the circuit is open, commands are rejected without being sent. Once the reset time has elapsed, the
+ * next caller sends a probe to the server in the half-open state, and the circuit is closed if the probe succeeds, or
+ * opened for another reset time otherwise. Commands arriving while the probe is in flight are rejected.
+ * <p>
+ * A client has one circuit breaker, including for a cluster connection. Lettuce routes a command to its node only
+ * after the circuit breaker has let it through, so the outcomes are counted for the cluster as a whole.
+ *
+ * @since 3.4.0
+ */
+public class CircuitBreaker {
+
+    private static final String CIRCUIT_OPEN_MESSAGE =
+            "Circuit breaker is open, the command was not sent to the server";
+    private static final Circuit CLOSED_CIRCUIT = new Circuit(State.CLOSED, 0);
+    private static final Circuit HALF_OPEN_CIRCUIT = new Circuit(State.HALF_OPEN, 0);
+
+    private final CircuitBreakerConfig config;
+    private final BooleanSupplier probe;
+    private final AtomicReference<Circuit> circuit = new AtomicReference<>(CLOSED_CIRCUIT);
+    private final long bucketNanos;
+    private final long[] bucketIndexes;
+    private final int[] totalCounts;
+    private final int[] failureCounts;
+    private final long slowCallNanos;
+    private final long resetNanos;
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param config circuit breaker configurations
+     * @param probe  sends a probe to the server, and returns whether it succeeded
+     */
+    CircuitBreaker(CircuitBreakerConfig config, BooleanSupplier probe) {
+        this.config = config;
+        this.probe = probe;
+        this.bucketNanos = Math.max(1, config.bucketSize().toNanos());
+        int buckets = (int) Math.max(1, Math.ceilDiv(config.timeWindow().toNanos(), bucketNanos));
+        this.bucketIndexes = new long[buckets];
+        this.totalCounts = new int[buckets];
+        this.failureCounts = new int[buckets];
+        this.slowCallNanos = config.slowCallDuration() != null ? config.slowCallDuration().toNanos() : Long.MAX_VALUE;
+        this.resetNanos = config.resetTime().toNanos();
+    }
+
+    /**
+     * Checks whether a command can be sent. When the reset time of an open circuit has elapsed, the caller sends the
+     * probe, and the command is allowed if the probe succeeds.
+     *
+     * @throws CircuitOpenException if the circuit is open
+     */
+    void acquirePermission() throws CircuitOpenException {
+        Circuit current = circuit.get();
+        if (current == CLOSED_CIRCUIT) {
+            return;
+        }
+        if (current.state() == State.OPEN && System.nanoTime() - current.openedTime() >= resetNanos
+                && circuit.compareAndSet(current, HALF_OPEN_CIRCUIT)) {
+            if (sendProbe()) {
+                close();
+                return;
+            }
+            open();
+        }
+        throw new CircuitOpenException(CIRCUIT_OPEN_MESSAGE);
+    }
+
+    /**
+     * Records a command to which the server replied, which is counted as a failure if it was slower than the slow call
+     * duration.
+     *
+     * @param durationNanos time taken by the command
+     */
+    void onSuccess(long durationNanos) {
+        record(durationNanos >= slowCallNanos);
+    }
+
+    /**
+     * Records a command which failed or timed out without a reply from the server.
+     */
+    void onFailure() {
+        record(true);
+    }
+
+    /**
+     * Returns the state of the circuit.
+     *
+     * @return the current state
+     */
+    public State getState() {
+        return circuit.get().state();
+    }
+
+    private boolean sendProbe() {
+        try {
+            return probe.getAsBoolean();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void record(boolean failed) {
+        // outcomes are only counted while closed, the probe alone decides the state of an open circuit
+        if (circuit.get() != CLOSED_CIRCUIT) {
+            return;
+        }
+        boolean trip;
+        synchronized (this) {
+            long bucketIndex = System.nanoTime() / bucketNanos;
+            int bucket = (int) Math.floorMod(bucketIndex, (long) bucketIndexes.length);
+            if (bucketIndexes[bucket] != bucketIndex) {
+                bucketIndexes[bucket] = bucketIndex;
+                totalCounts[bucket] = 0;
+                failureCounts[bucket] = 0;
+            }
+            totalCounts[bucket]++;
+            if (failed) {
+                failureCounts[bucket]++;
+            }
+            trip = failed && isFailureThresholdReached(bucketIndex);
+        }
+        if (trip) {
+            // the opened time is published together with the state, so that a caller never sees an open circuit
+            // without the time at which it was opened
+            circuit.compareAndSet(CLOSED_CIRCUIT, new Circuit(State.OPEN, System.nanoTime()));
+        }
+    }
+
+    private boolean isFailureThresholdReached(long currentBucketIndex) {
+        long total = 0;
+        long failures = 0;
+        for (int i = 0; i < bucketIndexes.length; i++) {
+            if (currentBucketIndex - bucketIndexes[i] < bucketIndexes.length) {
+                total += totalCounts[i];
+                failures += failureCounts[i];
+            }
+        }
+        return total >= config.requestVolumeThreshold() && failures >= config.failureThreshold() * total;
+    }
+
+    private synchronized void close() {
+        // the window is cleared, so that the failures which opened the circuit do not open it again
+        for (int i = 0; i < bucketIndexes.length; i++) {
+            totalCounts[i] = 0;
+            failureCounts[i] = 0;
+        }
+        circuit.set(CLOSED_CIRCUIT);
+    }
+
+    private void open() {
+        circuit.set(new Circuit(State.OPEN, System.nanoTime()));
+    }
+
+    private record Circuit(State state, long openedTime) {
+
+    }
+
+    /**
+     * States of the circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
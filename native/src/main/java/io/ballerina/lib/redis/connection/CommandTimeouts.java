@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.config.TimeoutConfig;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ReadOnlyCommands;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the timeout of each command according to its type, and acts as the Lettuce timeout source so that the
+ * same timeouts are enforced on the connections.
+ * <p>
+ * A timeout configured for the command itself takes precedence, followed by the read or write timeout depending on
+ * whether the command is read-only, and the default command timeout. Blocking commands are not expired by Lettuce,
+ * since they are awaited for their own blocking timeout plus a margin instead.
+ *
+ * @since 3.4.0
+ */
+public class CommandTimeouts extends TimeoutOptions.TimeoutSource {
+
+    // XREAD and XREADGROUP block only when given a BLOCK argument, and are awaited with the command timeout otherwise
+    private static final Set<String> BLOCKING_COMMANDS = Set.of("BLPOP", "BRPOP", "BRPOPLPUSH", "BLMOVE", "BLMPOP",
+            "BZPOPMIN", "BZPOPMAX", "BZMPOP", "WAIT", "WAITAOF", "XREAD", "XREADGROUP");
+    private static final Duration DEFAULT_BLOCKING_COMMAND_MARGIN = Duration.ofSeconds(1);
+
+    private final Duration defaultTimeout;
+    private final Duration readTimeout;
+    private final Duration writeTimeout;
+    private final Duration blockingCommandMargin;
+    private final Map<String, Duration> commandTimeouts;
+    // resolved timeouts, cached per command type since they are looked up for every command
+    private final Map<ProtocolKeyword, Duration> resolvedTimeouts = new ConcurrentHashMap<>();
+
+    CommandTimeouts(TimeoutConfig timeoutConfig, Duration connectionTimeout) {
+        if (timeoutConfig == null) {
+            this.defaultTimeout = connectionTimeout;
+            this.readTimeout = connectionTimeout;
+            this.writeTimeout = connectionTimeout;
+            this.blockingCommandMargin = DEFAULT_BLOCKING_COMMAND_MARGIN;
+            this.commandTimeouts = Collections.emptyMap();
+            return;
+        }
+        this.defaultTimeout = timeoutConfig.commandTimeout() != null ? timeoutConfig.commandTimeout()
+                : connectionTimeout;
+        this.readTimeout = timeoutConfig.readTimeout() != null ? timeoutConfig.readTimeout() : defaultTimeout;
+        this.writeTimeout = timeoutConfig.writeTimeout() != null ? timeoutConfig.writeTimeout() : defaultTimeout;
+        this.blockingCommandMargin = timeoutConfig.blockingCommandMargin();
+        this.commandTimeouts = timeoutConfig.commandTimeouts();
+    }
+
+    /**
+     * Returns the default command timeout.
+     *
+     * @return the timeout of commands without a more specific timeout
+     */
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Returns the timeout of a command type.
+     *
+     * @param commandType the command type
+     * @return the timeout of the command, or zero for blocking commands, which are not expired by Lettuce
+     */
+    public Duration getTimeout(ProtocolKeyword commandType) {
+        return resolvedTimeouts.computeIfAbsent(commandType, this::resolveTimeout);
+    }
+
+    /**
+     * Returns the time to wait for the reply of a blocking command.
+     *
+     * @param blockingTimeout the timeout in seconds given to the blocking command, zero to block indefinitely
+     * @return the blocking timeout plus the margin, or null to wait indefinitely
+     */
+    public Duration getBlockingTimeout(long blockingTimeout) {
+        return getBlockingTimeout(Duration.ofSeconds(blockingTimeout));
+    }
+
+    /**
+     * Returns the time to wait for the reply of a blocking command.
+     *
+     * @param blockingTimeout the timeout given to the blocking command, zero to block indefinitely
+     * @return the blocking timeout plus the margin, or null to wait indefinitely
+     */
+    public Duration getBlockingTimeout(Duration blockingTimeout) {
+        if (blockingTimeout.isNegative() || blockingTimeout.isZero()) {
+            return null;
+        }
+        return blockingTimeout.plus(blockingCommandMargin);
+    }
+
+    @Override
+    public long getTimeout(RedisCommand<?, ?, ?> command) {
+        return getTimeout(command.getType()).toNanos();
+    }
+
+    @Override
+    public TimeUnit getTimeUnit() {
+        return TimeUnit.NANOSECONDS;
+    }
+
+    private Duration resolveTimeout(ProtocolKeyword commandType) {
+        String command = commandType.name();
+        Duration timeout = commandTimeouts.get(command);
+        if (timeout != null) {
+            return timeout;
+        } else if (BLOCKING_COMMANDS.contains(command)) {
+            return Duration.ZERO;
+        }
+        return ReadOnlyCommands.isReadOnlyCommand(commandType) ? readTimeout : writeTimeout;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.config.HedgedReadConfig;
+import io.lettuce.core.ExceptionFactory;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.internal.Exceptions;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Hedges read-only commands which are slow to complete, by sending the same command to another node over a dedicated
+ * connection and taking the first successful reply.
+ * <p>
+ * A read is hedged once it has not completed within the hedge delay, which is either fixed, or the configured
+ * percentile of the latencies of the recent reads. The ratio of the reads which are hedged is bounded by a budget,
+ * which is earned by every read, so that a node which is slow for all reads does not double the load on the others.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @since 3.4.0
+ */
+public class HedgedReads<K, V> {
+
+    private static final int LATENCY_SAMPLES = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 100;
+    private static final int DELAY_UPDATE_INTERVAL = 100;
+    private static final long HEDGE_COST = 1000;
+    private static final long MAX_HEDGE_BURST = 10;
+
+    private final StatefulConnection<K, V> connection;
+    private final RedisClusterAsyncCommands<K, V> commands;
+    private final long fixedDelayNanos;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long creditPerRead;
+    private final AtomicLong credits = new AtomicLong(HEDGE_COST * MAX_HEDGE_BURST);
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_SAMPLES);
+    private final AtomicLong latencyCount = new AtomicLong();
+    // notified of the hedged reads, and of those answered first by the hedge, such as to count them as metrics
+    private volatile Runnable hedgeListener = () -> { };
+    private volatile Runnable hedgeWinListener = () -> { };
+    // no read is hedged until enough latencies are observed to derive the delay
+    private volatile long delayNanos = Long.MAX_VALUE;
+
+    HedgedReads(HedgedReadConfig config, StatefulConnection<K, V> connection,
+                RedisClusterAsyncCommands<K, V> commands) {
+        this.connection = connection;
+        this.commands = commands;
+        this.fixedDelayNanos = config.delay() != null ? config.delay().toNanos() : -1;
+        this.percentile = config.percentile();
+        this.minDelayNanos = config.minDelay().toNanos();
+        this.creditPerRead = Math.round(config.maxHedgeRatio() * HEDGE_COST);
+    }
+
+    /**
+     * Waits for a read-only command to complete, and hedges it if it does not complete within the hedge delay.
+     *
+     * @param future         the future returned by the read-only command
+     * @param hedgedCommand  sends the same command on the given command interface
+     * @param timeoutNanos   time to wait for the command in nanoseconds, including the hedge delay
+     * @param <T>            type of the command result
+     * @return the first successful result of the command or of its hedge
+     */
+    <T> T await(RedisFuture<T> future, Function<RedisClusterAsyncCommands<?, ?>, RedisFuture<T>> hedgedCommand,
+                long timeoutNanos) {
+        long startTime = System.nanoTime();
+        addCredit();
+        if (fixedDelayNanos < 0) {
+            future.thenRun(() -> recordLatency(System.nanoTime() - startTime));
+        }
+        long hedgeDelayNanos = fixedDelayNanos >= 0 ? fixedDelayNanos : delayNanos;
+        if (hedgeDelayNanos >= timeoutNanos) {
+            return LettuceFutures.awaitOrCancel(future, timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        try {
+            return future.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // the read is hedged below
+        } catch (ExecutionException e) {
+            throw Exceptions.bubble(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        }
+
+        long remainingNanos = timeoutNanos - (System.nanoTime() - startTime);
+        if (!tryAcquireHedge()) {
+            return LettuceFutures.awaitOrCancel(future, remainingNanos, TimeUnit.NANOSECONDS);
+        }
+        RedisFuture<T> hedgedFuture;
+        try {
+            hedgedFuture = hedgedCommand.apply(commands);
+        } catch (RuntimeException e) {
+            // a hedge which cannot be sent, such as when no node matches the read policy, leaves the read as it is
+            return LettuceFutures.awaitOrCancel(future, remainingNanos, TimeUnit.NANOSECONDS);
+        }
+        hedgeListener.run();
+        CompletableFuture<T> firstSuccess = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        future.whenComplete((result, error) -> complete(firstSuccess, pending, result, error));
+        hedgedFuture.whenComplete((result, error) -> {
+            if (error == null && firstSuccess.complete(result)) {
+                hedgeWinListener.run();
+            } else {
+                complete(firstSuccess, pending, result, error);
+            }
+        });
+        try {
+            return firstSuccess.get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            hedgedFuture.cancel(true);
+            throw ExceptionFactory.createTimeoutException(Duration.ofNanos(timeoutNanos));
+        } catch (ExecutionException e) {
+            throw Exceptions.bubble(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        }
+    }
+
+    /**
+     * Sets the listeners notified when a read is hedged, and when a hedged read is answered first by the hedge.
+     *
+     * @param hedgeListener    notified when a read is hedged
+     * @param hedgeWinListener notified when a hedged read is answered first by the hedge
+     */
+    public void setListeners(Runnable hedgeListener, Runnable hedgeWinListener) {
+        this.hedgeListener = hedgeListener;
+        this.hedgeWinListener = hedgeWinListener;
+    }
+
+    void close() {
+        connection.close();
+    }
+
+    private static <T> void complete(CompletableFuture<T> firstSuccess, AtomicInteger pending, T result,
+                                     Throwable error) {
+        if (error == null) {
+            firstSuccess.complete(result);
+        } else if (pending.decrementAndGet() == 0) {
+            // the error of the command which failed last is reported when neither of them succeeds
+            firstSuccess.completeExceptionally(error);
+        }
+    }
+
+    private void addCredit() {
+        credits.accumulateAndGet(creditPerRead, (current, credit) ->
+                Math.min(current + credit, HEDGE_COST * MAX_HEDGE_BURST));
+    }
+
+    private boolean tryAcquireHedge() {
+        long current = credits.get();
+        while (current >= HEDGE_COST) {
+            if (credits.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+            current = credits.get();
+        }
+        return false;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        long count = latencyCount.getAndIncrement();
+        latencies.set((int) (count % LATENCY_SAMPLES), latencyNanos);
+        if (count + 1 >= MIN_LATENCY_SAMPLES && (count + 1) % DELAY_UPDATE_INTERVAL == 0) {
+            updateDelay((int) Math.min(count + 1, LATENCY_SAMPLES));
+        }
+    }
+
+    private void updateDelay(int sampleCount) {
+        long[] samples = new long[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            samples[i] = latencies.get(i);
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.min(sampleCount - 1, Math.max(0, Math.ceil(percentile * sampleCount) - 1));
+        delayNanos = Math.max(minDelayNanos, samples[index]);
+    }
+}
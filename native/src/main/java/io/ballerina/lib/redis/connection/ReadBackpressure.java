@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.lettuce.core.resource.NettyCustomizer;
+import io.netty.channel.Channel;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pauses reading from the connections of a client, so that the server buffers the data sent to the client while the
+ * client cannot keep up with it. Reads are paused by turning off the auto-read of the Netty channels, which stops the
+ * event loop from reading them instead of blocking it, so that the other connections served by the same event loop are
+ * not affected.
+ * <p>
+ * Reads may be paused by several owners at once, such as the dispatchers of the services of a listener, and are
+ * resumed once all of them have resumed them. Data already read when the reads are paused is still delivered, and the
+ * replies of the commands sent on the connections are not read either until the reads are resumed.
+ *
+ * @since 3.4.0
+ */
+public class ReadBackpressure implements NettyCustomizer {
+
+    private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+    private final Set<Object> pausingOwners = new HashSet<>();
+
+    @Override
+    public void afterChannelInitialized(Channel channel) {
+        channels.add(channel);
+        channel.closeFuture().addListener(future -> channels.remove(channel));
+    }
+
+    /**
+     * Pauses reading from the connections, until the reads are resumed by the given owner and all the other owners
+     * which paused them.
+     *
+     * @param owner the owner pausing the reads
+     */
+    public synchronized void pause(Object owner) {
+        pausingOwners.add(owner);
+        // applied to all the channels on every call, as a channel opened by a reconnect is read until it is paused
+        setAutoRead(false);
+    }
+
+    /**
+     * Resumes reading from the connections, if no other owner keeps them paused.
+     *
+     * @param owner the owner which paused the reads
+     */
+    public synchronized void resume(Object owner) {
+        if (pausingOwners.remove(owner) && pausingOwners.isEmpty()) {
+            setAutoRead(true);
+        }
+    }
+
+    private void setAutoRead(boolean autoRead) {
+        for (Channel channel : channels) {
+            channel.config().setAutoRead(autoRead);
+        }
+    }
+}
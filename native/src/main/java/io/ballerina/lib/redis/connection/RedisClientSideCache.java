@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.cache.NearCache;
+import io.ballerina.lib.redis.config.ClientSideCacheConfig;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.RedisCodec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side cache of string and hash values, which is kept consistent through server-assisted invalidation.
+ * <p>
+ * Cached reads are sent on a dedicated connection with {@code CLIENT TRACKING} enabled, so that the server pushes an
+ * {@code invalidate} message on the same connection whenever a key read through it is modified. As the message arrives
+ * asynchronously, the keys modified through the same client are also evicted by the client itself, so that a read which
+ * follows a write of the client observes the write. When the dedicated connection is lost the cache is cleared, and
+ * tracking is enabled again before the next read.
+ *
+ * @param <K> Type of the Key
+ * @param <V> Type of the Value
+ * @since 3.4.0
+ */
+@SuppressWarnings("unchecked")
+public class RedisClientSideCache<K, V> {
+
+    private static final String INVALIDATE_MESSAGE_TYPE = "invalidate";
+
+    private final RedisConnectionManager<K, V> connManager;
+    private final RedisClient redisClient;
+    private final RedisCodec<K, V> codec;
+    private final NearCache<K> nearCache;
+    private final StatefulRedisConnection<K, V> connection;
+    private final RedisConnectionStateListener connectionStateListener;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    // the CLIENT TRACKING command sent on the current connection, or null if tracking has to be enabled
+    private volatile RedisFuture<String> trackingCommand;
+
+    RedisClientSideCache(RedisConnectionManager<K, V> connManager, RedisClient redisClient, RedisCodec<K, V> codec,
+                         ClientSideCacheConfig config) throws RedisConnectorException {
+        this.connManager = connManager;
+        this.redisClient = redisClient;
+        this.codec = codec;
+        this.nearCache = new NearCache<>(config.maxEntries(), config.maxMemory(), config.evictionPolicy());
+        try {
+            this.connection = redisClient.connect(codec);
+        } catch (RedisException e) {
+            throw new RedisConnectorException("Error occurred while opening the client-side caching connection: %s"
+                    .formatted(e.getMessage()), e);
+        }
+        this.connection.addListener(this::onPushMessage);
+        this.connectionStateListener = new RedisConnectionStateListener() {
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> disconnected) {
+                if (disconnected == connection) {
+                    // invalidations sent while disconnected are lost, and tracking does not survive a reconnect
+                    resetTracking();
+                }
+            }
+        };
+        redisClient.addListener(connectionStateListener);
+        try {
+            getTrackedCommands();
+        } catch (RedisException e) {
+            close();
+            throw new RedisConnectorException("Error occurred while enabling client tracking: %s"
+                    .formatted(e.getMessage()), e);
+        }
+    }
+
+    public V get(K key) throws RedisConnectorException {
+        Object cached = nearCache.get(key);
+        if (cached instanceof StringValue<?> stringValue) {
+            hitCount.increment();
+            return (V) stringValue.value();
+        }
+        missCount.increment();
+
+        long token = nearCache.reserve(key);
+        try {
+            V value = connManager.await(getTrackedCommands().get(key));
+            nearCache.put(key, token, new StringValue<>(value), NearCache.estimateSize(value));
+            return value;
+        } finally {
+            nearCache.cancel(key, token);
+        }
+    }
+
+    public V hget(K key, K field) throws RedisConnectorException {
+        Object cached = nearCache.get(key);
+        if (cached instanceof HashValue<?, ?> hashValue
+                && (hashValue.complete() || hashValue.fields().containsKey(field))) {
+            hitCount.increment();
+            return (V) hashValue.fields().get(field);
+        }
+        missCount.increment();
+
+        long token = nearCache.reserve(key);
+        try {
+            V value = connManager.await(getTrackedCommands().hget(key, field));
+            // fields cached by earlier reads of the same hash are kept, as long as they were not invalidated
+            Map<K, V> fields = new HashMap<>();
+            if (nearCache.get(key) instanceof HashValue<?, ?> current) {
+                fields.putAll((Map<K, V>) current.fields());
+            }
+            fields.put(field, value);
+            nearCache.put(key, token, new HashValue<>(fields, false), estimateSize(fields));
+            return value;
+        } finally {
+            nearCache.cancel(key, token);
+        }
+    }
+
+    public Map<K, V> hgetall(K key) throws RedisConnectorException {
+        Object cached = nearCache.get(key);
+        if (cached instanceof HashValue<?, ?> hashValue && hashValue.complete()) {
+            hitCount.increment();
+            return (Map<K, V>) hashValue.fields();
+        }
+        missCount.increment();
+
+        long token = nearCache.reserve(key);
+        try {
+            Map<K, V> fields = connManager.await(getTrackedCommands().hgetall(key));
+            nearCache.put(key, token, new HashValue<>(Map.copyOf(fields), true), estimateSize(fields));
+            return fields;
+        } finally {
+            nearCache.cancel(key, token);
+        }
+    }
+
+    /**
+     * Evicts keys which are modified by the client.
+     *
+     * @param keys the modified keys
+     */
+    public void evict(Object... keys) {
+        for (Object key : keys) {
+            nearCache.invalidate((K) key);
+        }
+    }
+
+    /**
+     * Evicts all the keys, when the keys of a database are removed by the client.
+     */
+    public void clear() {
+        nearCache.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public NearCache<K> getNearCache() {
+        return nearCache;
+    }
+
+    public void close() {
+        redisClient.removeListener(connectionStateListener);
+        nearCache.clear();
+        connection.close();
+    }
+
+    private RedisAsyncCommands<K, V> getTrackedCommands() throws RedisConnectorException {
+        // the tracking connection is not pooled, but is still subject to the circuit breaker of the client
+        connManager.checkCircuit();
+        RedisFuture<String> command = trackingCommand;
+        if (command == null) {
+            command = enableTracking();
+        }
+        // the reads are queued after the tracking command on the same connection, so they are tracked even before it
+        // completes, but a failure to enable tracking must not go unnoticed
+        if (!command.isDone() || command.toCompletableFuture().isCompletedExceptionally()) {
+            try {
+                connManager.await(command);
+            } catch (RuntimeException e) {
+                resetTracking(command);
+                throw e;
+            }
+        }
+        return connection.async();
+    }
+
+    /**
+     * Sends the tracking command, if no other read has sent it yet. Only sending the command is guarded, while it is
+     * awaited outside of the lock, so that a slow server does not hold a lock which the other reads wait for.
+     */
+    private synchronized RedisFuture<String> enableTracking() {
+        if (trackingCommand == null) {
+            nearCache.clear();
+            trackingCommand = connection.async().clientTracking(TrackingArgs.Builder.enabled());
+        }
+        return trackingCommand;
+    }
+
+    private synchronized void resetTracking(RedisFuture<String> command) {
+        if (trackingCommand == command) {
+            trackingCommand = null;
+        }
+    }
+
+    private synchronized void resetTracking() {
+        trackingCommand = null;
+        nearCache.clear();
+    }
+
+    private void onPushMessage(PushMessage message) {
+        if (!INVALIDATE_MESSAGE_TYPE.equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(codec::decodeKey);
+        // a null key list is sent when the server database is flushed
+        if (content.size() < 2 || !(content.get(1) instanceof List<?> keys)) {
+            nearCache.clear();
+            return;
+        }
+        for (Object key : keys) {
+            nearCache.invalidate((K) key);
+        }
+    }
+
+    private static long estimateSize(Map<?, ?> fields) {
+        long size = 0;
+        for (Map.Entry<?, ?> entry : fields.entrySet()) {
+            size += NearCache.estimateSize(entry.getKey()) + NearCache.estimateSize(entry.getValue());
+        }
+        return size;
+    }
+
+    private record StringValue<V>(V value) {
+    }
+
+    private record HashValue<K, V>(Map<K, V> fields, boolean complete) {
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.config.ClusterConfig;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.protocol.CommandType;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
+
+/**
+ * Executes multi-key commands on a Redis Cluster by splitting the keys by hash slot.
+ * <p>
+ * Redis rejects a multi-key command whose keys map to different slots, even when those slots are served by the same
+ * node. The keys are therefore grouped by the node which owns their slot according to the partitions of the
+ * connection, and the keys of each slot of a node are sent as separate commands of at most
+ * {@link ClusterConfig#multiKeyBatchSize()} keys. The commands of a node are dispatched without waiting for one
+ * another, with at most {@link ClusterConfig#maxConcurrentBatches()} of them awaiting a reply at a time, so that all
+ * the nodes are sent their commands concurrently and a node which owns many slots does not hold back the others.
+ * <p>
+ * The whole operation is bounded by the timeout of the command, after which the commands awaiting a reply are cancelled
+ * and the remaining ones are not sent. When some of the commands fail, the others still complete, so that the reported
+ * error lists all the failed nodes along with the number of keys affected on each. No result is returned in that case,
+ * so the replies of the successful commands are discarded, while the keys set by their {@code MSET} stay set.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings("unchecked")
+class RedisClusterBatchExecutor {
+
+    private static final int DEFAULT_MULTI_KEY_BATCH_SIZE = 500;
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 64;
+
+    private final RedisConnectionManager<?, ?> connManager;
+    private final int batchSize;
+    private final int maxConcurrentBatches;
+
+    RedisClusterBatchExecutor(RedisConnectionManager<?, ?> connManager) {
+        this.connManager = connManager;
+        ClusterConfig clusterConfig = connManager.getClusterConfig();
+        if (clusterConfig != null) {
+            this.batchSize = clusterConfig.multiKeyBatchSize() > 0 ? clusterConfig.multiKeyBatchSize()
+                    : DEFAULT_MULTI_KEY_BATCH_SIZE;
+            this.maxConcurrentBatches = clusterConfig.maxConcurrentBatches();
+        } else {
+            this.batchSize = DEFAULT_MULTI_KEY_BATCH_SIZE;
+            this.maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
+        }
+    }
+
+    <K> List<KeyValue<K, String>> mGet(RedisAdvancedClusterAsyncCommands<K, String> commands, List<K> keys)
+            throws RedisConnectorException {
+        KeyValue<K, String>[] values = new KeyValue[keys.size()];
+        execute(CommandType.MGET, commands, keys, batchKeys -> commands.mget(batchKeys.toArray((K[]) new Object[0])),
+                (batch, reply) -> {
+                    List<KeyValue<K, String>> batchValues = (List<KeyValue<K, String>>) reply;
+                    for (int i = 0; i < batch.indices().length; i++) {
+                        values[batch.indices()[i]] = batchValues.get(i);
+                    }
+                });
+        return Arrays.asList(values);
+    }
+
+    <K, V> String mSet(RedisAdvancedClusterAsyncCommands<K, V> commands, Map<K, V> map)
+            throws RedisConnectorException {
+        execute(CommandType.MSET, commands, new ArrayList<>(map.keySet()), batchKeys -> {
+            Map<K, V> batchMap = new LinkedHashMap<>();
+            for (K key : batchKeys) {
+                batchMap.put(key, map.get(key));
+            }
+            return commands.mset(batchMap);
+        }, (batch, reply) -> { });
+        return "OK";
+    }
+
+    private <K> void execute(CommandType commandType, RedisAdvancedClusterAsyncCommands<K, ?> commands, List<K> keys,
+                             Function<List<K>, RedisFuture<?>> dispatcher, BiConsumer<Batch, Object> collector)
+            throws RedisConnectorException {
+        Collection<NodeBatches> nodes = createBatches(commands, keys);
+        Duration timeout = connManager.getCommandTimeout(commandType);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, NodeFailure> failures = new LinkedHashMap<>();
+        boolean remaining = true;
+        while (remaining) {
+            for (NodeBatches node : nodes) {
+                dispatchWindow(node, keys, dispatcher);
+            }
+            remaining = false;
+            for (NodeBatches node : nodes) {
+                PendingBatch pendingBatch = node.pending().poll();
+                if (pendingBatch != null && !complete(pendingBatch, collector, failures, deadline)) {
+                    nodes.forEach(NodeBatches::cancel);
+                    throw new RedisConnectorException("%s timed out after %d ms before all the nodes replied"
+                            .formatted(commandType.name(), timeout.toMillis()));
+                }
+                remaining |= !node.pending().isEmpty() || !node.queued().isEmpty();
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            int failedKeys = failures.values().stream().mapToInt(NodeFailure::keyCount).sum();
+            StringJoiner nodeErrors = new StringJoiner("; ");
+            failures.forEach((node, failure) -> nodeErrors.add("%s (%d keys): %s"
+                    .formatted(node, failure.keyCount(), failure.message())));
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + "%s failed for %d of %d keys on %d node(s): %s"
+                    .formatted(commandType.name(), failedKeys, keys.size(), failures.size(), nodeErrors));
+        }
+    }
+
+    private <K> void dispatchWindow(NodeBatches node, List<K> keys, Function<List<K>, RedisFuture<?>> dispatcher) {
+        while (!node.queued().isEmpty()
+                && (maxConcurrentBatches <= 0 || node.pending().size() < maxConcurrentBatches)) {
+            Batch batch = node.queued().poll();
+            List<K> batchKeys = new ArrayList<>(batch.indices().length);
+            for (int index : batch.indices()) {
+                batchKeys.add(keys.get(index));
+            }
+            node.pending().add(new PendingBatch(batch, dispatcher.apply(batchKeys)));
+        }
+    }
+
+    /**
+     * Waits for the reply of a batch within what is left of the time of the operation.
+     *
+     * @return false if the operation timed out before the reply was received
+     */
+    private boolean complete(PendingBatch pendingBatch, BiConsumer<Batch, Object> collector,
+                             Map<String, NodeFailure> failures, long deadline) {
+        Batch batch = pendingBatch.batch();
+        try {
+            Duration remainingTime = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+            collector.accept(batch, connManager.await(pendingBatch.reply(), remainingTime));
+            return true;
+        } catch (RedisCommandTimeoutException e) {
+            return false;
+        } catch (RedisException e) {
+            // only the first error of a node is reported, along with the total number of keys which failed on it
+            failures.merge(batch.node(), new NodeFailure(batch.indices().length, e.getMessage()),
+                    (previous, current) -> new NodeFailure(previous.keyCount() + current.keyCount(),
+                            previous.message()));
+            return true;
+        }
+    }
+
+    private <K> Collection<NodeBatches> createBatches(RedisAdvancedClusterAsyncCommands<K, ?> commands,
+                                                      List<K> keys) {
+        RedisCodec<K, ?> codec = (RedisCodec<K, ?>) connManager.getCodec();
+        Partitions partitions = commands.getStatefulConnection().getPartitions();
+        // the keys of a node are grouped by slot, as the keys of different slots cannot be sent in a single command
+        Map<String, Map<Integer, List<Integer>>> indicesByNode = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            int slot = SlotHash.getSlot(codec.encodeKey(keys.get(i)));
+            indicesByNode.computeIfAbsent(getNodeName(partitions, slot), node -> new LinkedHashMap<>())
+                    .computeIfAbsent(slot, s -> new ArrayList<>()).add(i);
+        }
+
+        List<NodeBatches> nodes = new ArrayList<>(indicesByNode.size());
+        for (Map.Entry<String, Map<Integer, List<Integer>>> nodeEntry : indicesByNode.entrySet()) {
+            NodeBatches node = new NodeBatches(new ArrayDeque<>(), new ArrayDeque<>());
+            for (List<Integer> indices : nodeEntry.getValue().values()) {
+                for (int from = 0; from < indices.size(); from += batchSize) {
+                    List<Integer> batchIndices = indices.subList(from, Math.min(from + batchSize, indices.size()));
+                    node.queued().add(new Batch(nodeEntry.getKey(),
+                            batchIndices.stream().mapToInt(Integer::intValue).toArray()));
+                }
+            }
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    private static String getNodeName(Partitions partitions, int slot) {
+        RedisClusterNode node = partitions.getPartitionBySlot(slot);
+        if (node == null || node.getUri() == null) {
+            return "slot " + slot;
+        }
+        return node.getUri().getHost() + ":" + node.getUri().getPort();
+    }
+
+    private record Batch(String node, int[] indices) {
+    }
+
+    private record PendingBatch(Batch batch, RedisFuture<?> reply) {
+    }
+
+    /**
+     * The batches of a node which are yet to be sent, and those awaiting a reply.
+     */
+    private record NodeBatches(Deque<Batch> queued, Deque<PendingBatch> pending) {
+
+        private void cancel() {
+            queued.clear();
+            pending.forEach(pendingBatch -> pendingBatch.reply().cancel(true));
+            pending.clear();
+        }
+    }
+
+    private record NodeFailure(int keyCount, String message) {
+    }
+}
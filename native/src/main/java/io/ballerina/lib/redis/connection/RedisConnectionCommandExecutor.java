@@ -22,11 +22,12 @@ import io.ballerina.lib.redis.exceptions.RedisConnectorException;
 import io.ballerina.lib.redis.utils.ConversionUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.lettuce.core.RedisException;
-import io.lettuce.core.api.sync.BaseRedisCommands;
-import io.lettuce.core.api.sync.RedisCommands;
-import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
-import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.api.async.BaseRedisAsyncCommands;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 
+import static io.ballerina.lib.redis.utils.Constants.ARGUMENTS_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
 
@@ -45,15 +46,16 @@ public class RedisConnectionCommandExecutor {
     }
 
     public String auth(String password) throws RedisConnectorException {
-        RedisClusterCommands<?, String> clusterCommands = null;
-        RedisCommands<?, String> redisCommands = null;
+        RedisClusterAsyncCommands<?, String> clusterCommands = null;
+        RedisAsyncCommands<?, String> redisCommands = null;
         try {
             if (connManager.isClusterConnection()) {
-                clusterCommands = (RedisAdvancedClusterCommands<?, String>) connManager.getRedisClusterCommands();
-                return clusterCommands.auth(password);
+                clusterCommands = (RedisAdvancedClusterAsyncCommands<?, String>)
+                        connManager.getRedisClusterAsyncCommands();
+                return connManager.await(clusterCommands.auth(password));
             } else {
-                redisCommands = (RedisCommands<?, String>) connManager.getRedisCommands();
-                return redisCommands.auth(password);
+                redisCommands = (RedisAsyncCommands<?, String>) connManager.getRedisAsyncCommands();
+                return connManager.await(redisCommands.auth(password));
             }
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Password " + MUST_NOT_BE_NULL, e);
@@ -66,15 +68,16 @@ public class RedisConnectionCommandExecutor {
     }
 
     public String flushAll() throws RedisConnectorException {
-        RedisClusterCommands<?, String> clusterCommands = null;
-        RedisCommands<?, String> redisCommands = null;
+        RedisClusterAsyncCommands<?, String> clusterCommands = null;
+        RedisAsyncCommands<?, String> redisCommands = null;
         try {
             if (connManager.isClusterConnection()) {
-                clusterCommands = (RedisAdvancedClusterCommands<?, String>) connManager.getRedisClusterCommands();
-                return clusterCommands.flushall();
+                clusterCommands = (RedisAdvancedClusterAsyncCommands<?, String>)
+                        connManager.getRedisClusterAsyncCommands();
+                return connManager.await(clusterCommands.flushall());
             } else {
-                redisCommands = (RedisCommands<?, String>) connManager.getRedisCommands();
-                return redisCommands.flushall();
+                redisCommands = (RedisAsyncCommands<?, String>) connManager.getRedisAsyncCommands();
+                return connManager.awaitFlush(redisCommands, commands -> commands.flushall());
             }
         } catch (RedisException e) {
             throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
@@ -85,15 +88,16 @@ public class RedisConnectionCommandExecutor {
     }
 
     public String flushDb() throws RedisConnectorException {
-        RedisClusterCommands<?, String> clusterCommands = null;
-        RedisCommands<?, String> redisCommands = null;
+        RedisClusterAsyncCommands<?, String> clusterCommands = null;
+        RedisAsyncCommands<?, String> redisCommands = null;
         try {
             if (connManager.isClusterConnection()) {
-                clusterCommands = (RedisAdvancedClusterCommands<?, String>) connManager.getRedisClusterCommands();
-                return clusterCommands.flushdb();
+                clusterCommands = (RedisAdvancedClusterAsyncCommands<?, String>)
+                        connManager.getRedisClusterAsyncCommands();
+                return connManager.await(clusterCommands.flushdb());
             } else {
-                redisCommands = (RedisCommands<?, String>) connManager.getRedisCommands();
-                return redisCommands.flushdb();
+                redisCommands = (RedisAsyncCommands<?, String>) connManager.getRedisAsyncCommands();
+                return connManager.awaitFlush(redisCommands, commands -> commands.flushdb());
             }
         } catch (RedisException e) {
             throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
@@ -104,10 +108,34 @@ public class RedisConnectionCommandExecutor {
     }
 
     public <K> String echo(String message) throws RedisConnectorException {
-        BaseRedisCommands<K, String> redisCommands = null;
+        BaseRedisAsyncCommands<K, String> redisCommands = null;
         try {
-            redisCommands = (BaseRedisCommands<K, String>) connManager.getConnectionCommandConnection();
-            return redisCommands.echo(message);
+            redisCommands = (BaseRedisAsyncCommands<K, String>) connManager.getConnectionCommandConnection();
+            return connManager.await(redisCommands.echo(message));
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(redisCommands);
+        }
+    }
+
+    /**
+     * Publishes a message to a channel, or to a shard channel which is delivered only within the shard of the channel
+     * in cluster mode.
+     *
+     * @param channel the channel
+     * @param message the message
+     * @param sharded whether the channel is a shard channel
+     * @return the number of subscribers which received the message
+     */
+    public <K> long publish(K channel, String message, boolean sharded) throws RedisConnectorException {
+        BaseRedisAsyncCommands<K, String> redisCommands = null;
+        try {
+            redisCommands = (BaseRedisAsyncCommands<K, String>) connManager.getConnectionCommandConnection();
+            return connManager.await(sharded ? redisCommands.spublish(channel, message)
+                    : redisCommands.publish(channel, message));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
             throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
         } finally {
@@ -116,10 +144,10 @@ public class RedisConnectionCommandExecutor {
     }
 
     public <K> String ping() throws RedisConnectorException {
-        BaseRedisCommands<K, String> redisCommands = null;
+        BaseRedisAsyncCommands<K, String> redisCommands = null;
         try {
-            redisCommands = (BaseRedisCommands<K, String>) connManager.getConnectionCommandConnection();
-            return redisCommands.ping();
+            redisCommands = (BaseRedisAsyncCommands<K, String>) connManager.getConnectionCommandConnection();
+            return connManager.await(redisCommands.ping());
         } catch (RedisException e) {
             throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
         } finally {
@@ -128,12 +156,20 @@ public class RedisConnectionCommandExecutor {
     }
 
     public void close() throws RedisConnectorException {
-        if (connManager.isPoolingEnabled()) {
-            connManager.closeConnectionPool();
-        } else if (connManager.isClusterConnection()) {
-            connManager.getRedisClusterCommands().quit();
-        } else {
-            connManager.getRedisCommands().quit();
+        connManager.closeClientSideCache();
+        try {
+            if (connManager.isPoolingEnabled()) {
+                connManager.closeConnectionPool();
+            } else if (connManager.isCircuitOpen()) {
+                // the server is considered unavailable, so the connection is closed by the shutdown without a QUIT
+                return;
+            } else if (connManager.isClusterConnection()) {
+                connManager.await(connManager.getRedisClusterAsyncCommands().quit());
+            } else {
+                connManager.await(connManager.getRedisAsyncCommands().quit());
+            }
+        } finally {
+            connManager.shutdown();
         }
     }
 
@@ -142,10 +178,10 @@ public class RedisConnectionCommandExecutor {
             throw new RedisConnectorException("Cannot execute cluster info command on a non-cluster connection");
         }
 
-        RedisClusterCommands<?, String> clusterCommands = null;
+        RedisClusterAsyncCommands<?, String> clusterCommands = null;
         try {
-            clusterCommands = (RedisAdvancedClusterCommands<?, String>) connManager.getRedisClusterCommands();
-            String clusterInfo = clusterCommands.clusterInfo();
+            clusterCommands = (RedisAdvancedClusterAsyncCommands<?, String>) connManager.getRedisClusterAsyncCommands();
+            String clusterInfo = connManager.await(clusterCommands.clusterInfo());
             String[] infoArray = clusterInfo.split(CLUSTER_INFO_SEPARATOR);
             return ConversionUtils.createBStringArrayFromJArray(infoArray);
         } catch (RedisException e) {
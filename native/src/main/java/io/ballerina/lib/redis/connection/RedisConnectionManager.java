@@ -19,43 +19,86 @@
 package io.ballerina.lib.redis.connection;
 
 import io.ballerina.lib.redis.config.CertKey;
+import io.ballerina.lib.redis.config.CircuitBreakerConfig;
+import io.ballerina.lib.redis.config.ClusterConfig;
 import io.ballerina.lib.redis.config.ConnectionConfig;
 import io.ballerina.lib.redis.config.ConnectionParams;
 import io.ballerina.lib.redis.config.ConnectionURI;
+import io.ballerina.lib.redis.config.HedgedReadConfig;
 import io.ballerina.lib.redis.config.KeepAliveConfig;
 import io.ballerina.lib.redis.config.KeyStore;
 import io.ballerina.lib.redis.config.Options;
+import io.ballerina.lib.redis.config.PoolConfig;
 import io.ballerina.lib.redis.config.SecureSocket;
+import io.ballerina.lib.redis.config.SentinelNode;
+import io.ballerina.lib.redis.config.SentinelParams;
+import io.ballerina.lib.redis.config.TimeoutConfig;
 import io.ballerina.lib.redis.config.TrustStore;
 import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.ballerina.lib.redis.observability.RedisMetrics;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.ProtocolVersion;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.sync.BaseRedisCommands;
-import io.lettuce.core.api.sync.RedisCommands;
-import io.lettuce.core.api.sync.RedisHashCommands;
-import io.lettuce.core.api.sync.RedisKeyCommands;
-import io.lettuce.core.api.sync.RedisListCommands;
-import io.lettuce.core.api.sync.RedisSetCommands;
-import io.lettuce.core.api.sync.RedisSortedSetCommands;
-import io.lettuce.core.api.sync.RedisStringCommands;
+import io.lettuce.core.api.async.BaseRedisAsyncCommands;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.async.RedisFunctionAsyncCommands;
+import io.lettuce.core.api.async.RedisHashAsyncCommands;
+import io.lettuce.core.api.async.RedisKeyAsyncCommands;
+import io.lettuce.core.api.async.RedisListAsyncCommands;
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands;
+import io.lettuce.core.api.async.RedisSetAsyncCommands;
+import io.lettuce.core.api.async.RedisSortedSetAsyncCommands;
+import io.lettuce.core.api.async.RedisStreamAsyncCommands;
+import io.lettuce.core.api.async.RedisStringAsyncCommands;
 import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions.RefreshTrigger;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
-import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.event.DefaultEventBus;
+import io.lettuce.core.masterreplica.MasterReplica;
+import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.NettyCustomizer;
 import io.lettuce.core.support.ConnectionPoolSupport;
+import io.netty.channel.Channel;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -68,12 +111,39 @@ import java.util.function.Supplier;
 public class RedisConnectionManager<K, V> {
 
     // Lettuce connection objects
-    private RedisCommands<K, V> redisCommands;
-    private RedisAdvancedClusterCommands<K, V> redisClusterCommands;
+    private RedisClient redisClient;
+    private RedisClusterClient redisClusterClient;
+    private RedisURI redisURI;
+    private RedisAsyncCommands<K, V> redisCommands;
+    private RedisAdvancedClusterAsyncCommands<K, V> redisClusterCommands;
     private GenericObjectPool<StatefulConnection<K, V>> objectPool;
     private final RedisCodec<K, V> codec;
+    // Codec which keeps the keys of the connection codec, but transfers values as raw bytes
+    private final RedisCodec<K, byte[]> binaryValueCodec;
+    private Duration commandTimeout;
+    private CommandTimeouts commandTimeouts;
     private boolean isClusterConnection;
+    private ClusterConfig clusterConfig;
+    private ReadFrom readFrom;
+    // Opens a new connection, configured according to the connection configurations
+    private Supplier<StatefulConnection<K, V>> connectionSupplier;
     private boolean poolingEnabled;
+    // Long-lived connections over which commands are multiplexed, instead of borrowing a pooled connection per command
+    private final List<StatefulConnection<K, V>> sharedConnections = new ArrayList<>();
+    private final AtomicInteger nextSharedConnection = new AtomicInteger();
+    // Connection on which the pipelines are flushed when pooling is disabled, opened by the first pipeline
+    private StatefulConnection<K, V> pipelineConnection;
+    private final Object pipelineConnectionLock = new Object();
+    private RedisClientSideCache<K, V> clientSideCache;
+    private RedisMetrics metrics;
+    private CircuitBreaker circuitBreaker;
+    private HedgedReads<K, V> hedgedReads;
+    private ReadBackpressure readBackpressure;
+    // Resources shared with the other clients, and the resources created on top of them to observe or pause the
+    // connections of this client
+    private ClientResources sharedResources;
+    private ClientResources observedResources;
+    private final AtomicBoolean shutdown = new AtomicBoolean();
 
     // Command executors
     private RedisConnectionCommandExecutor connectionCommandExecutor;
@@ -83,9 +153,35 @@ public class RedisConnectionManager<K, V> {
     private RedisSetCommandExecutor setCommandExecutor;
     private RedisListCommandsExecutor listCommandsExecutor;
     private RedisSortedSetCommandExecutor sortedSetCommandExecutor;
+    private RedisStreamCommandExecutor streamCommandExecutor;
+    // created eagerly, as it holds the script registry of the client, which must not be split between two executors
+    // created by racing callers
+    private final RedisScriptingCommandExecutor scriptingCommandExecutor = new RedisScriptingCommandExecutor(this);
+    private RedisFunctionCommandExecutor functionCommandExecutor;
 
     public RedisConnectionManager(RedisCodec<K, V> codec) {
         this.codec = codec;
+        this.binaryValueCodec = RedisCodec.of(codec, ByteArrayCodec.INSTANCE);
+    }
+
+    /**
+     * Enables pausing the reads of the connections of the client, which has to be done before the client is
+     * initialized. The listeners pause the reads of their connections while a service cannot keep up with its
+     * messages.
+     *
+     * @return the read backpressure of the connections of the client
+     */
+    public ReadBackpressure enableReadBackpressure() {
+        readBackpressure = new ReadBackpressure();
+        return readBackpressure;
+    }
+
+    public ReadBackpressure getReadBackpressure() {
+        return readBackpressure;
+    }
+
+    public RedisMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -95,14 +191,31 @@ public class RedisConnectionManager<K, V> {
      */
     public void init(ConnectionConfig connectionConfig) throws RedisConnectorException {
         this.isClusterConnection = connectionConfig.isClusterConnection();
+        this.clusterConfig = connectionConfig.clusterConfig();
+        this.readFrom = connectionConfig.readFrom() != null ? connectionConfig.readFrom().getReadFrom() : null;
         this.poolingEnabled = connectionConfig.poolingEnabled();
-        if (isClusterConnection) {
-            setRedisClusterCommands(connectionConfig);
-        } else {
-            setRedisStandaloneCommands(connectionConfig);
+        CircuitBreakerConfig circuitBreakerConfig = connectionConfig.circuitBreaker();
+        if (circuitBreakerConfig != null) {
+            this.circuitBreaker = new CircuitBreaker(circuitBreakerConfig,
+                    () -> probe(circuitBreakerConfig.probeTimeout()));
+        }
+        try {
+            if (isClusterConnection) {
+                setRedisClusterCommands(connectionConfig);
+            } else {
+                setRedisStandaloneCommands(connectionConfig);
+            }
+            if (metrics != null && circuitBreaker != null) {
+                metrics.registerCircuitBreaker(circuitBreaker);
+            }
+            if (metrics != null && hedgedReads != null) {
+                metrics.registerHedgedReads(hedgedReads);
+            }
+        } catch (RedisConnectorException | RuntimeException e) {
+            // the client is never handed out, so its resources have to be released here
+            shutdownAfterFailure(e);
+            throw e;
         }
-
-        // TODO: Add support for executing commands in async mode/ reactive mode?
     }
 
     public RedisConnectionCommandExecutor getConnectionCommandExecutor() {
@@ -154,58 +267,494 @@ public class RedisConnectionManager<K, V> {
         return sortedSetCommandExecutor;
     }
 
-    public BaseRedisCommands<K, V> getConnectionCommandConnection() throws RedisConnectorException {
-        return isClusterConnection() ? getRedisClusterCommands() : getRedisCommands();
+    public RedisStreamCommandExecutor getStreamCommandExecutor() {
+        if (streamCommandExecutor == null) {
+            streamCommandExecutor = new RedisStreamCommandExecutor(this);
+        }
+        return streamCommandExecutor;
     }
 
-    public RedisStringCommands<K, V> getStringCommandConnection() throws RedisConnectorException {
-        return isClusterConnection() ? getRedisClusterCommands() : getRedisCommands();
+    public RedisScriptingCommandExecutor getScriptingCommandExecutor() {
+        return scriptingCommandExecutor;
     }
 
-    public RedisListCommands<K, V> getListCommandConnection() throws RedisConnectorException {
-        return isClusterConnection() ? getRedisClusterCommands() : getRedisCommands();
+    public RedisFunctionCommandExecutor getFunctionCommandExecutor() {
+        if (functionCommandExecutor == null) {
+            functionCommandExecutor = new RedisFunctionCommandExecutor(this);
+        }
+        return functionCommandExecutor;
     }
 
-    public RedisSetCommands<K, V> getSetCommandConnection() throws RedisConnectorException {
-        return isClusterConnection() ? getRedisClusterCommands() : getRedisCommands();
+    public BaseRedisAsyncCommands<K, V> getConnectionCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
     }
 
-    public RedisSortedSetCommands<K, V> getSortedSetCommandConnection() throws RedisConnectorException {
-        return isClusterConnection() ? getRedisClusterCommands() : getRedisCommands();
+    public RedisStringAsyncCommands<K, V> getStringCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
     }
 
-    public RedisHashCommands<K, V> getHashCommandConnection() throws RedisConnectorException {
-        return isClusterConnection() ? getRedisClusterCommands() : getRedisCommands();
+    /**
+     * Returns the list command interface for blocking list commands. When pooling is enabled, a pooled connection is
+     * always borrowed, so that a blocked command never stalls the commands multiplexed over a shared connection.
+     *
+     * @return a {@link RedisListAsyncCommands} instance
+     */
+    public RedisListAsyncCommands<K, V> getBlockingListCommandConnection() throws RedisConnectorException {
+        if (poolingEnabled) {
+            checkCircuit();
+            return getAsyncCommands(getStatefulRedisConnectionFromPool());
+        }
+        return getListCommandConnection();
+    }
+
+    public RedisListAsyncCommands<K, V> getListCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
+    }
+
+    public RedisSetAsyncCommands<K, V> getSetCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
+    }
+
+    public RedisSortedSetAsyncCommands<K, V> getSortedSetCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
+    }
+
+    public RedisHashAsyncCommands<K, V> getHashCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
+    }
+
+    public RedisKeyAsyncCommands<K, V> getKeyCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
+    }
+
+    public RedisStreamAsyncCommands<K, V> getStreamCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
     }
 
-    public RedisKeyCommands<K, V> getKeyCommandConnection() throws RedisConnectorException {
-        return isClusterConnection() ? getRedisClusterCommands() : getRedisCommands();
+    public RedisScriptingAsyncCommands<K, V> getScriptingCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
+    }
+
+    public RedisFunctionAsyncCommands<K, V> getFunctionCommandConnection() throws RedisConnectorException {
+        return isClusterConnection() ? getRedisClusterAsyncCommands() : getRedisAsyncCommands();
     }
 
     /**
-     * Returns {@link RedisCommands}, an interface for Redis commands available on a Redis instance.
+     * Returns the stream command interface for stream reads which block. When pooling is enabled, a pooled connection
+     * is always borrowed, so that a blocked read never stalls the commands multiplexed over a shared connection.
      *
-     * @return a {@link RedisCommands} instance
+     * @return a {@link RedisStreamAsyncCommands} instance
      */
-    public RedisCommands<K, V> getRedisCommands() throws RedisConnectorException {
+    public RedisStreamAsyncCommands<K, V> getBlockingStreamCommandConnection() throws RedisConnectorException {
         if (poolingEnabled) {
-            return ((StatefulRedisConnection<K, V>) getStatefulRedisConnectionFromPool()).sync();
+            checkCircuit();
+            return getAsyncCommands(getStatefulRedisConnectionFromPool());
+        }
+        return getStreamCommandConnection();
+    }
+
+    /**
+     * Returns {@link RedisAsyncCommands}, an interface for asynchronous Redis commands available on a Redis instance.
+     *
+     * @return a {@link RedisAsyncCommands} instance
+     */
+    public RedisAsyncCommands<K, V> getRedisAsyncCommands() throws RedisConnectorException {
+        checkCircuit();
+        return redisAsyncCommands();
+    }
+
+    private RedisAsyncCommands<K, V> redisAsyncCommands() throws RedisConnectorException {
+        if (!sharedConnections.isEmpty()) {
+            return ((StatefulRedisConnection<K, V>) nextSharedConnection()).async();
+        } else if (poolingEnabled) {
+            return ((StatefulRedisConnection<K, V>) getStatefulRedisConnectionFromPool()).async();
         }
         return redisCommands;
     }
 
     /**
-     * Returns {@link RedisAdvancedClusterCommands}, an interface for Redis commands available on a Redis Cluster.
+     * Returns {@link RedisAdvancedClusterAsyncCommands}, an interface for asynchronous Redis commands available on a
+     * Redis Cluster.
      *
-     * @return a {@link RedisAdvancedClusterCommands} instance
+     * @return a {@link RedisAdvancedClusterAsyncCommands} instance
      */
-    public RedisAdvancedClusterCommands<K, V> getRedisClusterCommands() throws RedisConnectorException {
-        if (poolingEnabled) {
-            return ((StatefulRedisClusterConnection<K, V>) getStatefulRedisConnectionFromPool()).sync();
+    public RedisAdvancedClusterAsyncCommands<K, V> getRedisClusterAsyncCommands() throws RedisConnectorException {
+        checkCircuit();
+        return redisClusterAsyncCommands();
+    }
+
+    private RedisAdvancedClusterAsyncCommands<K, V> redisClusterAsyncCommands() throws RedisConnectorException {
+        if (!sharedConnections.isEmpty()) {
+            return ((StatefulRedisClusterConnection<K, V>) nextSharedConnection()).async();
+        } else if (poolingEnabled) {
+            return ((StatefulRedisClusterConnection<K, V>) getStatefulRedisConnectionFromPool()).async();
         }
         return redisClusterCommands;
     }
 
+    /**
+     * Returns a connection on which the commands of a pipeline are flushed at once, which is released through
+     * {@link #releasePipelineConnection(StatefulConnection)}. A pooled connection is borrowed when pooling is enabled.
+     * Otherwise, a connection of the pipelines is opened by the first pipeline and reused by the next ones, so that the
+     * shared connection is never affected by connection level state changes such as disabling auto-flush. As the
+     * pipelines of the client then share the connection, auto-flush must be changed while holding its monitor.
+     *
+     * @return a connection on which the pipelines are flushed
+     * @throws RedisConnectorException if an error occurs while obtaining the connection
+     */
+    public StatefulConnection<K, V> getPipelineConnection() throws RedisConnectorException {
+        checkCircuit();
+        if (poolingEnabled) {
+            return getStatefulRedisConnectionFromPool();
+        }
+        synchronized (pipelineConnectionLock) {
+            if (pipelineConnection == null || !pipelineConnection.isOpen()) {
+                try {
+                    pipelineConnection = connectionSupplier.get();
+                } catch (RedisException e) {
+                    throw new RedisConnectorException("Error occurred while opening the pipeline connection: %s"
+                            .formatted(e.getMessage()), e);
+                }
+            }
+            return pipelineConnection;
+        }
+    }
+
+    /**
+     * Opens a Pub/Sub connection, which is never pooled or shared with the commands, as a subscribed connection only
+     * accepts the subscription commands. The subscriptions are restored by Lettuce when the connection is
+     * re-established. In cluster mode, the messages received by the connections to the individual nodes, over which
+     * the shard channels are subscribed to, are propagated to the listeners of the connection.
+     *
+     * @return a Pub/Sub connection, which is closed by the caller
+     * @throws RedisConnectorException if an error occurs while opening the connection
+     */
+    public StatefulRedisPubSubConnection<K, V> connectPubSub() throws RedisConnectorException {
+        checkCircuit();
+        try {
+            if (isClusterConnection) {
+                StatefulRedisClusterPubSubConnection<K, V> connection = redisClusterClient.connectPubSub(codec);
+                connection.setNodeMessagePropagation(true);
+                return connection;
+            }
+            return redisClient.connectPubSub(codec, redisURI);
+        } catch (RedisException e) {
+            throw new RedisConnectorException("Error occurred while opening the Pub/Sub connection: %s"
+                    .formatted(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Releases a connection obtained through {@link #getPipelineConnection()}. The connection of the pipelines is kept
+     * open for the next pipelines, and is closed when the client is closed.
+     *
+     * @param connection the pipeline connection
+     */
+    public void releasePipelineConnection(StatefulConnection<K, V> connection) {
+        if (Objects.isNull(connection)) {
+            return;
+        }
+        if (poolingEnabled) {
+            objectPool.returnObject(connection);
+        }
+    }
+
+    /**
+     * Returns the asynchronous command interface of a given connection.
+     *
+     * @param connection a stateful connection created by this connection manager
+     * @return a {@link RedisClusterAsyncCommands} instance, which is common to standalone and cluster connections
+     */
+    public RedisClusterAsyncCommands<K, V> getAsyncCommands(StatefulConnection<K, V> connection) {
+        if (isClusterConnection) {
+            return ((StatefulRedisClusterConnection<K, V>) connection).async();
+        }
+        return ((StatefulRedisConnection<K, V>) connection).async();
+    }
+
+    /**
+     * Returns the codec of the connections.
+     *
+     * @return the codec used to encode keys and values
+     */
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the codec used by commands which transfer values as raw bytes. Such commands are dispatched on the same
+     * connections as the other commands, with this codec used to encode the arguments and decode the output.
+     *
+     * @return a codec with the key codec of the connection and a byte array value codec
+     */
+    public RedisCodec<K, byte[]> getBinaryValueCodec() {
+        return binaryValueCodec;
+    }
+
+    /**
+     * Returns the timeout applied when waiting for command results.
+     *
+     * @return the command timeout
+     */
+    public Duration getCommandTimeout() {
+        return commandTimeout;
+    }
+
+    /**
+     * Returns the timeout of the commands of a given type, which is the command timeout of the connection unless a
+     * timeout is configured for the type or for the read-only commands.
+     *
+     * @param commandType the type of the command
+     * @return the timeout of the commands of the type
+     */
+    public Duration getCommandTimeout(ProtocolKeyword commandType) {
+        Duration commandTypeTimeout = commandTimeouts.getTimeout(commandType);
+        // blocking commands have no timeout of their own, and are awaited with their blocking timeout instead
+        return commandTypeTimeout.isZero() ? commandTimeout : commandTypeTimeout;
+    }
+
+    /**
+     * Waits for a dispatched command to complete. Commands are written to the connection without blocking, and only
+     * the calling strand waits on the returned future, bounded by the command timeout of the connection.
+     *
+     * @param future the future returned by an asynchronous command
+     * @param <T>    type of the command result
+     * @return the command result
+     */
+    public <T> T await(RedisFuture<T> future) {
+        return await(future, resolveTimeout(future));
+    }
+
+    /**
+     * Waits for a dispatched read-only command to complete, and sends the same command to another node when it does
+     * not complete within the hedge delay, if hedged reads are enabled. The first successful reply is returned.
+     *
+     * @param future        the future returned by an asynchronous read-only command
+     * @param hedgedCommand sends the same command on the given command interface
+     * @param <T>           type of the command result
+     * @return the command result
+     */
+    public <T> T awaitHedged(RedisFuture<T> future,
+                             Function<RedisClusterAsyncCommands<?, ?>, RedisFuture<T>> hedgedCommand) {
+        if (hedgedReads == null) {
+            return await(future);
+        }
+        long timeoutNanos = resolveTimeout(future).toNanos();
+        return recordOutcome(() -> hedgedReads.await(future, hedgedCommand, timeoutNanos), true);
+    }
+
+    /**
+     * Waits for a dispatched command to complete, bounded by the given timeout.
+     *
+     * @param future  the future returned by an asynchronous command
+     * @param timeout the time to wait for the command, or null to wait indefinitely
+     * @param <T>     type of the command result
+     * @return the command result
+     */
+    public <T> T await(RedisFuture<T> future, Duration timeout) {
+        return await(future, timeout, true);
+    }
+
+    /**
+     * Waits for a blocking command to complete, bounded by its own blocking timeout plus the configured margin.
+     *
+     * @param future          the future returned by an asynchronous blocking command
+     * @param blockingTimeout the timeout in seconds given to the blocking command, zero to block indefinitely
+     * @param <T>             type of the command result
+     * @return the command result
+     */
+    public <T> T awaitBlocking(RedisFuture<T> future, long blockingTimeout) {
+        return awaitBlocking(future, Duration.ofSeconds(blockingTimeout));
+    }
+
+    /**
+     * Waits for a blocking command to complete, bounded by its own blocking timeout plus the configured margin.
+     *
+     * @param future          the future returned by an asynchronous blocking command
+     * @param blockingTimeout the timeout given to the blocking command, zero to block indefinitely
+     * @param <T>             type of the command result
+     * @return the command result
+     */
+    public <T> T awaitBlocking(RedisFuture<T> future, Duration blockingTimeout) {
+        // a blocking command is expected to take long, so its duration is not counted as a slow call
+        return await(future, commandTimeouts.getBlockingTimeout(blockingTimeout), false);
+    }
+
+    private <T> T await(RedisFuture<T> future, Duration timeout, boolean countSlowCall) {
+        long timeoutNanos = timeout != null ? timeout.toNanos() : Long.MAX_VALUE;
+        if (circuitBreaker == null) {
+            return LettuceFutures.awaitOrCancel(future, timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        return recordOutcome(() -> LettuceFutures.awaitOrCancel(future, timeoutNanos, TimeUnit.NANOSECONDS),
+                countSlowCall);
+    }
+
+    private Duration resolveTimeout(RedisFuture<?> future) {
+        if (future instanceof RedisCommand<?, ?, ?> command) {
+            return getCommandTimeout(command.getType());
+        }
+        return commandTimeout;
+    }
+
+    private <T> T recordOutcome(Supplier<T> awaiter, boolean countSlowCall) {
+        if (circuitBreaker == null) {
+            return awaiter.get();
+        }
+        long startTime = System.nanoTime();
+        try {
+            T result = awaiter.get();
+            circuitBreaker.onSuccess(countSlowCall ? System.nanoTime() - startTime : 0);
+            return result;
+        } catch (RedisCommandExecutionException e) {
+            // an error reply shows that the server is responding, so it does not count towards opening the circuit
+            circuitBreaker.onSuccess(0);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether commands can be sent, when the circuit breaker is enabled.
+     *
+     * @throws RedisConnectorException if the circuit breaker is open
+     */
+    public void checkCircuit() throws RedisConnectorException {
+        if (circuitBreaker != null) {
+            circuitBreaker.acquirePermission();
+        }
+    }
+
+    /**
+     * Returns whether the circuit breaker is enabled and currently rejects the commands.
+     *
+     * @return true if the circuit is not closed, false otherwise
+     */
+    public boolean isCircuitOpen() {
+        return circuitBreaker != null && circuitBreaker.getState() != CircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * Returns the client-side cache of the connection.
+     *
+     * @return the client-side cache, or null if client-side caching is disabled
+     */
+    public RedisClientSideCache<K, V> getClientSideCache() {
+        return clientSideCache;
+    }
+
+    /**
+     * Sends and waits for a command which modifies the given keys. The server invalidates the cached keys
+     * asynchronously, over the tracking connection of the client-side cache, so the keys are also evicted from the
+     * cache by the client itself: before the command is sent, and again once it completes, as a read which raced with
+     * the command may have cached the previous value in the meantime. A read which starts after the command has
+     * completed therefore always observes its effect.
+     *
+     * @param commands the command interface on which the command is sent
+     * @param command  sends the command on the given command interface
+     * @param keys     the keys modified by the command
+     * @param <C>      type of the command interface
+     * @param <T>      type of the command result
+     * @return the command result
+     */
+    public <C, T> T awaitWrite(C commands, Function<C, RedisFuture<T>> command, Object... keys) {
+        if (clientSideCache == null) {
+            return await(command.apply(commands));
+        }
+        clientSideCache.evict(keys);
+        try {
+            return await(command.apply(commands));
+        } finally {
+            clientSideCache.evict(keys);
+        }
+    }
+
+    /**
+     * Sends and waits for a command which removes all the keys of a database, clearing the client-side cache before
+     * the command is sent and once it completes, the same way as {@link #awaitWrite(Object, Function, Object...)}.
+     *
+     * @param commands the command interface on which the command is sent
+     * @param command  sends the command on the given command interface
+     * @param <C>      type of the command interface
+     * @param <T>      type of the command result
+     * @return the command result
+     */
+    public <C, T> T awaitFlush(C commands, Function<C, RedisFuture<T>> command) {
+        if (clientSideCache == null) {
+            return await(command.apply(commands));
+        }
+        clientSideCache.clear();
+        try {
+            return await(command.apply(commands));
+        } finally {
+            clientSideCache.clear();
+        }
+    }
+
+    /**
+     * Closes the connection pool and shuts down the Lettuce client, which closes the connections that are still open,
+     * removes the metrics of the connection from the Ballerina metric registry, and releases the shared client
+     * resources. The shared resources are shut down only when no other client uses them. Calling this more than once
+     * has no effect.
+     *
+     * @throws RedisConnectorException if the shared resources could not be shut down
+     */
+    public void shutdown() throws RedisConnectorException {
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (hedgedReads != null) {
+                hedgedReads.close();
+            }
+            synchronized (pipelineConnectionLock) {
+                if (pipelineConnection != null) {
+                    pipelineConnection.close();
+                }
+            }
+            if (objectPool != null) {
+                objectPool.close();
+            }
+            if (redisClient != null) {
+                redisClient.shutdown();
+            }
+            if (redisClusterClient != null) {
+                redisClusterClient.shutdown();
+            }
+        } finally {
+            if (metrics != null) {
+                metrics.close();
+            }
+            if (observedResources != null) {
+                observedResources.shutdown();
+            }
+            if (sharedResources != null) {
+                SharedClientResources.release(sharedResources);
+            }
+        }
+    }
+
+    /**
+     * Shuts down a client which failed to initialize, so that the initialization error is the one reported, along with
+     * the error of the shutdown if it fails as well.
+     *
+     * @param failure the initialization error
+     */
+    public void shutdownAfterFailure(Throwable failure) {
+        try {
+            shutdown();
+        } catch (RedisConnectorException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    public void closeClientSideCache() {
+        if (clientSideCache != null) {
+            clientSideCache.close();
+        }
+    }
+
     /**
      * Returns whether the connection made by the connection manager is a cluster connection.
      *
@@ -215,6 +764,15 @@ public class RedisConnectionManager<K, V> {
         return isClusterConnection;
     }
 
+    /**
+     * Returns the cluster connection configurations.
+     *
+     * @return the cluster connection configurations, or null if not configured
+     */
+    public ClusterConfig getClusterConfig() {
+        return clusterConfig;
+    }
+
     /**
      * Returns whether the connection made by the connection manager is a pooled connection.
      *
@@ -225,6 +783,7 @@ public class RedisConnectionManager<K, V> {
     }
 
     public void closeConnectionPool() {
+        sharedConnections.forEach(StatefulConnection::close);
         objectPool.close();
     }
 
@@ -234,23 +793,57 @@ public class RedisConnectionManager<K, V> {
             redisURI = RedisURI.create(uriConfig.uri());
         } else if (connectionConfig instanceof ConnectionParams connectionParams) {
             redisURI = constructRedisUri(connectionParams);
+        } else if (connectionConfig instanceof SentinelParams sentinelParams) {
+            redisURI = constructSentinelRedisUri(sentinelParams);
         } else {
             throw new RedisConnectorException("Invalid connection configuration provided");
         }
 
-        RedisClient redisClient = initializeClient(connectionConfig, redisURI);
+        this.redisURI = redisURI;
+        redisClient = initializeClient(connectionConfig, redisURI);
+        commandTimeout = commandTimeouts.getDefaultTimeout();
+        // Sentinel connections are always made through the master-replica connector, which subscribes to the
+        // Sentinel events and repoints the connection as soon as a failover is announced
+        if (readFrom != null || !redisURI.getSentinels().isEmpty()) {
+            connectionSupplier = () -> connectMasterReplica(redisURI);
+        } else {
+            connectionSupplier = () -> redisClient.connect(codec);
+        }
         if (poolingEnabled) {
-            Supplier<StatefulConnection<K, V>> supplier = () -> redisClient.connect(codec);
-            objectPool = ConnectionPoolSupport.createGenericObjectPool(supplier, new GenericObjectPoolConfig<>());
+            objectPool = ConnectionPoolSupport.createGenericObjectPool(connectionSupplier,
+                    createPoolConfig(connectionConfig.poolConfig()));
+            warmUpPool(connectionConfig.poolConfig());
             // this is to foresee any connection issues, when pooling is enabled
             testConnectionPool();
+            if (metrics != null) {
+                metrics.registerPool(objectPool);
+            }
+            openSharedConnections(connectionConfig.poolConfig(), connectionSupplier);
         } else {
-            StatefulRedisConnection<K, V> statefulRedisConnection = redisClient.connect(codec);
-            redisCommands = statefulRedisConnection.sync();
+            StatefulRedisConnection<K, V> statefulRedisConnection =
+                    (StatefulRedisConnection<K, V>) connectionSupplier.get();
+            redisCommands = statefulRedisConnection.async();
+        }
+        if (connectionConfig.clientSideCache() != null) {
+            clientSideCache = new RedisClientSideCache<>(this, redisClient, codec, connectionConfig.clientSideCache());
+        }
+        HedgedReadConfig hedgedReadConfig = connectionConfig.hedgedReads();
+        if (hedgedReadConfig != null) {
+            openHedgedReads(hedgedReadConfig, () -> connectMasterReplica(redisURI,
+                    hedgedReadConfig.readFrom().getReadFrom()));
         }
     }
 
     private void setRedisClusterCommands(ConnectionConfig connectionConfig) throws RedisConnectorException {
+        if (connectionConfig.clientSideCache() != null) {
+            throw new RedisConnectorException("Client-side caching is not supported for cluster connections");
+        }
+        if (connectionConfig instanceof SentinelParams) {
+            throw new RedisConnectorException("Sentinel connections are not supported in cluster mode");
+        }
+        if (connectionConfig instanceof ConnectionParams connectionParams && connectionParams.socketPath() != null) {
+            throw new RedisConnectorException("Unix domain socket connections are not supported in cluster mode");
+        }
         RedisURI redisURI;
         if (connectionConfig instanceof ConnectionURI uriConfig) {
             redisURI = RedisURI.create(uriConfig.uri());
@@ -260,24 +853,95 @@ public class RedisConnectionManager<K, V> {
             throw new RedisConnectorException("Invalid connection configuration provided");
         }
 
-        RedisClusterClient redisClusterClient = initializeClusterClient(connectionConfig, redisURI);
+        redisClusterClient = initializeClusterClient(connectionConfig, redisURI);
+        commandTimeout = commandTimeouts.getDefaultTimeout();
+        connectionSupplier = this::connectCluster;
         if (poolingEnabled) {
-            Supplier<StatefulConnection<K, V>> supplier = () -> redisClusterClient.connect(codec);
-            objectPool = ConnectionPoolSupport.createGenericObjectPool(supplier, new GenericObjectPoolConfig<>());
+            objectPool = ConnectionPoolSupport.createGenericObjectPool(connectionSupplier,
+                    createPoolConfig(connectionConfig.poolConfig()));
+            warmUpPool(connectionConfig.poolConfig());
             // this is to foresee any connection issues, when pooling is enabled
             testConnectionPool();
+            if (metrics != null) {
+                metrics.registerPool(objectPool);
+            }
+            openSharedConnections(connectionConfig.poolConfig(), connectionSupplier);
         } else {
-            redisClusterCommands = redisClusterClient.connect(codec).sync();
+            redisClusterCommands = ((StatefulRedisClusterConnection<K, V>) connectionSupplier.get()).async();
+        }
+        HedgedReadConfig hedgedReadConfig = connectionConfig.hedgedReads();
+        if (hedgedReadConfig != null) {
+            openHedgedReads(hedgedReadConfig, () -> {
+                StatefulRedisClusterConnection<K, V> connection = redisClusterClient.connect(codec);
+                connection.setReadFrom(hedgedReadConfig.readFrom().getReadFrom());
+                return connection;
+            });
+        }
+    }
+
+    /**
+     * Opens the dedicated connection over which slow reads are hedged. The connection routes read-only commands
+     * according to the read policy of the hedged reads, so that they are served by other nodes than the reads they
+     * hedge.
+     */
+    private void openHedgedReads(HedgedReadConfig hedgedReadConfig, Supplier<StatefulConnection<K, V>> supplier)
+            throws RedisConnectorException {
+        try {
+            StatefulConnection<K, V> connection = supplier.get();
+            hedgedReads = new HedgedReads<>(hedgedReadConfig, connection, getAsyncCommands(connection));
+        } catch (RedisException e) {
+            throw new RedisConnectorException("Error occurred while opening the hedged read connection: %s"
+                    .formatted(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Opens a connection which discovers the replicas of the given node, or of the master monitored by the given
+     * Sentinels, so that read-only commands can be routed to them according to the read policy. Other commands are
+     * always sent to the master.
+     */
+    private StatefulConnection<K, V> connectMasterReplica(RedisURI redisURI) {
+        return connectMasterReplica(redisURI, readFrom != null ? readFrom : ReadFrom.MASTER);
+    }
+
+    private StatefulConnection<K, V> connectMasterReplica(RedisURI redisURI, ReadFrom connectionReadFrom) {
+        StatefulRedisMasterReplicaConnection<K, V> connection = MasterReplica.connect(redisClient, codec, redisURI);
+        connection.setReadFrom(connectionReadFrom);
+        return connection;
+    }
+
+    private StatefulConnection<K, V> connectCluster() {
+        StatefulRedisClusterConnection<K, V> connection = redisClusterClient.connect(codec);
+        if (readFrom != null) {
+            connection.setReadFrom(readFrom);
         }
+        return connection;
     }
 
     private RedisURI constructRedisUri(ConnectionParams connectionParams) {
-        Options options = connectionParams.options();
+        // a Unix domain socket takes precedence over the host and port, and requires the native epoll or kqueue
+        // transport, which is bundled with the connector
+        RedisURI.Builder builder = connectionParams.socketPath() != null
+                ? RedisURI.Builder.socket(connectionParams.socketPath())
+                : RedisURI.builder().withHost(connectionParams.host()).withPort(connectionParams.port());
+        return buildRedisUri(builder, connectionParams.username(), connectionParams.password(),
+                connectionParams.options());
+    }
 
-        RedisURI.Builder builder = RedisURI.builder()
-                .withHost(connectionParams.host())
-                .withPort(connectionParams.port());
+    private RedisURI constructSentinelRedisUri(SentinelParams sentinelParams) {
+        RedisURI.Builder builder = RedisURI.builder().withSentinelMasterId(sentinelParams.masterName());
+        String sentinelPassword = sentinelParams.sentinelPassword();
+        for (SentinelNode sentinel : sentinelParams.sentinels()) {
+            if (sentinelPassword != null && !sentinelPassword.isBlank()) {
+                builder.withSentinel(sentinel.host(), sentinel.port(), sentinelPassword);
+            } else {
+                builder.withSentinel(sentinel.host(), sentinel.port());
+            }
+        }
+        return buildRedisUri(builder, sentinelParams.username(), sentinelParams.password(), sentinelParams.options());
+    }
 
+    private RedisURI buildRedisUri(RedisURI.Builder builder, String username, String password, Options options) {
         int database = options.database();
         if (database >= 0) {
             builder.withDatabase(database);
@@ -293,8 +957,6 @@ public class RedisConnectionManager<K, V> {
             builder.withClientName(clientName);
         }
 
-        String username = connectionParams.username();
-        String password = connectionParams.password();
         if (username != null && !username.isBlank()) {
             builder.withAuthentication(username, password);
         } else if (password != null && !password.isBlank()) {
@@ -309,10 +971,67 @@ public class RedisConnectionManager<K, V> {
             return;
         }
 
+        StatefulConnection<K, V> connection;
         if (isClusterConnection) {
-            objectPool.returnObject(((RedisAdvancedClusterCommands<K, V>) redisCommands).getStatefulConnection());
+            connection = ((RedisAdvancedClusterAsyncCommands<K, V>) redisCommands).getStatefulConnection();
         } else {
-            objectPool.returnObject(((RedisCommands<K, V>) redisCommands).getStatefulConnection());
+            connection = ((RedisAsyncCommands<K, V>) redisCommands).getStatefulConnection();
+        }
+        if (!isSharedConnection(connection)) {
+            objectPool.returnObject(connection);
+        }
+    }
+
+    /**
+     * Sends a PING to the server on behalf of the half-open circuit breaker. The connection is obtained without going
+     * through the circuit breaker, which rejects every other command until the probe completes. The probe waits for
+     * the probe timeout of the circuit breaker rather than the command timeout, so that a server which stopped
+     * responding holds the rejected callers back for a short time only.
+     *
+     * @param timeout time to wait for the reply
+     * @return true if the server replied, false otherwise
+     */
+    private boolean probe(Duration timeout) {
+        BaseRedisAsyncCommands<K, V> commands = null;
+        try {
+            commands = isClusterConnection ? redisClusterAsyncCommands() : redisAsyncCommands();
+            await(commands.ping(), timeout);
+            return true;
+        } catch (RedisConnectorException | RedisException e) {
+            return false;
+        } finally {
+            releaseResources(commands);
+        }
+    }
+
+    private StatefulConnection<K, V> nextSharedConnection() {
+        int index = Math.floorMod(nextSharedConnection.getAndIncrement(), sharedConnections.size());
+        return sharedConnections.get(index);
+    }
+
+    private boolean isSharedConnection(StatefulConnection<K, V> connection) {
+        for (StatefulConnection<K, V> sharedConnection : sharedConnections) {
+            if (sharedConnection == connection) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void openSharedConnections(PoolConfig poolConfig, Supplier<StatefulConnection<K, V>> supplier)
+            throws RedisConnectorException {
+        if (poolConfig == null) {
+            return;
+        }
+        try {
+            for (int i = 0; i < poolConfig.sharedConnections(); i++) {
+                sharedConnections.add(supplier.get());
+            }
+        } catch (RedisException e) {
+            sharedConnections.forEach(StatefulConnection::close);
+            sharedConnections.clear();
+            throw new RedisConnectorException("Error occurred while opening the shared connections: %s"
+                    .formatted(e.getMessage()), e);
         }
     }
 
@@ -327,13 +1046,24 @@ public class RedisConnectionManager<K, V> {
 
     private RedisClient initializeClient(ConnectionConfig connectionConfig, RedisURI redisURI) {
         SecureSocket secureSocket = connectionConfig.secureSocket();
-        KeepAliveConfig keepAlive = resolveKeepAlive(connectionConfig);
-        RedisClient redisClient = RedisClient.create(redisURI);
+        Options options = resolveOptions(connectionConfig);
+        metrics = RedisMetrics.create(getPeerAddress(redisURI), options != null ? options.clientName() : null);
+        RedisClient client = RedisClient.create(createClientResources(connectionConfig), redisURI);
 
+        commandTimeouts = new CommandTimeouts(connectionConfig.timeoutConfig(), redisURI.getTimeout());
         ClientOptions.Builder clientOptionsBuilder = ClientOptions.builder()
-                .timeoutOptions(TimeoutOptions.enabled());
-        if (keepAlive != null) {
-            clientOptionsBuilder.socketOptions(buildSocketOptions(keepAlive));
+                .timeoutOptions(TimeoutOptions.builder().timeoutSource(commandTimeouts).build());
+        if (connectionConfig.clientSideCache() != null) {
+            // invalidation messages are pushed on the tracking connection itself, which requires RESP3
+            clientOptionsBuilder.protocolVersion(ProtocolVersion.RESP3);
+        }
+        if (options != null) {
+            applyOptions(clientOptionsBuilder, options);
+        }
+        SocketOptions socketOptions = buildSocketOptions(options != null ? options.keepAlive() : null,
+                connectionConfig.timeoutConfig());
+        if (socketOptions != null) {
+            clientOptionsBuilder.socketOptions(socketOptions);
         }
 
         if (secureSocket != null) {
@@ -343,19 +1073,44 @@ public class RedisConnectionManager<K, V> {
             clientOptionsBuilder.sslOptions(constructSslOptions(secureSocket));
         }
 
-        redisClient.setOptions(clientOptionsBuilder.build());
-        return redisClient;
+        client.setOptions(clientOptionsBuilder.build());
+        if (metrics != null) {
+            client.addListener(metrics);
+        }
+        return client;
+    }
+
+    private static String getPeerAddress(RedisURI redisURI) {
+        if (redisURI.getSocket() != null) {
+            return redisURI.getSocket();
+        } else if (redisURI.getHost() == null) {
+            // a Sentinel URI has no host of its own, so the metrics are tagged with the name of the monitored master
+            return redisURI.getSentinelMasterId();
+        }
+        return redisURI.getHost() + ":" + redisURI.getPort();
     }
 
     private RedisClusterClient initializeClusterClient(ConnectionConfig connectionConfig, RedisURI redisURI) {
         SecureSocket secureSocket = connectionConfig.secureSocket();
-        KeepAliveConfig keepAlive = resolveKeepAlive(connectionConfig);
-        RedisClusterClient redisClient = RedisClusterClient.create(redisURI);
+        Options options = resolveOptions(connectionConfig);
+        metrics = RedisMetrics.create(getPeerAddress(redisURI), options != null ? options.clientName() : null);
+        RedisClusterClient clusterClient = RedisClusterClient.create(createClientResources(connectionConfig), redisURI);
 
+        commandTimeouts = new CommandTimeouts(connectionConfig.timeoutConfig(), redisURI.getTimeout());
         ClusterClientOptions.Builder clientOptionsBuilder = ClusterClientOptions.builder()
-                .timeoutOptions(TimeoutOptions.enabled());
-        if (keepAlive != null) {
-            clientOptionsBuilder.socketOptions(buildSocketOptions(keepAlive));
+                .timeoutOptions(TimeoutOptions.builder().timeoutSource(commandTimeouts).build());
+        ClusterConfig clusterConfig = connectionConfig.clusterConfig();
+        if (clusterConfig != null) {
+            clientOptionsBuilder.topologyRefreshOptions(buildTopologyRefreshOptions(clusterConfig))
+                    .maxRedirects(clusterConfig.maxRedirects());
+        }
+        if (options != null) {
+            applyOptions(clientOptionsBuilder, options);
+        }
+        SocketOptions socketOptions = buildSocketOptions(options != null ? options.keepAlive() : null,
+                connectionConfig.timeoutConfig());
+        if (socketOptions != null) {
+            clientOptionsBuilder.socketOptions(socketOptions);
         }
 
         if (secureSocket != null) {
@@ -365,24 +1120,98 @@ public class RedisConnectionManager<K, V> {
             clientOptionsBuilder.sslOptions(constructSslOptions(secureSocket));
         }
 
-        redisClient.setOptions(clientOptionsBuilder.build());
-        return redisClient;
+        clusterClient.setOptions(clientOptionsBuilder.build());
+        if (metrics != null) {
+            clusterClient.addListener(metrics);
+            metrics.registerClusterEvents(observedResources.eventBus());
+        }
+        return clusterClient;
+    }
+
+    private ClusterTopologyRefreshOptions buildTopologyRefreshOptions(ClusterConfig clusterConfig) {
+        ClusterTopologyRefreshOptions.Builder builder = ClusterTopologyRefreshOptions.builder()
+                .dynamicRefreshSources(clusterConfig.dynamicRefreshSources())
+                .adaptiveRefreshTriggersTimeout(clusterConfig.adaptiveRefreshTimeout());
+        Duration refreshPeriod = clusterConfig.topologyRefreshPeriod();
+        if (!refreshPeriod.isNegative() && !refreshPeriod.isZero()) {
+            builder.enablePeriodicRefresh(refreshPeriod);
+        }
+        Set<RefreshTrigger> refreshTriggers = clusterConfig.adaptiveRefreshTriggers();
+        if (!refreshTriggers.isEmpty()) {
+            builder.enableAdaptiveRefreshTrigger(refreshTriggers.toArray(new RefreshTrigger[0]));
+        }
+        return builder.build();
+    }
+
+    private ClientResources createClientResources(ConnectionConfig connectionConfig) {
+        sharedResources = SharedClientResources.acquire(connectionConfig.resourceConfig());
+        if (metrics == null && readBackpressure == null) {
+            return sharedResources;
+        }
+        // the mutated resources reuse the shared event loops and thread pools, which are not shut down along with them
+        ClientResources.Builder builder = sharedResources.mutate().nettyCustomizer(createNettyCustomizer());
+        if (metrics != null) {
+            // the event bus is not shared, so that only the events of this client are observed
+            builder.eventBus(new DefaultEventBus(Schedulers.fromExecutor(sharedResources.eventExecutorGroup())));
+        }
+        observedResources = builder.build();
+        return observedResources;
     }
 
-    private SocketOptions buildSocketOptions(KeepAliveConfig keepAlive) {
-        return SocketOptions.builder()
-                .keepAlive(SocketOptions.KeepAliveOptions.builder()
-                        .idle(Duration.ofSeconds(keepAlive.idle()))
-                        .interval(Duration.ofSeconds(keepAlive.interval()))
-                        .count(keepAlive.count())
-                        .enable()
-                        .build())
-                .build();
+    private NettyCustomizer createNettyCustomizer() {
+        List<NettyCustomizer> customizers = new ArrayList<>();
+        if (metrics != null) {
+            customizers.add(metrics.getNettyCustomizer());
+        }
+        if (readBackpressure != null) {
+            customizers.add(readBackpressure);
+        }
+        return new NettyCustomizer() {
+            @Override
+            public void afterChannelInitialized(Channel channel) {
+                customizers.forEach(customizer -> customizer.afterChannelInitialized(channel));
+            }
+        };
     }
 
-    private KeepAliveConfig resolveKeepAlive(ConnectionConfig connectionConfig) {
+    private SocketOptions buildSocketOptions(KeepAliveConfig keepAlive, TimeoutConfig timeoutConfig) {
+        Duration connectTimeout = timeoutConfig != null ? timeoutConfig.connectTimeout() : null;
+        if (keepAlive == null && connectTimeout == null) {
+            return null;
+        }
+        SocketOptions.Builder builder = SocketOptions.builder();
+        if (keepAlive != null) {
+            builder.keepAlive(SocketOptions.KeepAliveOptions.builder()
+                    .idle(Duration.ofSeconds(keepAlive.idle()))
+                    .interval(Duration.ofSeconds(keepAlive.interval()))
+                    .count(keepAlive.count())
+                    .enable()
+                    .build());
+        }
+        if (connectTimeout != null) {
+            builder.connectTimeout(connectTimeout);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Applies the connection options which are set on the client, rather than on the URI. A bounded request queue and
+     * rejecting commands while disconnected make commands fail immediately when the server cannot keep up or cannot
+     * be reached, instead of being buffered until they time out.
+     */
+    private void applyOptions(ClientOptions.Builder clientOptionsBuilder, Options options) {
+        if (options.requestQueueSize() > 0) {
+            clientOptionsBuilder.requestQueueSize(options.requestQueueSize());
+        }
+        clientOptionsBuilder.disconnectedBehavior(options.disconnectedBehavior())
+                .autoReconnect(options.autoReconnect());
+    }
+
+    private Options resolveOptions(ConnectionConfig connectionConfig) {
         if (connectionConfig instanceof ConnectionParams connectionParams) {
-            return connectionParams.options().keepAlive();
+            return connectionParams.options();
+        } else if (connectionConfig instanceof SentinelParams sentinelParams) {
+            return sentinelParams.options();
         }
         return null;
     }
@@ -425,6 +1254,92 @@ public class RedisConnectionManager<K, V> {
         return sslOptionsBuilder.build();
     }
 
+    private GenericObjectPoolConfig<StatefulConnection<K, V>> createPoolConfig(PoolConfig poolConfig) {
+        GenericObjectPoolConfig<StatefulConnection<K, V>> config = new GenericObjectPoolConfig<>();
+        if (poolConfig == null) {
+            return config;
+        }
+        config.setMaxTotal(poolConfig.maxTotal());
+        config.setMaxIdle(poolConfig.maxIdle());
+        config.setMinIdle(poolConfig.minIdle());
+        config.setMaxWait(poolConfig.maxWait());
+        config.setTestOnBorrow(poolConfig.testOnBorrow());
+        config.setTimeBetweenEvictionRuns(poolConfig.timeBetweenEvictionRuns());
+        config.setLifo(poolConfig.lifo());
+        return config;
+    }
+
+    /**
+     * Opens the minimum number of idle connections of the pool in parallel, so that the first commands sent after the
+     * client is initialized do not pay the connection handshakes. When configured, a PING is then sent on each of the
+     * opened connections, and the time taken by the warm-up is recorded in the metrics.
+     *
+     * @param poolConfig connection pool configurations
+     * @throws RedisConnectorException if a connection cannot be opened
+     */
+    private void warmUpPool(PoolConfig poolConfig) throws RedisConnectorException {
+        if (poolConfig == null || !poolConfig.prewarm()) {
+            return;
+        }
+        int connections = poolConfig.minIdle();
+        if (poolConfig.maxIdle() >= 0) {
+            connections = Math.min(connections, poolConfig.maxIdle());
+        }
+        if (poolConfig.maxTotal() >= 0) {
+            connections = Math.min(connections, poolConfig.maxTotal());
+        }
+        if (connections <= 0) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        // opening a connection blocks until its handshake completes, so each one is opened on its own virtual thread
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                futures.add(executor.submit(() -> {
+                    objectPool.addObject();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RedisConnectorException("Error occurred while pre-warming the connection pool: %s"
+                    .formatted(e.getCause().getMessage()), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisConnectorException("Interrupted while pre-warming the connection pool", e);
+        }
+        if (poolConfig.prewarmPing()) {
+            pingPooledConnections(connections);
+        }
+        if (metrics != null) {
+            metrics.recordPoolWarmUp(Duration.ofNanos(System.nanoTime() - startTime));
+        }
+    }
+
+    private void pingPooledConnections(int count) throws RedisConnectorException {
+        List<StatefulConnection<K, V>> connections = new ArrayList<>(count);
+        try {
+            List<RedisFuture<String>> pings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                StatefulConnection<K, V> connection = objectPool.borrowObject();
+                connections.add(connection);
+                pings.add(getAsyncCommands(connection).ping());
+            }
+            for (RedisFuture<String> ping : pings) {
+                await(ping);
+            }
+        } catch (Exception e) {
+            throw new RedisConnectorException("Error occurred while pre-warming the connection pool: %s"
+                    .formatted(e.getMessage()), e);
+        } finally {
+            connections.forEach(objectPool::returnObject);
+        }
+    }
+
     /**
      * Test the pooled connection by borrowing and returning a connection. This is to foresee any connection issues,
      * when pooling is enabled.
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.async.RedisFunctionAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static io.ballerina.lib.redis.utils.Constants.ARGUMENTS_MUST_NOT_BE_NULL;
+import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
+
+/**
+ * Executor implementation for Redis function commands.
+ *
+ * @since 3.4.0
+ */
+public class RedisFunctionCommandExecutor {
+
+    private final RedisConnectionManager<?, ?> connManager;
+
+    public RedisFunctionCommandExecutor(RedisConnectionManager<?, ?> connManager) {
+        this.connManager = connManager;
+    }
+
+    /**
+     * Loads a library of functions. In cluster mode, it is loaded on all the masters, as the libraries are not
+     * propagated between the shards.
+     *
+     * @param code    the code of the library
+     * @param replace whether an existing library of the same name is replaced
+     * @return the name of the library
+     */
+    public String functionLoad(String code, boolean replace) throws RedisConnectorException {
+        return onAllMasters(functionCommands -> functionCommands.functionLoad(code, replace));
+    }
+
+    /**
+     * Deletes a library of functions. In cluster mode, it is deleted on all the masters.
+     *
+     * @param libraryName the name of the library
+     * @return {@code OK} if the library was deleted
+     */
+    public String functionDelete(String libraryName) throws RedisConnectorException {
+        return onAllMasters(functionCommands -> functionCommands.functionDelete(libraryName));
+    }
+
+    /**
+     * Lists the libraries of functions. In cluster mode, the libraries are listed from a single node, as they are
+     * expected to be the same on all the masters.
+     *
+     * @param libraryNamePattern the pattern of the names of the libraries, or null to list all the libraries
+     * @return the libraries, as decoded by Lettuce
+     */
+    public List<?> functionList(String libraryNamePattern) throws RedisConnectorException {
+        RedisFunctionAsyncCommands<String, String> functionCommands = null;
+        try {
+            functionCommands =
+                    (RedisFunctionAsyncCommands<String, String>) connManager.getFunctionCommandConnection();
+            return connManager.await(libraryNamePattern != null ? functionCommands.functionList(libraryNamePattern)
+                    : functionCommands.functionList());
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(functionCommands);
+        }
+    }
+
+    /**
+     * Calls a function.
+     *
+     * @param function the name of the function
+     * @param keys     the keys accessed by the function
+     * @param args     the arguments of the function
+     * @return the reply of the function, as decoded by Lettuce
+     */
+    public Object fCall(String function, String[] keys, String[] args) throws RedisConnectorException {
+        RedisFunctionAsyncCommands<String, String> functionCommands = null;
+        try {
+            functionCommands =
+                    (RedisFunctionAsyncCommands<String, String>) connManager.getFunctionCommandConnection();
+            return connManager.awaitWrite(functionCommands,
+                    commands -> commands.fcall(function, ScriptOutputType.OBJECT, keys, args), (Object[]) keys);
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(functionCommands);
+        }
+    }
+
+    /**
+     * Calls a read-only function with {@code FCALL_RO}. As a read-only command, it is routed according to the
+     * {@code readFrom} policy of the connection, and may be served by a replica.
+     *
+     * @param function the name of the function
+     * @param keys     the keys accessed by the function
+     * @param args     the arguments of the function
+     * @return the reply of the function, as decoded by Lettuce
+     */
+    public Object fCallRo(String function, String[] keys, String[] args) throws RedisConnectorException {
+        RedisFunctionAsyncCommands<String, String> functionCommands = null;
+        try {
+            functionCommands =
+                    (RedisFunctionAsyncCommands<String, String>) connManager.getFunctionCommandConnection();
+            return connManager.await(functionCommands.fcallReadOnly(function, ScriptOutputType.OBJECT, keys, args));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(functionCommands);
+        }
+    }
+
+    /**
+     * Sends a library management command to the node, or to all the masters in cluster mode. The masters are updated
+     * one after another, so a failure may leave the command applied on some of them only.
+     *
+     * @return the reply of the last node
+     */
+    private String onAllMasters(Function<RedisFunctionAsyncCommands<String, String>, RedisFuture<String>> command)
+            throws RedisConnectorException {
+        RedisFunctionAsyncCommands<String, String> functionCommands = null;
+        try {
+            functionCommands =
+                    (RedisFunctionAsyncCommands<String, String>) connManager.getFunctionCommandConnection();
+            if (!(functionCommands instanceof RedisAdvancedClusterAsyncCommands<String, String> clusterCommands)) {
+                return connManager.await(command.apply(functionCommands));
+            }
+            String reply = null;
+            for (RedisAsyncCommands<String, String> nodeCommands : clusterCommands.masters().asMap().values()) {
+                reply = connManager.await(command.apply(nodeCommands));
+            }
+            return reply;
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(functionCommands);
+        }
+    }
+}
@@ -23,12 +23,22 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.lettuce.core.KeyValue;
+import io.lettuce.core.MapScanCursor;
 import io.lettuce.core.RedisException;
-import io.lettuce.core.api.sync.RedisHashCommands;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.async.BaseRedisAsyncCommands;
+import io.lettuce.core.api.async.RedisHashAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.BooleanOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
 
 import java.util.List;
 import java.util.Map;
 
+import static io.ballerina.lib.redis.utils.Constants.ARGUMENTS_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.KEY_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
@@ -50,10 +60,11 @@ public class RedisHashCommandExecutor {
     }
 
     public <K, V> long hDel(BString key, K[] fields) throws RedisConnectorException {
-        RedisHashCommands<K, V> hashCommands = null;
+        RedisHashAsyncCommands<K, V> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, V>) connManager.getHashCommandConnection();
-            return hashCommands.hdel((K) key.toString(), fields);
+            hashCommands = (RedisHashAsyncCommands<K, V>) connManager.getHashCommandConnection();
+            return connManager.awaitWrite(hashCommands,
+                    commands -> commands.hdel((K) key.toString(), fields), key.toString());
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field(s) " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -64,10 +75,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K, V> boolean hExists(K key, K field) throws RedisConnectorException {
-        RedisHashCommands<K, V> hashCommands = null;
+        RedisHashAsyncCommands<K, V> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, V>) connManager.getHashCommandConnection();
-            return hashCommands.hexists(key, field);
+            hashCommands = (RedisHashAsyncCommands<K, V>) connManager.getHashCommandConnection();
+            return connManager.await(hashCommands.hexists(key, field));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field(s) " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -78,10 +89,15 @@ public class RedisHashCommandExecutor {
     }
 
     public <K> String hGet(K key, K field) throws RedisConnectorException {
-        RedisHashCommands<K, String> hashCommands = null;
+        RedisHashAsyncCommands<K, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, String>) connManager.getHashCommandConnection();
-            return hashCommands.hget(key, field);
+            RedisClientSideCache<K, String> cache = (RedisClientSideCache<K, String>) connManager.getClientSideCache();
+            if (cache != null) {
+                return cache.hget(key, field);
+            }
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            return connManager.awaitHedged(hashCommands.hget(key, field),
+                    commands -> ((RedisHashAsyncCommands<K, String>) commands).hget(key, field));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field(s) " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -91,11 +107,31 @@ public class RedisHashCommandExecutor {
         }
     }
 
+    public <K> byte[] hGetBytes(K key, K field) throws RedisConnectorException {
+        BaseRedisAsyncCommands<K, byte[]> commands = null;
+        try {
+            commands = (BaseRedisAsyncCommands<K, byte[]>) connManager.getHashCommandConnection();
+            RedisCodec<K, byte[]> codec = (RedisCodec<K, byte[]>) connManager.getBinaryValueCodec();
+            CommandArgs<K, byte[]> args = new CommandArgs<>(codec).addKey(key).addKey(field);
+            return connManager.await(commands.dispatch(CommandType.HGET, new ValueOutput<>(codec), args));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(commands);
+        }
+    }
+
     public <K> BMap<BString, Object> hGetAll(K key) throws RedisConnectorException {
-        RedisHashCommands<K, String> hashCommands = null;
+        RedisHashAsyncCommands<K, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, String>) connManager.getHashCommandConnection();
-            Map<K, String> result = hashCommands.hgetall(key);
+            RedisClientSideCache<K, String> cache = (RedisClientSideCache<K, String>) connManager.getClientSideCache();
+            if (cache != null) {
+                return createBMapFromMap(cache.hgetall(key));
+            }
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            Map<K, String> result = connManager.await(hashCommands.hgetall(key));
             return createBMapFromMap(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -107,10 +143,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K> long hIncrBy(K key, K field, long amount) throws RedisConnectorException {
-        RedisHashCommands<K, String> hashCommands = null;
+        RedisHashAsyncCommands<K, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, String>) connManager.getHashCommandConnection();
-            return hashCommands.hincrby(key, field, amount);
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            return connManager.awaitWrite(hashCommands, commands -> commands.hincrby(key, field, amount), key);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field(s) " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -121,10 +157,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K> double hIncrByFloat(K key, K field, double amount) throws RedisConnectorException {
-        RedisHashCommands<K, String> hashCommands = null;
+        RedisHashAsyncCommands<K, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, String>) connManager.getHashCommandConnection();
-            return hashCommands.hincrbyfloat(key, field, amount);
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            return connManager.awaitWrite(hashCommands, commands -> commands.hincrbyfloat(key, field, amount), key);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -135,10 +171,10 @@ public class RedisHashCommandExecutor {
     }
 
     public BArray hKeys(String key) throws RedisConnectorException {
-        RedisHashCommands<String, String> hashCommands = null;
+        RedisHashAsyncCommands<String, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<String, String>) connManager.getHashCommandConnection();
-            List<String> result = hashCommands.hkeys(key);
+            hashCommands = (RedisHashAsyncCommands<String, String>) connManager.getHashCommandConnection();
+            List<String> result = connManager.await(hashCommands.hkeys(key));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -150,10 +186,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K> long hLen(K key) throws RedisConnectorException {
-        RedisHashCommands<K, String> hashCommands = null;
+        RedisHashAsyncCommands<K, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, String>) connManager.getHashCommandConnection();
-            return hashCommands.hlen(key);
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            return connManager.await(hashCommands.hlen(key));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -164,10 +200,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K> BMap<BString, Object> hMGet(K key, K[] fields) throws RedisConnectorException {
-        RedisHashCommands<K, String> hashCommands = null;
+        RedisHashAsyncCommands<K, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, String>) connManager.getHashCommandConnection();
-            List<KeyValue<K, String>> result = hashCommands.hmget(key, fields);
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            List<KeyValue<K, String>> result = connManager.await(hashCommands.hmget(key, fields));
             return createBMapFromKeyValueList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field(s) " + MUST_NOT_BE_NULL, e);
@@ -179,10 +215,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K, V> String hMSet(K key, Map<K, V> fieldValueMap) throws RedisConnectorException {
-        RedisHashCommands<K, V> hashCommands = null;
+        RedisHashAsyncCommands<K, V> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, V>) connManager.getHashCommandConnection();
-            return hashCommands.hmset(key, fieldValueMap);
+            hashCommands = (RedisHashAsyncCommands<K, V>) connManager.getHashCommandConnection();
+            return connManager.awaitWrite(hashCommands, commands -> commands.hmset(key, fieldValueMap), key);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -193,10 +229,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K, V> boolean hSet(K key, K field, V value) throws RedisConnectorException {
-        RedisHashCommands<K, V> hashCommands = null;
+        RedisHashAsyncCommands<K, V> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, V>) connManager.getHashCommandConnection();
-            return hashCommands.hset(key, field, value);
+            hashCommands = (RedisHashAsyncCommands<K, V>) connManager.getHashCommandConnection();
+            return connManager.awaitWrite(hashCommands, commands -> commands.hset(key, field, value), key);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -206,11 +242,28 @@ public class RedisHashCommandExecutor {
         }
     }
 
+    public <K> boolean hSetBytes(K key, K field, byte[] value) throws RedisConnectorException {
+        BaseRedisAsyncCommands<K, byte[]> commands = null;
+        try {
+            commands = (BaseRedisAsyncCommands<K, byte[]>) connManager.getHashCommandConnection();
+            RedisCodec<K, byte[]> codec = (RedisCodec<K, byte[]>) connManager.getBinaryValueCodec();
+            CommandArgs<K, byte[]> args = new CommandArgs<>(codec).addKey(key).addKey(field).addValue(value);
+            return connManager.awaitWrite(commands,
+                    binaryCommands -> binaryCommands.dispatch(CommandType.HSET, new BooleanOutput<>(codec), args), key);
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(commands);
+        }
+    }
+
     public <K, V> boolean hSetNx(K key, K field, V value) throws RedisConnectorException {
-        RedisHashCommands<K, V> hashCommands = null;
+        RedisHashAsyncCommands<K, V> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, V>) connManager.getHashCommandConnection();
-            return hashCommands.hsetnx(key, field, value);
+            hashCommands = (RedisHashAsyncCommands<K, V>) connManager.getHashCommandConnection();
+            return connManager.awaitWrite(hashCommands, commands -> commands.hsetnx(key, field, value), key);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -221,10 +274,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K, V> long hStrLen(K key, K field) throws RedisConnectorException {
-        RedisHashCommands<K, V> hashCommands = null;
+        RedisHashAsyncCommands<K, V> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, V>) connManager.getHashCommandConnection();
-            return hashCommands.hstrlen(key, field);
+            hashCommands = (RedisHashAsyncCommands<K, V>) connManager.getHashCommandConnection();
+            return connManager.await(hashCommands.hstrlen(key, field));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Key/field " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -235,10 +288,10 @@ public class RedisHashCommandExecutor {
     }
 
     public <K> BArray hVals(K key) throws RedisConnectorException {
-        RedisHashCommands<K, String> hashCommands = null;
+        RedisHashAsyncCommands<K, String> hashCommands = null;
         try {
-            hashCommands = (RedisHashCommands<K, String>) connManager.getHashCommandConnection();
-            List<String> result = hashCommands.hvals(key);
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            List<String> result = connManager.await(hashCommands.hvals(key));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -249,4 +302,18 @@ public class RedisHashCommandExecutor {
         }
     }
 
+    public <K> MapScanCursor<K, String> hScan(K key, ScanCursor cursor, ScanArgs scanArgs)
+            throws RedisConnectorException {
+        RedisHashAsyncCommands<K, String> hashCommands = null;
+        try {
+            hashCommands = (RedisHashAsyncCommands<K, String>) connManager.getHashCommandConnection();
+            return connManager.await(hashCommands.hscan(key, cursor, scanArgs));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(hashCommands);
+        }
+    }
 }
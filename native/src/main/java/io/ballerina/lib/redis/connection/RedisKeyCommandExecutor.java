@@ -20,11 +20,15 @@ package io.ballerina.lib.redis.connection;
 
 import io.ballerina.lib.redis.exceptions.RedisConnectorException;
 import io.ballerina.runtime.api.values.BArray;
+import io.lettuce.core.KeyScanCursor;
 import io.lettuce.core.RedisException;
-import io.lettuce.core.api.sync.RedisKeyCommands;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.async.RedisKeyAsyncCommands;
 
 import java.util.List;
 
+import static io.ballerina.lib.redis.utils.Constants.ARGUMENTS_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.KEYS_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.KEY_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
@@ -44,10 +48,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> long del(K[] keys) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.del(keys);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.awaitWrite(keyCommands, commands -> commands.del(keys), (Object[]) keys);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -58,10 +62,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> long exists(K[] keys) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.exists(keys);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.exists(keys));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEYS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -72,10 +76,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> boolean expire(K key, long seconds) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.expire(key, seconds);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.awaitWrite(keyCommands, commands -> commands.expire(key, seconds), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -86,10 +90,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <V> BArray keys(String pattern) throws RedisConnectorException {
-        RedisKeyCommands<String, V> keyCommands = null;
+        RedisKeyAsyncCommands<String, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<String, V>) connManager.getKeyCommandConnection();
-            List<String> result = keyCommands.keys(pattern);
+            keyCommands = (RedisKeyAsyncCommands<String, V>) connManager.getKeyCommandConnection();
+            List<String> result = connManager.await(keyCommands.keys(pattern));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
@@ -101,10 +105,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> boolean move(K key, int db) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.move(key, db);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.awaitWrite(keyCommands, commands -> commands.move(key, db), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -115,10 +119,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> boolean persist(K key) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.persist(key);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.persist(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -129,10 +133,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> boolean pExpire(K key, long milliSeconds) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.pexpire(key, milliSeconds);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.awaitWrite(keyCommands, commands -> commands.pexpire(key, milliSeconds), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -143,10 +147,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> long pTtl(K key) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.pttl(key);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.pttl(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -157,10 +161,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K> K randomKey() throws RedisConnectorException {
-        RedisKeyCommands<K, String> keyCommands = null;
+        RedisKeyAsyncCommands<K, String> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, String>) connManager.getKeyCommandConnection();
-            return keyCommands.randomkey();
+            keyCommands = (RedisKeyAsyncCommands<K, String>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.randomkey());
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -171,10 +175,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K> String rename(K key, K newName) throws RedisConnectorException {
-        RedisKeyCommands<K, String> keyCommands = null;
+        RedisKeyAsyncCommands<K, String> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, String>) connManager.getKeyCommandConnection();
-            return keyCommands.rename(key, newName);
+            keyCommands = (RedisKeyAsyncCommands<K, String>) connManager.getKeyCommandConnection();
+            return connManager.awaitWrite(keyCommands, commands -> commands.rename(key, newName), key, newName);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -185,10 +189,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K> boolean renameNx(K key, K newName) throws RedisConnectorException {
-        RedisKeyCommands<K, String> keyCommands = null;
+        RedisKeyAsyncCommands<K, String> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, String>) connManager.getKeyCommandConnection();
-            return keyCommands.renamenx(key, newName);
+            keyCommands = (RedisKeyAsyncCommands<K, String>) connManager.getKeyCommandConnection();
+            return connManager.awaitWrite(keyCommands, commands -> commands.renamenx(key, newName), key, newName);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -199,10 +203,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K> BArray sort(K key) throws RedisConnectorException {
-        RedisKeyCommands<K, String> keyCommands = null;
+        RedisKeyAsyncCommands<K, String> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, String>) connManager.getKeyCommandConnection();
-            List<String> result = keyCommands.sort(key);
+            keyCommands = (RedisKeyAsyncCommands<K, String>) connManager.getKeyCommandConnection();
+            List<String> result = connManager.await(keyCommands.sort(key));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
@@ -214,10 +218,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> long ttl(K key) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.ttl(key);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.ttl(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -228,10 +232,10 @@ public class RedisKeyCommandExecutor {
     }
 
     public <K, V> String type(K key) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.type(key);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.type(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -243,10 +247,10 @@ public class RedisKeyCommandExecutor {
 
     // TODO: Add as a native action once byte type is supported in ballerina. When doing so return a BType
     public <K, V> byte[] dump(K key) throws RedisConnectorException {
-        RedisKeyCommands<K, V> keyCommands = null;
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
         try {
-            keyCommands = (RedisKeyCommands<K, V>) connManager.getKeyCommandConnection();
-            return keyCommands.dump(key);
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.dump(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -255,4 +259,18 @@ public class RedisKeyCommandExecutor {
             connManager.releaseResources(keyCommands);
         }
     }
+
+    public <K, V> KeyScanCursor<K> scan(ScanCursor cursor, ScanArgs scanArgs) throws RedisConnectorException {
+        RedisKeyAsyncCommands<K, V> keyCommands = null;
+        try {
+            keyCommands = (RedisKeyAsyncCommands<K, V>) connManager.getKeyCommandConnection();
+            return connManager.await(keyCommands.scan(cursor, scanArgs));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(keyCommands);
+        }
+    }
 }
@@ -26,7 +26,13 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisException;
-import io.lettuce.core.api.sync.RedisListCommands;
+import io.lettuce.core.api.async.BaseRedisAsyncCommands;
+import io.lettuce.core.api.async.RedisListAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.output.ValueListOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
 
 import java.util.List;
 
@@ -50,10 +56,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> long lPush(K key, V[] value) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.lpush(key, value);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.lpush(key, value));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -64,10 +70,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K> String lPop(K key) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            return listCommands.lpop(key);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.lpop(key));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -78,10 +84,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> long lPushX(K key, V[] values) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.lpushx(key, values);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.lpushx(key, values));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -92,10 +98,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K> BMap<BString, Object> bLPop(long timeout, K[] keys) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            KeyValue<K, String> result = listCommands.blpop(timeout, keys);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getBlockingListCommandConnection();
+            KeyValue<K, String> result = connManager.awaitBlocking(listCommands.blpop(timeout, keys), timeout);
             if (result != null) {
                 BMap<BString, Object> bMap = ValueCreator.createMapValue();
                 bMap.put(StringUtils.fromString((String) result.getKey()), StringUtils.fromString(result.getValue()));
@@ -113,10 +119,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K> BMap<BString, Object> bRPop(long timeout, K[] keys) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            KeyValue<K, String> result = listCommands.brpop(timeout, keys);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getBlockingListCommandConnection();
+            KeyValue<K, String> result = connManager.awaitBlocking(listCommands.brpop(timeout, keys), timeout);
             if (result != null) {
                 BMap<BString, Object> bMap = ValueCreator.createMapValue();
                 bMap.put(StringUtils.fromString((String) result.getKey()), StringUtils.fromString(result.getValue()));
@@ -134,10 +140,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K> String lIndex(K key, long index) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            return listCommands.lindex(key, index);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.lindex(key, index));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -148,10 +154,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> long lInsert(K key, boolean before, V pivot, V value) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.linsert(key, before, pivot, value);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.linsert(key, before, pivot, value));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -162,10 +168,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> long lLen(K key) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.llen(key);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.llen(key));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -176,10 +182,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K> BArray lRange(K key, long start, long stop) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            List<String> result = listCommands.lrange(key, start, stop);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getListCommandConnection();
+            List<String> result = connManager.await(listCommands.lrange(key, start, stop));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -190,11 +196,27 @@ public class RedisListCommandsExecutor {
         }
     }
 
+    public <K> List<byte[]> lRangeBytes(K key, long start, long stop) throws RedisConnectorException {
+        BaseRedisAsyncCommands<K, byte[]> commands = null;
+        try {
+            commands = (BaseRedisAsyncCommands<K, byte[]>) connManager.getListCommandConnection();
+            RedisCodec<K, byte[]> codec = (RedisCodec<K, byte[]>) connManager.getBinaryValueCodec();
+            CommandArgs<K, byte[]> args = new CommandArgs<>(codec).addKey(key).add(start).add(stop);
+            return connManager.await(commands.dispatch(CommandType.LRANGE, new ValueListOutput<>(codec), args));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(commands);
+        }
+    }
+
     public <K, V> long lRem(K key, long count, V value) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.lrem(key, count, value);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.lrem(key, count, value));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -205,10 +227,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> String lSet(K key, long index, V value) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.lset(key, index, value);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.lset(key, index, value));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -219,10 +241,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> String lTrim(K key, long start, long stop) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.ltrim(key, start, stop);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.ltrim(key, start, stop));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -233,10 +255,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K> String rPop(K key) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            return listCommands.rpop(key);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.rpop(key));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -247,10 +269,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K> String rPopLPush(K src, K destination) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            return listCommands.rpoplpush(src, destination);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.rpoplpush(src, destination));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -261,10 +283,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> long rPush(K key, V[] values) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.rpush(key, values);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.rpush(key, values));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -274,11 +296,27 @@ public class RedisListCommandsExecutor {
         }
     }
 
+    public <K> long rPushBytes(K key, byte[][] values) throws RedisConnectorException {
+        BaseRedisAsyncCommands<K, byte[]> commands = null;
+        try {
+            commands = (BaseRedisAsyncCommands<K, byte[]>) connManager.getListCommandConnection();
+            RedisCodec<K, byte[]> codec = (RedisCodec<K, byte[]>) connManager.getBinaryValueCodec();
+            CommandArgs<K, byte[]> args = new CommandArgs<>(codec).addKey(key).addValues(values);
+            return connManager.await(commands.dispatch(CommandType.RPUSH, new IntegerOutput<>(codec), args));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(commands);
+        }
+    }
+
     public <K> String brPopLPush(K source, K dest, long timeout) throws RedisConnectorException {
-        RedisListCommands<K, String> listCommands = null;
+        RedisListAsyncCommands<K, String> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, String>) connManager.getListCommandConnection();
-            return listCommands.brpoplpush(timeout, source, dest);
+            listCommands = (RedisListAsyncCommands<K, String>) connManager.getBlockingListCommandConnection();
+            return connManager.awaitBlocking(listCommands.brpoplpush(timeout, source, dest), timeout);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEYS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -289,10 +327,10 @@ public class RedisListCommandsExecutor {
     }
 
     public <K, V> long rPushX(K key, V[] values) throws RedisConnectorException {
-        RedisListCommands<K, V> listCommands = null;
+        RedisListAsyncCommands<K, V> listCommands = null;
         try {
-            listCommands = (RedisListCommands<K, V>) connManager.getListCommandConnection();
-            return listCommands.rpushx(key, values);
+            listCommands = (RedisListAsyncCommands<K, V>) connManager.getListCommandConnection();
+            return connManager.await(listCommands.rpushx(key, values));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+
+/**
+ * Queues Redis commands and sends them to the server in a single network flush.
+ *
+ * @param <K> Type of the Key
+ * @param <V> Type of the Value
+ * @since 3.4.0
+ */
+public class RedisPipeline<K, V> {
+
+    private final RedisConnectionManager<K, V> connManager;
+    private final List<QueuedCommand<K, V>> queuedCommands = new ArrayList<>();
+
+    public RedisPipeline(RedisConnectionManager<K, V> connManager) {
+        this.connManager = connManager;
+    }
+
+    /**
+     * Adds a command to the pipeline.
+     *
+     * @param dispatcher   function which dispatches the command on the asynchronous command interface
+     * @param resultMapper function which maps the command result to a Ballerina value
+     * @param modifiedKeys keys modified by the command, which are evicted from the client-side cache
+     */
+    public synchronized void queue(Function<RedisClusterAsyncCommands<K, V>, RedisFuture<?>> dispatcher,
+                                   Function<Object, Object> resultMapper, Object... modifiedKeys) {
+        queuedCommands.add(new QueuedCommand<>(dispatcher, resultMapper, modifiedKeys, null));
+    }
+
+    /**
+     * Adds a command whose arguments could not be converted, which fails with the given error when the pipeline is
+     * executed, without affecting the other commands.
+     *
+     * @param failure the error of the command
+     */
+    public synchronized void queueFailure(RedisConnectorException failure) {
+        queuedCommands.add(new QueuedCommand<>(null, null, new Object[0], failure));
+    }
+
+    /**
+     * Sends all the queued commands on the pipeline connection with auto-flush disabled, flushes them at once and waits
+     * for all the replies. The queue is cleared, so that the pipeline can be reused.
+     * <p>
+     * The replies arrive in the order the commands were sent, and each is awaited through the connection manager with
+     * the timeout of its own command, counted from the arrival of the previous reply. The time allowed for a pipeline
+     * therefore grows with the number of its commands, while a server which stops replying is detected within the
+     * timeout of a single command. Each reply is also recorded by the circuit breaker, as any other command is.
+     *
+     * @return results of the commands, in the order they were queued. A command which failed on the server is
+     * represented by a Ballerina error value
+     * @throws RedisConnectorException if the connection could not be obtained or the replies did not arrive in time
+     */
+    public List<Object> execute() throws RedisConnectorException {
+        List<QueuedCommand<K, V>> commands;
+        synchronized (this) {
+            commands = new ArrayList<>(queuedCommands);
+            queuedCommands.clear();
+        }
+
+        List<Object> results = new ArrayList<>(commands.size());
+        if (commands.isEmpty()) {
+            return results;
+        }
+
+        // the modified keys are evicted the same way as by RedisConnectionManager.awaitWrite
+        Object[] modifiedKeys = commands.stream().flatMap(command -> Arrays.stream(command.modifiedKeys()))
+                .toArray();
+        RedisClientSideCache<K, V> cache = connManager.getClientSideCache();
+        if (cache != null) {
+            cache.evict(modifiedKeys);
+        }
+        StatefulConnection<K, V> connection = null;
+        try {
+            connection = connManager.getPipelineConnection();
+            List<RedisFuture<?>> futures = dispatch(connection, commands);
+            for (int i = 0; i < futures.size(); i++) {
+                QueuedCommand<K, V> command = commands.get(i);
+                try {
+                    results.add(command.failure() == null ? awaitResult(futures.get(i), command.resultMapper())
+                            : createBError(command.failure()));
+                } catch (RedisConnectorException e) {
+                    cancel(futures.subList(i + 1, futures.size()));
+                    throw e;
+                }
+            }
+            return results;
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releasePipelineConnection(connection);
+            if (cache != null) {
+                cache.evict(modifiedKeys);
+            }
+        }
+    }
+
+    private List<RedisFuture<?>> dispatch(StatefulConnection<K, V> connection, List<QueuedCommand<K, V>> commands) {
+        RedisClusterAsyncCommands<K, V> asyncCommands = connManager.getAsyncCommands(connection);
+        List<RedisFuture<?>> futures = new ArrayList<>(commands.size());
+        // the connection is shared by the pipelines of the client when pooling is disabled, so that the commands of
+        // another pipeline are not flushed in the middle of this one, nor is auto-flush enabled while it is dispatched
+        synchronized (connection) {
+            connection.setAutoFlushCommands(false);
+            try {
+                for (QueuedCommand<K, V> command : commands) {
+                    futures.add(command.failure() == null ? command.dispatcher().apply(asyncCommands) : null);
+                }
+            } finally {
+                connection.flushCommands();
+                connection.setAutoFlushCommands(true);
+            }
+        }
+        return futures;
+    }
+
+    private Object awaitResult(RedisFuture<?> future, Function<Object, Object> resultMapper)
+            throws RedisConnectorException {
+        try {
+            return resultMapper.apply(connManager.await(future));
+        } catch (RedisCommandTimeoutException e) {
+            throw new RedisConnectorException("Timed out while waiting for the pipeline replies", e);
+        } catch (RedisCommandInterruptedException e) {
+            throw new RedisConnectorException("Interrupted while waiting for the pipeline replies", e);
+        } catch (RedisException e) {
+            return createBError(new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e));
+        }
+    }
+
+    private static void cancel(List<RedisFuture<?>> futures) {
+        for (RedisFuture<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private record QueuedCommand<K, V>(Function<RedisClusterAsyncCommands<K, V>, RedisFuture<?>> dispatcher,
+                                       Function<Object, Object> resultMapper, Object[] modifiedKeys,
+                                       RedisConnectorException failure) {
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.MapScanCursor;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ScoredValueScanCursor;
+import io.lettuce.core.ValueScanCursor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Iterates over the results of a {@code SCAN}, {@code HSCAN}, {@code SSCAN} or {@code ZSCAN} command, one page at a
+ * time. A page is only requested from the server when all the elements of the previous page have been consumed. In
+ * cluster mode, a key scan continues through all the master nodes of the cluster.
+ *
+ * @param <K> Type of the Key
+ * @since 3.4.0
+ */
+public class RedisScanIterator<K> {
+
+    /**
+     * Represents the type of the scan command.
+     */
+    public enum ScanType {
+        KEYS,
+        HASH,
+        SET,
+        SORTED_SET
+    }
+
+    private final RedisConnectionManager<K, ?> connManager;
+    private final ScanType scanType;
+    private final K key;
+    private final ScanArgs scanArgs;
+    private final Deque<Object> buffer = new ArrayDeque<>();
+    private ScanCursor cursor = ScanCursor.INITIAL;
+
+    public RedisScanIterator(RedisConnectionManager<K, ?> connManager, ScanType scanType, K key, String pattern,
+                             long count) {
+        this.connManager = connManager;
+        this.scanType = scanType;
+        this.key = key;
+        this.scanArgs = ScanArgs.Builder.limit(count);
+        if (pattern != null) {
+            this.scanArgs.match(pattern);
+        }
+    }
+
+    /**
+     * Returns the next element of the scan. The element is a key for a key scan, a {@link java.util.Map.Entry} of a
+     * field and its value for a hash scan, a member for a set scan, and a {@link io.lettuce.core.ScoredValue} for a
+     * sorted set scan.
+     *
+     * @return the next element, or null if all the elements have been returned
+     * @throws RedisConnectorException if an error occurs while fetching the next page
+     */
+    public synchronized Object next() throws RedisConnectorException {
+        // a page may be empty even though the iteration is not complete
+        while (buffer.isEmpty() && !cursor.isFinished()) {
+            fetchNextPage();
+        }
+        return buffer.poll();
+    }
+
+    private void fetchNextPage() throws RedisConnectorException {
+        switch (scanType) {
+            case KEYS -> {
+                KeyScanCursor<K> keyCursor = connManager.getKeyCommandExecutor().scan(cursor, scanArgs);
+                buffer.addAll(keyCursor.getKeys());
+                cursor = keyCursor;
+            }
+            case HASH -> {
+                MapScanCursor<K, String> mapCursor = connManager.getHashCommandExecutor().hScan(key, cursor, scanArgs);
+                buffer.addAll(mapCursor.getMap().entrySet());
+                cursor = mapCursor;
+            }
+            case SET -> {
+                ValueScanCursor<String> valueCursor = connManager.getSetCommandExecutor().sScan(key, cursor, scanArgs);
+                buffer.addAll(valueCursor.getValues());
+                cursor = valueCursor;
+            }
+            case SORTED_SET -> {
+                ScoredValueScanCursor<String> scoredCursor =
+                        connManager.getSortedSetCommandExecutor().zScan(key, cursor, scanArgs);
+                buffer.addAll(scoredCursor.getValues());
+                cursor = scoredCursor;
+            }
+            default -> throw new RedisConnectorException("Unsupported scan type: " + scanType);
+        }
+    }
+}
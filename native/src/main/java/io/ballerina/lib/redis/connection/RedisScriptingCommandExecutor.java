@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+
+import static io.ballerina.lib.redis.utils.Constants.ARGUMENTS_MUST_NOT_BE_NULL;
+import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
+
+/**
+ * Executor implementation for Redis scripting commands. Scripts are always run by their digest with {@code EVALSHA},
+ * and are loaded with {@code SCRIPT LOAD} only when the server replies that it does not have them.
+ *
+ * @since 3.4.0
+ */
+public class RedisScriptingCommandExecutor {
+
+    private final RedisConnectionManager<?, ?> connManager;
+    private final ScriptRegistry scriptRegistry = new ScriptRegistry();
+
+    public RedisScriptingCommandExecutor(RedisConnectionManager<?, ?> connManager) {
+        this.connManager = connManager;
+    }
+
+    /**
+     * Runs a script, by its digest when the server already has it.
+     *
+     * @param script the body of the script
+     * @param keys   the keys accessed by the script
+     * @param args   the arguments of the script
+     * @return the reply of the script, as decoded by Lettuce
+     */
+    public Object eval(String script, String[] keys, String[] args) throws RedisConnectorException {
+        return evalSha(scriptRegistry.register(script), script, keys, args);
+    }
+
+    /**
+     * Runs a script by its digest. A script registered through {@link #eval} or {@link #scriptLoad} is loaded again
+     * and run once more when the server does not have it.
+     *
+     * @param digest the SHA1 digest of the script
+     * @param keys   the keys accessed by the script
+     * @param args   the arguments of the script
+     * @return the reply of the script, as decoded by Lettuce
+     */
+    public Object evalSha(String digest, String[] keys, String[] args) throws RedisConnectorException {
+        return evalSha(digest, null, keys, args);
+    }
+
+    private Object evalSha(String digest, String knownScript, String[] keys, String[] args)
+            throws RedisConnectorException {
+        RedisScriptingAsyncCommands<String, String> scriptingCommands = null;
+        try {
+            scriptingCommands =
+                    (RedisScriptingAsyncCommands<String, String>) connManager.getScriptingCommandConnection();
+            try {
+                return connManager.awaitWrite(scriptingCommands,
+                        commands -> commands.evalsha(digest, ScriptOutputType.OBJECT, keys, args), (Object[]) keys);
+            } catch (RedisNoScriptException e) {
+                // the body given to eval is used as is, as it may have been discarded from the registry since
+                String script = knownScript != null ? knownScript : scriptRegistry.get(digest);
+                if (script == null) {
+                    throw e;
+                }
+                load(scriptingCommands, script);
+                return connManager.awaitWrite(scriptingCommands,
+                        commands -> commands.evalsha(digest, ScriptOutputType.OBJECT, keys, args), (Object[]) keys);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(scriptingCommands);
+        }
+    }
+
+    /**
+     * Loads a script into the script cache of the server, and registers it so that it is loaded again when needed.
+     *
+     * @param script the body of the script
+     * @return the SHA1 digest of the script
+     */
+    public String scriptLoad(String script) throws RedisConnectorException {
+        RedisScriptingAsyncCommands<String, String> scriptingCommands = null;
+        try {
+            scriptingCommands =
+                    (RedisScriptingAsyncCommands<String, String>) connManager.getScriptingCommandConnection();
+            String digest = scriptRegistry.register(script);
+            load(scriptingCommands, script);
+            return digest;
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(scriptingCommands);
+        }
+    }
+
+    /**
+     * Loads a script. In cluster mode, it is loaded on all the masters, as each node has a script cache of its own and
+     * a script is run on the master of the slot of its keys.
+     */
+    private void load(RedisScriptingAsyncCommands<String, String> scriptingCommands, String script) {
+        if (scriptingCommands instanceof RedisAdvancedClusterAsyncCommands<String, String> clusterCommands) {
+            for (RedisAsyncCommands<String, String> nodeCommands : clusterCommands.masters().asMap().values()) {
+                connManager.await(nodeCommands.scriptLoad(script));
+            }
+        } else {
+            connManager.await(scriptingCommands.scriptLoad(script));
+        }
+    }
+}
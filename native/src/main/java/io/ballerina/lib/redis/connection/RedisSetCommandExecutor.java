@@ -21,7 +21,10 @@ package io.ballerina.lib.redis.connection;
 import io.ballerina.lib.redis.exceptions.RedisConnectorException;
 import io.ballerina.runtime.api.values.BArray;
 import io.lettuce.core.RedisException;
-import io.lettuce.core.api.sync.RedisSetCommands;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ValueScanCursor;
+import io.lettuce.core.api.async.RedisSetAsyncCommands;
 
 import java.util.List;
 import java.util.Set;
@@ -48,10 +51,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K, V> long sAdd(K key, V[] values) throws RedisConnectorException {
-        RedisSetCommands<K, V> setCommands = null;
+        RedisSetAsyncCommands<K, V> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, V>) connManager.getSetCommandConnection();
-            return setCommands.sadd(key, values);
+            setCommands = (RedisSetAsyncCommands<K, V>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.sadd(key, values));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -62,10 +65,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K, V> long sCard(K key) throws RedisConnectorException {
-        RedisSetCommands<K, V> setCommands = null;
+        RedisSetAsyncCommands<K, V> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, V>) connManager.getSetCommandConnection();
-            return setCommands.scard(key);
+            setCommands = (RedisSetAsyncCommands<K, V>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.scard(key));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -76,10 +79,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> BArray sDiff(K[] keys) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            Set<String> result = setCommands.sdiff(keys);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            Set<String> result = connManager.await(setCommands.sdiff(keys));
             return createBStringArrayFromSet(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
@@ -91,10 +94,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> long sDiffStore(K dest, K[] keys) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            return setCommands.sdiffstore(dest, keys);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.sdiffstore(dest, keys));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -105,10 +108,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> BArray sInter(K[] keys) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            Set<String> result = setCommands.sinter(keys);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            Set<String> result = connManager.await(setCommands.sinter(keys));
             return createBStringArrayFromSet(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
@@ -120,10 +123,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> long sInterStore(K dest, K[] keys) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            return setCommands.sinterstore(dest, keys);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.sinterstore(dest, keys));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -134,10 +137,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K, V> boolean sIsMember(K key, V value) throws RedisConnectorException {
-        RedisSetCommands<K, V> setCommands = null;
+        RedisSetAsyncCommands<K, V> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, V>) connManager.getSetCommandConnection();
-            return setCommands.sismember(key, value);
+            setCommands = (RedisSetAsyncCommands<K, V>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.sismember(key, value));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -148,10 +151,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> BArray sMembers(K key) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            Set<String> result = setCommands.smembers(key);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            Set<String> result = connManager.await(setCommands.smembers(key));
             return createBStringArrayFromSet(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -163,10 +166,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K, V> boolean sMove(K source, K dest, V member) throws RedisConnectorException {
-        RedisSetCommands<K, V> setCommands = null;
+        RedisSetAsyncCommands<K, V> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, V>) connManager.getSetCommandConnection();
-            return setCommands.smove(source, dest, member);
+            setCommands = (RedisSetAsyncCommands<K, V>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.smove(source, dest, member));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEYS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -177,10 +180,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> BArray sPop(K key, int count) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            Set<String> result = setCommands.spop(key, count);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            Set<String> result = connManager.await(setCommands.spop(key, count));
             return (result == null || result.isEmpty()) ? null : createBStringArrayFromSet(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -192,10 +195,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> BArray sRandMember(K key, int count) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            List<String> result = setCommands.srandmember(key, count);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            List<String> result = connManager.await(setCommands.srandmember(key, count));
             return (result == null || result.isEmpty()) ? null : createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -207,10 +210,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> long sRem(K key, String[] members) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            return setCommands.srem(key, members);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.srem(key, members));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -221,10 +224,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> BArray sUnion(K[] keys) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            Set<String> result = setCommands.sunion(keys);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            Set<String> result = connManager.await(setCommands.sunion(keys));
             return createBStringArrayFromSet(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEYS_MUST_NOT_BE_NULL, e);
@@ -236,10 +239,10 @@ public class RedisSetCommandExecutor {
     }
 
     public <K> long sUnionStore(K dest, K[] keys) throws RedisConnectorException {
-        RedisSetCommands<K, String> setCommands = null;
+        RedisSetAsyncCommands<K, String> setCommands = null;
         try {
-            setCommands = (RedisSetCommands<K, String>) connManager.getSetCommandConnection();
-            return setCommands.sunionstore(dest, keys);
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.sunionstore(dest, keys));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Arguments " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -249,4 +252,18 @@ public class RedisSetCommandExecutor {
         }
     }
 
+    public <K> ValueScanCursor<String> sScan(K key, ScanCursor cursor, ScanArgs scanArgs)
+            throws RedisConnectorException {
+        RedisSetAsyncCommands<K, String> setCommands = null;
+        try {
+            setCommands = (RedisSetAsyncCommands<K, String>) connManager.getSetCommandConnection();
+            return connManager.await(setCommands.sscan(key, cursor, scanArgs));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(setCommands);
+        }
+    }
 }
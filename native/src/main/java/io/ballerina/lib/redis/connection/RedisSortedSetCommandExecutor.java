@@ -22,7 +22,10 @@ import io.ballerina.lib.redis.exceptions.RedisConnectorException;
 import io.ballerina.runtime.api.values.BArray;
 import io.lettuce.core.Range;
 import io.lettuce.core.RedisException;
-import io.lettuce.core.api.sync.RedisSortedSetCommands;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ScoredValueScanCursor;
+import io.lettuce.core.api.async.RedisSortedSetAsyncCommands;
 
 import java.util.List;
 import java.util.Map;
@@ -48,10 +51,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zAdd(K key, Map<V, Double> valueScoreMap) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zadd(key, createArrayFromScoredValueMap(valueScoreMap));
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zadd(key, createArrayFromScoredValueMap(valueScoreMap)));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Members " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -62,10 +65,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zCard(K key) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zcard(key);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zcard(key));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -77,10 +80,10 @@ public class RedisSortedSetCommandExecutor {
 
     public <K, V> long zCount(K key, double min, double max) throws RedisConnectorException {
         Range<Double> range = Range.create(min, max);
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zcount(key, range);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zcount(key, range));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -91,10 +94,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> double zIncrBy(K key, double amount, V member) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zincrby(key, amount, member);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zincrby(key, amount, member));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -105,10 +108,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zInterStore(K dest, K[] keys) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zinterstore(dest, keys);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zinterstore(dest, keys));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -119,11 +122,11 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zLexCount(K key, V min, V max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
             Range<V> range = Range.create(min, max);
-            return sortedSetCommands.zlexcount(key, range);
+            return connManager.await(sortedSetCommands.zlexcount(key, range));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -134,10 +137,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> BArray zRange(K key, long min, long max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
-            List<String> result = sortedSetCommands.zrange(key, min, max);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
+            List<String> result = connManager.await(sortedSetCommands.zrange(key, min, max));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -149,11 +152,11 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> BArray zRangeByLex(K key, String min, String max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
             Range<String> range = Range.create(min, max);
-            List<String> result = sortedSetCommands.zrangebylex(key, range);
+            List<String> result = connManager.await(sortedSetCommands.zrangebylex(key, range));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
@@ -165,11 +168,11 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> BArray zRevRangeByLex(K key, String min, String max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
             Range<String> range = Range.create(min, max);
-            List<String> result = sortedSetCommands.zrevrangebylex(key, range);
+            List<String> result = connManager.await(sortedSetCommands.zrevrangebylex(key, range));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Arguments" + MUST_NOT_BE_NULL, e);
@@ -181,11 +184,12 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> BArray zRangeByScore(K key, double min, double max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
             Range<Double> range = Range.create(min, max);
-            List<String> result = sortedSetCommands.zrangebyscore(key, range);
+            List<String> result = connManager.awaitHedged(sortedSetCommands.zrangebyscore(key, range),
+                    commands -> ((RedisSortedSetAsyncCommands<K, String>) commands).zrangebyscore(key, range));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
@@ -197,10 +201,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zRank(K key, V member) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zrank(key, member);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zrank(key, member));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -211,10 +215,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zRem(K key, V[] members) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zrem(key, members);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zrem(key, members));
         } catch (RedisException e) {
             throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
         } finally {
@@ -223,11 +227,11 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> long zRemRangeByLex(K key, String min, String max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
             Range<String> range = Range.create(min, max);
-            return sortedSetCommands.zremrangebylex(key, range);
+            return connManager.await(sortedSetCommands.zremrangebylex(key, range));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -238,10 +242,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> long zRemRangeByRank(K key, long min, long max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zremrangebyrank(key, min, max);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zremrangebyrank(key, min, max));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -252,11 +256,11 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> long zRemRangeByScore(K key, double min, double max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
             Range<Double> range = Range.create(min, max);
-            return sortedSetCommands.zremrangebyscore(key, range);
+            return connManager.await(sortedSetCommands.zremrangebyscore(key, range));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -267,10 +271,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> BArray zRevRange(K key, long min, long max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
-            List<String> result = sortedSetCommands.zrevrange(key, min, max);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
+            List<String> result = connManager.await(sortedSetCommands.zrevrange(key, min, max));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
@@ -282,11 +286,11 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K> BArray zRevRangeByScore(K key, double min, double max) throws RedisConnectorException {
-        RedisSortedSetCommands<K, String> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, String>) connManager.getSortedSetCommandConnection();
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
             Range<Double> range = Range.create(min, max);
-            List<String> result = sortedSetCommands.zrevrangebyscore(key, range);
+            List<String> result = connManager.await(sortedSetCommands.zrevrangebyscore(key, range));
             return createBStringArrayFromList(result);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(ARGUMENTS_MUST_NOT_BE_NULL, e);
@@ -298,10 +302,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zRevRank(K key, V member) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zrevrank(key, member);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zrevrank(key, member));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -312,10 +316,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> double zScore(K key, V member) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zscore(key, member);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zscore(key, member));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -326,10 +330,10 @@ public class RedisSortedSetCommandExecutor {
     }
 
     public <K, V> long zUnionStore(K dest, K[] keys) throws RedisConnectorException {
-        RedisSortedSetCommands<K, V> sortedSetCommands = null;
+        RedisSortedSetAsyncCommands<K, V> sortedSetCommands = null;
         try {
-            sortedSetCommands = (RedisSortedSetCommands<K, V>) connManager.getSortedSetCommandConnection();
-            return sortedSetCommands.zunionstore(dest, keys);
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, V>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zunionstore(dest, keys));
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Destination key/source key(s) " + MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -338,4 +342,19 @@ public class RedisSortedSetCommandExecutor {
             connManager.releaseResources(sortedSetCommands);
         }
     }
+
+    public <K> ScoredValueScanCursor<String> zScan(K key, ScanCursor cursor, ScanArgs scanArgs)
+            throws RedisConnectorException {
+        RedisSortedSetAsyncCommands<K, String> sortedSetCommands = null;
+        try {
+            sortedSetCommands = (RedisSortedSetAsyncCommands<K, String>) connManager.getSortedSetCommandConnection();
+            return connManager.await(sortedSetCommands.zscan(key, cursor, scanArgs));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(KEY_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(sortedSetCommands);
+        }
+    }
 }
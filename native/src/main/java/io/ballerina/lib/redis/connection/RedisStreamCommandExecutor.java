@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.ClaimedMessages;
+import io.lettuce.core.Consumer;
+import io.lettuce.core.PendingMessages;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XAddArgs;
+import io.lettuce.core.XAutoClaimArgs;
+import io.lettuce.core.XGroupCreateArgs;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.XReadArgs.StreamOffset;
+import io.lettuce.core.api.async.RedisStreamAsyncCommands;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.lib.redis.utils.Constants.ARGUMENTS_MUST_NOT_BE_NULL;
+import static io.ballerina.lib.redis.utils.Constants.KEY_MUST_NOT_BE_NULL;
+import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBAutoClaimedEntries;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBPendingSummary;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBStreamEntryArray;
+
+/**
+ * Executor implementation for Redis stream commands.
+ *
+ * @since 3.4.0
+ */
+public class RedisStreamCommandExecutor {
+
+    private final RedisConnectionManager<?, ?> connManager;
+
+    public RedisStreamCommandExecutor(RedisConnectionManager<?, ?> connManager) {
+        this.connManager = connManager;
+    }
+
+    public <K> String xAdd(K key, Map<K, String> fields, String id, long maxLen, boolean approximateTrimming)
+            throws RedisConnectorException {
+        RedisStreamAsyncCommands<K, String> streamCommands = null;
+        try {
+            streamCommands = (RedisStreamAsyncCommands<K, String>) connManager.getStreamCommandConnection();
+            XAddArgs args = new XAddArgs().id(id);
+            if (maxLen >= 0) {
+                // approximate trimming lets the server drop whole macro nodes, which is much cheaper than exact
+                // trimming
+                args.maxlen(maxLen).approximateTrimming(approximateTrimming);
+            }
+            return connManager.await(streamCommands.xadd(key, args, fields));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(streamCommands);
+        }
+    }
+
+    public <K> long xLen(K key) throws RedisConnectorException {
+        RedisStreamAsyncCommands<K, String> streamCommands = null;
+        try {
+            streamCommands = (RedisStreamAsyncCommands<K, String>) connManager.getStreamCommandConnection();
+            return connManager.await(streamCommands.xlen(key));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(streamCommands);
+        }
+    }
+
+    public <K> String xGroupCreate(K key, K group, String id, boolean mkStream) throws RedisConnectorException {
+        RedisStreamAsyncCommands<K, String> streamCommands = null;
+        try {
+            streamCommands = (RedisStreamAsyncCommands<K, String>) connManager.getStreamCommandConnection();
+            return connManager.await(streamCommands.xgroupCreate(StreamOffset.from(key, id), group,
+                    XGroupCreateArgs.Builder.mkstream(mkStream)));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(streamCommands);
+        }
+    }
+
+    /**
+     * Reads the entries of streams as a member of a consumer group. A read which blocks is sent over a connection of
+     * its own when pooling is enabled, and is awaited for its blocking time instead of the command timeout.
+     *
+     * @param group    the consumer group
+     * @param consumer the consumer within the group
+     * @param streams  the stream keys, mapped to the IDs after which entries are read, or {@code >} for new entries
+     * @param count    maximum number of entries read from each stream, or a non-positive value for no limit
+     * @param block    time to block for new entries, or null to return immediately
+     * @param noAck    whether the entries are acknowledged as soon as they are read
+     * @return the entries read, as a Ballerina array of stream entries
+     */
+    public <K> BArray xReadGroup(K group, K consumer, Map<K, String> streams, long count, Duration block,
+                                 boolean noAck) throws RedisConnectorException {
+        RedisStreamAsyncCommands<K, String> streamCommands = null;
+        try {
+            XReadArgs args = new XReadArgs().noack(noAck);
+            if (count > 0) {
+                args.count(count);
+            }
+            StreamOffset<K>[] offsets = toStreamOffsets(streams);
+            List<StreamMessage<K, String>> messages;
+            if (block != null) {
+                streamCommands =
+                        (RedisStreamAsyncCommands<K, String>) connManager.getBlockingStreamCommandConnection();
+                args.block(block);
+                messages = connManager.awaitBlocking(
+                        streamCommands.xreadgroup(Consumer.from(group, consumer), args, offsets), block);
+            } else {
+                streamCommands = (RedisStreamAsyncCommands<K, String>) connManager.getStreamCommandConnection();
+                messages = connManager.await(streamCommands.xreadgroup(Consumer.from(group, consumer), args, offsets));
+            }
+            return createBStreamEntryArray(messages);
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(streamCommands);
+        }
+    }
+
+    public <K> long xAck(K key, K group, String[] ids) throws RedisConnectorException {
+        RedisStreamAsyncCommands<K, String> streamCommands = null;
+        try {
+            streamCommands = (RedisStreamAsyncCommands<K, String>) connManager.getStreamCommandConnection();
+            return connManager.await(streamCommands.xack(key, group, ids));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(streamCommands);
+        }
+    }
+
+    public <K> BMap<BString, Object> xAutoClaim(K key, K group, K consumer, Duration minIdleTime, String startId,
+                                                long count) throws RedisConnectorException {
+        RedisStreamAsyncCommands<K, String> streamCommands = null;
+        try {
+            streamCommands = (RedisStreamAsyncCommands<K, String>) connManager.getStreamCommandConnection();
+            XAutoClaimArgs<K> args = XAutoClaimArgs.Builder.xautoclaim(Consumer.from(group, consumer), minIdleTime,
+                    startId).count(count);
+            ClaimedMessages<K, String> claimed = connManager.await(streamCommands.xautoclaim(key, args));
+            return createBAutoClaimedEntries(claimed);
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(streamCommands);
+        }
+    }
+
+    public <K> BMap<BString, Object> xPending(K key, K group) throws RedisConnectorException {
+        RedisStreamAsyncCommands<K, String> streamCommands = null;
+        try {
+            streamCommands = (RedisStreamAsyncCommands<K, String>) connManager.getStreamCommandConnection();
+            PendingMessages pending = connManager.await(streamCommands.xpending(key, group));
+            return createBPendingSummary(pending);
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(streamCommands);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> StreamOffset<K>[] toStreamOffsets(Map<K, String> streams) {
+        StreamOffset<K>[] offsets = new StreamOffset[streams.size()];
+        int i = 0;
+        for (Map.Entry<K, String> stream : streams.entrySet()) {
+            offsets[i++] = StreamOffset.from(stream.getKey(), stream.getValue());
+        }
+        return offsets;
+    }
+}
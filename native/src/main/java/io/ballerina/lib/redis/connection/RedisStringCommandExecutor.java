@@ -22,11 +22,20 @@ import io.ballerina.lib.redis.exceptions.RedisConnectorException;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.SetArgs;
-import io.lettuce.core.api.sync.RedisStringCommands;
-
+import io.lettuce.core.api.async.BaseRedisAsyncCommands;
+import io.lettuce.core.api.async.RedisStringAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import static io.ballerina.lib.redis.utils.Constants.ARGUMENTS_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.KEYS_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.KEY_MUST_NOT_BE_NULL;
 import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
@@ -39,16 +48,18 @@ import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
 public class RedisStringCommandExecutor {
 
     private final RedisConnectionManager<?, ?> connManager;
+    private final RedisClusterBatchExecutor clusterBatchExecutor;
 
     public RedisStringCommandExecutor(RedisConnectionManager<?, ?> redisConnectionManager) {
         this.connManager = redisConnectionManager;
+        this.clusterBatchExecutor = new RedisClusterBatchExecutor(redisConnectionManager);
     }
 
     public <K, V> String set(K key, V value) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.set(key, value);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.set(key, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -59,10 +70,15 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> String get(K key) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            return stringCommands.get(key);
+            RedisClientSideCache<K, String> cache = (RedisClientSideCache<K, String>) connManager.getClientSideCache();
+            if (cache != null) {
+                return cache.get(key);
+            }
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            return connManager.awaitHedged(stringCommands.get(key),
+                    commands -> ((RedisStringAsyncCommands<K, String>) commands).get(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -72,11 +88,44 @@ public class RedisStringCommandExecutor {
         }
     }
 
+    public <K> byte[] getBytes(K key) throws RedisConnectorException {
+        BaseRedisAsyncCommands<K, byte[]> commands = null;
+        try {
+            commands = (BaseRedisAsyncCommands<K, byte[]>) connManager.getStringCommandConnection();
+            RedisCodec<K, byte[]> codec = (RedisCodec<K, byte[]>) connManager.getBinaryValueCodec();
+            CommandArgs<K, byte[]> args = new CommandArgs<>(codec).addKey(key);
+            return connManager.await(commands.dispatch(CommandType.GET, new ValueOutput<>(codec), args));
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(commands);
+        }
+    }
+
+    public <K> String setBytes(K key, byte[] value) throws RedisConnectorException {
+        BaseRedisAsyncCommands<K, byte[]> commands = null;
+        try {
+            commands = (BaseRedisAsyncCommands<K, byte[]>) connManager.getStringCommandConnection();
+            RedisCodec<K, byte[]> codec = (RedisCodec<K, byte[]>) connManager.getBinaryValueCodec();
+            CommandArgs<K, byte[]> args = new CommandArgs<>(codec).addKey(key).addValue(value);
+            return connManager.awaitWrite(commands,
+                    binaryCommands -> binaryCommands.dispatch(CommandType.SET, new StatusOutput<>(codec), args), key);
+        } catch (IllegalArgumentException e) {
+            throw new RedisConnectorException(ARGUMENTS_MUST_NOT_BE_NULL, e);
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        } finally {
+            connManager.releaseResources(commands);
+        }
+    }
+
     public long append(String key, String value) throws RedisConnectorException {
-        RedisStringCommands<String, String> stringCommands = null;
+        RedisStringAsyncCommands<String, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<String, String>) connManager.getStringCommandConnection();
-            return stringCommands.append(key, value);
+            stringCommands = (RedisStringAsyncCommands<String, String>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.append(key, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -87,10 +136,10 @@ public class RedisStringCommandExecutor {
     }
 
     public long bitCount(String key) throws RedisConnectorException {
-        RedisStringCommands<String, String> redisCommands = null;
+        RedisStringAsyncCommands<String, String> redisCommands = null;
         try {
-            redisCommands = (RedisStringCommands<String, String>) connManager.getStringCommandConnection();
-            return redisCommands.bitcount(key);
+            redisCommands = (RedisStringAsyncCommands<String, String>) connManager.getStringCommandConnection();
+            return connManager.await(redisCommands.bitcount(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -101,10 +150,11 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long bitopAnd(K destination, K[] keys) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.bitopAnd(destination, keys);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands,
+                    commands -> commands.bitopAnd(destination, keys), destination);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEYS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -115,10 +165,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long bitopOr(K destination, K[] keys) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.bitopOr(destination, keys);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.bitopOr(destination, keys), destination);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEYS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -129,10 +179,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long bitopNot(K destination, K key) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.bitopNot(destination, key);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.bitopNot(destination, key), destination);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEYS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -143,10 +193,11 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long bitopXor(K destination, K[] keys) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.bitopXor(destination, keys);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands,
+                    commands -> commands.bitopXor(destination, keys), destination);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -157,10 +208,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long decr(K key) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.decr(key);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.decr(key), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -171,10 +222,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long decrBy(K key, int value) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.decrby(key, value);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.decrby(key, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -185,10 +236,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long getBit(K key, int offset) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.getbit(key, offset);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.await(stringCommands.getbit(key, offset));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -199,10 +250,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> String getRange(K key, int start, int end) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            return stringCommands.getrange(key, start, end);
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            return connManager.await(stringCommands.getrange(key, start, end));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -213,10 +264,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> String getSet(K key, String value) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            return stringCommands.getset(key, value);
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.getset(key, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -227,10 +278,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long incr(K key) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.incr(key);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.incr(key), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -241,10 +292,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long incrBy(K key, int value) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.incrby(key, value);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.incrby(key, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -255,10 +306,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> double incrByFloat(K key, double value) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.incrbyfloat(key, value);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.incrbyfloat(key, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -269,10 +320,15 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> List<KeyValue<K, String>> mGet(K[] key) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            return stringCommands.mget(key);
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            if (connManager.isClusterConnection()) {
+                return clusterBatchExecutor.mGet((RedisAdvancedClusterAsyncCommands<K, String>) stringCommands,
+                        Arrays.asList(key));
+            }
+            return connManager.awaitHedged(stringCommands.mget(key),
+                    commands -> ((RedisStringAsyncCommands<K, String>) commands).mget(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEYS_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -283,10 +339,13 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> String mSet(Map<K, V> map) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.mset(map);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            if (connManager.isClusterConnection()) {
+                return clusterBatchExecutor.mSet((RedisAdvancedClusterAsyncCommands<K, V>) stringCommands, map);
+            }
+            return connManager.awaitWrite(stringCommands, commands -> commands.mset(map), map.keySet().toArray());
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -297,10 +356,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> boolean mSetnx(Map<K, V> map) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.msetnx(map);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.msetnx(map), map.keySet().toArray());
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -311,10 +370,11 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> String pSetex(K key, String value, long expirationPeriodMs) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            return stringCommands.psetex(key, expirationPeriodMs, value);
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands,
+                    commands -> commands.psetex(key, expirationPeriodMs, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -325,10 +385,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long setBit(K key, int value, long offset) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.setbit(key, offset, value);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.setbit(key, offset, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -339,10 +399,11 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> String setEx(K key, String value, long expirationPeriodSeconds) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            return stringCommands.setex(key, expirationPeriodSeconds, value);
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands,
+                    commands -> commands.setex(key, expirationPeriodSeconds, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -353,10 +414,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> boolean setNx(K key, String value) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            return stringCommands.setnx(key, value);
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.setnx(key, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -367,10 +428,11 @@ public class RedisStringCommandExecutor {
     }
 
     public <K> boolean setNxEx(K key, String value, long expirationPeriodSeconds) throws RedisConnectorException {
-        RedisStringCommands<K, String> stringCommands = null;
+        RedisStringAsyncCommands<K, String> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, String>) connManager.getStringCommandConnection();
-            String result = stringCommands.set(key, value, SetArgs.Builder.ex(expirationPeriodSeconds).nx());
+            stringCommands = (RedisStringAsyncCommands<K, String>) connManager.getStringCommandConnection();
+            SetArgs setArgs = SetArgs.Builder.ex(expirationPeriodSeconds).nx();
+            String result = connManager.awaitWrite(stringCommands, commands -> commands.set(key, value, setArgs), key);
             return result != null;
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
@@ -382,10 +444,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long setRange(K key, long offset, V value) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.setrange(key, offset, value);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.awaitWrite(stringCommands, commands -> commands.setrange(key, offset, value), key);
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
@@ -396,10 +458,10 @@ public class RedisStringCommandExecutor {
     }
 
     public <K, V> long strLen(K key) throws RedisConnectorException {
-        RedisStringCommands<K, V> stringCommands = null;
+        RedisStringAsyncCommands<K, V> stringCommands = null;
         try {
-            stringCommands = (RedisStringCommands<K, V>) connManager.getStringCommandConnection();
-            return stringCommands.strlen(key);
+            stringCommands = (RedisStringAsyncCommands<K, V>) connManager.getStringCommandConnection();
+            return connManager.await(stringCommands.strlen(key));
         } catch (IllegalArgumentException e) {
             throw new RedisConnectorException(KEY_MUST_NOT_BE_NULL, e);
         } catch (RedisException e) {
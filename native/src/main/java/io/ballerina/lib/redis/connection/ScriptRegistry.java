@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registry of the Lua scripts run through a client, by their SHA1 digest. The digest is computed locally, the same way
+ * as the server does, so that a script is run with {@code EVALSHA} without sending its body. The body is kept to load
+ * the script again when the server does not have it, such as after a restart, a failover or {@code SCRIPT FLUSH}.
+ * <p>
+ * At most {@value #MAX_SCRIPTS} scripts are kept, and the least recently used one is discarded beyond that, so that a
+ * client which generates scripts on the fly does not retain all of them. A discarded script is registered again when
+ * it is next run with {@code EVAL} or loaded.
+ *
+ * @since 3.4.0
+ */
+public class ScriptRegistry {
+
+    private static final String DIGEST_ALGORITHM = "SHA-1";
+    static final int MAX_SCRIPTS = 1024;
+
+    private final Map<String, String> scripts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_SCRIPTS;
+        }
+    };
+
+    /**
+     * Registers a script.
+     *
+     * @param script the body of the script
+     * @return the SHA1 digest of the script
+     */
+    public String register(String script) {
+        String digest = digest(script);
+        synchronized (scripts) {
+            scripts.putIfAbsent(digest, script);
+        }
+        return digest;
+    }
+
+    /**
+     * Returns the body of a registered script.
+     *
+     * @param digest the SHA1 digest of the script
+     * @return the body of the script, or null if no script is registered with the digest
+     */
+    public String get(String digest) {
+        synchronized (scripts) {
+            return scripts.get(digest.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static String digest(String script) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(messageDigest.digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+}
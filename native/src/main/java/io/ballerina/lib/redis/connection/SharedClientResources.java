@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.connection;
+
+import io.ballerina.lib.redis.config.ResourceConfig;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.resource.ClientResources;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Process-wide registry of the Lettuce {@link ClientResources}, which hold the Netty event loops, the computation
+ * thread pool and the timer used by the Redis clients.
+ * <p>
+ * Creating the resources per client would start a separate set of thread pools for every {@code redis:Client}.
+ * Instead, clients configured with the same thread pool sizes share a single instance, which is reference counted and
+ * shut down when the last client using it is closed.
+ *
+ * @since 3.4.0
+ */
+final class SharedClientResources {
+
+    private static final ResourceConfig DEFAULT_RESOURCE_CONFIG = new ResourceConfig(0, 0);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 15;
+    private static final Map<ResourceConfig, SharedResource> RESOURCES = new HashMap<>();
+
+    private SharedClientResources() {
+    }
+
+    /**
+     * Returns the resources shared by the clients with the given thread pool sizes, creating them if no such client
+     * is open. Every acquired instance must be released through {@link #release(ClientResources)}.
+     *
+     * @param resourceConfig thread pool sizes, or null for the Lettuce defaults
+     * @return the shared client resources
+     */
+    static synchronized ClientResources acquire(ResourceConfig resourceConfig) {
+        ResourceConfig key = normalize(resourceConfig);
+        SharedResource sharedResource = RESOURCES.computeIfAbsent(key,
+                config -> new SharedResource(createClientResources(config)));
+        sharedResource.references++;
+        return sharedResource.resources;
+    }
+
+    /**
+     * Releases resources obtained through {@link #acquire(ResourceConfig)}, shutting them down if they are no longer
+     * used by any client. The shutdown is awaited, so that the threads of the resources are no longer running when
+     * this returns.
+     *
+     * @param resources the shared client resources
+     * @throws RedisConnectorException if the resources could not be shut down within the shutdown timeout
+     */
+    static void release(ClientResources resources) throws RedisConnectorException {
+        if (!dereference(resources)) {
+            return;
+        }
+        try {
+            // the resources are no longer used by any client, so no quiet period is needed before shutting them down
+            boolean terminated = resources.shutdown(0, SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (!terminated) {
+                throw new RedisConnectorException("The thread pools of the client could not be shut down");
+            }
+        } catch (ExecutionException e) {
+            throw new RedisConnectorException("Error occurred while shutting down the thread pools of the client: %s"
+                    .formatted(e.getCause().getMessage()), e.getCause());
+        } catch (TimeoutException e) {
+            throw new RedisConnectorException("The thread pools of the client were not shut down within %d seconds"
+                    .formatted(SHUTDOWN_TIMEOUT_SECONDS), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisConnectorException("Interrupted while shutting down the thread pools of the client", e);
+        }
+    }
+
+    /**
+     * Removes a reference to the resources, and unregisters them if it was the last one. The shutdown is awaited
+     * outside of the lock, so that it does not delay the clients which are being created in the meantime.
+     *
+     * @return whether the resources are no longer used by any client
+     */
+    private static synchronized boolean dereference(ClientResources resources) {
+        Iterator<SharedResource> iterator = RESOURCES.values().iterator();
+        while (iterator.hasNext()) {
+            SharedResource sharedResource = iterator.next();
+            if (sharedResource.resources != resources) {
+                continue;
+            }
+            if (--sharedResource.references == 0) {
+                iterator.remove();
+                return true;
+            }
+            return false;
+        }
+        return false;
+    }
+
+    private static ResourceConfig normalize(ResourceConfig resourceConfig) {
+        if (resourceConfig == null) {
+            return DEFAULT_RESOURCE_CONFIG;
+        }
+        // non-positive sizes all fall back to the Lettuce defaults, so they are shared under a single key
+        return new ResourceConfig(Math.max(resourceConfig.ioThreads(), 0),
+                Math.max(resourceConfig.computationThreads(), 0));
+    }
+
+    private static ClientResources createClientResources(ResourceConfig resourceConfig) {
+        ClientResources.Builder builder = ClientResources.builder();
+        if (resourceConfig.ioThreads() > 0) {
+            builder.ioThreadPoolSize(resourceConfig.ioThreads());
+        }
+        if (resourceConfig.computationThreads() > 0) {
+            builder.computationThreadPoolSize(resourceConfig.computationThreads());
+        }
+        return builder.build();
+    }
+
+    private static final class SharedResource {
+
+        private final ClientResources resources;
+        private int references;
+
+        private SharedResource(ClientResources resources) {
+            this.resources = resources;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.exceptions;
+
+/**
+ * Exception thrown when a command is not sent because the circuit breaker of the client is open.
+ *
+ * @since 3.4.0
+ */
+public class CircuitOpenException extends RedisConnectorException {
+
+    /**
+     * Creates a Circuit Open Exception.
+     *
+     * @param message Relevant exception message.
+     */
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.listener;
+
+import io.ballerina.lib.redis.config.KeyEventType;
+import io.ballerina.lib.redis.config.KeyspaceConfig;
+import io.ballerina.lib.redis.config.SubscriptionConfig;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBKeyEvent;
+
+/**
+ * Dispatches the keyspace notifications received for a service as batches of key events. The events of a batch
+ * window are coalesced per key, so that a key which changes many times within the window is delivered once, with its
+ * last event.
+ *
+ * @since 3.4.0
+ */
+public class KeyEventDispatcher extends ServiceDispatcher {
+
+    private static final String ON_KEY_EVENTS = "onKeyEvents";
+    private static final String KEYSPACE_CHANNEL_PREFIX = "__keyspace@";
+    private static final String KEYSPACE_CHANNEL_DB_SEPARATOR = "__:";
+
+    private final KeyspaceConfig keyspaceConfig;
+    private final ScheduledExecutorService flushScheduler;
+    // insertion ordered, so that the batch is delivered in the order of the last events of the keys
+    private final Map<KeyRef, KeyEventType> batch = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public KeyEventDispatcher(Runtime runtime, BObject service, KeyspaceConfig keyspaceConfig) {
+        super(runtime, service, ON_KEY_EVENTS, new SubscriptionConfig(List.of(),
+                List.of(getKeyspacePattern(keyspaceConfig)), false, keyspaceConfig.queueCapacity(), 1,
+                keyspaceConfig.overflowPolicy()));
+        this.keyspaceConfig = keyspaceConfig;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-keyspace-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the pattern of the keyspace channels of the keys and databases of the listener. The channel of a key
+     * event is {@code __keyspace@<db>__:<key>}, and its message is the name of the event.
+     *
+     * @param keyspaceConfig the keyspace listener configurations
+     * @return the keyspace channel pattern
+     */
+    public static String getKeyspacePattern(KeyspaceConfig keyspaceConfig) {
+        String db = keyspaceConfig.db() != null ? keyspaceConfig.db().toString() : "*";
+        return KEYSPACE_CHANNEL_PREFIX + db + KEYSPACE_CHANNEL_DB_SEPARATOR + keyspaceConfig.keyPattern();
+    }
+
+    @Override
+    public void onMessage(String channel, String pattern, String message) {
+        KeyEventType type = KeyEventType.fromEventName(message);
+        if (type == null || !keyspaceConfig.events().contains(type) || !channel.startsWith(KEYSPACE_CHANNEL_PREFIX)) {
+            return;
+        }
+        int separator = channel.indexOf(KEYSPACE_CHANNEL_DB_SEPARATOR, KEYSPACE_CHANNEL_PREFIX.length());
+        if (separator < 0) {
+            return;
+        }
+        long db;
+        try {
+            db = Long.parseLong(channel.substring(KEYSPACE_CHANNEL_PREFIX.length(), separator));
+        } catch (NumberFormatException e) {
+            return;
+        }
+        String key = channel.substring(separator + KEYSPACE_CHANNEL_DB_SEPARATOR.length());
+        add(new KeyRef(db, key), type);
+    }
+
+    @Override
+    public void stop(boolean graceful) {
+        flushScheduler.shutdownNow();
+        if (graceful) {
+            flush();
+        }
+        super.stop(graceful);
+    }
+
+    private void add(KeyRef keyRef, KeyEventType type) {
+        BArray events = null;
+        synchronized (this) {
+            // the key is moved to the end, as its earlier event is superseded
+            batch.remove(keyRef);
+            batch.put(keyRef, type);
+            if (batch.size() >= keyspaceConfig.maxBatchSize()) {
+                events = drain();
+            } else if (scheduledFlush == null && !flushScheduler.isShutdown()) {
+                scheduledFlush = flushScheduler.schedule(this::flush, keyspaceConfig.batchWindow().toNanos(),
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+        if (events != null) {
+            offer(events);
+        }
+    }
+
+    private void flush() {
+        BArray events;
+        synchronized (this) {
+            events = drain();
+        }
+        if (events != null) {
+            offer(events);
+        }
+    }
+
+    private BArray drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (batch.isEmpty()) {
+            return null;
+        }
+        BArray events = null;
+        for (Map.Entry<KeyRef, KeyEventType> entry : batch.entrySet()) {
+            BMap<BString, Object> event = createBKeyEvent(entry.getValue().getEventName(), entry.getKey().key(),
+                    entry.getKey().db());
+            if (events == null) {
+                events = ValueCreator.createArrayValue(TypeCreator.createArrayType(event.getType()));
+            }
+            events.append(event);
+        }
+        batch.clear();
+        return events;
+    }
+
+    private record KeyRef(long db, String key) {
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.listener;
+
+import io.ballerina.lib.redis.config.ConfigMapper;
+import io.ballerina.lib.redis.config.ConnectionConfig;
+import io.ballerina.lib.redis.config.KeyspaceConfig;
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.codec.StringCodec;
+
+import static io.ballerina.lib.redis.listener.PubSubListener.getSubscriber;
+import static io.ballerina.lib.redis.utils.Constants.KEYSPACE_CONFIG_OBJ;
+import static io.ballerina.lib.redis.utils.Constants.LISTENER_OBJ;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+
+/**
+ * Ballerina native util implementation for the redis keyspace listener. The listener is stopped, and its services
+ * are detached, through {@link PubSubListener}.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings("unused")
+public final class KeyspaceListener {
+
+    private KeyspaceListener() {
+    }
+
+    /**
+     * Initialize the listener, enable the keyspace notifications if configured, and open its Pub/Sub connection.
+     *
+     * @param listener       Ballerina redis keyspace listener
+     * @param keyspaceConfig Key events delivered by the listener
+     * @param config         Connection configuration of the listener
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object initListener(Environment env, BObject listener, BMap<BString, Object> keyspaceConfig,
+                                      BMap<BString, Object> config) {
+        try {
+            KeyspaceConfig keyspace = ConfigMapper.keyspaceFrom(keyspaceConfig);
+            ConnectionConfig connectionConfig = ConfigMapper.from(config);
+            RedisConnectionManager<String, String> connManager = new RedisConnectionManager<>(new StringCodec());
+            connManager.enableReadBackpressure();
+            connManager.init(connectionConfig);
+            try {
+                if (keyspace.enableNotifications()) {
+                    KeyspaceNotifications.enable(connManager, keyspace.events());
+                }
+                // keyspace notifications are published only on the node where the event occurs
+                listener.addNativeData(LISTENER_OBJ, new PubSubSubscriber(env.getRuntime(), connManager, true));
+                listener.addNativeData(KEYSPACE_CONFIG_OBJ, keyspace);
+            } catch (RedisConnectorException | RuntimeException e) {
+                connManager.shutdownAfterFailure(e);
+                throw e;
+            }
+            return null;
+        } catch (Throwable e) {
+            String errMsg = "Error while initializing the redis keyspace listener: " + e.getMessage();
+            return createBError(new RedisConnectorException(errMsg, e.getCause()));
+        }
+    }
+
+    /**
+     * Attach a service to the listener, which receives the key events in batches.
+     *
+     * @param listener Ballerina redis keyspace listener
+     * @param service  Ballerina service
+     * @param name     Name of the service. Not used
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object attach(Environment env, BObject listener, BObject service, Object name) {
+        return env.yieldAndRun(() -> {
+            try {
+                KeyspaceConfig keyspace = (KeyspaceConfig) listener.getNativeData(KEYSPACE_CONFIG_OBJ);
+                getSubscriber(listener).attach(new KeyEventDispatcher(env.getRuntime(), service, keyspace));
+                return null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.listener;
+
+import io.ballerina.lib.redis.config.KeyEventType;
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.async.RedisServerAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
+
+/**
+ * Enables the keyspace notifications of key event types on the server, through the {@code notify-keyspace-events}
+ * configuration. The classes already enabled are kept, so that the notifications relied on by other clients are not
+ * disabled.
+ *
+ * @since 3.4.0
+ */
+public final class KeyspaceNotifications {
+
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    private static final char KEYSPACE_CLASS = 'K';
+    private static final char ALL_CLASSES_ALIAS = 'A';
+    private static final String ALL_CLASSES = "g$lshzxetd";
+
+    private KeyspaceNotifications() {
+    }
+
+    /**
+     * Enables the keyspace notifications of the given event types. In cluster mode, they are enabled on all the
+     * masters, as the notifications are published only on the node where the event occurs.
+     *
+     * @param connManager the connection manager of the listener
+     * @param events      the key event types
+     */
+    public static void enable(RedisConnectionManager<String, String> connManager, Set<KeyEventType> events)
+            throws RedisConnectorException {
+        StringBuilder requiredClasses = new StringBuilder().append(KEYSPACE_CLASS);
+        events.forEach(event -> requiredClasses.append(event.getNotificationClass()));
+        if (connManager.isClusterConnection()) {
+            RedisAdvancedClusterAsyncCommands<String, String> clusterCommands = null;
+            try {
+                clusterCommands = connManager.getRedisClusterAsyncCommands();
+                for (RedisAsyncCommands<String, String> nodeCommands : clusterCommands.masters().asMap().values()) {
+                    enableOnNode(connManager, nodeCommands, requiredClasses.toString());
+                }
+            } finally {
+                connManager.releaseResources(clusterCommands);
+            }
+        } else {
+            RedisAsyncCommands<String, String> redisCommands = null;
+            try {
+                redisCommands = connManager.getRedisAsyncCommands();
+                enableOnNode(connManager, redisCommands, requiredClasses.toString());
+            } finally {
+                connManager.releaseResources(redisCommands);
+            }
+        }
+    }
+
+    private static void enableOnNode(RedisConnectionManager<String, String> connManager,
+                                     RedisServerAsyncCommands<String, String> commands, String requiredClasses)
+            throws RedisConnectorException {
+        try {
+            Map<String, String> config = connManager.await(commands.configGet(NOTIFY_KEYSPACE_EVENTS));
+            String currentClasses = config.getOrDefault(NOTIFY_KEYSPACE_EVENTS, "");
+            String classes = mergeClasses(currentClasses, requiredClasses);
+            if (!classes.equals(currentClasses)) {
+                connManager.await(commands.configSet(NOTIFY_KEYSPACE_EVENTS, classes));
+            }
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + "could not enable the keyspace notifications: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private static String mergeClasses(String currentClasses, String requiredClasses) {
+        StringBuilder classes = new StringBuilder(currentClasses);
+        boolean allClasses = currentClasses.indexOf(ALL_CLASSES_ALIAS) >= 0;
+        for (char requiredClass : requiredClasses.toCharArray()) {
+            boolean enabled = classes.indexOf(String.valueOf(requiredClass)) >= 0
+                    || (allClasses && ALL_CLASSES.indexOf(requiredClass) >= 0);
+            if (!enabled) {
+                classes.append(requiredClass);
+            }
+        }
+        return classes.toString();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.listener;
+
+import io.ballerina.lib.redis.config.ConfigMapper;
+import io.ballerina.lib.redis.config.ConnectionConfig;
+import io.ballerina.lib.redis.config.SubscriptionConfig;
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.ballerina.lib.redis.utils.ModuleUtils;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.AnnotatableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.codec.StringCodec;
+
+import java.util.List;
+
+import static io.ballerina.lib.redis.utils.Constants.LISTENER_OBJ;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBError;
+import static io.ballerina.lib.redis.utils.ConversionUtils.createStringArrayFromBArray;
+
+/**
+ * Ballerina native util implementation for the redis Pub/Sub listener.
+ *
+ * @since 3.4.0
+ */
+@SuppressWarnings("unused")
+public final class PubSubListener {
+
+    private static final String SERVICE_CONFIG_ANNOTATION = "ServiceConfig";
+
+    private PubSubListener() {
+    }
+
+    /**
+     * Initialize the listener, and open its Pub/Sub connection.
+     *
+     * @param listener Ballerina redis listener
+     * @param config   Connection configuration of the listener
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object initListener(Environment env, BObject listener, BMap<BString, Object> config) {
+        try {
+            ConnectionConfig connectionConfig = ConfigMapper.from(config);
+            RedisConnectionManager<String, String> connManager = new RedisConnectionManager<>(new StringCodec());
+            connManager.enableReadBackpressure();
+            connManager.init(connectionConfig);
+            try {
+                listener.addNativeData(LISTENER_OBJ, new PubSubSubscriber(env.getRuntime(), connManager));
+            } catch (RedisConnectorException | RuntimeException e) {
+                connManager.shutdownAfterFailure(e);
+                throw e;
+            }
+            return null;
+        } catch (Throwable e) {
+            String errMsg = "Error while initializing the redis listener: " + e.getMessage();
+            return createBError(new RedisConnectorException(errMsg, e.getCause()));
+        }
+    }
+
+    /**
+     * Attach a service to the listener.
+     *
+     * @param listener Ballerina redis listener
+     * @param service  Ballerina service
+     * @param name     Channels to which the service subscribes, in addition to those of its service config
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object attach(Environment env, BObject listener, BObject service, Object name) {
+        return env.yieldAndRun(() -> {
+            try {
+                getSubscriber(listener).attach(service, getSubscriptionConfig(service, name));
+                return null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Detach a service from the listener.
+     *
+     * @param listener Ballerina redis listener
+     * @param service  Ballerina service
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object detach(Environment env, BObject listener, BObject service) {
+        return env.yieldAndRun(() -> {
+            try {
+                getSubscriber(listener).detach(service);
+                return null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Start the listener, which subscribes to the channels of the attached services.
+     *
+     * @param listener Ballerina redis listener
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object start(Environment env, BObject listener) {
+        return env.yieldAndRun(() -> {
+            try {
+                getSubscriber(listener).start();
+                return null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    /**
+     * Stop the listener after the queued messages are dispatched.
+     *
+     * @param listener Ballerina redis listener
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object gracefulStop(Environment env, BObject listener) {
+        return stop(env, listener, true);
+    }
+
+    /**
+     * Stop the listener, discarding the queued messages.
+     *
+     * @param listener Ballerina redis listener
+     * @return `nil` if successful, or an error otherwise
+     */
+    public static Object immediateStop(Environment env, BObject listener) {
+        return stop(env, listener, false);
+    }
+
+    private static Object stop(Environment env, BObject listener, boolean graceful) {
+        return env.yieldAndRun(() -> {
+            try {
+                getSubscriber(listener).stop(graceful);
+                return null;
+            } catch (Throwable e) {
+                return createBError(e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SubscriptionConfig getSubscriptionConfig(BObject service, Object name) {
+        List<String> names;
+        if (name instanceof BString channel) {
+            names = List.of(channel.getValue());
+        } else if (name instanceof BArray channels) {
+            names = List.of(createStringArrayFromBArray(channels));
+        } else {
+            names = List.of();
+        }
+        BMap<BString, Object> serviceConfig = (BMap<BString, Object>) getServiceAnnotation(service,
+                SERVICE_CONFIG_ANNOTATION);
+        return ConfigMapper.subscriptionFrom(serviceConfig, names);
+    }
+
+    static Object getServiceAnnotation(BObject service, String annotationName) {
+        return ((AnnotatableType) service.getOriginalType()).getAnnotation(
+                StringUtils.fromString(ModuleUtils.getPackageIdentifier() + ":" + annotationName));
+    }
+
+    static PubSubSubscriber getSubscriber(BObject listener) {
+        return (PubSubSubscriber) listener.getNativeData(LISTENER_OBJ);
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.listener;
+
+import io.ballerina.lib.redis.config.SubscriptionConfig;
+import io.ballerina.lib.redis.connection.RedisConnectionManager;
+import io.ballerina.lib.redis.exceptions.RedisConnectorException;
+import io.ballerina.lib.redis.observability.RedisMetrics;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BObject;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.cluster.api.async.AsyncExecutions;
+import io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection;
+import io.lettuce.core.cluster.pubsub.api.async.NodeSelectionPubSubAsyncCommands;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import static io.ballerina.lib.redis.utils.Constants.REDIS_SERVER_ERROR;
+
+/**
+ * Subscribes to the channels, patterns and shard channels of the services attached to a Pub/Sub listener over a
+ * connection of its own, and routes the received messages to the dispatchers of the services. A channel is subscribed
+ * to once, however many services it is routed to.
+ *
+ * @since 3.4.0
+ */
+public class PubSubSubscriber extends RedisPubSubAdapter<String, String> {
+
+    private static final String ON_MESSAGE = "onMessage";
+
+    private final Runtime runtime;
+    private final RedisConnectionManager<String, String> connManager;
+    private final StatefulRedisPubSubConnection<String, String> connection;
+    private final Map<BObject, ServiceDispatcher> dispatchers = new IdentityHashMap<>();
+    private final Map<String, CopyOnWriteArrayList<ServiceDispatcher>> channelRoutes = new ConcurrentHashMap<>();
+    private final Map<String, CopyOnWriteArrayList<ServiceDispatcher>> patternRoutes = new ConcurrentHashMap<>();
+    private final Map<String, CopyOnWriteArrayList<ServiceDispatcher>> shardChannelRoutes = new ConcurrentHashMap<>();
+    private final boolean nodeLocalPatterns;
+    private final LongConsumer droppedMessages;
+    private boolean started;
+    private boolean stopped;
+
+    public PubSubSubscriber(Runtime runtime, RedisConnectionManager<String, String> connManager)
+            throws RedisConnectorException {
+        this(runtime, connManager, false);
+    }
+
+    /**
+     * Creates a subscriber over a Pub/Sub connection of its own.
+     *
+     * @param runtime           the Ballerina runtime, through which the messages are dispatched
+     * @param connManager       the connection manager of the listener
+     * @param nodeLocalPatterns whether the patterns match channels which are published to only on the node where the
+     *                          event occurs, such as those of the keyspace notifications. In cluster mode, such
+     *                          patterns are subscribed to on all the masters
+     */
+    public PubSubSubscriber(Runtime runtime, RedisConnectionManager<String, String> connManager,
+                            boolean nodeLocalPatterns) throws RedisConnectorException {
+        this.runtime = runtime;
+        this.connManager = connManager;
+        this.nodeLocalPatterns = nodeLocalPatterns;
+        RedisMetrics metrics = connManager.getMetrics();
+        this.droppedMessages = metrics != null ? metrics.registerDroppedMessages() : count -> { };
+        this.connection = connManager.connectPubSub();
+        this.connection.addListener(this);
+    }
+
+    public RedisConnectionManager<String, String> getConnectionManager() {
+        return connManager;
+    }
+
+    /**
+     * Attaches a service, whose messages are dispatched to its {@code onMessage} method. The channels of the service
+     * are subscribed to right away when the listener has already started.
+     *
+     * @param service the Ballerina service
+     * @param config  the subscriptions of the service
+     */
+    public synchronized void attach(BObject service, SubscriptionConfig config) throws RedisConnectorException {
+        attach(new ServiceDispatcher(runtime, service, ON_MESSAGE, config));
+    }
+
+    /**
+     * Attaches a service through a dispatcher, which may dispatch the messages to another method of the service.
+     *
+     * @param dispatcher the dispatcher of the service
+     */
+    public synchronized void attach(ServiceDispatcher dispatcher) throws RedisConnectorException {
+        BObject service = dispatcher.getService();
+        SubscriptionConfig config = dispatcher.getConfig();
+        if (stopped) {
+            throw new RedisConnectorException("The listener has been stopped");
+        }
+        if (dispatchers.containsKey(service)) {
+            throw new RedisConnectorException("The service is already attached to the listener");
+        }
+        if (config.channels().isEmpty() && config.patterns().isEmpty()) {
+            throw new RedisConnectorException("The service does not subscribe to any channel or pattern");
+        }
+        if (config.sharded() && !config.patterns().isEmpty()) {
+            throw new RedisConnectorException("Patterns cannot be subscribed to as shard channels");
+        }
+        dispatcher.bind(connManager.getReadBackpressure(), droppedMessages);
+        dispatchers.put(service, dispatcher);
+        Map<String, CopyOnWriteArrayList<ServiceDispatcher>> channelRouteMap =
+                config.sharded() ? shardChannelRoutes : channelRoutes;
+        List<String> newChannels = addRoutes(channelRouteMap, config.channels(), dispatcher);
+        List<String> newPatterns = addRoutes(patternRoutes, config.patterns(), dispatcher);
+        if (started) {
+            dispatcher.start();
+            subscribe(config.sharded() ? List.of() : newChannels, newPatterns, config.sharded() ? newChannels
+                    : List.of());
+        }
+    }
+
+    /**
+     * Detaches a service. The channels which are not subscribed to by other services are unsubscribed from, and the
+     * messages queued for the service are dispatched before this returns.
+     *
+     * @param service the Ballerina service
+     */
+    public void detach(BObject service) throws RedisConnectorException {
+        ServiceDispatcher dispatcher;
+        synchronized (this) {
+            dispatcher = dispatchers.remove(service);
+            if (dispatcher == null) {
+                return;
+            }
+            SubscriptionConfig config = dispatcher.getConfig();
+            Map<String, CopyOnWriteArrayList<ServiceDispatcher>> channelRouteMap =
+                    config.sharded() ? shardChannelRoutes : channelRoutes;
+            List<String> unusedChannels = removeRoutes(channelRouteMap, config.channels(), dispatcher);
+            List<String> unusedPatterns = removeRoutes(patternRoutes, config.patterns(), dispatcher);
+            if (started && !stopped) {
+                unsubscribe(config.sharded() ? List.of() : unusedChannels, unusedPatterns,
+                        config.sharded() ? unusedChannels : List.of());
+            }
+        }
+        dispatcher.stop(true);
+    }
+
+    /**
+     * Starts the dispatchers of the attached services, and subscribes to their channels and patterns.
+     */
+    public synchronized void start() throws RedisConnectorException {
+        if (started) {
+            return;
+        }
+        if (stopped) {
+            throw new RedisConnectorException("The listener has been stopped");
+        }
+        started = true;
+        dispatchers.values().forEach(ServiceDispatcher::start);
+        subscribe(new ArrayList<>(channelRoutes.keySet()), new ArrayList<>(patternRoutes.keySet()),
+                new ArrayList<>(shardChannelRoutes.keySet()));
+    }
+
+    /**
+     * Stops receiving messages and closes the connection. A graceful stop unsubscribes from all the channels first,
+     * and waits for the queued messages to be dispatched. An immediate stop discards them.
+     *
+     * @param graceful whether the queued messages are dispatched before the listener stops
+     * @throws RedisConnectorException if the resources of the connection could not be shut down
+     */
+    public void stop(boolean graceful) throws RedisConnectorException {
+        List<ServiceDispatcher> stoppedDispatchers;
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            stoppedDispatchers = new ArrayList<>(dispatchers.values());
+            if (graceful && started) {
+                try {
+                    unsubscribe(new ArrayList<>(channelRoutes.keySet()), new ArrayList<>(patternRoutes.keySet()),
+                            new ArrayList<>(shardChannelRoutes.keySet()));
+                } catch (RedisConnectorException e) {
+                    // the connection is closed right after, which ends the subscriptions anyway
+                }
+            }
+        }
+        try {
+            connection.close();
+            stoppedDispatchers.forEach(dispatcher -> dispatcher.stop(graceful));
+        } finally {
+            connManager.shutdown();
+        }
+    }
+
+    @Override
+    public void message(String channel, String message) {
+        route(channelRoutes.get(channel), channel, null, message);
+    }
+
+    @Override
+    public void message(String pattern, String channel, String message) {
+        route(patternRoutes.get(pattern), channel, pattern, message);
+    }
+
+    @Override
+    public void smessage(String shardChannel, String message) {
+        route(shardChannelRoutes.get(shardChannel), shardChannel, null, message);
+    }
+
+    private void route(List<ServiceDispatcher> routes, String channel, String pattern, String message) {
+        if (routes == null) {
+            return;
+        }
+        for (ServiceDispatcher dispatcher : routes) {
+            dispatcher.onMessage(channel, pattern, message);
+        }
+    }
+
+    private void subscribe(List<String> channels, List<String> patterns, List<String> shardChannels)
+            throws RedisConnectorException {
+        RedisPubSubAsyncCommands<String, String> commands = connection.async();
+        try {
+            if (!channels.isEmpty()) {
+                connManager.await(commands.subscribe(channels.toArray(String[]::new)));
+            }
+            if (!patterns.isEmpty()) {
+                String[] patternArray = patterns.toArray(String[]::new);
+                if (!awaitOnMasters(nodeCommands -> nodeCommands.psubscribe(patternArray))) {
+                    connManager.await(commands.psubscribe(patternArray));
+                }
+            }
+            if (!shardChannels.isEmpty()) {
+                connManager.await(commands.ssubscribe(shardChannels.toArray(String[]::new)));
+            }
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        }
+    }
+
+    private void unsubscribe(List<String> channels, List<String> patterns, List<String> shardChannels)
+            throws RedisConnectorException {
+        RedisPubSubAsyncCommands<String, String> commands = connection.async();
+        try {
+            if (!channels.isEmpty()) {
+                connManager.await(commands.unsubscribe(channels.toArray(String[]::new)));
+            }
+            if (!patterns.isEmpty()) {
+                String[] patternArray = patterns.toArray(String[]::new);
+                if (!awaitOnMasters(nodeCommands -> nodeCommands.punsubscribe(patternArray))) {
+                    connManager.await(commands.punsubscribe(patternArray));
+                }
+            }
+            if (!shardChannels.isEmpty()) {
+                connManager.await(commands.sunsubscribe(shardChannels.toArray(String[]::new)));
+            }
+        } catch (RedisException e) {
+            throw new RedisConnectorException(REDIS_SERVER_ERROR + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sends a subscription command of node-local patterns to all the masters of the cluster, whose messages are
+     * propagated to the listeners of the cluster connection. Masters which join the cluster later are not subscribed
+     * to.
+     *
+     * @return false if the command has to be sent over the connection instead, as the patterns are not node-local or
+     * the connection is not a cluster connection
+     */
+    private boolean awaitOnMasters(
+            Function<NodeSelectionPubSubAsyncCommands<String, String>, AsyncExecutions<Void>> command)
+            throws RedisConnectorException {
+        if (!nodeLocalPatterns || !(connection instanceof StatefulRedisClusterPubSubConnection<String, String>
+                clusterConnection)) {
+            return false;
+        }
+        AsyncExecutions<Void> executions = command.apply(clusterConnection.async().masters().commands());
+        if (!LettuceFutures.awaitAll(connManager.getCommandTimeout(), executions.futures())) {
+            throw new RedisConnectorException("Timed out while subscribing on the cluster masters");
+        }
+        return true;
+    }
+
+    private static List<String> addRoutes(Map<String, CopyOnWriteArrayList<ServiceDispatcher>> routes,
+                                          List<String> names, ServiceDispatcher dispatcher) {
+        List<String> newNames = new ArrayList<>();
+        for (String name : names) {
+            CopyOnWriteArrayList<ServiceDispatcher> dispatchersOfName =
+                    routes.computeIfAbsent(name, key -> new CopyOnWriteArrayList<>());
+            if (dispatchersOfName.isEmpty()) {
+                newNames.add(name);
+            }
+            dispatchersOfName.addIfAbsent(dispatcher);
+        }
+        return newNames;
+    }
+
+    private static List<String> removeRoutes(Map<String, CopyOnWriteArrayList<ServiceDispatcher>> routes,
+                                             List<String> names, ServiceDispatcher dispatcher) {
+        List<String> unusedNames = new ArrayList<>();
+        for (String name : names) {
+            CopyOnWriteArrayList<ServiceDispatcher> dispatchersOfName = routes.get(name);
+            if (dispatchersOfName == null) {
+                continue;
+            }
+            dispatchersOfName.remove(dispatcher);
+            if (dispatchersOfName.isEmpty()) {
+                routes.remove(name);
+                unusedNames.add(name);
+            }
+        }
+        return unusedNames;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.listener;
+
+import io.ballerina.lib.redis.config.OverflowPolicy;
+import io.ballerina.lib.redis.config.SubscriptionConfig;
+import io.ballerina.lib.redis.connection.ReadBackpressure;
+import io.ballerina.lib.redis.utils.ModuleUtils;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static io.ballerina.lib.redis.utils.ConversionUtils.createBMessage;
+
+/**
+ * Dispatches the messages received for a service to one of its remote methods. The messages wait in a bounded queue
+ * of the service, from which a fixed number of worker threads dispatch them, so that a slow service neither holds the
+ * I/O thread of the connection nor delays the messages of the other services.
+ *
+ * @since 3.4.0
+ */
+public class ServiceDispatcher {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final String LOG_DISPATCH_ERROR_FUNCTION = "logDispatchError";
+
+    private final Runtime runtime;
+    private final BObject service;
+    private final String methodName;
+    private final SubscriptionConfig config;
+    private final boolean concurrentSafe;
+    private final BlockingQueue<Object> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    // messages received while the reads are paused under the BLOCK policy, which are queued as the queue drains
+    private final Deque<Object> overflow = new ArrayDeque<>();
+    private volatile boolean readsPaused;
+    private ReadBackpressure readBackpressure;
+    private LongConsumer droppedMessages = count -> { };
+    private volatile boolean accepting;
+    private volatile boolean draining;
+
+    public ServiceDispatcher(Runtime runtime, BObject service, String methodName, SubscriptionConfig config) {
+        this.runtime = runtime;
+        this.service = service;
+        this.methodName = methodName;
+        this.config = config;
+        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        // messages are dispatched to an isolated method of an isolated service without locking, on several threads
+        this.concurrentSafe = serviceType.isIsolated() && serviceType.isIsolated(methodName);
+        this.queue = new ArrayBlockingQueue<>(config.queueCapacity());
+    }
+
+    public BObject getService() {
+        return service;
+    }
+
+    public SubscriptionConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Binds the dispatcher to the connection of the listener, before it is started.
+     *
+     * @param readBackpressure pauses the reads of the connection under the {@link OverflowPolicy#BLOCK} policy
+     * @param droppedMessages  records the number of discarded messages
+     */
+    void bind(ReadBackpressure readBackpressure, LongConsumer droppedMessages) {
+        this.readBackpressure = readBackpressure;
+        this.droppedMessages = droppedMessages;
+    }
+
+    /**
+     * Starts the worker threads. Messages offered before the dispatcher is started are discarded.
+     */
+    public synchronized void start() {
+        if (accepting) {
+            return;
+        }
+        accepting = true;
+        draining = true;
+        int concurrency = Math.max(1, config.maxConcurrency());
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(this::dispatchMessages, "redis-listener-dispatcher-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Handles a message received from a channel subscribed to by the service, which is dispatched as a
+     * {@code redis:Message} record.
+     *
+     * @param channel the channel to which the message was published
+     * @param pattern the pattern matched by the channel, or null if the channel was subscribed to by its name
+     * @param message the payload of the message
+     */
+    public void onMessage(String channel, String pattern, String message) {
+        offer(createBMessage(channel, pattern, message));
+    }
+
+    /**
+     * Queues a message to be dispatched, applying the overflow policy when the queue is full. This is called by the
+     * I/O thread of the connection, which is never held, as it also serves the connections of the other clients.
+     *
+     * @param message the argument of the remote method
+     */
+    protected void offer(Object message) {
+        if (!accepting) {
+            droppedMessages.accept(1);
+            return;
+        }
+        switch (config.overflowPolicy()) {
+            case BLOCK -> offerOrPauseReads(message);
+            case DROP_OLDEST -> {
+                while (!queue.offer(message)) {
+                    if (queue.poll() != null) {
+                        droppedMessages.accept(1);
+                    }
+                }
+            }
+            case DROP_NEWEST -> {
+                if (!queue.offer(message)) {
+                    droppedMessages.accept(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the dispatcher. A graceful stop waits for the queued messages to be dispatched, while an immediate stop
+     * discards them and waits only for the messages being dispatched.
+     *
+     * @param graceful whether the queued messages are dispatched before the dispatcher stops
+     */
+    public void stop(boolean graceful) {
+        List<Thread> stoppedWorkers;
+        synchronized (this) {
+            accepting = false;
+            if (!graceful) {
+                draining = false;
+                synchronized (overflow) {
+                    droppedMessages.accept(queue.size() + overflow.size());
+                    queue.clear();
+                    overflow.clear();
+                    resumeReads();
+                }
+            }
+            stoppedWorkers = new ArrayList<>(workers);
+            workers.clear();
+        }
+        try {
+            for (Thread worker : stoppedWorkers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // the reads of the connection must not stay paused by a dispatcher which no longer dispatches
+            synchronized (overflow) {
+                resumeReads();
+            }
+        }
+    }
+
+    /**
+     * Queues a message under the {@link OverflowPolicy#BLOCK} policy. When the queue is full, the message is held in
+     * the overflow and the reads of the connection are paused, so that the server buffers the next messages. Only the
+     * messages already read from the connection are held, until the workers make room for them in the queue.
+     */
+    private void offerOrPauseReads(Object message) {
+        synchronized (overflow) {
+            // a held message is queued before the received one, so that the messages are dispatched in order
+            if (overflow.isEmpty() && queue.offer(message)) {
+                return;
+            }
+            overflow.add(message);
+            readsPaused = true;
+            if (readBackpressure != null) {
+                readBackpressure.pause(this);
+            }
+        }
+    }
+
+    /**
+     * Moves the held messages to the queue as it drains, and resumes the reads once the queue is half empty, so that
+     * the reads are not paused and resumed for every message.
+     */
+    private void refillQueue() {
+        if (!readsPaused) {
+            return;
+        }
+        synchronized (overflow) {
+            while (!overflow.isEmpty() && queue.offer(overflow.peek())) {
+                overflow.poll();
+            }
+            if (overflow.isEmpty() && queue.size() <= config.queueCapacity() / 2) {
+                resumeReads();
+            }
+        }
+    }
+
+    private void resumeReads() {
+        if (readsPaused) {
+            readsPaused = false;
+            if (readBackpressure != null) {
+                readBackpressure.resume(this);
+            }
+        }
+    }
+
+    private void dispatchMessages() {
+        // messages are held in the overflow only while the reads are paused
+        while (accepting || (draining && (!queue.isEmpty() || readsPaused))) {
+            refillQueue();
+            Object message;
+            try {
+                message = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (message != null) {
+                dispatch(message);
+            }
+        }
+    }
+
+    private void dispatch(Object message) {
+        try {
+            Object result = runtime.callMethod(service, methodName, new StrandMetadata(concurrentSafe, null), message);
+            if (result instanceof BError error) {
+                logDispatchError("Error returned by the %s method of the service".formatted(methodName), error);
+            }
+        } catch (BError error) {
+            // a panic of the service must not stop the worker, so that the next messages are still dispatched
+            logDispatchError("The %s method of the service panicked".formatted(methodName), error);
+        }
+    }
+
+    private void logDispatchError(String message, BError error) {
+        try {
+            runtime.callFunction(ModuleUtils.getModule(), LOG_DISPATCH_ERROR_FUNCTION, new StrandMetadata(true, null),
+                    StringUtils.fromString(message), error);
+        } catch (BError logError) {
+            // the worker keeps dispatching the next messages even if the error could not be logged
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.redis.observability;
+
+import io.ballerina.lib.redis.connection.CircuitBreaker;
+import io.ballerina.lib.redis.connection.HedgedReads;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.lettuce.core.cluster.event.AskRedirectionEvent;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.event.MovedRedirectionEvent;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.command.CommandBaseEvent;
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.resource.NettyCustomizer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Records the metrics of a Redis client in the Ballerina metric registry, so that they are published through Ballerina
+ * observability.
+ * <p>
+ * Commands are observed through a Lettuce {@link CommandListener}, which records the latency distribution, the number
+ * of requests and errors of each command type, and the number of commands awaiting a reply. The bytes sent and
+ * received are counted by a Netty handler installed on every connection, and the connection pool is observed through
+ * gauges which are polled when the metrics are reported. The metrics of each command type are created once and cached,
+ * so that recording a command does not look up the registry.
+ *
+ * @since 3.4.0
+ */
+public class RedisMetrics implements CommandListener {
+
+    private static final String METRIC_COMMAND_LATENCY = "redis_command_latency_seconds";
+    private static final String METRIC_COMMAND_REQUESTS = "redis_command_requests_total";
+    private static final String METRIC_COMMAND_ERRORS = "redis_command_errors_total";
+    private static final String METRIC_IN_FLIGHT_COMMANDS = "redis_in_flight_commands";
+    private static final String METRIC_BYTES_SENT = "redis_bytes_sent_total";
+    private static final String METRIC_BYTES_RECEIVED = "redis_bytes_received_total";
+    private static final String METRIC_POOL_ACTIVE = "redis_pool_active_connections";
+    private static final String METRIC_POOL_IDLE = "redis_pool_idle_connections";
+    private static final String METRIC_POOL_WAITERS = "redis_pool_waiters";
+    private static final String METRIC_POOL_WARM_UP_TIME = "redis_pool_warm_up_seconds";
+    private static final String METRIC_CLUSTER_MOVED_REDIRECTS = "redis_cluster_moved_redirects_total";
+    private static final String METRIC_CLUSTER_ASK_REDIRECTS = "redis_cluster_ask_redirects_total";
+    private static final String METRIC_CLUSTER_TOPOLOGY_CHANGES = "redis_cluster_topology_changes_total";
+    private static final String METRIC_CIRCUIT_BREAKER_STATE = "redis_circuit_breaker_state";
+    private static final String METRIC_HEDGED_READS = "redis_hedged_reads_total";
+    private static final String METRIC_HEDGED_READ_WINS = "redis_hedged_read_wins_total";
+    private static final String METRIC_LISTENER_DROPPED_MESSAGES = "redis_listener_dropped_messages_total";
+
+    private static final String TAG_PEER_ADDRESS = "peer.address";
+    private static final String TAG_CLIENT = "redis.client";
+    private static final String DEFAULT_CLIENT_NAME = "client";
+    private static final String TAG_COMMAND = "redis.command";
+
+    private static final String CONTEXT_START_TIME = "ballerina.redis.startTime";
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final StatisticConfig LATENCY_STATISTICS = StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(1))
+            .buckets(5)
+            .percentiles(0.5, 0.75, 0.95, 0.99, 0.999)
+            .build();
+
+    // names of the clients whose metrics are registered, so that no two clients share or remove the same metrics
+    private static final Set<String> CLIENT_NAMES = ConcurrentHashMap.newKeySet();
+
+    private final MetricRegistry registry = DefaultMetricRegistry.getInstance();
+    private final String peerAddress;
+    private final String clientName;
+    private final Map<ProtocolKeyword, CommandMetrics> commandMetrics = new ConcurrentHashMap<>();
+    private final List<MetricId> metricIds = new CopyOnWriteArrayList<>();
+    private final Gauge inFlightCommands;
+    private final Counter bytesSent;
+    private final Counter bytesReceived;
+    private final TrafficHandler trafficHandler = new TrafficHandler();
+    private Disposable clusterEventSubscription;
+
+    private RedisMetrics(String peerAddress, String clientName) {
+        this.peerAddress = peerAddress;
+        this.clientName = reserveClientName(clientName);
+        this.inFlightCommands = registry.gauge(register(METRIC_IN_FLIGHT_COMMANDS,
+                "Number of commands awaiting a reply", null));
+        this.bytesSent = registry.counter(register(METRIC_BYTES_SENT, "Number of bytes sent to the server", null));
+        this.bytesReceived = registry.counter(register(METRIC_BYTES_RECEIVED,
+                "Number of bytes received from the server", null));
+    }
+
+    /**
+     * Creates the metrics of a Redis client, if metrics are enabled for the Ballerina program.
+     *
+     * @param peerAddress address of the Redis server, which is added as a tag to all the metrics
+     * @param clientName  name of the client, which is added as a tag to all the metrics, or null to generate a name.
+     *                    A name already used by another client is suffixed with a sequence number
+     * @return the metrics of the client, or null if metrics are disabled
+     */
+    public static RedisMetrics create(String peerAddress, String clientName) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return null;
+        }
+        return new RedisMetrics(peerAddress, clientName);
+    }
+
+    /**
+     * Returns a customizer which installs the handler counting the bytes sent and received on every connection.
+     *
+     * @return a Netty customizer to be set on the client resources
+     */
+    public NettyCustomizer getNettyCustomizer() {
+        return new NettyCustomizer() {
+            @Override
+            public void afterChannelInitialized(Channel channel) {
+                channel.pipeline().addFirst(trafficHandler);
+            }
+        };
+    }
+
+    /**
+     * Registers gauges which report the number of active and idle connections of a pool, and the number of callers
+     * waiting for a connection.
+     *
+     * @param pool the connection pool
+     */
+    public void registerPool(GenericObjectPool<?> pool) {
+        registerGauge(METRIC_POOL_ACTIVE, "Number of connections borrowed from the pool", pool,
+                GenericObjectPool::getNumActive);
+        registerGauge(METRIC_POOL_IDLE, "Number of idle connections in the pool", pool,
+                GenericObjectPool::getNumIdle);
+        registerGauge(METRIC_POOL_WAITERS, "Number of callers waiting for a connection from the pool", pool,
+                GenericObjectPool::getNumWaiters);
+    }
+
+    /**
+     * Registers counters of the MOVED and ASK redirects followed by cluster commands, and of the changes of the cluster
+     * topology. A low and stable number of redirects indicates that the slot map of the client is kept up to date.
+     *
+     * @param eventBus the event bus of the client resources, which must not be shared with other clients
+     */
+    public void registerClusterEvents(EventBus eventBus) {
+        Counter movedRedirects = registry.counter(register(METRIC_CLUSTER_MOVED_REDIRECTS,
+                "Number of commands redirected with MOVED", null));
+        Counter askRedirects = registry.counter(register(METRIC_CLUSTER_ASK_REDIRECTS,
+                "Number of commands redirected with ASK", null));
+        Counter topologyChanges = registry.counter(register(METRIC_CLUSTER_TOPOLOGY_CHANGES,
+                "Number of changes of the cluster topology", null));
+        clusterEventSubscription = eventBus.get().subscribe(event -> {
+            if (event instanceof MovedRedirectionEvent) {
+                movedRedirects.increment();
+            } else if (event instanceof AskRedirectionEvent) {
+                askRedirects.increment();
+            } else if (event instanceof ClusterTopologyChangedEvent) {
+                topologyChanges.increment();
+            }
+        });
+    }
+
+    /**
+     * Registers a gauge which reports the state of the circuit breaker, as 0 when closed, 1 when open and 2 when
+     * half-open.
+     *
+     * @param circuitBreaker the circuit breaker of the client
+     */
+    public void registerCircuitBreaker(CircuitBreaker circuitBreaker) {
+        registerGauge(METRIC_CIRCUIT_BREAKER_STATE, "State of the circuit breaker", circuitBreaker,
+                breaker -> breaker.getState().ordinal());
+    }
+
+    /**
+     * Registers counters of the hedged reads, and of the hedged reads answered first by the hedge. A hedge which rarely
+     * wins indicates that the hedge delay is too short.
+     *
+     * @param hedgedReads the hedged reads of the client
+     */
+    public void registerHedgedReads(HedgedReads<?, ?> hedgedReads) {
+        Counter hedges = registry.counter(register(METRIC_HEDGED_READS, "Number of reads which were hedged", null));
+        Counter hedgeWins = registry.counter(register(METRIC_HEDGED_READ_WINS,
+                "Number of hedged reads answered first by the hedge", null));
+        hedgedReads.setListeners(hedges::increment, hedgeWins::increment);
+    }
+
+    /**
+     * Registers a counter of the messages discarded by a listener, as the queue of a service was full or as the
+     * listener was stopped immediately. A growing number indicates that a service cannot keep up with its messages.
+     *
+     * @return records the number of discarded messages
+     */
+    public LongConsumer registerDroppedMessages() {
+        Counter droppedMessages = registry.counter(register(METRIC_LISTENER_DROPPED_MESSAGES,
+                "Number of messages discarded by the listener", null));
+        return droppedMessages::increment;
+    }
+
+    /**
+     * Records the time taken to open and warm up the initial connections of the pool.
+     *
+     * @param warmUpTime time taken by the warm-up
+     */
+    public void recordPoolWarmUp(Duration warmUpTime) {
+        Gauge warmUp = registry.gauge(register(METRIC_POOL_WARM_UP_TIME,
+                "Time taken to open the initial connections of the pool", null));
+        warmUp.setValue(warmUpTime.toNanos() / NANOS_PER_SECOND);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        event.getContext().put(CONTEXT_START_TIME, System.nanoTime());
+        inFlightCommands.increment();
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event, false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event, true);
+    }
+
+    /**
+     * Removes all the metrics of the client from the registry.
+     */
+    public void close() {
+        if (clusterEventSubscription != null) {
+            clusterEventSubscription.dispose();
+        }
+        for (MetricId metricId : metricIds) {
+            registry.remove(metricId);
+        }
+        metricIds.clear();
+        commandMetrics.clear();
+        CLIENT_NAMES.remove(clientName);
+    }
+
+    private static String reserveClientName(String clientName) {
+        boolean named = clientName != null && !clientName.isBlank();
+        if (named && CLIENT_NAMES.add(clientName)) {
+            return clientName;
+        }
+        String prefix = named ? clientName : DEFAULT_CLIENT_NAME;
+        for (int sequence = 1; ; sequence++) {
+            String name = prefix + "-" + sequence;
+            if (CLIENT_NAMES.add(name)) {
+                return name;
+            }
+        }
+    }
+
+    private void record(CommandBaseEvent event, boolean failed) {
+        inFlightCommands.decrement();
+        CommandMetrics metrics = commandMetrics.computeIfAbsent(event.getCommand().getType(),
+                this::createCommandMetrics);
+        if (event.getContext().get(CONTEXT_START_TIME) instanceof Long startTime) {
+            metrics.latency().setValue((System.nanoTime() - startTime) / NANOS_PER_SECOND);
+        }
+        metrics.requests().increment();
+        if (failed) {
+            metrics.errors().increment();
+        }
+    }
+
+    private CommandMetrics createCommandMetrics(ProtocolKeyword commandType) {
+        String command = commandType.name();
+        Gauge latency = registry.gauge(register(METRIC_COMMAND_LATENCY, "Time taken by the server to reply",
+                command), LATENCY_STATISTICS);
+        Counter requests = registry.counter(register(METRIC_COMMAND_REQUESTS, "Number of commands sent", command));
+        Counter errors = registry.counter(register(METRIC_COMMAND_ERRORS, "Number of commands which failed",
+                command));
+        return new CommandMetrics(latency, requests, errors);
+    }
+
+    private <T> void registerGauge(String name, String description, T source, ToDoubleFunction<T> valueFunction) {
+        registry.polledGauge(register(name, description, null), source, valueFunction);
+    }
+
+    private MetricId register(String name, String description, String command) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(Tag.of(TAG_PEER_ADDRESS, peerAddress));
+        tags.add(Tag.of(TAG_CLIENT, clientName));
+        if (command != null) {
+            tags.add(Tag.of(TAG_COMMAND, command));
+        }
+        MetricId metricId = new MetricId(name, description, tags);
+        metricIds.add(metricId);
+        return metricId;
+    }
+
+    private record CommandMetrics(Gauge latency, Counter requests, Counter errors) {
+    }
+
+    /**
+     * Counts the bytes written to and read from a connection. The handler is installed at the head of the pipeline,
+     * so that the counted bytes are the bytes on the wire.
+     */
+    @ChannelHandler.Sharable
+    private final class TrafficHandler extends ChannelDuplexHandler {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            long bytes = readableBytes(msg);
+            if (bytes > 0) {
+                bytesReceived.increment(bytes);
+            }
+            ctx.fireChannelRead(msg);
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            long bytes = readableBytes(msg);
+            if (bytes > 0) {
+                bytesSent.increment(bytes);
+            }
+            ctx.write(msg, promise);
+        }
+
+        private static long readableBytes(Object msg) {
+            if (msg instanceof ByteBuf byteBuf) {
+                return byteBuf.readableBytes();
+            } else if (msg instanceof ByteBufHolder byteBufHolder) {
+                return byteBufHolder.content().readableBytes();
+            }
+            return 0;
+        }
+    }
+}
@@ -28,8 +28,19 @@ public class Constants {
     // Native redis connection object, which is stored in Ballerina redis client object
     public static final String CONN_OBJ = "CONNECTION_OBJECT";
 
+    // Native pipeline object, which is stored in Ballerina redis pipeline object
+    public static final String PIPELINE_OBJ = "PIPELINE_OBJECT";
+    // Native scan iterator, which is stored in Ballerina redis scan iterator objects
+    public static final String SCAN_ITERATOR_OBJ = "SCAN_ITERATOR_OBJECT";
+    // Native Pub/Sub subscriber, which is stored in Ballerina redis listener object
+    public static final String LISTENER_OBJ = "LISTENER_OBJECT";
+    // Native keyspace listener configurations, which are stored in Ballerina redis keyspace listener object
+    public static final String KEYSPACE_CONFIG_OBJ = "KEYSPACE_CONFIG_OBJECT";
+
     // Redis error type name constants
     public static final String REDIS_ERROR_TYPE = "Error";
+    public static final String COMMAND_REJECTED_ERROR_TYPE = "CommandRejectedError";
+    public static final String CIRCUIT_OPEN_ERROR_TYPE = "CircuitOpenError";
 
     // Redis Error message constants
     public static final String MUST_NOT_BE_NULL = "must not be null";
@@ -40,6 +51,10 @@ public class Constants {
     public static final String MGET_NIL_VALUE_ERROR =
             "One or more keys returned nil, which cannot be represented in mGet. Use mGetOptional instead.";
 
+    // Lettuce error messages of commands rejected by the client
+    public static final String COMMANDS_REJECTED_MESSAGE = "Commands are rejected";
+    public static final String COMMANDS_NOT_ACCEPTED_MESSAGE = "Commands are not accepted";
+
     // Other constants
     public static final String EMPTY_STRING = "";
 }
@@ -18,20 +18,30 @@
 
 package io.ballerina.lib.redis.utils;
 
+import io.ballerina.lib.redis.exceptions.CircuitOpenException;
 import io.ballerina.lib.redis.exceptions.RedisConnectorException;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.lettuce.core.ClaimedMessages;
 import io.lettuce.core.KeyValue;
+import io.lettuce.core.PendingMessages;
+import io.lettuce.core.Range;
 import io.lettuce.core.ScoredValue;
+import io.lettuce.core.StreamMessage;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +55,38 @@ import java.util.Set;
  */
 public class ConversionUtils {
 
+    private static final BigDecimal MILLIS_PER_SECOND = BigDecimal.valueOf(1000);
+
+    private static final String STREAM_ENTRY_TYPE = "StreamEntry";
+    private static final String STREAM_ENTRY_STREAM = "stream";
+    private static final String STREAM_ENTRY_ID = "id";
+    private static final String STREAM_ENTRY_FIELDS = "fields";
+    private static final String AUTO_CLAIMED_ENTRIES_TYPE = "AutoClaimedEntries";
+    private static final String AUTO_CLAIMED_ENTRIES_NEXT_ID = "nextId";
+    private static final String AUTO_CLAIMED_ENTRIES_ENTRIES = "entries";
+    private static final String PENDING_SUMMARY_TYPE = "PendingSummary";
+    private static final String PENDING_SUMMARY_COUNT = "count";
+    private static final String PENDING_SUMMARY_LOWEST_ID = "lowestId";
+    private static final String PENDING_SUMMARY_HIGHEST_ID = "highestId";
+    private static final String PENDING_SUMMARY_CONSUMERS = "consumers";
+    private static final String MESSAGE_TYPE = "Message";
+    private static final String MESSAGE_CHANNEL = "channel";
+    private static final String MESSAGE_PATTERN = "pattern";
+    private static final String MESSAGE_PAYLOAD = "payload";
+    private static final String KEY_EVENT_TYPE = "KeyEvent";
+    private static final String KEY_EVENT_EVENT_TYPE = "type";
+    private static final String KEY_EVENT_KEY = "key";
+    private static final String KEY_EVENT_DB = "db";
+    private static final String FUNCTION_LIBRARY_TYPE = "FunctionLibrary";
+    private static final String FUNCTION_LIBRARY_NAME = "name";
+    private static final String FUNCTION_LIBRARY_ENGINE = "engine";
+    private static final String FUNCTION_LIBRARY_FUNCTIONS = "functions";
+    private static final String FUNCTION_INFO_TYPE = "FunctionInfo";
+    private static final String FUNCTION_INFO_NAME = "name";
+    private static final String FUNCTION_INFO_DESCRIPTION = "description";
+    private static final String FUNCTION_INFO_FLAGS = "flags";
+    private static final String FUNCTION_LIST_LIBRARY_NAME = "library_name";
+
     /**
      * Create a Ballerina array value from a Java set.
      *
@@ -180,6 +222,256 @@ public class ConversionUtils {
         return bStringArray.getStringArray();
     }
 
+    /**
+     * Create a Ballerina byte array value from a Java byte array.
+     *
+     * @param bytes the Java byte array
+     * @return the Ballerina byte array, or null if the Java byte array is null
+     */
+    public static BArray createBByteArrayOrNull(byte[] bytes) {
+        return bytes != null ? ValueCreator.createArrayValue(bytes) : null;
+    }
+
+    /**
+     * Create a Ballerina array of byte arrays from a Java list of byte arrays.
+     *
+     * @param list the Java list
+     * @return the Ballerina array
+     */
+    public static BArray createBByteArrayArrayFromList(List<byte[]> list) {
+        ArrayType byteArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE);
+        BArray bByteArrays = ValueCreator.createArrayValue(TypeCreator.createArrayType(byteArrayType));
+        for (byte[] item : list) {
+            bByteArrays.append(ValueCreator.createArrayValue(item));
+        }
+        return bByteArrays;
+    }
+
+    /**
+     * Create a Java array of byte arrays from a Ballerina array of byte arrays.
+     *
+     * @param bByteArrays the Ballerina array value
+     * @return the Java array
+     */
+    public static byte[][] createByteArraysFromBArray(BArray bByteArrays) {
+        byte[][] byteArrays = new byte[bByteArrays.size()][];
+        for (int i = 0; i < byteArrays.length; i++) {
+            byteArrays[i] = ((BArray) bByteArrays.get(i)).getBytes();
+        }
+        return byteArrays;
+    }
+
+    /**
+     * Create a Java duration from a Ballerina decimal value in seconds.
+     *
+     * @param seconds the number of seconds
+     * @return the Java duration, with millisecond precision
+     */
+    public static Duration createDurationFromBDecimal(BDecimal seconds) {
+        return Duration.ofMillis(seconds.decimalValue().multiply(MILLIS_PER_SECOND).longValue());
+    }
+
+    /**
+     * Create a Java map of strings from a Ballerina map of strings, keeping the order of the entries.
+     *
+     * @param bMap the Ballerina map value
+     * @return the Java map
+     */
+    public static Map<String, String> createStringMapFromBMap(BMap<BString, Object> bMap) {
+        Map<String, String> map = new LinkedHashMap<>((int) (bMap.size() / 0.75f) + 1);
+        for (Map.Entry<BString, Object> entry : bMap.entrySet()) {
+            map.put(entry.getKey().getValue(), ((BString) entry.getValue()).getValue());
+        }
+        return map;
+    }
+
+    /**
+     * Create a Ballerina array of {@code redis:StreamEntry} records from a list of stream messages.
+     *
+     * @param messages the stream messages
+     * @return the Ballerina array
+     */
+    public static <K> BArray createBStreamEntryArray(List<StreamMessage<K, String>> messages) {
+        BMap<BString, Object> entryType = ValueCreator.createRecordValue(ModuleUtils.getModule(), STREAM_ENTRY_TYPE);
+        BArray entries = ValueCreator.createArrayValue(TypeCreator.createArrayType(entryType.getType()));
+        for (StreamMessage<K, String> message : messages) {
+            entries.append(createBStreamEntry(message));
+        }
+        return entries;
+    }
+
+    /**
+     * Create a {@code redis:AutoClaimedEntries} record from the messages claimed by {@code XAUTOCLAIM}.
+     *
+     * @param claimed the claimed messages
+     * @return the Ballerina record
+     */
+    public static <K> BMap<BString, Object> createBAutoClaimedEntries(ClaimedMessages<K, String> claimed) {
+        Map<String, Object> values = new HashMap<>();
+        values.put(AUTO_CLAIMED_ENTRIES_NEXT_ID, StringUtils.fromString(claimed.getId()));
+        values.put(AUTO_CLAIMED_ENTRIES_ENTRIES, createBStreamEntryArray(claimed.getMessages()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), AUTO_CLAIMED_ENTRIES_TYPE, values);
+    }
+
+    /**
+     * Create a {@code redis:PendingSummary} record from the summary returned by {@code XPENDING}.
+     *
+     * @param pending the summary of the pending messages
+     * @return the Ballerina record
+     */
+    public static BMap<BString, Object> createBPendingSummary(PendingMessages pending) {
+        BMap<BString, Object> consumers =
+                ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        pending.getConsumerMessageCount().forEach((consumer, count) ->
+                consumers.put(StringUtils.fromString(consumer), count));
+        Range<String> ids = pending.getMessageIds();
+        Map<String, Object> values = new HashMap<>();
+        values.put(PENDING_SUMMARY_COUNT, pending.getCount());
+        values.put(PENDING_SUMMARY_LOWEST_ID, getBoundaryValue(ids.getLower()));
+        values.put(PENDING_SUMMARY_HIGHEST_ID, getBoundaryValue(ids.getUpper()));
+        values.put(PENDING_SUMMARY_CONSUMERS, consumers);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), PENDING_SUMMARY_TYPE, values);
+    }
+
+    /**
+     * Create a {@code redis:Message} record from a message received from a channel.
+     *
+     * @param channel the channel to which the message was published
+     * @param pattern the pattern matched by the channel, or null if the channel was subscribed to by its name
+     * @param payload the payload of the message
+     * @return the Ballerina record
+     */
+    public static BMap<BString, Object> createBMessage(String channel, String pattern, String payload) {
+        Map<String, Object> values = new HashMap<>();
+        values.put(MESSAGE_CHANNEL, StringUtils.fromString(channel));
+        values.put(MESSAGE_PATTERN, pattern != null ? StringUtils.fromString(pattern) : null);
+        values.put(MESSAGE_PAYLOAD, StringUtils.fromString(payload));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), MESSAGE_TYPE, values);
+    }
+
+    /**
+     * Create a {@code redis:KeyEvent} record from a keyspace notification.
+     *
+     * @param type the {@code redis:KeyEventType} of the event
+     * @param key  the key on which the event occurred
+     * @param db   the database of the key
+     * @return the Ballerina record
+     */
+    public static BMap<BString, Object> createBKeyEvent(String type, String key, long db) {
+        Map<String, Object> values = new HashMap<>();
+        values.put(KEY_EVENT_EVENT_TYPE, StringUtils.fromString(type));
+        values.put(KEY_EVENT_KEY, StringUtils.fromString(key));
+        values.put(KEY_EVENT_DB, db);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), KEY_EVENT_TYPE, values);
+    }
+
+    /**
+     * Create a {@code redis:ScriptResult} value, which is a {@code json} value, from the reply of a script as decoded
+     * by Lettuce. Integers are mapped to {@code int}, strings and status replies to {@code string}, arrays to
+     * {@code json[]} and nil to {@code ()}. The maps, doubles and booleans of RESP3 replies are mapped to
+     * {@code map<json>}, {@code float} and {@code boolean}, and any other value to its string representation.
+     *
+     * @param reply the reply of the script
+     * @return the Ballerina value
+     */
+    public static Object createBScriptResult(Object reply) {
+        if (reply == null || reply instanceof Long || reply instanceof Double || reply instanceof Boolean) {
+            return reply;
+        } else if (reply instanceof List<?> list) {
+            BArray bArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
+            for (Object item : list) {
+                bArray.append(createBScriptResult(item));
+            }
+            return bArray;
+        } else if (reply instanceof Map<?, ?> map) {
+            BMap<BString, Object> bMap =
+                    ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_JSON));
+            map.forEach((key, value) -> bMap.put(StringUtils.fromString(String.valueOf(key)),
+                    createBScriptResult(value)));
+            return bMap;
+        }
+        return StringUtils.fromString(reply.toString());
+    }
+
+    /**
+     * Create a Ballerina array of {@code redis:FunctionLibrary} records from the libraries listed by
+     * {@code FUNCTION LIST}.
+     *
+     * @param libraries the libraries, as decoded by Lettuce
+     * @return the Ballerina array
+     */
+    public static BArray createBFunctionLibraryArray(List<?> libraries) {
+        BMap<BString, Object> libraryType = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                FUNCTION_LIBRARY_TYPE);
+        BMap<BString, Object> functionType = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                FUNCTION_INFO_TYPE);
+        BArray bLibraries = ValueCreator.createArrayValue(TypeCreator.createArrayType(libraryType.getType()));
+        for (Object libraryReply : libraries) {
+            Map<String, Object> library = toReplyMap(libraryReply);
+            BArray functions = ValueCreator.createArrayValue(TypeCreator.createArrayType(functionType.getType()));
+            for (Object function : (List<?>) library.get(FUNCTION_LIBRARY_FUNCTIONS)) {
+                functions.append(createBFunctionInfo(toReplyMap(function)));
+            }
+            Map<String, Object> values = new HashMap<>();
+            values.put(FUNCTION_LIBRARY_NAME, StringUtils.fromString((String) library.get(FUNCTION_LIST_LIBRARY_NAME)));
+            values.put(FUNCTION_LIBRARY_ENGINE, StringUtils.fromString((String) library.get(FUNCTION_LIBRARY_ENGINE)));
+            values.put(FUNCTION_LIBRARY_FUNCTIONS, functions);
+            bLibraries.append(ValueCreator.createRecordValue(ModuleUtils.getModule(), FUNCTION_LIBRARY_TYPE, values));
+        }
+        return bLibraries;
+    }
+
+    private static BMap<BString, Object> createBFunctionInfo(Map<String, Object> function) {
+        BArray flags = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
+        for (Object flag : (List<?>) function.get(FUNCTION_INFO_FLAGS)) {
+            flags.append(StringUtils.fromString(String.valueOf(flag)));
+        }
+        // the description is nil unless it is given when the function is registered
+        Object description = function.get(FUNCTION_INFO_DESCRIPTION);
+        Map<String, Object> values = new HashMap<>();
+        values.put(FUNCTION_INFO_NAME, StringUtils.fromString((String) function.get(FUNCTION_INFO_NAME)));
+        values.put(FUNCTION_INFO_DESCRIPTION, description != null ? StringUtils.fromString((String) description)
+                : null);
+        values.put(FUNCTION_INFO_FLAGS, flags);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), FUNCTION_INFO_TYPE, values);
+    }
+
+    /**
+     * A map reply is decoded as a map over RESP3, but as a flat list of its keys and values over RESP2.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toReplyMap(Object reply) {
+        if (reply instanceof Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+        List<?> keysAndValues = (List<?>) reply;
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i + 1 < keysAndValues.size(); i += 2) {
+            map.put(String.valueOf(keysAndValues.get(i)), keysAndValues.get(i + 1));
+        }
+        return map;
+    }
+
+    private static <K> BMap<BString, Object> createBStreamEntry(StreamMessage<K, String> message) {
+        BMap<BString, Object> fields =
+                ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        // the body is missing for an entry which was deleted while it was pending
+        if (message.getBody() != null) {
+            message.getBody().forEach((field, value) ->
+                    fields.put(StringUtils.fromString((String) field), StringUtils.fromString(value)));
+        }
+        Map<String, Object> values = new HashMap<>();
+        values.put(STREAM_ENTRY_STREAM, StringUtils.fromString((String) message.getStream()));
+        values.put(STREAM_ENTRY_ID, StringUtils.fromString(message.getId()));
+        values.put(STREAM_ENTRY_FIELDS, fields);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), STREAM_ENTRY_TYPE, values);
+    }
+
+    private static BString getBoundaryValue(Range.Boundary<String> boundary) {
+        // the boundaries are unbounded when no entry is pending
+        return boundary.getValue() != null ? StringUtils.fromString(boundary.getValue()) : null;
+    }
+
     /**
      * Create a java map from a Ballerina map value.
      *
@@ -187,25 +479,64 @@ public class ConversionUtils {
      * @return the Java map
      */
     public static Map<String, Object> createMapFromBMap(BMap<BString, Object> bMap) {
-        Map<String, Object> map = new LinkedHashMap<>();
+        // sized upfront, since maps of thousands of entries are common for multi-key commands
+        Map<String, Object> map = new LinkedHashMap<>((int) (bMap.size() / 0.75f) + 1);
         for (Map.Entry<BString, Object> entry : bMap.entrySet()) {
-            map.put(entry.getKey().getValue(), entry.getValue().toString());
+            Object value = entry.getValue();
+            String stringValue = value instanceof BString bString ? bString.getValue() : value.toString();
+            map.put(entry.getKey().getValue(), stringValue);
         }
         return map;
     }
 
     /**
-     * Create a BError instance from a throwable.
+     * Create a BError instance from a throwable. A command which was rejected by the client without being sent is
+     * reported as a {@code redis:CommandRejectedError}, or as a {@code redis:CircuitOpenError} when it was rejected by
+     * the circuit breaker, so that callers can shed load without waiting for a timeout.
      *
      * @param e the throwable
      * @return the BError instance
      */
     public static BError createBError(Throwable e) {
-        return ErrorCreator.createError(ModuleUtils.getModule(), Constants.REDIS_ERROR_TYPE,
+        String errorType = Constants.REDIS_ERROR_TYPE;
+        if (isCircuitOpen(e)) {
+            errorType = Constants.CIRCUIT_OPEN_ERROR_TYPE;
+        } else if (isCommandRejected(e)) {
+            errorType = Constants.COMMAND_REJECTED_ERROR_TYPE;
+        }
+        return ErrorCreator.createError(ModuleUtils.getModule(), errorType,
                 StringUtils.fromString(e.getMessage()),
                 e.getCause() != null ? ErrorCreator.createError(e.getCause()) : null, null);
     }
 
+    /**
+     * A command rejected by the circuit breaker fails with a {@link CircuitOpenException}, which may be wrapped by the
+     * executor which sent it, so the whole cause chain is checked.
+     */
+    private static boolean isCircuitOpen(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitOpenException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lettuce rejects a command with a plain {@code RedisException} when the connection is disconnected and rejects
+     * commands, or when its request queue is full, so the rejection is recognized by the message.
+     */
+    private static boolean isCommandRejected(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && (message.contains(Constants.COMMANDS_REJECTED_MESSAGE)
+                    || message.contains(Constants.COMMANDS_NOT_ACCEPTED_MESSAGE))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns the map value from a Ballerina map for a given key or, null if a non-map value is found.
      *
@@ -41,4 +41,13 @@ public class ModuleUtils {
     public static void setModule(Environment env) {
         redisModule = env.getCurrentModule();
     }
+
+    /**
+     * Returns the identifier of the package, which prefixes the keys of its annotations.
+     *
+     * @return the package identifier, in the form {@code org/name:majorVersion}
+     */
+    public static String getPackageIdentifier() {
+        return redisModule.getOrg() + "/" + redisModule.getName() + ":" + redisModule.getMajorVersion();
+    }
 }
@@ -20,5 +20,8 @@ module io.ballerina.lib.redis {
     requires io.ballerina.runtime;
     requires io.ballerina.lang;
     requires lettuce.core;
+    requires reactor.core;
     requires org.apache.commons.pool2;
+    requires io.netty.buffer;
+    requires io.netty.transport;
 }